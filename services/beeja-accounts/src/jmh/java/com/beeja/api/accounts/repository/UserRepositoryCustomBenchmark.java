@@ -0,0 +1,145 @@
+package com.beeja.api.accounts.repository;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.User;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Lists the users of an organization from an in-memory Mongo server, once through the derived
+ * query, which resolves every {@code @DBRef} separately, and once through {@link
+ * UserRepositoryCustomImpl}. {@code findCommands} divided by {@code listings} is the number of
+ * {@code find} commands one listing issues. Run with {@code gradle :beeja-accounts:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserRepositoryCustomBenchmark {
+
+  @Param("200")
+  private int users;
+
+  @Param("5")
+  private int roles;
+
+  private final AtomicLong finds = new AtomicLong();
+
+  private MongoServer server;
+
+  private MongoClient client;
+
+  private MongoTemplate mongoTemplate;
+
+  private UserRepositoryCustomImpl repository;
+
+  private Organization organization;
+
+  /** Listings run and find commands they issued, summed over the measured iterations. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Commands {
+    public long listings;
+    public long findCommands;
+  }
+
+  @Setup
+  public void setUp() {
+    server = new MongoServer(new MemoryBackend());
+    client =
+        MongoClients.create(
+            MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(server.bindAndGetConnectionString()))
+                .addCommandListener(
+                    new CommandListener() {
+                      @Override
+                      public void commandStarted(CommandStartedEvent event) {
+                        if (event.getCommandName().equals("find")) {
+                          finds.incrementAndGet();
+                        }
+                      }
+                    })
+                .build());
+    mongoTemplate = new MongoTemplate(client, "accounts");
+    repository = new UserRepositoryCustomImpl();
+    Field field = ReflectionUtils.findField(UserRepositoryCustomImpl.class, "mongoTemplate");
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, repository, mongoTemplate);
+
+    organization = new Organization();
+    organization.setId("org1");
+    organization = mongoTemplate.save(organization);
+    List<Role> savedRoles = new ArrayList<>();
+    for (int i = 0; i < roles; i++) {
+      Role role = new Role();
+      role.setId("role" + i);
+      role.setName("Role " + i);
+      role.setPermissions(Set.of("READ_EMPLOYEE"));
+      savedRoles.add(mongoTemplate.save(role));
+    }
+    for (int i = 0; i < users; i++) {
+      User user = new User();
+      user.setEmployeeId("EMP" + i);
+      user.setEmail("emp" + i + "@example.com");
+      user.setOrganizations(organization);
+      user.setRoles(Set.of(savedRoles.get(i % roles)));
+      mongoTemplate.save(user);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void resetCounter() {
+    finds.set(0);
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+    server.shutdownNow();
+  }
+
+  @Benchmark
+  public List<User> derivedQuery(Commands commands) {
+    List<User> result =
+        mongoTemplate.find(
+            Query.query(Criteria.where("organizations").is(organization)), User.class);
+    commands.listings++;
+    commands.findCommands += finds.get();
+    return result;
+  }
+
+  @Benchmark
+  public List<User> bulkResolved(Commands commands) {
+    List<User> result = repository.findByOrganizationsId(organization.getId());
+    commands.listings++;
+    commands.findCommands += finds.get();
+    return result;
+  }
+}
@@ -0,0 +1,206 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.employeeSettings.OrgValues;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.repository.OrgDefaultsRepository;
+import com.beeja.api.accounts.repository.OrganizationPatternsRepository;
+import com.beeja.api.accounts.repository.RolesRepository;
+import com.beeja.api.accounts.repository.UserRepository;
+import com.beeja.api.accounts.utils.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Imports a generated CSV of {@code rows} employees into an in-memory Mongo server, from parsing
+ * to the streamed results. The employee-service call is stubbed to accept every record, so the
+ * time is spent on validation, BCrypt and the bulk user inserts. Each measurement starts from an
+ * empty users collection. Run with {@code gradle :beeja-accounts:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeImportBenchmark {
+
+  @Param("5000")
+  private int rows;
+
+  private MongoServer server;
+
+  private MongoClient client;
+
+  private MongoTemplate mongoTemplate;
+
+  private EmployeeImportServiceImpl employeeImportService;
+
+  private MultipartFile file;
+
+  @Setup
+  public void setUp() {
+    server = new MongoServer(new MemoryBackend());
+    client = MongoClients.create(server.bindAndGetConnectionString());
+    mongoTemplate = new MongoTemplate(client, "accounts");
+
+    OrgDefaults employmentTypes = new OrgDefaults();
+    employmentTypes.setValues(Set.of(new OrgValues("Full time", null)));
+    EmployeeFeignClient employeeFeignClient =
+        stub(
+            EmployeeFeignClient.class,
+            method -> method.equals("createEmployees") ? List.of() : null);
+    EmployeeSearchIndex employeeSearchIndex = new EmployeeSearchIndex();
+    setField(employeeSearchIndex, "mongoTemplate", mongoTemplate);
+    setField(employeeSearchIndex, "employeeFeignClient", employeeFeignClient);
+
+    employeeImportService = new EmployeeImportServiceImpl();
+    setField(employeeImportService, "mongoTemplate", mongoTemplate);
+    setField(employeeImportService, "employeeFeignClient", employeeFeignClient);
+    setField(employeeImportService, "employeeSearchIndex", employeeSearchIndex);
+    setField(employeeImportService, "objectMapper", new ObjectMapper());
+    setField(employeeImportService, "userRepository", stub(UserRepository.class, method -> 0L));
+    setField(
+        employeeImportService, "patternsRepository", stub(OrganizationPatternsRepository.class));
+    setField(
+        employeeImportService,
+        "rolesRepository",
+        stub(RolesRepository.class, method -> List.of()));
+    setField(
+        employeeImportService,
+        "orgDefaultsRepository",
+        stub(OrgDefaultsRepository.class, method -> employmentTypes));
+
+    Organization organization = new Organization();
+    organization.setId("org1");
+    UserContext.setLoggedInUser(
+        "admin@example.com", "Admin", organization, "EMP0", Set.of(), Set.of(), null);
+
+    StringBuilder csv =
+        new StringBuilder("First Name,Last Name,Email,Employment Type,Employee Id\n");
+    for (int i = 0; i < rows; i++) {
+      csv.append("First")
+          .append(i)
+          .append(",Last")
+          .append(i)
+          .append(",emp")
+          .append(i)
+          .append("@example.com,Full time,EMP")
+          .append(i + 1)
+          .append('\n');
+    }
+    file = new CsvFile(csv.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Setup(Level.Invocation)
+  public void emptyUsers() {
+    mongoTemplate.remove(new Query(), User.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    UserContext.clear();
+    client.close();
+    server.shutdownNow();
+  }
+
+  @Benchmark
+  public void importEmployees() throws Exception {
+    employeeImportService.importEmployees(file).writeTo(OutputStream.nullOutputStream());
+  }
+
+  private static <T> T stub(Class<T> type) {
+    return stub(type, method -> null);
+  }
+
+  /** Returns an implementation of {@code type} whose methods answer by method name. */
+  private static <T> T stub(Class<T> type, Function<String, Object> answer) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> answer.apply(method.getName())));
+  }
+
+  private static void setField(Object target, String name, Object value) {
+    Field field = ReflectionUtils.findField(target.getClass(), name);
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, target, value);
+  }
+
+  private static class CsvFile implements MultipartFile {
+
+    private final byte[] content;
+
+    CsvFile(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public String getName() {
+      return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+      return "employees.csv";
+    }
+
+    @Override
+    public String getContentType() {
+      return "text/csv";
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return content.length == 0;
+    }
+
+    @Override
+    public long getSize() {
+      return content.length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+      return content;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void transferTo(File dest) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
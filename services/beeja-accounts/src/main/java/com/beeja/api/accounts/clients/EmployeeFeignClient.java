@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -21,6 +22,22 @@ public interface EmployeeFeignClient {
   @PostMapping("/v1/users")
   void createEmployee(@RequestBody Map<String, Object> employee);
 
+  @PostMapping("/v1/users/bulk")
+  List<String> createEmployees(
+      @RequestParam("importId") String importId,
+      @RequestBody List<Map<String, Object>> employees);
+
+  /**
+   * Removes the employees the import created for the given accounts. Takes the ids in the body, as
+   * a chunk of them would not fit in the request line.
+   */
+  @PostMapping("/v1/users/bulk/delete")
+  void deleteImportedEmployees(
+      @RequestParam("importId") String importId, @RequestBody List<String> accountIds);
+
+  @PutMapping("/v1/users/{employeeId}/account")
+  void syncAccount(@PathVariable String employeeId);
+
   @DeleteMapping("/v1/users/organizations/{organizationId}")
   ResponseEntity<String> deleteAllEmployeesByOrganizationId(@PathVariable String organizationId);
 
@@ -29,4 +46,8 @@ public interface EmployeeFeignClient {
 
     @GetMapping("/v1/users/departments")
     List<EmployeeDepartmentDTO> getDesignationsByEmployeeIds(@RequestParam("employeeIds") List<String> employeeIds);
+
+  /** Designations and departments of all employees of the caller's organization. */
+  @GetMapping("/v1/users/departments")
+  List<EmployeeDepartmentDTO> getDesignationsOfOrganization();
 }
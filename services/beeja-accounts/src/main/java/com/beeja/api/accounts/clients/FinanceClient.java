@@ -0,0 +1,13 @@
+package com.beeja.api.accounts.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "finance-service", url = "${client-urls.financeService}")
+public interface FinanceClient {
+
+  /** Drops finance's cached copy of the caller's organization pattern of the given type. */
+  @DeleteMapping("/v1/organization-patterns/{patternType}/cache")
+  void evictOrganizationPattern(@PathVariable String patternType);
+}
@@ -1,6 +1,10 @@
 package com.beeja.api.accounts.config;
 
+import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.UserContext;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -17,6 +21,42 @@ public class AsyncConfig implements AsyncConfigurer {
     executor.setMaxPoolSize(10);
     executor.setQueueCapacity(100);
     executor.setThreadNamePrefix("AsyncExecutor-");
+    executor.setTaskDecorator(UserContext::wrap);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Hashes the passwords of imported users, which is CPU bound, on one thread per core. When it is
+   * busy the importing thread hashes the password itself rather than queueing without bound.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor passwordHashExecutor() {
+    int cores = Runtime.getRuntime().availableProcessors();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(cores);
+    executor.setMaxPoolSize(cores);
+    executor.setQueueCapacity(Constants.EMPLOYEE_IMPORT_CHUNK_SIZE);
+    executor.setThreadNamePrefix("PasswordHash-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Rebuilds employee search indexes off the search requests, with the user of the search that
+   * started the rebuild, whose token loads the designations. When it is busy the searching thread
+   * rebuilds the index itself.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor employeeSearchExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("EmployeeSearch-");
+    executor.setTaskDecorator(UserContext::wrap);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
     executor.initialize();
     return executor;
   }
@@ -0,0 +1,32 @@
+package com.beeja.api.accounts.config;
+
+import com.beeja.api.commons.feign.FeignResilience;
+import feign.Capability;
+import feign.Retryer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@link FeignResilience} to all Feign clients of this service. Connection pooling,
+ * compression and per-client timeouts are configured under {@code spring.cloud.openfeign}.
+ */
+@Configuration
+public class FeignConfig {
+
+  @Bean
+  public CircuitBreakerRegistry feignCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+    return FeignResilience.circuitBreakerRegistry(meterRegistry);
+  }
+
+  @Bean
+  public Capability circuitBreakerCapability(CircuitBreakerRegistry feignCircuitBreakerRegistry) {
+    return FeignResilience.circuitBreakerCapability(feignCircuitBreakerRegistry);
+  }
+
+  @Bean
+  public Retryer feignRetryer() {
+    return FeignResilience.idempotentRetryer();
+  }
+}
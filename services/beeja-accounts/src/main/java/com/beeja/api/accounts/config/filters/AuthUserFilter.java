@@ -8,6 +8,7 @@ import com.beeja.api.accounts.repository.UserRepository;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.JwtUtils;
 import com.beeja.api.accounts.utils.UserContext;
+import com.beeja.api.commons.metrics.OrganizationMetrics;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -57,7 +58,13 @@ public class AuthUserFilter extends OncePerRequestFilter {
 
     accessToken = accessToken.substring(7);
     if (isValidAccessToken(accessToken)) {
-      filterChain.doFilter(request, response);
+      request.setAttribute(
+          OrganizationMetrics.ORGANIZATION_ATTRIBUTE, UserContext.getLoggedInUserOrganizationId());
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        UserContext.clear();
+      }
     } else {
       Cookie cookie = new Cookie("SESSION", "");
       cookie.setPath("/");
@@ -0,0 +1,65 @@
+package com.beeja.api.accounts.config.indexes;
+
+import static com.beeja.api.commons.indexes.ManagedIndex.SAMPLE;
+
+import com.beeja.api.accounts.utils.MongoIndexes;
+import com.beeja.api.commons.indexes.ManagedIndex;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Indexes the queries of this service rely on, applied at startup through {@link IndexConfig}. Bump
+ * {@link #VERSION} whenever an index is added, changed or retired.
+ */
+public final class IndexRegistry {
+
+  public static final int VERSION = 2;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  public static final Map<String, List<String>> RETIRED = Map.of();
+
+  private IndexRegistry() {}
+
+  public static List<ManagedIndex> indexes() {
+    return List.of(
+        ManagedIndex.on(
+                "organization-values",
+                new Index()
+                    .on("key", Sort.Direction.ASC)
+                    .on("organizationId", Sort.Direction.ASC)
+                    .unique()
+                    .named(MongoIndexes.UNIQUE_DEFAULT_TYPE_IS_REQUIRED))
+            .serves(new Document("organizationId", SAMPLE).append("key", SAMPLE)),
+        ManagedIndex.on(
+                "users",
+                new Index()
+                    .on("organizations.$id", Sort.Direction.ASC)
+                    .on("isActive", Sort.Direction.ASC)
+                    .named("organization_active"))
+            .serves(new Document("organizations.$id", SAMPLE).append("isActive", true)),
+        // Duplicate emails of an import are looked up ignoring case, see EmployeeImportServiceImpl.
+        ManagedIndex.on(
+            "users",
+            new Index()
+                .on("email", Sort.Direction.ASC)
+                .collation(MongoIndexes.CASE_INSENSITIVE)
+                .named("email_case_insensitive")),
+        ManagedIndex.on(
+                "roles",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("name", Sort.Direction.ASC)
+                    .named("organization_name"))
+            .serves(new Document("organizationId", SAMPLE).append("name", SAMPLE)),
+        ManagedIndex.on(
+                "organization-patterns",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("patternType", Sort.Direction.ASC)
+                    .named("organization_pattern_type"))
+            .serves(new Document("organizationId", SAMPLE).append("patternType", SAMPLE)));
+  }
+}
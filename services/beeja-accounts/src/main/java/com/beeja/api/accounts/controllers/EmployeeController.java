@@ -17,6 +17,7 @@ import com.beeja.api.accounts.requests.UpdateUserRoleRequest;
 import com.beeja.api.accounts.response.CreatedUserResponse;
 import com.beeja.api.accounts.response.EmployeeCount;
 import com.beeja.api.accounts.response.EmployeeSearchResponse;
+import com.beeja.api.accounts.service.EmployeeImportService;
 import com.beeja.api.accounts.service.EmployeeService;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
@@ -37,6 +39,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/v1/users")
@@ -44,6 +48,8 @@ public class EmployeeController {
 
   @Autowired private EmployeeService employeeService;
 
+  @Autowired private EmployeeImportService employeeImportService;
+
   @Autowired UserRepository userRepository;
 
   @GetMapping("/organization")
@@ -138,6 +144,15 @@ public class EmployeeController {
     return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
   }
 
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
+  public ResponseEntity<StreamingResponseBody> importEmployees(
+      @RequestParam("file") MultipartFile file) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(employeeImportService.importEmployees(file));
+  }
+
   @PutMapping("/{employeeId}")
   @HasPermission(PermissionConstants.UPDATE_EMPLOYEE)
   public ResponseEntity<User> updateUser(
@@ -53,6 +53,12 @@ public class User {
 
   private boolean isActive = true;
 
+  /** Bumped whenever roles, permissions or status change, to invalidate issued identity tokens. */
+  private long authVersion;
+
+  @Field("auth_version_updated_at")
+  private Date authVersionUpdatedAt;
+
   private String createdBy;
   private String modifiedBy;
 
@@ -0,0 +1,74 @@
+package com.beeja.api.accounts.mongo;
+
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.serviceImpl.EmployeeSearchIndex;
+import java.util.Collection;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the employee search index in step with users saved or deleted through the repositories and
+ * the template. Bulk inserts raise a save event per document, and each one rebuilds the
+ * organization's index; bulk writes therefore run through {@link #suspended(Runnable)} and apply
+ * their outcome to the index themselves, once per batch.
+ */
+@Component
+public class UserSearchIndexListener extends AbstractMongoEventListener<User> {
+
+  private static final ThreadLocal<Boolean> SUSPENDED = new ThreadLocal<>();
+
+  @Autowired private EmployeeSearchIndex employeeSearchIndex;
+
+  /** Runs writes whose events are not applied to the search index. */
+  public static void suspended(Runnable writes) {
+    boolean outermost = SUSPENDED.get() == null;
+    SUSPENDED.set(Boolean.TRUE);
+    try {
+      writes.run();
+    } finally {
+      if (outermost) {
+        SUSPENDED.remove();
+      }
+    }
+  }
+
+  @Override
+  public void onAfterSave(AfterSaveEvent<User> event) {
+    if (SUSPENDED.get() == null) {
+      employeeSearchIndex.upsert(event.getSource());
+    }
+  }
+
+  /**
+   * Removes the deleted users from the index. The event carries the delete query rather than the
+   * users; deletes by id, single or {@code $in}, are removed by id, and any other query drops the
+   * indexes to be rebuilt, as the users it matched are not known.
+   */
+  @Override
+  public void onAfterDelete(AfterDeleteEvent<User> event) {
+    if (SUSPENDED.get() != null) {
+      return;
+    }
+    Document query = event.getSource();
+    Collection<?> ids = query.size() == 1 ? ids(query.get("_id")) : null;
+    if (ids == null) {
+      employeeSearchIndex.invalidate();
+    } else {
+      employeeSearchIndex.removeAll(ids.stream().map(String::valueOf).toList());
+    }
+  }
+
+  private static Collection<?> ids(Object criterion) {
+    if (criterion instanceof Document operators) {
+      return operators.size() == 1 && operators.get("$in") instanceof Collection<?> ids
+          ? ids
+          : null;
+    }
+    return criterion == null ? null : List.of(criterion);
+  }
+}
@@ -13,9 +13,7 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
-  List<User> findByEmployeeIdInAndOrganizations_Id(List<String> employeeIds, String organizationId);
-
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
   @Aggregation(
       pipeline = {
         "{ '$match': { 'employeeId': { '$in': ?0 }, 'organizations._id': ?1 } }",
@@ -26,16 +24,10 @@ public interface UserRepository extends MongoRepository<User, String> {
 
   List<User> findByEmployeeIdIn(List<String> employeeIds);
 
-  User findByEmail(String email);
-
   User findByEmailAndOrganizations(String email, Organization organizations);
 
   User findByEmployeeIdAndOrganizations(String employeeId, Organization organizations);
 
-  List<User> findByOrganizationsAndIsActive(Organization organizations, boolean isActive);
-
-  List<User> findByOrganizationsId(String id);
-
   List<User> findByRoles(Role role);
 
   Long countByOrganizations(Organization organizations);
@@ -52,17 +44,6 @@ public interface UserRepository extends MongoRepository<User, String> {
 
   List<User> findAllByEmployeeIdInAndOrganizations_Id(List<String> ids, String organizationId);
 
-    @Aggregation(pipeline = {
-            "{ $match: { 'organizations._id': ?1, 'isActive': true, $or: [ " +
-                    "{ 'firstName': { $regex: '^?0', $options: 'i' } }, " +
-                    "{ 'lastName': { $regex: '^?0', $options: 'i' } }, " +
-                    "{ $expr: { $regexMatch: { input: { $concat: [ { $ifNull: ['$firstName',''] }, ' ', { $ifNull: ['$lastName',''] } ] }, regex: '^?0', options: 'i' } } }, " +
-                    "{ 'employeeId': { $regex: '^?0', $options: 'i' } } " +
-                    "] } }",
-            "{ $project: { _id: 1, employeeId: 1, fullName: { $concat: [ { $ifNull: ['$firstName',''] }, ' ', { $ifNull: ['$lastName',''] } ] }, email: 1 } }"
-    })
-    List<EmployeeSearchDTO> searchUsersByKeyword(String keyword, String organizationId);
-
   @Query(value = "{ 'organizations.id': ?0 }",
           fields = "{ 'employeeId': 1, 'firstName': 1, 'lastName': 1, 'isActive': 1, 'email': 1 }")
   List<BasicUserInfoDTO> findBasicUserInfoByOrganizationId(String organizationId);
@@ -0,0 +1,22 @@
+package com.beeja.api.accounts.repository;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.User;
+import java.util.List;
+
+/**
+ * User lookups that load many users at once. Implemented by {@link UserRepositoryCustomImpl}, which
+ * takes precedence over query derivation for these methods: the {@code roles} and {@code
+ * organizations} references are resolved with one query per collection for the whole result,
+ * instead of one query per reference per user.
+ */
+public interface UserRepositoryCustom {
+
+  User findByEmail(String email);
+
+  List<User> findByOrganizationsId(String id);
+
+  List<User> findByOrganizationsAndIsActive(Organization organizations, boolean isActive);
+
+  List<User> findByEmployeeIdInAndOrganizations_Id(List<String> employeeIds, String organizationId);
+}
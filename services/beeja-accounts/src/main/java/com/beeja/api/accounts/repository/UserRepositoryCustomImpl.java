@@ -0,0 +1,149 @@
+package com.beeja.api.accounts.repository;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.User;
+import com.mongodb.DBRef;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+  private static final String ROLES = "roles";
+  private static final String ORGANIZATIONS = "organizations";
+
+  @Autowired private MongoTemplate mongoTemplate;
+
+  @Override
+  public User findByEmail(String email) {
+    List<User> users = findResolved(Query.query(Criteria.where("email").is(email)).limit(1));
+    return users.isEmpty() ? null : users.get(0);
+  }
+
+  @Override
+  public List<User> findByOrganizationsId(String id) {
+    return findResolved(Query.query(Criteria.where("organizations.id").is(id)));
+  }
+
+  @Override
+  public List<User> findByOrganizationsAndIsActive(Organization organizations, boolean isActive) {
+    return findResolved(
+        Query.query(
+            Criteria.where("organizations.id")
+                .is(organizations.getId())
+                .and("isActive")
+                .is(isActive)));
+  }
+
+  @Override
+  public List<User> findByEmployeeIdInAndOrganizations_Id(
+      List<String> employeeIds, String organizationId) {
+    return findResolved(
+        Query.query(
+            Criteria.where("employeeId")
+                .in(employeeIds)
+                .and("organizations.id")
+                .is(organizationId)));
+  }
+
+  /**
+   * Reads the matching users as raw documents, then loads every referenced role and organization
+   * with one {@code $in} query each and attaches them to the mapped users.
+   */
+  private List<User> findResolved(Query query) {
+    MongoConverter converter = mongoTemplate.getConverter();
+    Document filter =
+        new QueryMapper(converter)
+            .getMappedObject(
+                query.getQueryObject(),
+                converter.getMappingContext().getPersistentEntity(User.class));
+    List<Document> documents = new ArrayList<>();
+    mongoTemplate
+        .getCollection(mongoTemplate.getCollectionName(User.class))
+        .find(filter)
+        .limit(query.getLimit())
+        .into(documents);
+    if (documents.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<Object> roleIds = new HashSet<>();
+    Set<Object> organizationIds = new HashSet<>();
+    for (Document document : documents) {
+      roleIds.addAll(roleIds(document));
+      Object organizationId = referencedId(document.get(ORGANIZATIONS));
+      if (organizationId != null) {
+        organizationIds.add(organizationId);
+      }
+    }
+    Map<String, Role> roles = findByIds(roleIds, Role.class, Role::getId);
+    Map<String, Organization> organizations =
+        findByIds(organizationIds, Organization.class, Organization::getId);
+
+    List<User> users = new ArrayList<>(documents.size());
+    for (Document document : documents) {
+      Set<Role> userRoles =
+          roleIds(document).stream()
+              .map(roleId -> roles.get(roleId.toString()))
+              .filter(Objects::nonNull)
+              .collect(Collectors.toCollection(HashSet::new));
+      Object organizationId = referencedId(document.remove(ORGANIZATIONS));
+      document.remove(ROLES);
+
+      User user = converter.read(User.class, document);
+      user.setRoles(userRoles);
+      user.setOrganizations(
+          organizationId != null ? organizations.get(organizationId.toString()) : null);
+      users.add(user);
+    }
+    return users;
+  }
+
+  private List<Object> roleIds(Document document) {
+    List<Object> roleIds = new ArrayList<>();
+    if (document.get(ROLES) instanceof Collection<?> refs) {
+      for (Object ref : refs) {
+        Object roleId = referencedId(ref);
+        if (roleId != null) {
+          roleIds.add(roleId);
+        }
+      }
+    }
+    return roleIds;
+  }
+
+  /** Reference ids come back as {@link DBRef} or as the raw {@code {$ref, $id}} document. */
+  private Object referencedId(Object ref) {
+    if (ref instanceof DBRef dbRef) {
+      return dbRef.getId();
+    }
+    if (ref instanceof Document document) {
+      return document.get("$id");
+    }
+    return null;
+  }
+
+  private <T> Map<String, T> findByIds(
+      Set<Object> ids, Class<T> type, Function<T, String> idGetter) {
+    if (ids.isEmpty()) {
+      return new HashMap<>();
+    }
+    return mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), type).stream()
+        .collect(Collectors.toMap(idGetter, Function.identity()));
+  }
+}
@@ -0,0 +1,15 @@
+package com.beeja.api.accounts.requests;
+
+import lombok.Data;
+
+/** One employee of a bulk import file; {@code rowNumber} is the 1-based line in the file. */
+@Data
+public class EmployeeImportRow {
+  private int rowNumber;
+  private String firstName;
+  private String lastName;
+  private String email;
+  private String employmentType;
+  private String department;
+  private String employeeId;
+}
@@ -0,0 +1,34 @@
+package com.beeja.api.accounts.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeImportResult {
+  private int rowNumber;
+  private String email;
+  private String employeeId;
+  private Status status;
+  private String message;
+  private String password;
+
+  public enum Status {
+    CREATED,
+    FAILED
+  }
+
+  public static EmployeeImportResult created(
+      int rowNumber, String email, String employeeId, String password) {
+    return new EmployeeImportResult(rowNumber, email, employeeId, Status.CREATED, null, password);
+  }
+
+  public static EmployeeImportResult failed(
+      int rowNumber, String email, String employeeId, String message) {
+    return new EmployeeImportResult(rowNumber, email, employeeId, Status.FAILED, message, null);
+  }
+}
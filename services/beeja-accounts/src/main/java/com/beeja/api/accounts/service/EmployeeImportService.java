@@ -0,0 +1,14 @@
+package com.beeja.api.accounts.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface EmployeeImportService {
+
+  /**
+   * Reads the employees of a CSV or XLSX file and returns a body that creates them, writing one
+   * JSON {@code EmployeeImportResult} line per row as each chunk completes. Problems with the file
+   * itself are thrown before anything is written.
+   */
+  StreamingResponseBody importEmployees(MultipartFile file);
+}
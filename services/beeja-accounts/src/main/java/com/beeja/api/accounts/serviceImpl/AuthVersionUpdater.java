@@ -0,0 +1,45 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.utils.Constants;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bumps the auth version of users whose effective access changed. The gateway watches these
+ * versions and re-mints the identity tokens it relays, so downstream services that authorize from
+ * token claims pick up role and status changes without looking the user up on every request.
+ */
+@Slf4j
+@Service
+public class AuthVersionUpdater {
+
+  @Autowired private MongoTemplate mongoTemplate;
+
+  /** Marks a user about to be saved as changed; the bump is persisted with the save itself. */
+  public void bumpForUser(User user) {
+    user.setAuthVersion(user.getAuthVersion() + 1);
+    user.setAuthVersionUpdatedAt(new Date());
+  }
+
+  public void bumpForRole(String roleId) {
+    bump(Query.query(Criteria.where("roles").in(roleId)));
+  }
+
+  private void bump(Query query) {
+    try {
+      Update update = new Update().inc("authVersion", 1).set("authVersionUpdatedAt", new Date());
+      long modified = mongoTemplate.updateMulti(query, update, User.class).getModifiedCount();
+      log.info(Constants.AUTH_VERSION_BUMPED, modified);
+    } catch (Exception e) {
+      // Access changes still reach downstream services once the current identity tokens expire.
+      log.error(Constants.ERROR_BUMPING_AUTH_VERSION, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.UserContext;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Lets employee-service refresh the account fields it keeps for the employee directory. The first
+ * attempt runs on the caller's thread; a failure does not fail the update but is counted and
+ * retried in the background with exponential backoff, as the caller's user. Rejections by
+ * employee-service (4xx) are counted and not retried, since a retry would be rejected again.
+ */
+@Slf4j
+@Service
+public class EmployeeAccountSync {
+
+  @Autowired private EmployeeFeignClient employeeFeignClient;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  private final ScheduledExecutorService retryExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          task -> {
+            Thread thread = new Thread(task, "EmployeeAccountSync-");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  public void sync(String employeeId) {
+    attempt(employeeId, 1, UserContext.capture());
+  }
+
+  private void attempt(String employeeId, int attempt, UserContext user) {
+    try {
+      employeeFeignClient.syncAccount(employeeId);
+    } catch (Exception e) {
+      if (e instanceof FeignException feignException
+          && feignException.status() >= 400
+          && feignException.status() < 500) {
+        failed(employeeId, attempt, Constants.SYNC_OUTCOME_REJECTED, e);
+      } else if (attempt >= Constants.EMPLOYEE_ACCOUNT_SYNC_MAX_ATTEMPTS) {
+        failed(employeeId, attempt, Constants.SYNC_OUTCOME_EXHAUSTED, e);
+      } else {
+        long backoff = Constants.EMPLOYEE_ACCOUNT_SYNC_INITIAL_BACKOFF_MILLIS << (attempt - 1);
+        failureCounter(Constants.SYNC_OUTCOME_RETRYING).increment();
+        log.warn(
+            Constants.EMPLOYEE_ACCOUNT_SYNC_RETRYING, employeeId, attempt, backoff, e.getMessage());
+        retryExecutor.schedule(
+            () -> UserContext.runAs(user, () -> attempt(employeeId, attempt + 1, user)),
+            backoff,
+            TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void failed(String employeeId, int attempt, String outcome, Exception e) {
+    failureCounter(outcome).increment();
+    log.error(Constants.EMPLOYEE_ACCOUNT_SYNC_FAILED, employeeId, attempt, e.getMessage());
+  }
+
+  private Counter failureCounter(String outcome) {
+    return Counter.builder(Constants.METRIC_EMPLOYEE_ACCOUNT_SYNC_FAILURES)
+        .tag(Constants.TAG_OUTCOME, outcome)
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    retryExecutor.shutdownNow();
+  }
+}
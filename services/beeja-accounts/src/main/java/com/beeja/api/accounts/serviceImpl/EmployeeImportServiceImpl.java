@@ -0,0 +1,489 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import static com.beeja.api.accounts.utils.SecretsGenerator.hashWithBcrypt;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.enums.ErrorCode;
+import com.beeja.api.accounts.enums.ErrorType;
+import com.beeja.api.accounts.enums.PatternType;
+import com.beeja.api.accounts.exceptions.BadRequestException;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.OrganizationPattern;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.mongo.UserSearchIndexListener;
+import com.beeja.api.accounts.repository.OrgDefaultsRepository;
+import com.beeja.api.accounts.repository.OrganizationPatternsRepository;
+import com.beeja.api.accounts.repository.RolesRepository;
+import com.beeja.api.accounts.requests.EmployeeImportRow;
+import com.beeja.api.accounts.response.EmployeeImportResult;
+import com.beeja.api.accounts.service.EmployeeImportService;
+import com.beeja.api.accounts.utils.BuildErrorMessage;
+import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.EmployeeImportReader;
+import com.beeja.api.accounts.utils.MongoIndexes;
+import com.beeja.api.accounts.utils.SecretsGenerator;
+import com.beeja.api.accounts.utils.UserContext;
+import com.beeja.api.commons.sequences.SequenceAllocator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk counterpart of {@code EmployeeServiceImpl.createEmployee}. Instead of a handful of lookups
+ * and two writes per employee, the whole file is validated with one set-based query per unique
+ * field, missing employee ids are allocated in blocks from the organization's active pattern, and
+ * users and employee records are written with one bulk insert per chunk on each side.
+ */
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+  private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+  @Autowired private EmployeeFeignClient employeeFeignClient;
+
+  @Autowired RolesRepository rolesRepository;
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired OrgDefaultsRepository orgDefaultsRepository;
+
+  @Autowired OrganizationPatternsRepository patternsRepository;
+
+  @Autowired ObjectMapper objectMapper;
+
+  @Autowired EmployeeSearchIndex employeeSearchIndex;
+
+  @Autowired
+  @Qualifier("passwordHashExecutor")
+  Executor passwordHashExecutor;
+
+  @Autowired SequenceAllocator sequenceAllocator;
+
+  @Override
+  public StreamingResponseBody importEmployees(MultipartFile file) {
+    List<EmployeeImportRow> rows = EmployeeImportReader.read(file);
+    Map<String, String> employmentTypes =
+        employmentTypes(UserContext.getLoggedInUserOrganization().getId());
+    UserContext importer = UserContext.capture();
+    return outputStream ->
+        UserContext.runAs(importer, () -> importRows(rows, employmentTypes, outputStream));
+  }
+
+  private void importRows(
+      List<EmployeeImportRow> rows, Map<String, String> employmentTypes, OutputStream output) {
+    long start = System.currentTimeMillis();
+    Organization organization = UserContext.getLoggedInUserOrganization();
+    List<EmployeeImportResult> failures = new ArrayList<>();
+
+    List<EmployeeImportRow> valid = validate(rows, employmentTypes, failures);
+    valid = assignEmployeeIds(organization.getId(), valid, failures);
+    write(output, failures);
+
+    Set<Role> roles =
+        new HashSet<>(
+            rolesRepository.findAllByOrganizationIdAndIsDefaultRole(organization.getId(), true));
+    int created = 0;
+    for (int from = 0; from < valid.size(); from += Constants.EMPLOYEE_IMPORT_CHUNK_SIZE) {
+      List<EmployeeImportRow> chunk =
+          valid.subList(from, Math.min(from + Constants.EMPLOYEE_IMPORT_CHUNK_SIZE, valid.size()));
+      List<EmployeeImportResult> results = createChunk(chunk, organization, roles);
+      created +=
+          (int)
+              results.stream()
+                  .filter(result -> result.getStatus() == EmployeeImportResult.Status.CREATED)
+                  .count();
+      write(output, results);
+    }
+    log.info(
+        "Imported {} of {} employees into organization {} in {} ms",
+        created,
+        rows.size(),
+        organization.getId(),
+        System.currentTimeMillis() - start);
+  }
+
+  /** Returns the rows that can be created, adding a failure for each of the others. */
+  private List<EmployeeImportRow> validate(
+      List<EmployeeImportRow> rows,
+      Map<String, String> employmentTypes,
+      List<EmployeeImportResult> failures) {
+    rows.stream()
+        .filter(row -> row.getEmployeeId() != null)
+        .forEach(row -> row.setEmployeeId(row.getEmployeeId().toUpperCase(Locale.ROOT)));
+    Map<String, Long> emailsInFile = countBy(rows, EmployeeImportServiceImpl::emailKey);
+    Map<String, Long> employeeIdsInFile = countBy(rows, EmployeeImportRow::getEmployeeId);
+    Set<String> existingEmails = existingEmails(emailsInFile.keySet());
+    Set<String> existingEmployeeIds = existing("employeeId", employeeIdsInFile.keySet());
+
+    List<EmployeeImportRow> valid = new ArrayList<>();
+    for (EmployeeImportRow row : rows) {
+      String problem = problemWith(row, employmentTypes);
+      if (problem == null && emailsInFile.get(emailKey(row)) > 1) {
+        problem = Constants.IMPORT_DUPLICATE_EMAIL;
+      } else if (problem == null && existingEmails.contains(emailKey(row))) {
+        problem = Constants.USER_ALREADY_FOUND + row.getEmail();
+      } else if (problem == null
+          && row.getEmployeeId() != null
+          && employeeIdsInFile.get(row.getEmployeeId()) > 1) {
+        problem = Constants.IMPORT_DUPLICATE_EMPLOYEE_ID;
+      } else if (problem == null
+          && row.getEmployeeId() != null
+          && existingEmployeeIds.contains(row.getEmployeeId())) {
+        problem = Constants.EMPLOYEE_ID_ALREADY_FOUND + " " + row.getEmployeeId();
+      }
+
+      if (problem == null) {
+        valid.add(row);
+      } else {
+        failures.add(fail(row, problem));
+      }
+    }
+    return valid;
+  }
+
+  private static String emailKey(EmployeeImportRow row) {
+    return row.getEmail() == null ? null : row.getEmail().toLowerCase(Locale.ROOT);
+  }
+
+  private static String problemWith(EmployeeImportRow row, Map<String, String> employmentTypes) {
+    List<String> missing = new ArrayList<>();
+    if (row.getFirstName() == null) {
+      missing.add("firstName");
+    }
+    if (row.getLastName() == null) {
+      missing.add("lastName");
+    }
+    if (row.getEmail() == null) {
+      missing.add("email");
+    }
+    if (row.getEmploymentType() == null) {
+      missing.add("employmentType");
+    }
+    if (!missing.isEmpty()) {
+      return Constants.IMPORT_MISSING_FIELDS + missing;
+    }
+    if (!EMAIL.matcher(row.getEmail()).matches()) {
+      return Constants.IMPORT_INVALID_EMAIL + row.getEmail();
+    }
+    String employmentType = employmentTypes.get(row.getEmploymentType().toLowerCase(Locale.ROOT));
+    if (employmentType == null) {
+      return Constants.INVALID_EMPLOYMENT_TYPE + row.getEmploymentType();
+    }
+    row.setEmploymentType(employmentType);
+    return null;
+  }
+
+  /**
+   * Gives the rows without an employee id the next free ids of the organization's active pattern.
+   * The numbers are reserved with one atomic increment for the whole file; numbers that turn out to
+   * be taken, e.g. entered by hand earlier, are skipped and another block is reserved.
+   */
+  private List<EmployeeImportRow> assignEmployeeIds(
+      String organizationId, List<EmployeeImportRow> rows, List<EmployeeImportResult> failures) {
+    List<EmployeeImportRow> unassigned =
+        rows.stream().filter(row -> row.getEmployeeId() == null).toList();
+    if (unassigned.isEmpty()) {
+      return rows;
+    }
+    OrganizationPattern pattern =
+        patternsRepository.findByOrganizationIdAndPatternTypeAndActive(
+            organizationId, String.valueOf(PatternType.EMPLOYEE_ID_PATTERN), true);
+    if (pattern == null) {
+      unassigned.forEach(row -> failures.add(fail(row, Constants.IMPORT_NO_EMPLOYEE_ID_PATTERN)));
+      return rows.stream().filter(row -> row.getEmployeeId() != null).toList();
+    }
+
+    Set<String> idsInFile =
+        rows.stream()
+            .map(EmployeeImportRow::getEmployeeId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    List<String> freeIds = new ArrayList<>();
+    while (freeIds.size() < unassigned.size()) {
+      int needed = unassigned.size() - freeIds.size();
+      long last = reserveBlock(organizationId, pattern, needed);
+      List<String> candidates =
+          LongStream.rangeClosed(last - needed + 1, last)
+              .mapToObj(number -> formatEmployeeId(pattern, number))
+              .toList();
+      Set<String> taken = existing("employeeId", candidates);
+      candidates.stream()
+          .filter(id -> !taken.contains(id) && !idsInFile.contains(id))
+          .forEach(freeIds::add);
+    }
+    for (int i = 0; i < unassigned.size(); i++) {
+      unassigned.get(i).setEmployeeId(freeIds.get(i));
+    }
+    return rows;
+  }
+
+  /**
+   * Reserves {@code size} numbers of the pattern's sequence and returns the last of them. Each
+   * pattern numbers its ids on its own, starting after the highest id of the pattern in use and
+   * never below its initial value.
+   */
+  private long reserveBlock(String organizationId, OrganizationPattern pattern, int size) {
+    return sequenceAllocator.reserve(
+        organizationId,
+        PatternType.EMPLOYEE_ID_PATTERN + ":" + pattern.getId(),
+        size,
+        () -> Math.max(pattern.getInitialSequence() - 1L, highestEmployeeNumber(pattern)));
+  }
+
+  /**
+   * Returns the highest number among the employee ids made of the pattern's prefix and digits, or 0
+   * if there are none. Employee ids are unique across organizations, so every user is considered.
+   */
+  private long highestEmployeeNumber(OrganizationPattern pattern) {
+    String prefix = pattern.getPrefix().toUpperCase(Locale.ROOT);
+    Query query =
+        Query.query(Criteria.where("employeeId").regex("^" + Pattern.quote(prefix) + "\\d{1,18}$"));
+    query.fields().include("employeeId");
+    try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+      return users
+          .mapToLong(user -> Long.parseLong(user.getEmployeeId().substring(prefix.length())))
+          .max()
+          .orElse(0);
+    }
+  }
+
+  private static String formatEmployeeId(OrganizationPattern pattern, long number) {
+    String prefix = pattern.getPrefix().toUpperCase(Locale.ROOT);
+    int numberLength = pattern.getPatternLength() - prefix.length();
+    return numberLength > 0
+        ? prefix + String.format("%0" + numberLength + "d", number)
+        : prefix + number;
+  }
+
+  private List<EmployeeImportResult> createChunk(
+      List<EmployeeImportRow> chunk, Organization organization, Set<Role> roles) {
+    List<User> users = new ArrayList<>(chunk.size());
+    List<String> passwords = new ArrayList<>(chunk.size());
+    for (EmployeeImportRow row : chunk) {
+      User user = new User();
+      user.setId(new ObjectId().toHexString());
+      user.setFirstName(row.getFirstName());
+      user.setLastName(row.getLastName());
+      user.setEmail(row.getEmail());
+      user.setEmploymentType(row.getEmploymentType());
+      user.setEmployeeId(row.getEmployeeId());
+      user.setRoles(roles);
+      user.setCreatedBy(UserContext.getLoggedInUserEmail());
+      user.setOrganizations(organization);
+      users.add(user);
+      passwords.add(SecretsGenerator.generateSecret());
+    }
+    // BCrypt dominates the cost of creating a user, so it is spread across the cores.
+    CompletableFuture.allOf(
+            IntStream.range(0, users.size())
+                .mapToObj(
+                    i ->
+                        CompletableFuture.runAsync(
+                            () -> users.get(i).setPassword(hashWithBcrypt(passwords.get(i))),
+                            passwordHashExecutor))
+                .toArray(CompletableFuture[]::new))
+        .join();
+
+    Set<Integer> failedUsers = new HashSet<>();
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+    bulkOperations.insert(users);
+    // The inserted users are indexed together below, not one save event at a time.
+    UserSearchIndexListener.suspended(
+        () -> {
+          try {
+            bulkOperations.execute();
+          } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> failedUsers.add(error.getIndex()));
+          }
+        });
+
+    List<Map<String, Object>> newEmployees = new ArrayList<>();
+    List<User> insertedUsers = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      if (!failedUsers.contains(i)) {
+        newEmployees.add(toNewEmployee(users.get(i), chunk.get(i)));
+        insertedUsers.add(users.get(i));
+      }
+    }
+    Set<String> failedEmployees = new HashSet<>();
+    if (!newEmployees.isEmpty()) {
+      String importId = UUID.randomUUID().toString();
+      try {
+        failedEmployees.addAll(employeeFeignClient.createEmployees(importId, newEmployees));
+      } catch (FeignException e) {
+        log.error("Error creating employees in Employee Service: {}", e.getMessage());
+        insertedUsers.forEach(user -> failedEmployees.add(user.getEmployeeId()));
+        removeEmployees(importId, insertedUsers.stream().map(User::getId).toList());
+      }
+    }
+    if (!failedEmployees.isEmpty()) {
+      List<String> rolledBack =
+          insertedUsers.stream()
+              .filter(user -> failedEmployees.contains(user.getEmployeeId()))
+              .map(User::getId)
+              .toList();
+      Query rollback = Query.query(Criteria.where("_id").in(rolledBack));
+      UserSearchIndexListener.suspended(() -> mongoTemplate.remove(rollback, User.class));
+      employeeSearchIndex.removeAll(rolledBack);
+    }
+    employeeSearchIndex.upsertAll(
+        insertedUsers.stream()
+            .filter(user -> !failedEmployees.contains(user.getEmployeeId()))
+            .toList());
+
+    List<EmployeeImportResult> results = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      EmployeeImportRow row = chunk.get(i);
+      if (failedUsers.contains(i)) {
+        results.add(fail(row, Constants.USER_CREATE_ERROR));
+      } else if (failedEmployees.contains(row.getEmployeeId())) {
+        results.add(fail(row, Constants.EMPLOYEE_FEIGN_CLIENT_ERROR));
+      } else {
+        results.add(
+            EmployeeImportResult.created(
+                row.getRowNumber(), row.getEmail(), row.getEmployeeId(), passwords.get(i)));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Removes the employee records a failed bulk call may have written before it broke off. Records
+   * left behind when this fails as well keep their employee ids taken until they are deleted.
+   */
+  private void removeEmployees(String importId, List<String> accountIds) {
+    try {
+      employeeFeignClient.deleteImportedEmployees(importId, accountIds);
+    } catch (Exception e) {
+      log.error(
+          "Could not remove {} employees of failed import {} from Employee Service: {}",
+          accountIds.size(),
+          importId,
+          e.getMessage());
+    }
+  }
+
+  private static Map<String, Object> toNewEmployee(User user, EmployeeImportRow row) {
+    Map<String, Object> newEmployee = new HashMap<>();
+    newEmployee.put("id", user.getId());
+    newEmployee.put("employeeId", user.getEmployeeId());
+    newEmployee.put("email", user.getEmail());
+    newEmployee.put("firstName", user.getFirstName());
+    newEmployee.put("lastName", user.getLastName());
+    newEmployee.put("active", user.isActive());
+    newEmployee.put("organizations", user.getOrganizations());
+    newEmployee.put("department", row.getDepartment());
+    newEmployee.put("employmentType", user.getEmploymentType());
+    return newEmployee;
+  }
+
+  /** Maps the organization's employment types by lower case, to their configured spelling. */
+  private Map<String, String> employmentTypes(String organizationId) {
+    OrgDefaults orgDefaults =
+        orgDefaultsRepository.findByOrganizationIdAndKey(organizationId, "employeeTypes");
+    if (orgDefaults == null
+        || orgDefaults.getValues() == null
+        || orgDefaults.getValues().isEmpty()) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR,
+              ErrorCode.INVALID_EMPLOYMENT_TYPE_CODE,
+              Constants.NO_EMPLOYEE_TYPES_DEFINED));
+    }
+    Map<String, String> employmentTypes = new HashMap<>();
+    orgDefaults.getValues().stream()
+        .filter(value -> value.getValue() != null)
+        .forEach(
+            value ->
+                employmentTypes.put(value.getValue().toLowerCase(Locale.ROOT), value.getValue()));
+    return employmentTypes;
+  }
+
+  /** Returns which of the values are already used by a user, in a single query. */
+  private Set<String> existing(String field, Collection<String> values) {
+    List<String> candidates = values.stream().filter(Objects::nonNull).toList();
+    if (candidates.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(
+        mongoTemplate.findDistinct(
+            Query.query(Criteria.where(field).in(candidates)), field, User.class, String.class));
+  }
+
+  /**
+   * Returns the given lower-cased emails that some user already has in any case. Stored emails keep
+   * the case they were entered in.
+   */
+  private Set<String> existingEmails(Collection<String> emails) {
+    if (emails.isEmpty()) {
+      return Set.of();
+    }
+    Query query =
+        Query.query(Criteria.where("email").in(emails)).collation(MongoIndexes.CASE_INSENSITIVE);
+    return mongoTemplate.findDistinct(query, "email", User.class, String.class).stream()
+        .map(email -> email.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toSet());
+  }
+
+  private static Map<String, Long> countBy(
+      List<EmployeeImportRow> rows, Function<EmployeeImportRow, String> key) {
+    return rows.stream()
+        .map(key)
+        .filter(Objects::nonNull)
+        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+  }
+
+  private static EmployeeImportResult fail(EmployeeImportRow row, String message) {
+    return EmployeeImportResult.failed(
+        row.getRowNumber(), row.getEmail(), row.getEmployeeId(), message);
+  }
+
+  private void write(OutputStream output, List<EmployeeImportResult> results) {
+    try {
+      for (EmployeeImportResult result : results) {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+      }
+      output.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
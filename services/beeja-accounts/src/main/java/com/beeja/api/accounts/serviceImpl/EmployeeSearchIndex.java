@@ -0,0 +1,336 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.model.dto.EmployeeDepartmentDTO;
+import com.beeja.api.accounts.response.EmployeeSearchResponse;
+import com.beeja.api.accounts.utils.Constants;
+import com.mongodb.DBRef;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory employee search, one {@link OrganizationSearchIndex} per organization.
+ *
+ * <p>The indexes are built from the users collection once the application is ready. Designations
+ * live in employee-service and are loaded with the first search of each organization, which runs
+ * with a caller whose token can read them. User writes made through this instance are applied right
+ * away; every index is also rebuilt in full once it is older than {@code
+ * employee-search.refresh-interval}, which picks up designation changes and writes served by other
+ * instances.
+ *
+ * <p>Rebuilds run on {@code employeeSearchExecutor}, one at a time per organization. A search that
+ * finds an index stale or without designations is served from it and starts the rebuild; only the
+ * searches of an organization without any index wait, and they all wait for the same rebuild.
+ * Writes applied while a rebuild reads the users are replayed onto the rebuilt index before it
+ * replaces the current one.
+ */
+@Slf4j
+@Service
+public class EmployeeSearchIndex {
+
+  @Autowired private MongoTemplate mongoTemplate;
+
+  @Autowired private EmployeeFeignClient employeeFeignClient;
+
+  @Autowired
+  @Qualifier("employeeSearchExecutor")
+  private Executor employeeSearchExecutor;
+
+  @Value("${employee-search.refresh-interval:5m}")
+  private Duration refreshInterval;
+
+  @Value("${employee-search.max-results:20}")
+  private int maxResults;
+
+  private final Map<String, OrganizationSearchIndex> organizations = new ConcurrentHashMap<>();
+
+  /**
+   * Rebuilds in progress by organization. Writes and the installing of a rebuilt index go through
+   * the organization's entry here, so a write is either applied to the installed index or replayed
+   * onto it.
+   */
+  private final Map<String, Rebuild> rebuilds = new ConcurrentHashMap<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildAll() {
+    long start = System.currentTimeMillis();
+    Map<String, List<OrganizationSearchIndex.Entry>> entries = new HashMap<>();
+    try (Stream<Document> users = streamActiveUsers(null)) {
+      users.forEach(
+          user -> {
+            String organizationId = organizationId(user);
+            if (organizationId != null) {
+              entries
+                  .computeIfAbsent(organizationId, key -> new ArrayList<>())
+                  .add(entry(user, null));
+            }
+          });
+    } catch (Exception e) {
+      log.error("Could not build the employee search index: {}", e.getMessage());
+      return;
+    }
+    entries.forEach(
+        (organizationId, organizationEntries) ->
+            organizations.putIfAbsent(
+                organizationId, OrganizationSearchIndex.of(organizationEntries, false)));
+    log.info(
+        "Built employee search index for {} organizations in {} ms",
+        entries.size(),
+        System.currentTimeMillis() - start);
+  }
+
+  public List<EmployeeSearchResponse> search(String organizationId, String keyword) {
+    return current(organizationId).search(keyword, maxResults).stream()
+        .map(
+            entry ->
+                new EmployeeSearchResponse(
+                    entry.getEmployeeId(),
+                    entry.getFullName(),
+                    Objects.requireNonNullElse(entry.getDesignation(), "-"),
+                    Objects.requireNonNullElse(entry.getDepartment(), "-"),
+                    entry.getEmail()))
+        .toList();
+  }
+
+  /** Applies a saved user to its organization's index, if that index was built already. */
+  public void upsert(User user) {
+    upsertAll(List.of(user));
+  }
+
+  /**
+   * Applies saved users to their organizations' indexes, if those were built already. Each index
+   * is rebuilt once for all of its users, so bulk writes should be applied through this rather
+   * than user by user.
+   */
+  public void upsertAll(Collection<User> users) {
+    Map<String, List<User>> byOrganization = new HashMap<>();
+    for (User user : users) {
+      Organization organization = user.getOrganizations();
+      if (organization != null && organization.getId() != null && user.getId() != null) {
+        byOrganization.computeIfAbsent(organization.getId(), key -> new ArrayList<>()).add(user);
+      }
+    }
+    byOrganization.forEach(
+        (organizationId, organizationUsers) -> {
+          List<OrganizationSearchIndex.Entry> upserts =
+              organizationUsers.stream()
+                  .filter(User::isActive)
+                  .map(EmployeeSearchIndex::entry)
+                  .toList();
+          Set<String> deactivated =
+              organizationUsers.stream()
+                  .filter(user -> !user.isActive())
+                  .map(User::getId)
+                  .collect(Collectors.toSet());
+          apply(organizationId, index -> index.with(upserts, deactivated));
+        });
+  }
+
+  public void remove(String userId) {
+    removeAll(List.of(userId));
+  }
+
+  public void removeAll(Collection<String> userIds) {
+    Set<String> removed = Set.copyOf(userIds);
+    Predicate<OrganizationSearchIndex.Entry> deleted =
+        entry -> removed.contains(entry.getUserId());
+    Set<String> organizationIds = new HashSet<>(organizations.keySet());
+    organizationIds.addAll(rebuilds.keySet());
+    organizationIds.forEach(
+        organizationId ->
+            apply(
+                organizationId,
+                index -> index.contains(deleted) ? index.without(deleted) : index));
+  }
+
+  /**
+   * Drops every index, to be rebuilt by the next search of each organization. For deletes whose
+   * users are not known by id; rebuilds in progress may have read those users, so their indexes
+   * are not kept either.
+   */
+  public void invalidate() {
+    rebuilds
+        .keySet()
+        .forEach(
+            organizationId ->
+                rebuilds.computeIfPresent(
+                    organizationId,
+                    (key, rebuild) -> {
+                      rebuild.discarded = true;
+                      return rebuild;
+                    }));
+    organizations.clear();
+  }
+
+  private OrganizationSearchIndex current(String organizationId) {
+    OrganizationSearchIndex index = organizations.get(organizationId);
+    if (index == null) {
+      try {
+        return rebuild(organizationId).result.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+    if (!index.isDesignationsLoaded() || index.isOlderThan(refreshInterval)) {
+      rebuild(organizationId);
+    }
+    return index;
+  }
+
+  /** Starts rebuilding the organization's index, unless a rebuild of it is in progress already. */
+  private Rebuild rebuild(String organizationId) {
+    Rebuild started = new Rebuild();
+    Rebuild running = rebuilds.putIfAbsent(organizationId, started);
+    if (running != null) {
+      return running;
+    }
+    try {
+      employeeSearchExecutor.execute(() -> buildAndInstall(organizationId, started));
+    } catch (RuntimeException e) {
+      rebuilds.remove(organizationId, started);
+      started.result.completeExceptionally(e);
+    }
+    return started;
+  }
+
+  private void buildAndInstall(String organizationId, Rebuild rebuild) {
+    OrganizationSearchIndex built;
+    try {
+      built = build(organizationId);
+    } catch (RuntimeException e) {
+      log.error("Could not rebuild the employee search index of {}", organizationId, e);
+      rebuilds.remove(organizationId, rebuild);
+      rebuild.result.completeExceptionally(e);
+      return;
+    }
+    rebuilds.computeIfPresent(
+        organizationId,
+        (key, running) -> {
+          OrganizationSearchIndex index = built;
+          for (UnaryOperator<OrganizationSearchIndex> write : running.writes) {
+            index = write.apply(index);
+          }
+          if (!running.discarded) {
+            organizations.put(organizationId, index);
+          }
+          running.result.complete(index);
+          return null;
+        });
+  }
+
+  private OrganizationSearchIndex build(String organizationId) {
+    Map<String, EmployeeDepartmentDTO> jobs = new HashMap<>();
+    boolean designationsLoaded = true;
+    try {
+      employeeFeignClient
+          .getDesignationsOfOrganization()
+          .forEach(job -> jobs.put(job.getEmployeeId(), job));
+    } catch (Exception e) {
+      // Left unloaded so that the next search tries again.
+      designationsLoaded = false;
+      log.warn(
+          "Could not load designations of organization {} for employee search: {}",
+          organizationId,
+          e.getMessage());
+    }
+    List<OrganizationSearchIndex.Entry> entries = new ArrayList<>();
+    try (Stream<Document> users = streamActiveUsers(organizationId)) {
+      users.forEach(user -> entries.add(entry(user, jobs.get(user.getString("employeeId")))));
+    }
+    return OrganizationSearchIndex.of(entries, designationsLoaded);
+  }
+
+  /**
+   * Applies a write to the organization's index, and records it for the rebuild in progress, if
+   * any, whose users may have been read before the write.
+   */
+  private void apply(String organizationId, UnaryOperator<OrganizationSearchIndex> write) {
+    rebuilds.compute(
+        organizationId,
+        (key, rebuild) -> {
+          organizations.computeIfPresent(organizationId, (id, index) -> write.apply(index));
+          if (rebuild != null) {
+            rebuild.writes.add(write);
+          }
+          return rebuild;
+        });
+  }
+
+  /** Streams the active users of the organization, or of all organizations when it is null. */
+  private Stream<Document> streamActiveUsers(String organizationId) {
+    Criteria criteria = Criteria.where("isActive").is(true);
+    if (organizationId != null) {
+      // Users reference their organization by DBRef, which a raw query has to match by id.
+      criteria
+          .and("organizations.$id")
+          .is(ObjectId.isValid(organizationId) ? new ObjectId(organizationId) : organizationId);
+    }
+    Query query = new Query(criteria).cursorBatchSize(Constants.EMPLOYEE_SEARCH_BATCH_SIZE);
+    query.fields().include("employeeId", "firstName", "lastName", "email", "organizations");
+    return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(User.class));
+  }
+
+  private static String organizationId(Document user) {
+    return user.get("organizations") instanceof DBRef organization
+        ? String.valueOf(organization.getId())
+        : null;
+  }
+
+  private static OrganizationSearchIndex.Entry entry(Document user, EmployeeDepartmentDTO job) {
+    return new OrganizationSearchIndex.Entry(
+        String.valueOf(user.get("_id")),
+        user.getString("employeeId"),
+        user.getString("firstName"),
+        user.getString("lastName"),
+        user.getString("email"),
+        job == null ? null : job.getDesignation(),
+        job == null ? null : job.getDepartment());
+  }
+
+  private static OrganizationSearchIndex.Entry entry(User user) {
+    return new OrganizationSearchIndex.Entry(
+        user.getId(),
+        user.getEmployeeId(),
+        user.getFirstName(),
+        user.getLastName(),
+        user.getEmail(),
+        null,
+        null);
+  }
+
+  /** A rebuild in progress, with the writes to replay onto its result before installing it. */
+  private static final class Rebuild {
+    private final CompletableFuture<OrganizationSearchIndex> result = new CompletableFuture<>();
+    private final List<UnaryOperator<OrganizationSearchIndex>> writes = new ArrayList<>();
+    private boolean discarded;
+  }
+}
@@ -70,6 +70,12 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Autowired OrganizationPatternsRepository patternsRepository;
 
+  @Autowired AuthVersionUpdater authVersionUpdater;
+
+  @Autowired EmployeeSearchIndex employeeSearchIndex;
+
+  @Autowired EmployeeAccountSync employeeAccountSync;
+
   private final PasswordEncoder passwordEncoder;
 
   public EmployeeServiceImpl(PasswordEncoder passwordEncoder) {
@@ -200,6 +206,9 @@ public class EmployeeServiceImpl implements EmployeeService {
       Map<String, Object> newEmployee = new HashMap<>();
       newEmployee.put("employeeId", createdUser.getEmployeeId());
       newEmployee.put("email", createdUser.getEmail());
+      newEmployee.put("firstName", createdUser.getFirstName());
+      newEmployee.put("lastName", createdUser.getLastName());
+      newEmployee.put("active", createdUser.isActive());
       newEmployee.put("organizations", createdUser.getOrganizations());
       newEmployee.put("department", addEmployeeRequest.getDepartment());
       newEmployee.put("employmentType", addEmployeeRequest.getEmploymentType());
@@ -242,6 +251,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     optionalUser.setActive(!optionalUser.isActive());
+    authVersionUpdater.bumpForUser(optionalUser);
     try {
       userRepository.save(optionalUser);
     } catch (Exception e) {
@@ -249,6 +259,7 @@ public class EmployeeServiceImpl implements EmployeeService {
           BuildErrorMessage.buildErrorMessage(
               ErrorType.DB_ERROR, ErrorCode.CANNOT_SAVE_CHANGES, Constants.USER_UPDATE_ERROR));
     }
+    employeeAccountSync.sync(employeeId);
   }
 
   @Override
@@ -380,6 +391,7 @@ public class EmployeeServiceImpl implements EmployeeService {
       }
     }
     user.setRoles(updatedRoles);
+    authVersionUpdater.bumpForUser(user);
     try {
       return userRepository.save(user);
     } catch (Exception e) {
@@ -409,7 +421,9 @@ public class EmployeeServiceImpl implements EmployeeService {
     BeanUtils.copyProperties(updatedUser, existingUser, nullProperties);
     existingUser.setModifiedAt(new Date());
     existingUser.setModifiedBy(UserContext.getLoggedInUserEmail());
-    return userRepository.save(existingUser);
+    User savedUser = userRepository.save(existingUser);
+    employeeAccountSync.sync(savedUser.getEmployeeId());
+    return savedUser;
   }
 
   @Override
@@ -562,6 +576,9 @@ public class EmployeeServiceImpl implements EmployeeService {
       user.setEmail(changeEmailAndPasswordRequest.getNewEmail());
     }
     userRepository.save(user);
+    if (changeEmailAndPasswordRequest.getNewEmail() != null) {
+      employeeAccountSync.sync(user.getEmployeeId());
+    }
     return Constants.UPDATED;
   }
 
@@ -633,33 +650,6 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     public List<EmployeeSearchResponse> searchEmployees(String keyword) {
-        String orgId = UserContext.getLoggedInUserOrganization().getId();
-        List<EmployeeSearchDTO> users = userRepository.searchUsersByKeyword(keyword, orgId);
-        if (users.isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<String> employeeIds = users.stream()
-                .map(EmployeeSearchDTO::getEmployeeId)
-                .collect(Collectors.toList());
-
-        List<EmployeeDepartmentDTO> designation = employeeFeignClient.getDesignationsByEmployeeIds(employeeIds);
-
-        Map<String, String> designMap = designation.stream()
-                .collect(Collectors.toMap(EmployeeDepartmentDTO::getEmployeeId, EmployeeDepartmentDTO::getDesignation));
-
-        Map<String, String> deptMap = designation.stream()
-                .collect(Collectors.toMap(
-                        EmployeeDepartmentDTO::getEmployeeId,
-                        EmployeeDepartmentDTO::getDepartment
-                ));
-        return users.stream()
-                .map(u -> new EmployeeSearchResponse(
-                        u.getEmployeeId(),
-                        u.getFullName(),
-                        designMap.getOrDefault(u.getEmployeeId(), "-"),
-                        deptMap.getOrDefault(u.getEmployeeId(), "-"),
-                        u.getEmail()
-                ))
-                .collect(Collectors.toList());
+        return employeeSearchIndex.search(UserContext.getLoggedInUserOrganization().getId(), keyword);
     }
 }
@@ -1,7 +1,9 @@
 package com.beeja.api.accounts.serviceImpl;
 
+import com.beeja.api.accounts.clients.FinanceClient;
 import com.beeja.api.accounts.enums.ErrorCode;
 import com.beeja.api.accounts.enums.ErrorType;
+import com.beeja.api.accounts.enums.PatternType;
 import com.beeja.api.accounts.exceptions.BadRequestException;
 import com.beeja.api.accounts.exceptions.ResourceNotFoundException;
 import com.beeja.api.accounts.model.Organization.OrganizationPattern;
@@ -12,6 +14,7 @@ import com.beeja.api.accounts.utils.BuildErrorMessage;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,12 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
   @Autowired
   public OrganizationPatternsRepository organizationPatternsRepository;
 
+  @Autowired public FinanceClient financeClient;
+
+  /** Pattern types finance numbers its loans and devices with, and caches. */
+  private static final Set<String> FINANCE_PATTERN_TYPES =
+      Set.of(PatternType.LOAN_ID_PATTERN.name(), PatternType.DEVICE_ID_PATTERN.name());
+
   @Override
   public OrganizationPattern updatePatternStatusByPatternIdAndPatternType(
       String patternId, String patternType) {
@@ -51,6 +60,7 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
       }
     }
     organizationPatternsRepository.saveAll(organizationPatterns);
+    evictFinancePattern(patternType);
     return updatedPattern;
   }
 
@@ -88,7 +98,24 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
 
     OrganizationPattern organizationPattern =
         createOrganizationPattern(organizationPatternRequest, organizationId);
-    return organizationPatternsRepository.save(organizationPattern);
+    OrganizationPattern savedPattern = organizationPatternsRepository.save(organizationPattern);
+    evictFinancePattern(String.valueOf(organizationPatternRequest.getPatternType()));
+    return savedPattern;
+  }
+
+  /**
+   * Finance serves loan and device patterns from a cache; dropping the changed entry there makes
+   * the change apply to the next id rather than after the cache's refresh interval.
+   */
+  private void evictFinancePattern(String patternType) {
+    if (!FINANCE_PATTERN_TYPES.contains(patternType)) {
+      return;
+    }
+    try {
+      financeClient.evictOrganizationPattern(patternType);
+    } catch (Exception e) {
+      log.warn(Constants.ERROR_EVICTING_FINANCE_PATTERN, patternType, e.getMessage());
+    }
   }
 
   private static OrganizationPattern createOrganizationPattern(
@@ -113,6 +140,7 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
   public void deletePatternByPatternIdAndPatternType(String patternId, String patternType) {
     organizationPatternsRepository.deleteByOrganizationIdAndPatternTypeAndId(
         UserContext.getLoggedInUserOrganization().getId(), patternId, patternType);
+    evictFinancePattern(patternType);
   }
 
   @Override
@@ -0,0 +1,328 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import lombok.Getter;
+
+/**
+ * Immutable search index over the active employees of one organization. Every searchable value is
+ * lower-cased into tokens, whole and word by word, kept in one sorted array with the entries each
+ * token occurs in. A prefix lookup is a binary search plus a walk over the matching range; typo
+ * tolerant lookups compare the query against the tokens that share its first letter. Writes build
+ * a new index, so searches never wait on them.
+ */
+final class OrganizationSearchIndex {
+
+  private static final int EXACT = 3;
+  private static final int PREFIX = 2;
+  private static final int FUZZY = 1;
+  private static final int FUZZY_MIN_LENGTH = 3;
+
+  private final List<Entry> entries;
+  private final String[] tokens;
+  private final int[][] postings;
+
+  /** Entry positions ordered by full name, the tie-break between equally scored matches. */
+  private final int[] byName;
+
+  @Getter private final Instant builtAt;
+
+  /** Whether designations were loaded from employee-service; false for the index built at boot. */
+  @Getter private final boolean designationsLoaded;
+
+  private OrganizationSearchIndex(
+      List<Entry> entries, Instant builtAt, boolean designationsLoaded) {
+    this.entries = entries;
+    this.builtAt = builtAt;
+    this.designationsLoaded = designationsLoaded;
+
+    TreeMap<String, List<Integer>> tokenEntries = new TreeMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      for (String token : entries.get(i).tokens()) {
+        List<Integer> posting = tokenEntries.computeIfAbsent(token, key -> new ArrayList<>());
+        if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+          posting.add(i);
+        }
+      }
+    }
+    this.tokens = tokenEntries.keySet().toArray(new String[0]);
+    this.postings =
+        tokenEntries.values().stream()
+            .map(posting -> posting.stream().mapToInt(Integer::intValue).toArray())
+            .toArray(int[][]::new);
+    this.byName =
+        IntStream.range(0, entries.size())
+            .boxed()
+            .sorted(Comparator.comparing(entry -> entries.get(entry).getFullName()))
+            .mapToInt(Integer::intValue)
+            .toArray();
+  }
+
+  static OrganizationSearchIndex of(Collection<Entry> entries, boolean designationsLoaded) {
+    return new OrganizationSearchIndex(List.copyOf(entries), Instant.now(), designationsLoaded);
+  }
+
+  boolean isOlderThan(Duration age) {
+    return builtAt.plus(age).isBefore(Instant.now());
+  }
+
+  boolean contains(Predicate<Entry> condition) {
+    return entries.stream().anyMatch(condition);
+  }
+
+  /**
+   * Returns an index with the user's entry added or replaced. The designation of the replaced
+   * entry is kept when the new one has none, as user writes in accounts do not carry it.
+   */
+  OrganizationSearchIndex with(Entry entry) {
+    return with(List.of(entry), Set.of());
+  }
+
+  /**
+   * Returns an index with the entries added or replaced, as {@link #with(Entry)} does, and the
+   * removed users left out, built once however many entries change. Entries are matched by user
+   * id, as the employee id of a user can be changed.
+   */
+  OrganizationSearchIndex with(Collection<Entry> upserts, Set<String> removedUserIds) {
+    Map<String, Entry> changed = new LinkedHashMap<>();
+    for (Entry entry : upserts) {
+      changed.put(entry.getUserId(), entry);
+    }
+    List<Entry> updated = new ArrayList<>(entries.size() + changed.size());
+    for (Entry existing : entries) {
+      Entry entry = changed.get(existing.getUserId());
+      if (entry == null) {
+        if (!removedUserIds.contains(existing.getUserId())) {
+          updated.add(existing);
+        }
+      } else if (entry.getDesignation() == null && entry.getDepartment() == null) {
+        changed.put(
+            existing.getUserId(),
+            entry.withJob(existing.getDesignation(), existing.getDepartment()));
+      }
+    }
+    updated.addAll(changed.values());
+    return new OrganizationSearchIndex(updated, builtAt, designationsLoaded);
+  }
+
+  OrganizationSearchIndex without(Predicate<Entry> removed) {
+    List<Entry> updated = entries.stream().filter(removed.negate()).toList();
+    return new OrganizationSearchIndex(updated, builtAt, designationsLoaded);
+  }
+
+  /**
+   * Finds the employees matching every word of the keyword, best matches first: exact tokens,
+   * then prefixes, then tokens within a small edit distance of a prefix. The whole keyword is also
+   * matched as one prefix, so that {@code "john sm"} finds John Smith by full name.
+   */
+  List<Entry> search(String keyword, int limit) {
+    String query = normalize(keyword);
+    if (query.isEmpty()) {
+      return List.of();
+    }
+    String[] terms = query.split(" ");
+
+    int[] scores = prefixMatches(query);
+    if (terms.length > 1) {
+      mergeBest(scores, matchAll(terms, false));
+    }
+    if (matchCount(scores) < limit && query.length() >= FUZZY_MIN_LENGTH) {
+      mergeBest(scores, matchAll(terms, true));
+    }
+    return best(scores, limit);
+  }
+
+  /**
+   * The {@code limit} best scored entries, ranked by score and then by name. Walks the entries in
+   * name order once, keeping up to {@code limit} per score, instead of sorting every match.
+   */
+  private List<Entry> best(int[] scores, int limit) {
+    TreeMap<Integer, List<Entry>> byScore = new TreeMap<>(Comparator.reverseOrder());
+    for (int entry : byName) {
+      if (scores[entry] > 0) {
+        List<Entry> ranked = byScore.computeIfAbsent(scores[entry], key -> new ArrayList<>());
+        if (ranked.size() < limit) {
+          ranked.add(entries.get(entry));
+        }
+      }
+    }
+    return byScore.values().stream().flatMap(List::stream).limit(limit).toList();
+  }
+
+  /**
+   * Scores of the entries matching all terms, the sum of their per-term scores; zero for entries
+   * that miss any term.
+   */
+  private int[] matchAll(String[] terms, boolean fuzzy) {
+    int[] result = null;
+    for (String term : terms) {
+      int[] termScores = prefixMatches(term);
+      if (fuzzy && term.length() >= FUZZY_MIN_LENGTH) {
+        fuzzyMatches(term, termScores);
+      }
+      if (result == null) {
+        result = termScores;
+      } else {
+        for (int entry = 0; entry < result.length; entry++) {
+          result[entry] = termScores[entry] == 0 ? 0 : result[entry] + termScores[entry];
+        }
+      }
+    }
+    return result == null ? new int[entries.size()] : result;
+  }
+
+  /** Scores of the entries with a token starting with the prefix, indexed by entry. */
+  private int[] prefixMatches(String prefix) {
+    int[] scores = new int[entries.size()];
+    for (int i = lowerBound(prefix); i < tokens.length && tokens[i].startsWith(prefix); i++) {
+      int score = tokens[i].length() == prefix.length() ? EXACT : PREFIX;
+      for (int entry : postings[i]) {
+        scores[entry] = Math.max(scores[entry], score);
+      }
+    }
+    return scores;
+  }
+
+  private void fuzzyMatches(String term, int[] scores) {
+    int maxEdits = term.length() <= 5 ? 1 : 2;
+    String firstLetter = term.substring(0, 1);
+    for (int i = lowerBound(firstLetter);
+        i < tokens.length && tokens[i].startsWith(firstLetter);
+        i++) {
+      if (prefixDistance(term, tokens[i], maxEdits) <= maxEdits) {
+        for (int entry : postings[i]) {
+          scores[entry] = Math.max(scores[entry], FUZZY);
+        }
+      }
+    }
+  }
+
+  private int lowerBound(String prefix) {
+    int index = Arrays.binarySearch(tokens, prefix);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /**
+   * Smallest number of edits, adjacent transpositions included, that turn the term into some
+   * prefix of the token. Gives up with {@code maxEdits + 1} once every alignment is over budget.
+   */
+  static int prefixDistance(String term, String token, int maxEdits) {
+    int columns = Math.min(token.length(), term.length() + maxEdits);
+    int[] previousRow = new int[columns + 1];
+    int[] row = new int[columns + 1];
+    int[] next = new int[columns + 1];
+    for (int j = 0; j <= columns; j++) {
+      row[j] = j;
+    }
+    for (int i = 1; i <= term.length(); i++) {
+      next[0] = i;
+      int rowMin = next[0];
+      for (int j = 1; j <= columns; j++) {
+        int cost = term.charAt(i - 1) == token.charAt(j - 1) ? 0 : 1;
+        int distance = Math.min(Math.min(row[j] + 1, next[j - 1] + 1), row[j - 1] + cost);
+        if (i > 1
+            && j > 1
+            && term.charAt(i - 1) == token.charAt(j - 2)
+            && term.charAt(i - 2) == token.charAt(j - 1)) {
+          distance = Math.min(distance, previousRow[j - 2] + 1);
+        }
+        next[j] = distance;
+        rowMin = Math.min(rowMin, distance);
+      }
+      if (rowMin > maxEdits) {
+        return maxEdits + 1;
+      }
+      int[] recycled = previousRow;
+      previousRow = row;
+      row = next;
+      next = recycled;
+    }
+    int best = maxEdits + 1;
+    for (int j = 0; j <= columns; j++) {
+      best = Math.min(best, row[j]);
+    }
+    return best;
+  }
+
+  private static void mergeBest(int[] into, int[] scores) {
+    for (int entry = 0; entry < into.length; entry++) {
+      into[entry] = Math.max(into[entry], scores[entry]);
+    }
+  }
+
+  private static int matchCount(int[] scores) {
+    int count = 0;
+    for (int score : scores) {
+      if (score > 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  static String normalize(String value) {
+    return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  @Getter
+  static final class Entry {
+    private final String userId;
+    private final String employeeId;
+    private final String firstName;
+    private final String lastName;
+    private final String fullName;
+    private final String email;
+    private final String designation;
+    private final String department;
+
+    Entry(
+        String userId,
+        String employeeId,
+        String firstName,
+        String lastName,
+        String email,
+        String designation,
+        String department) {
+      this.userId = userId;
+      this.employeeId = employeeId;
+      this.firstName = firstName;
+      this.lastName = lastName;
+      this.fullName =
+          (firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName);
+      this.email = email;
+      this.designation = designation;
+      this.department = department;
+    }
+
+    Entry withJob(String designation, String department) {
+      return new Entry(userId, employeeId, firstName, lastName, email, designation, department);
+    }
+
+    private Set<String> tokens() {
+      Set<String> tokens = new LinkedHashSet<>();
+      for (String value :
+          new String[] {employeeId, firstName, lastName, getFullName(), email, designation}) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+          continue;
+        }
+        tokens.add(normalized);
+        tokens.addAll(Arrays.asList(normalized.split(" ")));
+      }
+      return tokens;
+    }
+  }
+}
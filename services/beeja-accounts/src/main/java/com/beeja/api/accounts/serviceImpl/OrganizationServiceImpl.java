@@ -3,23 +3,13 @@ package com.beeja.api.accounts.serviceImpl;
 import com.beeja.api.accounts.clients.EmployeeFeignClient;
 import com.beeja.api.accounts.clients.FileClient;
 import com.beeja.api.accounts.constants.PermissionConstants;
-import com.beeja.api.accounts.enums.CurrencyType;
-import com.beeja.api.accounts.enums.DateFormats;
 import com.beeja.api.accounts.enums.ErrorCode;
 import com.beeja.api.accounts.enums.ErrorType;
-import com.beeja.api.accounts.enums.FontNames;
-import com.beeja.api.accounts.enums.Theme;
-import com.beeja.api.accounts.enums.TimeZones;
 import com.beeja.api.accounts.exceptions.BadRequestException;
 import com.beeja.api.accounts.exceptions.DuplicateValueException;
 import com.beeja.api.accounts.exceptions.ResourceNotFoundException;
-import com.beeja.api.accounts.model.Organization.Accounts;
-import com.beeja.api.accounts.model.Organization.Address;
-import com.beeja.api.accounts.model.Organization.BankDetails;
-import com.beeja.api.accounts.model.Organization.LoanLimit;
 import com.beeja.api.accounts.model.Organization.OrgDefaults;
 import com.beeja.api.accounts.model.Organization.Organization;
-import com.beeja.api.accounts.model.Organization.Preferences;
 import com.beeja.api.accounts.model.Organization.employeeSettings.OrgValues;
 import com.beeja.api.accounts.model.User;
 import com.beeja.api.accounts.repository.FeatureToggleRepository;
@@ -35,10 +25,10 @@ import com.beeja.api.accounts.service.OrganizationService;
 import com.beeja.api.accounts.utils.BuildErrorMessage;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.beeja.api.commons.utils.PartialUpdateMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -47,10 +37,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
@@ -79,6 +77,61 @@ public class OrganizationServiceImpl implements OrganizationService {
 
   @Autowired OrgDefaultsGenerationExistingImpl orgDefaultsGenerationExistingImpl;
 
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired MongoMappingContext mongoMappingContext;
+
+  @Autowired ObjectMapper objectMapper;
+
+  /** The organization fields and settings an organization update may set. */
+  private static final List<String> ORGANIZATION_UPDATE_PATHS =
+      List.of(
+          "name",
+          "email",
+          "subscriptionId",
+          "emailDomain",
+          "contactMail",
+          "website",
+          "filingAddress",
+          "preferences.dateFormat",
+          "preferences.timeZone",
+          "preferences.fontName",
+          "preferences.fontSize",
+          "preferences.theme",
+          "preferences.currencyType",
+          "address.addressOne",
+          "address.addressTwo",
+          "address.country",
+          "address.state",
+          "address.city",
+          "address.pinCode",
+          "bankDetails.accountName",
+          "bankDetails.bankName",
+          "bankDetails.accountNumber",
+          "bankDetails.ifscNumber",
+          "accounts.pfNumber",
+          "accounts.tanNumber",
+          "accounts.panNumber",
+          "accounts.esiNumber",
+          "accounts.linNumber",
+          "accounts.gstNumber",
+          "accounts.taxNumber",
+          "loanLimit.monitorLoan",
+          "loanLimit.isMonitorLoanEnabled",
+          "loanLimit.personalLoan",
+          "loanLimit.isPersonalLoanEnabled",
+          "loanLimit.salaryMultiplier",
+          "loanLimit.isSalaryMultiplierEnabled");
+
+  private PartialUpdateMapper organizationUpdateMapper;
+
+  @PostConstruct
+  void initUpdateMappers() {
+    organizationUpdateMapper =
+        PartialUpdateMapper.of(
+            mongoMappingContext, objectMapper, Organization.class, ORGANIZATION_UPDATE_PATHS);
+  }
+
   @Override
   public List<User> getAllUsersByOrganizationId(String organizationId) throws Exception {
     Optional<Organization> organization;
@@ -131,170 +184,23 @@ public class OrganizationServiceImpl implements OrganizationService {
   @Override
   public Organization updateOrganization(String organizationId, String fields, MultipartFile file)
       throws Exception {
-    Optional<Organization> orgOptional;
-    if (UserContext.getLoggedInUserPermissions()
+    if (!UserContext.getLoggedInUserPermissions()
         .contains(PermissionConstants.UPDATE_ALL_ORGANIZATIONS)) {
-      orgOptional = organizationRepository.findById(organizationId);
-    } else {
-      orgOptional =
-          organizationRepository.findById(UserContext.getLoggedInUserOrganization().getId());
-    }
-
-    if (orgOptional.isEmpty()) {
-      throw new ResourceNotFoundException(
-          BuildErrorMessage.buildErrorMessage(
-              ErrorType.RESOURCE_NOT_FOUND_ERROR,
-              ErrorCode.ORGANIZATION_NOT_FOUND,
-              Constants.ERROR_NO_ORGANIZATION_FOUND_WITH_PROVIDED_ID));
+      organizationId = UserContext.getLoggedInUserOrganization().getId();
     }
 
-    Organization organization = orgOptional.get();
+    Update update = new Update();
     if (fields != null) {
-      ObjectMapper objectMapper = new ObjectMapper();
-
       try {
-        Map<String, Object> fieldsMap =
-            objectMapper.readValue(
-                fields,
-                new TypeReference<Map<String, Object>>() {
-                  // Added to pass checkstyle
-                });
-
-        for (Map.Entry<String, Object> entry : fieldsMap.entrySet()) {
-          String key = entry.getKey();
-          Object value = entry.getValue();
-
-          if (value == null) {
-            continue;
-          }
-
-          try {
-            Field field = Organization.class.getDeclaredField(key);
-            field.setAccessible(true);
-            if (key.equals("preferences")) {
-              Map<String, Object> preferencesMap = (Map<String, Object>) value;
-              Preferences preferences;
-              if (organization.getPreferences() == null) {
-                preferences = new Preferences();
-              } else {
-                preferences = organization.getPreferences();
-              }
-              for (Map.Entry<String, Object> prefEntry : preferencesMap.entrySet()) {
-                String prefKey = prefEntry.getKey();
-                Object prefValue = prefEntry.getValue();
-                if (prefValue != null) {
-                  if (prefKey.equals("theme")) {
-                    Theme theme = Theme.valueOf((String) prefValue);
-                    preferences.setTheme(theme);
-                  } else if (prefKey.equals("dateFormat")) {
-                    DateFormats dateFormats = DateFormats.valueOf((String) prefValue);
-                    preferences.setDateFormat(dateFormats);
-                  } else if (prefKey.equals("timeZone")) {
-                    TimeZones timeZone = TimeZones.valueOf((String) prefValue);
-                    preferences.setTimeZone(timeZone);
-                  } else if (prefKey.equals("fontName")) {
-                    FontNames fontName = FontNames.valueOf((String) prefValue);
-                    preferences.setFontName(fontName);
-                  } else if (prefKey.equals("currencyType")) {
-                    CurrencyType currencyType = CurrencyType.valueOf((String) prefValue);
-                    preferences.setCurrencyType(currencyType);
-                  } else {
-                    Field prefField = Preferences.class.getDeclaredField(prefKey);
-                    prefField.setAccessible(true);
-                    prefField.set(preferences, prefValue);
-                  }
-                }
-              }
-              field.set(organization, preferences);
-            } else if (key.equals("address")) {
-              Map<String, Object> addressMap = (Map<String, Object>) value;
-              Address address;
-              if (organization.getAddress() == null) {
-                address = new Address();
-              } else {
-                address = organization.getAddress();
-              }
-              for (Map.Entry<String, Object> addressEntry : addressMap.entrySet()) {
-                String addressKey = addressEntry.getKey();
-                Object addressValue = addressEntry.getValue();
-                if (addressValue != null) {
-                  Field addressField = Address.class.getDeclaredField(addressKey);
-                  addressField.setAccessible(true);
-                  addressField.set(address, addressValue);
-                }
-              }
-              field.set(organization, address);
-            } else if (key.equals("bankDetails")) {
-              Map<String, Object> bankDetailsMap = (Map<String, Object>) value;
-              BankDetails bankDetails;
-              if (organization.getBankDetails() == null) {
-                bankDetails = new BankDetails();
-              } else {
-                bankDetails = organization.getBankDetails();
-              }
-              for (Map.Entry<String, Object> bankEntry : bankDetailsMap.entrySet()) {
-                String bankKey = bankEntry.getKey();
-                Object bankValue = bankEntry.getValue();
-                if (bankValue != null) {
-                  Field bankField = BankDetails.class.getDeclaredField(bankKey);
-                  bankField.setAccessible(true);
-                  bankField.set(bankDetails, bankValue);
-                }
-              }
-              field.set(organization, bankDetails);
-            } else if (key.equals("accounts")) {
-              Map<String, Object> accountsMap = (Map<String, Object>) value;
-              Accounts accounts;
-              if (organization.getAccounts() == null) {
-                accounts = new Accounts();
-              } else {
-                accounts = organization.getAccounts();
-              }
-              for (Map.Entry<String, Object> accountsEntry : accountsMap.entrySet()) {
-                String accountsKey = accountsEntry.getKey();
-                Object accountsValue = accountsEntry.getValue();
-                if (accountsValue != null) {
-                  Field accountsField = Accounts.class.getDeclaredField(accountsKey);
-                  accountsField.setAccessible(true);
-                  accountsField.set(accounts, accountsValue);
-                }
-              }
-              field.set(organization, accounts);
-            } else if (key.equals("loanLimit")) {
-              Map<String, Object> loanLimitMap = (Map<String, Object>) value;
-              LoanLimit loanLimit;
-              if (organization.getLoanLimit() == null) {
-                loanLimit = new LoanLimit();
-              } else {
-                loanLimit = organization.getLoanLimit();
-              }
-              for (Map.Entry<String, Object> loanLimitEntry : loanLimitMap.entrySet()) {
-                String loanLimitKey = loanLimitEntry.getKey();
-                Object loanLimitValue = loanLimitEntry.getValue();
-                if (loanLimitValue != null) {
-                  Field loanLimitField = LoanLimit.class.getDeclaredField(loanLimitKey);
-                  loanLimitField.setAccessible(true);
-                  loanLimitField.set(loanLimit, loanLimitValue);
-                }
-              }
-              field.set(organization, loanLimit);
-            } else {
-              field.set(organization, value);
-            }
-          } catch (NoSuchFieldException e) {
-            throw new BadRequestException(
-                BuildErrorMessage.buildErrorMessage(
-                    ErrorType.VALIDATION_ERROR,
-                    ErrorCode.FIELD_VALIDATION_MISSING,
-                    Constants.FIELD_NOT_EXIST_ORGANIZATION_ENTITY + key));
-          } catch (IllegalAccessException e) {
-            throw new BadRequestException(
-                BuildErrorMessage.buildErrorMessage(
-                    ErrorType.VALIDATION_ERROR,
-                    ErrorCode.FIELD_VALIDATION_MISSING,
-                    Constants.ERROR_UPDATING_FIELD + key));
-          }
-        }
+        update = organizationUpdateMapper.toUpdate(objectMapper.readTree(fields));
+      } catch (PartialUpdateMapper.InvalidFieldException e) {
+        throw new BadRequestException(
+            BuildErrorMessage.buildErrorMessage(
+                ErrorType.VALIDATION_ERROR,
+                ErrorCode.FIELD_VALIDATION_MISSING,
+                e.isUnknown()
+                    ? Constants.FIELD_NOT_EXIST_ORGANIZATION_ENTITY + e.getPath()
+                    : Constants.ERROR_UPDATING_FIELD + e.getPath()));
       } catch (IOException e) {
         throw new Exception(
             BuildErrorMessage.buildErrorMessage(
@@ -305,6 +211,7 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     if (file != null) {
+      Organization organization = findOrganization(organizationId);
       if (organization.getLogoFileId() == null) {
         try {
           FileRequest fileRequest = new FileRequest();
@@ -315,9 +222,8 @@ public class OrganizationServiceImpl implements OrganizationService {
           LinkedHashMap<String, Object> responseBody =
               (LinkedHashMap<String, Object>) fileResponse.getBody();
 
-          ObjectMapper objectMapper = new ObjectMapper();
           FileResponse savedFile = objectMapper.convertValue(responseBody, FileResponse.class);
-          organization.setLogoFileId(savedFile.getId());
+          update.set("logoFileId", savedFile.getId());
         } catch (Exception e) {
           throw new Exception(
               BuildErrorMessage.buildErrorMessage(
@@ -340,8 +246,17 @@ public class OrganizationServiceImpl implements OrganizationService {
       }
     }
 
+    if (update.getUpdateObject().isEmpty()) {
+      return findOrganization(organizationId);
+    }
+    Organization updated;
     try {
-      return organizationRepository.save(organization);
+      updated =
+          mongoTemplate.findAndModify(
+              new Query(Criteria.where("_id").is(organizationId)),
+              update,
+              FindAndModifyOptions.options().returnNew(true),
+              Organization.class);
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -349,6 +264,24 @@ public class OrganizationServiceImpl implements OrganizationService {
               ErrorCode.CANNOT_SAVE_CHANGES,
               Constants.ERROR_IN_UPDATING_ORGANIZATION));
     }
+    if (updated == null) {
+      throw organizationNotFound();
+    }
+    return updated;
+  }
+
+  private Organization findOrganization(String organizationId) {
+    return organizationRepository
+        .findById(organizationId)
+        .orElseThrow(OrganizationServiceImpl::organizationNotFound);
+  }
+
+  private static ResourceNotFoundException organizationNotFound() {
+    return new ResourceNotFoundException(
+        BuildErrorMessage.buildErrorMessage(
+            ErrorType.RESOURCE_NOT_FOUND_ERROR,
+            ErrorCode.ORGANIZATION_NOT_FOUND,
+            Constants.ERROR_NO_ORGANIZATION_FOUND_WITH_PROVIDED_ID));
   }
 
   @Override
@@ -485,18 +418,23 @@ public class OrganizationServiceImpl implements OrganizationService {
   @Override
   @Async
   public void generateOrganizationDefaults() throws Exception {
+    // Completion callbacks may run on pool threads that do not carry the caller's UserContext
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    Executor contextExecutor = task -> ForkJoinPool.commonPool().execute(UserContext.wrap(task));
+
     CompletableFuture<Void> generateExistingValuesOfExpenseType =
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationExistingImpl.generateExistingValuesOfExpenseType();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "expenseTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -506,14 +444,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationExistingImpl.generateExistingValuesOfExpenseCategories();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "expenseCategories",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -523,14 +462,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationExistingImpl.generateExistingDesignations();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "designations",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -540,14 +480,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationExistingImpl.generateExistingPaymentModes();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "paymentModes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -557,14 +498,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationExistingImpl.generateExistingEmployeeTypes();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "employeeTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -574,14 +516,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationExistingImpl.generateExistingEmployeeDepartments();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "employeeDepartments",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -590,18 +533,17 @@ public class OrganizationServiceImpl implements OrganizationService {
     CompletableFuture<Void> jobTitlesFuture =
         CompletableFuture.runAsync(
                 () -> {
-                  log.info(
-                      Constants.GENERATING_DEFAULT_VALUES,
-                      UserContext.getLoggedInUserOrganization().getId());
+                  log.info(Constants.GENERATING_DEFAULT_VALUES, organizationId);
                   orgDefaultsGenerationImpl.generateJobTitles();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "jobTitles",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -611,14 +553,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationImpl.generateOrganizationDepartments();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "departments",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -628,14 +571,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationImpl.generateEmploymentTypes();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "employmentTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -645,14 +589,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationImpl.generateExpenseCategories();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "expenseCategories",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -662,14 +607,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationImpl.generateExpenseTypes();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "expenseTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -679,14 +625,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         CompletableFuture.runAsync(
                 () -> {
                   orgDefaultsGenerationImpl.generatePaymentModes();
-                })
+                },
+                contextExecutor)
             .handle(
                 (result, ex) -> {
                   if (ex != null) {
                     log.error(
                         Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "paymentModes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
                   }
                   return result;
@@ -694,11 +641,11 @@ public class OrganizationServiceImpl implements OrganizationService {
     CompletableFuture<Void> documentTypesFuture =
             CompletableFuture.runAsync(() -> {
               orgDefaultsGenerationImpl.generateDocumentTypes();
-            }).handle((result, ex) -> {
+            }, contextExecutor).handle((result, ex) -> {
               if (ex != null) {
                 log.error(Constants.ERROR_GENERATING_DEFAULT_VALUES,
                         "documentTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
+                        organizationId,
                         ex);
               }
               return result;
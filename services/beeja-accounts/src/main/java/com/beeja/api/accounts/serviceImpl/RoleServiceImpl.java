@@ -38,6 +38,8 @@ public class RoleServiceImpl implements RoleService {
 
   @Autowired UserRepository userRepository;
 
+  @Autowired AuthVersionUpdater authVersionUpdater;
+
   @Override
   public Role addRoleToOrganization(AddRoleRequest newRole) throws Exception {
     Organization organization = UserContext.getLoggedInUserOrganization();
@@ -140,8 +142,9 @@ public class RoleServiceImpl implements RoleService {
     if (updatedRole.getPermissions() != null) {
       roleToBeUpdated.setPermissions(updatedRole.getPermissions());
     }
+    Role savedRole;
     try {
-      return rolesRepository.save(roleToBeUpdated);
+      savedRole = rolesRepository.save(roleToBeUpdated);
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -149,6 +152,8 @@ public class RoleServiceImpl implements RoleService {
               ErrorCode.CANNOT_SAVE_CHANGES,
               Constants.ERROR_IN_UPDATING_ROLE_TO_ORGANIZATION));
     }
+    authVersionUpdater.bumpForRole(savedRole.getId());
+    return savedRole;
   }
 
   @Override
@@ -15,6 +15,8 @@ public class Constants {
   public static final String CANT_UPDATE_ROLES_SELF = "/ Can't Update Role Yourself";
   public static final String ACCESS_DENIED = "Access Denied - ACC";
   public static final String COOKIE_ACCESS_TOKEN = "authorization";
+  public static final String AUTH_VERSION_BUMPED = "Bumped auth version of {} users";
+  public static final String ERROR_BUMPING_AUTH_VERSION = "Error in bumping auth version: {}";
   public static final String UNAUTHORISED_ACCESS = "Unauthorized access";
   public static final String ERROR_IN_CHECKING_PERMISSION = "Error in Checking Permission";
   public static final String ERROR_IN_ASSIGNING_ROLE = "Error in Assigning Role - Employee";
@@ -180,6 +182,8 @@ public class Constants {
       "Async Call Ended for Generating Patterns";
   public static final String NO_PATTERN_FOUND_WITH_PROVIDED_ID = "No Pattern Type with provided ID";
   public static final String SAME_ID_PATTERN_ALREADY_REGISTERED = "Already Same Pattern Registered";
+  public static final String ERROR_EVICTING_FINANCE_PATTERN =
+      "Could not evict {} from finance's pattern cache, it refreshes on its own: {}";
   public static final String NO_EMPLOYEE_TYPES_DEFINED =
       "No employee types defined for the organization.";
   public static final String INVALID_EMPLOYMENT_TYPE = "Invalid employment type: ";
@@ -213,4 +217,41 @@ public class Constants {
   public static final String SUCCESSFULLY_UPDATED_PERMISSIONS_ENTRY =
       "Successfully Updated PErmissions Entry";
   public static final String EMPLOYEE_ID_NOT_NULL = "Employee ID list must not be null or empty";
+
+  //    Employee search
+  public static final int EMPLOYEE_SEARCH_BATCH_SIZE = 1_000;
+
+  //    Employee import
+  public static final int EMPLOYEE_IMPORT_MAX_ROWS = 10_000;
+  public static final int EMPLOYEE_IMPORT_CHUNK_SIZE = 500;
+  public static final String IMPORT_UNSUPPORTED_FILE = "Only .csv and .xlsx files can be imported";
+  public static final String IMPORT_UNREADABLE_FILE = "Unable to read the import file: ";
+  public static final String IMPORT_MISSING_COLUMNS = "Import file is missing columns: ";
+  public static final String IMPORT_TOO_MANY_ROWS = "Import file has more rows than allowed: ";
+  public static final String IMPORT_MISSING_FIELDS = "Missing required fields: ";
+  public static final String IMPORT_INVALID_EMAIL = "Invalid email: ";
+  public static final String IMPORT_DUPLICATE_EMAIL = "Email appears more than once in the file";
+  public static final String IMPORT_DUPLICATE_EMPLOYEE_ID =
+      "Employee Id appears more than once in the file";
+  public static final String IMPORT_NO_EMPLOYEE_ID_PATTERN =
+      "No employee id given and no active employee id pattern to generate one";
+
+  //    Employee account sync
+  public static final int EMPLOYEE_ACCOUNT_SYNC_MAX_ATTEMPTS = 5;
+  public static final long EMPLOYEE_ACCOUNT_SYNC_INITIAL_BACKOFF_MILLIS = 1_000;
+  public static final String METRIC_EMPLOYEE_ACCOUNT_SYNC_FAILURES =
+      "accounts.employee.account.sync.failures";
+  public static final String TAG_OUTCOME = "outcome";
+  public static final String SYNC_OUTCOME_RETRYING = "retrying";
+  public static final String SYNC_OUTCOME_EXHAUSTED = "exhausted";
+  public static final String SYNC_OUTCOME_REJECTED = "rejected";
+  public static final String EMPLOYEE_ACCOUNT_SYNC_RETRYING =
+      "Could not sync account of employee {} to employee service (attempt {}), retrying in {} ms:"
+          + " {}";
+  public static final String EMPLOYEE_ACCOUNT_SYNC_FAILED =
+      "Gave up syncing account of employee {} to employee service after {} attempts: {}";
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
 }
@@ -0,0 +1,223 @@
+package com.beeja.api.accounts.utils;
+
+import com.beeja.api.accounts.enums.ErrorCode;
+import com.beeja.api.accounts.enums.ErrorType;
+import com.beeja.api.accounts.exceptions.BadRequestException;
+import com.beeja.api.accounts.requests.EmployeeImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Reads the employees of a bulk import file. CSV files and the first sheet of XLSX workbooks are
+ * supported; the first row holds the column names, matched case-insensitively and ignoring spaces
+ * and punctuation, so both {@code employeeId} and {@code Employee ID} are accepted.
+ */
+public final class EmployeeImportReader {
+
+  private static final Map<String, BiConsumer<EmployeeImportRow, String>> COLUMNS =
+      Map.of(
+          "firstname", EmployeeImportRow::setFirstName,
+          "lastname", EmployeeImportRow::setLastName,
+          "email", EmployeeImportRow::setEmail,
+          "employmenttype", EmployeeImportRow::setEmploymentType,
+          "department", EmployeeImportRow::setDepartment,
+          "employeeid", EmployeeImportRow::setEmployeeId);
+
+  private static final List<String> REQUIRED_COLUMNS =
+      List.of("firstname", "lastname", "email", "employmenttype");
+
+  /** The values of one record with the 1-based line of the file it starts on. */
+  private static final class Line {
+    private final int number;
+    private final List<String> values;
+
+    private Line(int number, List<String> values) {
+      this.number = number;
+      this.values = values;
+    }
+  }
+
+  private EmployeeImportReader() {}
+
+  public static List<EmployeeImportRow> read(MultipartFile file) {
+    String fileName =
+        file.getOriginalFilename() == null
+            ? ""
+            : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+    try (InputStream inputStream = file.getInputStream()) {
+      if (fileName.endsWith(".csv")) {
+        return toRows(readCsv(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+      }
+      if (fileName.endsWith(".xlsx")) {
+        return toRows(readXlsx(inputStream));
+      }
+    } catch (IOException | RuntimeException e) {
+      if (e instanceof BadRequestException badRequest) {
+        throw badRequest;
+      }
+      throw badRequest(Constants.IMPORT_UNREADABLE_FILE + e.getMessage());
+    }
+    throw badRequest(Constants.IMPORT_UNSUPPORTED_FILE);
+  }
+
+  private static List<EmployeeImportRow> toRows(List<Line> lines) {
+    if (lines.isEmpty()) {
+      throw badRequest(Constants.IMPORT_MISSING_COLUMNS + REQUIRED_COLUMNS);
+    }
+    if (lines.size() - 1 > Constants.EMPLOYEE_IMPORT_MAX_ROWS) {
+      throw badRequest(Constants.IMPORT_TOO_MANY_ROWS + Constants.EMPLOYEE_IMPORT_MAX_ROWS);
+    }
+
+    Map<Integer, BiConsumer<EmployeeImportRow, String>> setters = new HashMap<>();
+    List<String> header = lines.get(0).values;
+    for (int column = 0; column < header.size(); column++) {
+      BiConsumer<EmployeeImportRow, String> setter = COLUMNS.get(normalize(header.get(column)));
+      if (setter != null) {
+        setters.put(column, setter);
+      }
+    }
+    List<String> missing =
+        REQUIRED_COLUMNS.stream()
+            .filter(column -> !setters.containsValue(COLUMNS.get(column)))
+            .toList();
+    if (!missing.isEmpty()) {
+      throw badRequest(Constants.IMPORT_MISSING_COLUMNS + missing);
+    }
+
+    List<EmployeeImportRow> rows = new ArrayList<>(lines.size() - 1);
+    for (Line line : lines.subList(1, lines.size())) {
+      List<String> values = line.values;
+      if (values.stream().allMatch(value -> value == null || value.isBlank())) {
+        continue;
+      }
+      EmployeeImportRow row = new EmployeeImportRow();
+      row.setRowNumber(line.number);
+      for (int column = 0; column < values.size(); column++) {
+        BiConsumer<EmployeeImportRow, String> setter = setters.get(column);
+        String value = values.get(column);
+        if (setter != null && value != null && !value.isBlank()) {
+          setter.accept(row, value.trim());
+        }
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /**
+   * Parses RFC 4180 CSV: quoted fields may contain commas, line breaks and doubled quotes. Blank
+   * lines are skipped, and each record keeps the line it starts on, counting the line breaks inside
+   * quoted fields, so results can point at the line a spreadsheet or editor shows.
+   */
+  private static List<Line> readCsv(Reader source) throws IOException {
+    List<Line> lines = new ArrayList<>();
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean lineHasContent = false;
+    int lineNumber = 1;
+    int recordStart = 1;
+    Reader reader = new BufferedReader(source);
+
+    int next = reader.read();
+    if (next == '\uFEFF') {
+      next = reader.read();
+    }
+    while (next != -1) {
+      char c = (char) next;
+      next = reader.read();
+      if (quoted) {
+        if (c == '"' && next == '"') {
+          field.append('"');
+          next = reader.read();
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          if (c == '\n' || (c == '\r' && next != '\n')) {
+            lineNumber++;
+          }
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+        lineHasContent = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+        lineHasContent = true;
+      } else if (c == '\n' || c == '\r') {
+        if (c == '\r' && next == '\n') {
+          next = reader.read();
+        }
+        if (lineHasContent || field.length() > 0) {
+          fields.add(field.toString());
+          lines.add(new Line(recordStart, fields));
+        }
+        fields = new ArrayList<>();
+        field.setLength(0);
+        lineHasContent = false;
+        recordStart = ++lineNumber;
+      } else {
+        field.append(c);
+      }
+    }
+    if (lineHasContent || field.length() > 0) {
+      fields.add(field.toString());
+      lines.add(new Line(recordStart, fields));
+    }
+    return lines;
+  }
+
+  private static List<Line> readXlsx(InputStream inputStream) throws IOException {
+    List<Line> lines = new ArrayList<>();
+    DataFormatter formatter = new DataFormatter();
+    try (Workbook workbook = new XSSFWorkbook(inputStream)) {
+      Sheet sheet = workbook.getSheetAt(0);
+      int lastRow = sheet.getLastRowNum();
+      if (lastRow > Constants.EMPLOYEE_IMPORT_MAX_ROWS) {
+        throw badRequest(Constants.IMPORT_TOO_MANY_ROWS + Constants.EMPLOYEE_IMPORT_MAX_ROWS);
+      }
+      for (int rowIndex = 0; rowIndex <= lastRow; rowIndex++) {
+        Row row = sheet.getRow(rowIndex);
+        List<String> values = new ArrayList<>();
+        if (row != null) {
+          for (int column = 0; column < row.getLastCellNum(); column++) {
+            Cell cell = row.getCell(column);
+            values.add(cell == null ? null : formatter.formatCellValue(cell));
+          }
+        }
+        lines.add(new Line(rowIndex + 1, values));
+      }
+    }
+    return lines;
+  }
+
+  private static String normalize(String columnName) {
+    return columnName == null
+        ? ""
+        : columnName.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static BadRequestException badRequest(String message) {
+    return new BadRequestException(
+        BuildErrorMessage.buildErrorMessage(
+            ErrorType.VALIDATION_ERROR, ErrorCode.BAD_REQUEST, message));
+  }
+}
@@ -1,5 +1,14 @@
 package com.beeja.api.accounts.utils;
 
+import org.springframework.data.mongodb.core.query.Collation;
+
 public class MongoIndexes {
   public static final String UNIQUE_DEFAULT_TYPE_IS_REQUIRED = "unique_default_type_is_required";
+
+  /**
+   * Compares strings ignoring case. A query only uses the index over emails when it asks for this
+   * same collation.
+   */
+  public static final Collation CASE_INSENSITIVE =
+      Collation.of("en").strength(Collation.ComparisonLevel.secondary());
 }
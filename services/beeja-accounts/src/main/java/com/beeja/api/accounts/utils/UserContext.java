@@ -3,22 +3,79 @@ package com.beeja.api.accounts.utils;
 import com.beeja.api.accounts.model.Organization.Organization;
 import com.beeja.api.accounts.model.Organization.Role;
 import java.util.Set;
-import lombok.Getter;
-import lombok.Setter;
 
 public class UserContext {
-  @Getter @Setter private static String loggedInUserEmail;
+  private static final ThreadLocal<UserContext> CURRENT = ThreadLocal.withInitial(UserContext::new);
 
-  @Getter @Setter private static String loggedInUserName;
+  private String loggedInUserEmail;
+  private String loggedInUserName;
+  private Organization loggedInUserOrganization;
+  private String loggedInEmployeeId;
+  private Set<Role> loggedInUserRoles;
+  private Set<String> loggedInUserPermissions;
+  private String accessToken;
 
-  @Getter @Setter private static Organization loggedInUserOrganization;
+  public static String getLoggedInUserEmail() {
+    return CURRENT.get().loggedInUserEmail;
+  }
+
+  public static void setLoggedInUserEmail(String loggedInUserEmail) {
+    CURRENT.get().loggedInUserEmail = loggedInUserEmail;
+  }
+
+  public static String getLoggedInUserName() {
+    return CURRENT.get().loggedInUserName;
+  }
+
+  public static void setLoggedInUserName(String loggedInUserName) {
+    CURRENT.get().loggedInUserName = loggedInUserName;
+  }
+
+  public static Organization getLoggedInUserOrganization() {
+    return CURRENT.get().loggedInUserOrganization;
+  }
+
+  public static void setLoggedInUserOrganization(Organization loggedInUserOrganization) {
+    CURRENT.get().loggedInUserOrganization = loggedInUserOrganization;
+  }
+
+  /** Id of the logged-in user's organization, or {@code null} outside an authenticated request. */
+  public static String getLoggedInUserOrganizationId() {
+    Organization organization = CURRENT.get().loggedInUserOrganization;
+    return organization != null ? organization.getId() : null;
+  }
+
+  public static String getLoggedInEmployeeId() {
+    return CURRENT.get().loggedInEmployeeId;
+  }
+
+  public static void setLoggedInEmployeeId(String loggedInEmployeeId) {
+    CURRENT.get().loggedInEmployeeId = loggedInEmployeeId;
+  }
 
-  @Getter @Setter private static String loggedInEmployeeId;
+  public static Set<Role> getLoggedInUserRoles() {
+    return CURRENT.get().loggedInUserRoles;
+  }
 
-  @Getter @Setter private static Set<Role> loggedInUserRoles;
+  public static void setLoggedInUserRoles(Set<Role> loggedInUserRoles) {
+    CURRENT.get().loggedInUserRoles = loggedInUserRoles;
+  }
 
-  @Getter @Setter private static Set<String> loggedInUserPermissions;
-  @Getter @Setter private static String accessToken;
+  public static Set<String> getLoggedInUserPermissions() {
+    return CURRENT.get().loggedInUserPermissions;
+  }
+
+  public static void setLoggedInUserPermissions(Set<String> loggedInUserPermissions) {
+    CURRENT.get().loggedInUserPermissions = loggedInUserPermissions;
+  }
+
+  public static String getAccessToken() {
+    return CURRENT.get().accessToken;
+  }
+
+  public static void setAccessToken(String accessToken) {
+    CURRENT.get().accessToken = accessToken;
+  }
 
   public static void setLoggedInUser(
       String email,
@@ -28,12 +85,57 @@ public class UserContext {
       Set<Role> roles,
       Set<String> permissions,
       String token) {
-    loggedInUserEmail = email;
-    loggedInUserName = name;
-    loggedInUserOrganization = organization;
-    loggedInEmployeeId = employeeId;
-    loggedInUserRoles = roles;
-    loggedInUserPermissions = permissions;
-    accessToken = token;
+    UserContext context = CURRENT.get();
+    context.loggedInUserEmail = email;
+    context.loggedInUserName = name;
+    context.loggedInUserOrganization = organization;
+    context.loggedInEmployeeId = employeeId;
+    context.loggedInUserRoles = roles;
+    context.loggedInUserPermissions = permissions;
+    context.accessToken = token;
+  }
+
+  /**
+   * Returns a copy of the calling thread's user, for handing over to work run on another thread.
+   */
+  public static UserContext capture() {
+    UserContext source = CURRENT.get();
+    UserContext copy = new UserContext();
+    copy.loggedInUserEmail = source.loggedInUserEmail;
+    copy.loggedInUserName = source.loggedInUserName;
+    copy.loggedInUserOrganization = source.loggedInUserOrganization;
+    copy.loggedInEmployeeId = source.loggedInEmployeeId;
+    copy.loggedInUserRoles = source.loggedInUserRoles;
+    copy.loggedInUserPermissions = source.loggedInUserPermissions;
+    copy.accessToken = source.accessToken;
+    return copy;
+  }
+
+  /**
+   * Wraps a task so it runs with the calling thread's user, restoring the executing thread's own
+   * context afterwards. Used for {@code @Async} executors and any other fan-out to worker threads.
+   */
+  public static Runnable wrap(Runnable task) {
+    UserContext captured = capture();
+    return () -> runAs(captured, task);
+  }
+
+  /**
+   * Runs a task with a user obtained from {@link #capture()}, restoring the executing thread's own
+   * context afterwards. For work whose inputs are only known once it runs on the other thread.
+   */
+  public static void runAs(UserContext user, Runnable task) {
+    UserContext previous = CURRENT.get();
+    CURRENT.set(user);
+    try {
+      task.run();
+    } finally {
+      CURRENT.set(previous);
+    }
+  }
+
+  /** Drops the user bound to the calling thread; called once the request has been served. */
+  public static void clear() {
+    CURRENT.remove();
   }
 }
@@ -0,0 +1,61 @@
+package com.beeja.api.accounts.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.accounts.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Feign;
+import feign.Request;
+import feign.Response;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+class EmployeeFeignClientTest {
+
+  /** Tomcat's default limit on the request line and headers together. */
+  private static final int MAX_HTTP_HEADER_SIZE = 8 * 1024;
+
+  @Test
+  void fullChunkIsRolledBackWithTheIdsInTheBody() throws Exception {
+    AtomicReference<Request> sent = new AtomicReference<>();
+    EmployeeFeignClient client =
+        Feign.builder()
+            .contract(new SpringMvcContract())
+            .encoder(
+                new SpringEncoder(
+                    () -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter())))
+            .client(
+                (request, options) -> {
+                  sent.set(request);
+                  return Response.builder()
+                      .status(204)
+                      .request(request)
+                      .headers(Map.of())
+                      .body(new byte[0])
+                      .build();
+                })
+            .target(EmployeeFeignClient.class, "http://employee-service");
+    List<String> accountIds =
+        IntStream.range(0, Constants.EMPLOYEE_IMPORT_CHUNK_SIZE)
+            .mapToObj(i -> new ObjectId().toHexString())
+            .toList();
+
+    client.deleteImportedEmployees("import1", accountIds);
+
+    Request request = sent.get();
+    assertEquals(Request.HttpMethod.POST, request.httpMethod());
+    assertTrue(request.url().length() < MAX_HTTP_HEADER_SIZE, request.url());
+    assertTrue(request.url().endsWith("?importId=import1"), request.url());
+    assertEquals(
+        accountIds, List.of(new ObjectMapper().readValue(request.body(), String[].class)));
+  }
+}
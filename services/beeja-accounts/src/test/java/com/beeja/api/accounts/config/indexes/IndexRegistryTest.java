@@ -0,0 +1,14 @@
+package com.beeja.api.accounts.config.indexes;
+
+import com.beeja.api.commons.indexes.IndexRegistryContract;
+import com.beeja.api.commons.indexes.ManagedIndex;
+import java.util.List;
+
+/** Runs the shared registry checks of beeja-commons against the indexes of this service. */
+class IndexRegistryTest extends IndexRegistryContract {
+
+  @Override
+  protected List<ManagedIndex> indexes() {
+    return IndexRegistry.indexes();
+  }
+}
@@ -90,6 +90,8 @@ public class EmployeecontrollerTest {
                   new UserPreferences(),
                   null,
                   true,
+                  0L,
+                  null,
                   "admin",
                   "admin",
                   new Date(),
@@ -107,6 +109,8 @@ public class EmployeecontrollerTest {
                   new UserPreferences(),
                   null,
                   true,
+                  0L,
+                  null,
                   "admin",
                   "admin",
                   new Date(),
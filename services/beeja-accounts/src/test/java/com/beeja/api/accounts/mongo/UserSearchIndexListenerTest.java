@@ -0,0 +1,82 @@
+package com.beeja.api.accounts.mongo;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.serviceImpl.EmployeeSearchIndex;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserSearchIndexListenerTest {
+
+  private static final ObjectId USER_ID = new ObjectId("64c000000000000000000001");
+
+  private static final ObjectId OTHER_USER_ID = new ObjectId("64c000000000000000000002");
+
+  private EmployeeSearchIndex employeeSearchIndex;
+  private UserSearchIndexListener listener;
+
+  @BeforeEach
+  void setUp() {
+    employeeSearchIndex = mock(EmployeeSearchIndex.class);
+    listener = new UserSearchIndexListener();
+    ReflectionTestUtils.setField(listener, "employeeSearchIndex", employeeSearchIndex);
+  }
+
+  @Test
+  void savedUserIsIndexed() {
+    User user = new User();
+
+    listener.onAfterSave(new AfterSaveEvent<>(user, new Document(), "users"));
+
+    verify(employeeSearchIndex).upsert(user);
+  }
+
+  @Test
+  void eventsOfSuspendedWritesAreIgnored() {
+    UserSearchIndexListener.suspended(
+        () -> {
+          listener.onAfterSave(new AfterSaveEvent<>(new User(), new Document(), "users"));
+          listener.onAfterDelete(deleted(new Document("_id", USER_ID)));
+        });
+
+    verifyNoInteractions(employeeSearchIndex);
+  }
+
+  @Test
+  void deleteByIdRemovesTheUser() {
+    listener.onAfterDelete(deleted(new Document("_id", USER_ID)));
+
+    verify(employeeSearchIndex).removeAll(List.of(USER_ID.toHexString()));
+  }
+
+  @Test
+  void deleteByIdsRemovesEachUser() {
+    listener.onAfterDelete(
+        deleted(new Document("_id", new Document("$in", List.of(USER_ID, OTHER_USER_ID)))));
+
+    verify(employeeSearchIndex)
+        .removeAll(List.of(USER_ID.toHexString(), OTHER_USER_ID.toHexString()));
+  }
+
+  @Test
+  void deleteByAnyOtherQueryDropsTheIndexes() {
+    listener.onAfterDelete(deleted(new Document("employeeId", new Document("$in", List.of("E1")))));
+    listener.onAfterDelete(deleted(new Document("_id", USER_ID).append("isActive", false)));
+
+    verify(employeeSearchIndex, times(2)).invalidate();
+  }
+
+  private static AfterDeleteEvent<User> deleted(Document query) {
+    return new AfterDeleteEvent<>(query, User.class, "users");
+  }
+}
@@ -0,0 +1,178 @@
+package com.beeja.api.accounts.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.User;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserRepositoryCustomImplTest {
+
+  private final AtomicInteger finds = new AtomicInteger();
+
+  private MongoServer server;
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private UserRepositoryCustomImpl repository;
+
+  private Role admin;
+  private Role employee;
+  private Organization organization;
+
+  @BeforeEach
+  void setUp() {
+    server = new MongoServer(new MemoryBackend());
+    String connectionString = server.bindAndGetConnectionString();
+    client =
+        MongoClients.create(
+            MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(connectionString))
+                .addCommandListener(
+                    new CommandListener() {
+                      @Override
+                      public void commandStarted(CommandStartedEvent event) {
+                        if (event.getCommandName().equals("find")) {
+                          finds.incrementAndGet();
+                        }
+                      }
+                    })
+                .build());
+    mongoTemplate = new MongoTemplate(client, "accounts");
+    repository = new UserRepositoryCustomImpl();
+    ReflectionTestUtils.setField(repository, "mongoTemplate", mongoTemplate);
+
+    admin = mongoTemplate.save(role("admin", "Admin"));
+    employee = mongoTemplate.save(role("employee", "Employee"));
+    organization = new Organization();
+    organization.setId("org1");
+    organization.setName("Org");
+    organization = mongoTemplate.save(organization);
+    Organization other = new Organization();
+    other.setId("org2");
+    mongoTemplate.save(other);
+
+    mongoTemplate.save(user("u1", "EMP1", true, organization, admin, employee));
+    mongoTemplate.save(user("u2", "EMP2", true, organization, employee));
+    mongoTemplate.save(user("u3", "EMP3", false, organization));
+    mongoTemplate.save(user("u4", "EMP4", true, other, employee));
+    finds.set(0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+    server.shutdownNow();
+  }
+
+  @Test
+  void organizationUsersAreResolvedWithOneQueryPerCollection() {
+    List<User> users = sorted(repository.findByOrganizationsId("org1"));
+
+    assertEquals(List.of("EMP1", "EMP2", "EMP3"), employeeIds(users));
+    assertEquals(Set.of("Admin", "Employee"), roleNames(users.get(0)));
+    assertEquals(Set.of("Employee"), roleNames(users.get(1)));
+    assertTrue(users.get(2).getRoles().isEmpty());
+    for (User user : users) {
+      assertEquals("Org", user.getOrganizations().getName());
+    }
+    assertEquals(3, finds.get());
+  }
+
+  @Test
+  void resolvedUsersMatchTheDerivedQuery() {
+    List<User> resolved = sorted(repository.findByOrganizationsId("org1"));
+    List<User> derived =
+        sorted(
+            mongoTemplate.find(
+                Query.query(Criteria.where("organizations").is(organization)), User.class));
+
+    assertEquals(derived, resolved);
+  }
+
+  @Test
+  void activeUsersOfAnOrganization() {
+    List<User> users = sorted(repository.findByOrganizationsAndIsActive(organization, true));
+
+    assertEquals(List.of("EMP1", "EMP2"), employeeIds(users));
+  }
+
+  @Test
+  void usersByEmployeeIdAreScopedToTheOrganization() {
+    List<User> users =
+        sorted(repository.findByEmployeeIdInAndOrganizations_Id(List.of("EMP2", "EMP4"), "org1"));
+
+    assertEquals(List.of("EMP2"), employeeIds(users));
+  }
+
+  @Test
+  void userByEmail() {
+    User user = repository.findByEmail("emp1@example.com");
+
+    assertEquals("EMP1", user.getEmployeeId());
+    assertEquals(Set.of("Admin", "Employee"), roleNames(user));
+    assertEquals("org1", user.getOrganizations().getId());
+  }
+
+  @Test
+  void unknownEmailIsNull() {
+    assertNull(repository.findByEmail("nobody@example.com"));
+    assertEquals(1, finds.get());
+  }
+
+  private static Role role(String id, String name) {
+    Role role = new Role();
+    role.setId(id);
+    role.setName(name);
+    role.setPermissions(Set.of("READ_EMPLOYEE"));
+    return role;
+  }
+
+  private static User user(
+      String id, String employeeId, boolean active, Organization organization, Role... roles) {
+    User user = new User();
+    user.setId(id);
+    user.setEmployeeId(employeeId);
+    user.setEmail(employeeId.toLowerCase() + "@example.com");
+    user.setFirstName(employeeId);
+    user.setActive(active);
+    user.setOrganizations(organization);
+    user.setRoles(Set.of(roles));
+    return user;
+  }
+
+  private static List<User> sorted(List<User> users) {
+    return users.stream()
+        .sorted(Comparator.comparing(User::getEmployeeId))
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> employeeIds(List<User> users) {
+    return users.stream().map(User::getEmployeeId).collect(Collectors.toList());
+  }
+
+  private static Set<String> roleNames(User user) {
+    return user.getRoles().stream().map(Role::getName).collect(Collectors.toSet());
+  }
+}
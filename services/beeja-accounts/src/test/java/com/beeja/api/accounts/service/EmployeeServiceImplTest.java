@@ -39,6 +39,8 @@ import com.beeja.api.accounts.requests.UpdateUserRequest;
 import com.beeja.api.accounts.requests.UpdateUserRoleRequest;
 import com.beeja.api.accounts.response.CreatedUserResponse;
 import com.beeja.api.accounts.response.EmployeeCount;
+import com.beeja.api.accounts.serviceImpl.AuthVersionUpdater;
+import com.beeja.api.accounts.serviceImpl.EmployeeAccountSync;
 import com.beeja.api.accounts.serviceImpl.EmployeeServiceImpl;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
@@ -87,6 +89,10 @@ public class EmployeeServiceImplTest {
 
   @Mock private EmployeeFeignClient employeeFeignClient;
 
+  @Mock private AuthVersionUpdater authVersionUpdater;
+
+  @Mock private EmployeeAccountSync employeeAccountSync;
+
   @Mock
   private PasswordEncoder passwordEncoder;
 
@@ -145,6 +151,8 @@ public class EmployeeServiceImplTest {
           new UserPreferences(),
           null,
           true,
+          0L,
+          null,
           "admin",
           "admin",
           new Date(),
@@ -162,6 +170,8 @@ public class EmployeeServiceImplTest {
           new UserPreferences(),
           null,
           true,
+          0L,
+          null,
           "admin",
           "admin",
           new Date(),
@@ -2,6 +2,7 @@ package com.beeja.api.accounts.service;
 
 
 
+import com.beeja.api.accounts.clients.FinanceClient;
 import com.beeja.api.accounts.enums.PatternType;
 import com.beeja.api.accounts.exceptions.BadRequestException;
 import com.beeja.api.accounts.exceptions.ResourceNotFoundException;
@@ -27,6 +28,7 @@ class OrganizationPatternServiceImplTest {
 
     private OrganizationPatternServiceImpl service;
     private OrganizationPatternsRepository repository;
+    private FinanceClient financeClient;
 
     private final String ORG_ID = "org123";
     private final String PATTERN_TYPE = "EMPLOYEE_ID_PATTERN";
@@ -36,6 +38,8 @@ class OrganizationPatternServiceImplTest {
         repository = mock(OrganizationPatternsRepository.class);
         service = new OrganizationPatternServiceImpl();
         service.organizationPatternsRepository = repository;
+        financeClient = mock(FinanceClient.class);
+        service.financeClient = financeClient;
     }
 
     @Test
@@ -124,6 +128,7 @@ class OrganizationPatternServiceImplTest {
             assertTrue(result.isActive());
             assertEquals("EMP", result.getPrefix());
             assertEquals("EMP000", result.getExamplePattern());
+            verifyNoInteractions(financeClient);
         }
     }
 
@@ -172,6 +177,45 @@ class OrganizationPatternServiceImplTest {
     }
 
 
+    @Test
+    void testUpdatePatternStatus_EvictsFinanceLoanPattern() {
+        OrganizationPattern pattern = new OrganizationPattern();
+        pattern.setId("p1");
+
+        Organization mockOrganization = mock(Organization.class);
+        when(mockOrganization.getId()).thenReturn(ORG_ID);
+
+        try (MockedStatic<UserContext> mocked = mockStatic(UserContext.class)) {
+            mocked.when(UserContext::getLoggedInUserOrganization).thenReturn(mockOrganization);
+
+            when(repository.findByOrganizationIdAndPatternType(ORG_ID, "LOAN_ID_PATTERN"))
+                    .thenReturn(List.of(pattern));
+
+            service.updatePatternStatusByPatternIdAndPatternType("p1", "LOAN_ID_PATTERN");
+
+            verify(financeClient).evictOrganizationPattern("LOAN_ID_PATTERN");
+        }
+    }
+
+
+    @Test
+    void testDeletePattern_SucceedsWhenFinanceEvictionFails() {
+        Organization mockOrganization = mock(Organization.class);
+        when(mockOrganization.getId()).thenReturn(ORG_ID);
+        doThrow(new RuntimeException("finance down"))
+                .when(financeClient).evictOrganizationPattern("DEVICE_ID_PATTERN");
+
+        try (MockedStatic<UserContext> mocked = mockStatic(UserContext.class)) {
+            mocked.when(UserContext::getLoggedInUserOrganization).thenReturn(mockOrganization);
+
+            assertDoesNotThrow(
+                    () -> service.deletePatternByPatternIdAndPatternType("p1", "DEVICE_ID_PATTERN"));
+
+            verify(financeClient).evictOrganizationPattern("DEVICE_ID_PATTERN");
+        }
+    }
+
+
     @Test
     void testGetPatternsByPatternType_Success() throws Exception {
         // Mock the Organization object
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import com.beeja.api.accounts.clients.FileClient;
 import com.beeja.api.accounts.constants.PermissionConstants;
+import com.beeja.api.accounts.enums.Theme;
 import com.beeja.api.accounts.exceptions.BadRequestException;
 import com.beeja.api.accounts.exceptions.ResourceNotFoundException;
 import com.beeja.api.accounts.model.Organization.*;
@@ -15,6 +16,7 @@ import com.beeja.api.accounts.response.OrganizationResponse;
 import com.beeja.api.accounts.serviceImpl.OrganizationServiceImpl;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.lang.reflect.Method;
 import java.util.*;
 import org.junit.jupiter.api.AfterEach;
@@ -22,11 +24,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
+import org.bson.Document;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -60,6 +69,8 @@ public class OrganizationServiceImplTest {
   @Mock
   private FileClient fileClient;
 
+  @Mock
+  private MongoTemplate mongoTemplate;
 
   private MockedStatic<UserContext> mockUserContext;
 
@@ -70,6 +81,10 @@ public class OrganizationServiceImplTest {
 
     MockitoAnnotations.initMocks(this);
     mockUserContext = mockStatic(UserContext.class);
+    ReflectionTestUtils.setField(organizationService, "objectMapper", new ObjectMapper());
+    ReflectionTestUtils.setField(
+        organizationService, "mongoMappingContext", new MongoMappingContext());
+    ReflectionTestUtils.invokeMethod(organizationService, "initUpdateMappers");
   }
 
   @AfterEach
@@ -160,13 +175,25 @@ public class OrganizationServiceImplTest {
 
     when(userContext.getLoggedInUserPermissions())
             .thenReturn(Collections.singleton(PermissionConstants.UPDATE_ALL_ORGANIZATIONS));
-    when(organizationRepository.findById(organizationId)).thenReturn(Optional.of(mockOrganization));
-    when(organizationRepository.save(any(Organization.class))).thenReturn(mockOrganization);
+    when(mongoTemplate.findAndModify(
+            any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Organization.class)))
+            .thenReturn(mockOrganization);
 
     Organization result = organizationService.updateOrganization(organizationId, fields, file);
 
     assertNotNull(result);
-    verify(organizationRepository, times(1)).save(mockOrganization);
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate, times(1))
+            .findAndModify(
+                    query.capture(), update.capture(), any(FindAndModifyOptions.class),
+                    eq(Organization.class));
+    assertEquals(organizationId, query.getValue().getQueryObject().get("_id"));
+    assertEquals(
+            new Document("preferences.theme", Theme.DARK),
+            update.getValue().getUpdateObject().get("$set"));
+    verify(organizationRepository, never()).save(any(Organization.class));
   }
 
   @Test
@@ -175,18 +202,25 @@ public class OrganizationServiceImplTest {
     String fields = "{\"preferences\": {\"theme\": \"DARK\"}}";
     MultipartFile file = null;
 
-    Organization mockOrganization = new Organization();
-    mockOrganization.setId(organizationId);
+    Organization loggedInOrganization = new Organization();
+    loggedInOrganization.setId("ownOrg");
 
     when(userContext.getLoggedInUserPermissions()).thenReturn(Collections.emptySet());
-    when(userContext.getLoggedInUserOrganization()).thenReturn(mockOrganization);
-    when(organizationRepository.findById(organizationId)).thenReturn(Optional.of(mockOrganization));
-    when(organizationRepository.save(any(Organization.class))).thenReturn(mockOrganization);
+    when(userContext.getLoggedInUserOrganization()).thenReturn(loggedInOrganization);
+    when(mongoTemplate.findAndModify(
+            any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Organization.class)))
+            .thenReturn(loggedInOrganization);
 
     Organization result = organizationService.updateOrganization(organizationId, fields, file);
 
     assertNotNull(result);
-    verify(organizationRepository, times(1)).save(mockOrganization);
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate, times(1))
+            .findAndModify(
+                    query.capture(), any(Update.class), any(FindAndModifyOptions.class),
+                    eq(Organization.class));
+    assertEquals("ownOrg", query.getValue().getQueryObject().get("_id"));
   }
 
   @Test
@@ -396,7 +430,10 @@ public class OrganizationServiceImplTest {
 
     when(UserContext.getLoggedInUserPermissions())
             .thenReturn(Collections.singleton(PermissionConstants.UPDATE_ALL_ORGANIZATIONS));
-    when(organizationRepository.findById(organizationId)).thenReturn(Optional.empty());
+    when(mongoTemplate.findAndModify(
+            any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Organization.class)))
+            .thenReturn(null);
 
     assertThrows(ResourceNotFoundException.class, () -> organizationService.updateOrganization(organizationId, fields, file));
     verify(organizationRepository, never()).save(any(Organization.class));
@@ -407,15 +444,11 @@ public class OrganizationServiceImplTest {
     String fields = "{\"invalidField\": \"value\"}";
     MultipartFile file = null;
 
-    Organization mockOrganization = new Organization();
-    mockOrganization.setId(organizationId);
-
     when(UserContext.getLoggedInUserPermissions())
             .thenReturn(Collections.singleton(PermissionConstants.UPDATE_ALL_ORGANIZATIONS));
-    when(organizationRepository.findById(organizationId)).thenReturn(Optional.of(mockOrganization));
 
     assertThrows(BadRequestException.class, () -> organizationService.updateOrganization(organizationId, fields, file));
-    verify(organizationRepository, never()).save(any(Organization.class));
+    verifyNoInteractions(mongoTemplate);
   }
 
   @Test
@@ -424,15 +457,11 @@ public class OrganizationServiceImplTest {
     String fields = "invalid json";
     MultipartFile file = null;
 
-    Organization mockOrganization = new Organization();
-    mockOrganization.setId(organizationId);
-
     when(UserContext.getLoggedInUserPermissions())
             .thenReturn(Collections.singleton(PermissionConstants.UPDATE_ALL_ORGANIZATIONS));
-    when(organizationRepository.findById(organizationId)).thenReturn(Optional.of(mockOrganization));
 
     assertThrows(Exception.class, () -> organizationService.updateOrganization(organizationId, fields, file));
-    verify(organizationRepository, never()).save(any(Organization.class));
+    verifyNoInteractions(mongoTemplate);
   }
 
   @Test
@@ -451,7 +480,7 @@ public class OrganizationServiceImplTest {
     when(fileClient.uploadFile(any())).thenThrow(new RuntimeException("File upload failed"));
 
     assertThrows(Exception.class, () -> organizationService.updateOrganization(organizationId, fields, file));
-    verify(organizationRepository, never()).save(any(Organization.class));
+    verifyNoInteractions(mongoTemplate);
   }
 
   @Test
@@ -471,7 +500,7 @@ public class OrganizationServiceImplTest {
     when(fileClient.updateFile(anyString(), any())).thenThrow(new RuntimeException("File update failed"));
 
     assertThrows(Exception.class, () -> organizationService.updateOrganization(organizationId, fields, file));
-    verify(organizationRepository, never()).save(any(Organization.class));
+    verifyNoInteractions(mongoTemplate);
   }
 
   @Test
@@ -480,16 +509,18 @@ public class OrganizationServiceImplTest {
     String fields = "{\"preferences\": {\"theme\": \"DARK\"}}";
     MultipartFile file = null;
 
-    Organization mockOrganization = new Organization();
-    mockOrganization.setId(organizationId);
-
     when(UserContext.getLoggedInUserPermissions())
             .thenReturn(Collections.singleton(PermissionConstants.UPDATE_ALL_ORGANIZATIONS));
-    when(organizationRepository.findById(organizationId)).thenReturn(Optional.of(mockOrganization));
-    when(organizationRepository.save(any(Organization.class))).thenThrow(new RuntimeException("Save failed"));
+    when(mongoTemplate.findAndModify(
+            any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Organization.class)))
+            .thenThrow(new RuntimeException("Save failed"));
 
     assertThrows(Exception.class, () -> organizationService.updateOrganization(organizationId, fields, file));
-    verify(organizationRepository, times(1)).save(any(Organization.class));
+    verify(mongoTemplate, times(1))
+            .findAndModify(
+                    any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                    eq(Organization.class));
   }
 }
 
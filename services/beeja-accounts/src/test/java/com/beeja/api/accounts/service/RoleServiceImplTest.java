@@ -16,6 +16,7 @@ import com.beeja.api.accounts.model.User;
 import com.beeja.api.accounts.repository.RolesRepository;
 import com.beeja.api.accounts.repository.UserRepository;
 import com.beeja.api.accounts.requests.AddRoleRequest;
+import com.beeja.api.accounts.serviceImpl.AuthVersionUpdater;
 import com.beeja.api.accounts.serviceImpl.RoleServiceImpl;
 import com.beeja.api.accounts.utils.UserContext;
 import com.beeja.api.accounts.utils.BuildErrorMessage;
@@ -41,6 +42,9 @@ class RoleServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuthVersionUpdater authVersionUpdater;
+
     @Mock
     private Organization organization;
 
@@ -0,0 +1,120 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.UserContext;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeAccountSyncTest {
+
+  private static final Request REQUEST =
+      Request.create(
+          Request.HttpMethod.PUT,
+          "http://employee-service/v1/users/EMP1/account",
+          Map.of(),
+          null,
+          StandardCharsets.UTF_8,
+          null);
+
+  @Mock private EmployeeFeignClient employeeFeignClient;
+
+  @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @InjectMocks private EmployeeAccountSync employeeAccountSync;
+
+  @AfterEach
+  void tearDown() {
+    employeeAccountSync.shutdown();
+    UserContext.clear();
+  }
+
+  @Test
+  void successfulSyncCountsNoFailure() {
+    employeeAccountSync.sync("EMP1");
+
+    verify(employeeFeignClient).syncAccount("EMP1");
+    assertNull(meterRegistry.find(Constants.METRIC_EMPLOYEE_ACCOUNT_SYNC_FAILURES).counter());
+  }
+
+  @Test
+  void unavailableEmployeeServiceIsRetriedAsTheCaller() {
+    UserContext.setAccessToken("token");
+    List<String> tokens = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              tokens.add(UserContext.getAccessToken());
+              throw new FeignException.ServiceUnavailable("down", REQUEST, null, null);
+            })
+        .doAnswer(
+            invocation -> {
+              tokens.add(UserContext.getAccessToken());
+              return null;
+            })
+        .when(employeeFeignClient)
+        .syncAccount("EMP1");
+
+    employeeAccountSync.sync("EMP1");
+
+    verify(employeeFeignClient, timeout(5_000).times(2)).syncAccount("EMP1");
+    assertEquals(List.of("token", "token"), tokens);
+    assertEquals(1.0, failures(Constants.SYNC_OUTCOME_RETRYING));
+  }
+
+  @Test
+  void rejectedSyncIsCountedAndNotRetried() throws Exception {
+    doThrow(new FeignException.Forbidden("denied", REQUEST, null, null))
+        .when(employeeFeignClient)
+        .syncAccount("EMP1");
+
+    employeeAccountSync.sync("EMP1");
+    Thread.sleep(Constants.EMPLOYEE_ACCOUNT_SYNC_INITIAL_BACKOFF_MILLIS + 200);
+
+    verify(employeeFeignClient, times(1)).syncAccount("EMP1");
+    assertEquals(1.0, failures(Constants.SYNC_OUTCOME_REJECTED));
+  }
+
+  @Test
+  void syncFailureDoesNotReachTheCaller() {
+    doThrow(new IllegalStateException("no instances"))
+        .doNothing()
+        .when(employeeFeignClient)
+        .syncAccount("EMP1");
+
+    employeeAccountSync.sync("EMP1");
+
+    verify(employeeFeignClient, timeout(5_000).times(2)).syncAccount("EMP1");
+  }
+
+  private double failures(String outcome) {
+    Counter counter =
+        meterRegistry
+            .find(Constants.METRIC_EMPLOYEE_ACCOUNT_SYNC_FAILURES)
+            .tag(Constants.TAG_OUTCOME, outcome)
+            .counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
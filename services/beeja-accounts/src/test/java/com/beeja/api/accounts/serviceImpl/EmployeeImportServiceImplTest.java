@@ -0,0 +1,311 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.enums.PatternType;
+import com.beeja.api.accounts.exceptions.BadRequestException;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.OrganizationPattern;
+import com.beeja.api.accounts.model.Organization.employeeSettings.OrgValues;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.repository.OrgDefaultsRepository;
+import com.beeja.api.accounts.repository.OrganizationPatternsRepository;
+import com.beeja.api.accounts.repository.RolesRepository;
+import com.beeja.api.accounts.response.EmployeeImportResult;
+import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.UserContext;
+import com.beeja.api.commons.sequences.SequenceAllocator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import feign.FeignException;
+import feign.Request;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeImportServiceImplTest {
+
+  private static final String HEADER = "First Name,Last Name,Email,Employment Type,Employee Id\n";
+
+  private MongoServer server;
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private EmployeeFeignClient employeeFeignClient;
+  private EmployeeSearchIndex employeeSearchIndex;
+  private OrgDefaultsRepository orgDefaultsRepository;
+  private OrganizationPatternsRepository patternsRepository;
+  private EmployeeImportServiceImpl employeeImportService;
+  private Organization organization;
+
+  @BeforeEach
+  void setUp() {
+    server = new MongoServer(new MemoryBackend());
+    client = MongoClients.create(server.bindAndGetConnectionString());
+    mongoTemplate = new MongoTemplate(client, "accounts");
+    employeeFeignClient = mock(EmployeeFeignClient.class);
+    employeeSearchIndex = mock(EmployeeSearchIndex.class);
+    orgDefaultsRepository = mock(OrgDefaultsRepository.class);
+    patternsRepository = mock(OrganizationPatternsRepository.class);
+    RolesRepository rolesRepository = mock(RolesRepository.class);
+
+    employeeImportService = new EmployeeImportServiceImpl();
+    ReflectionTestUtils.setField(employeeImportService, "mongoTemplate", mongoTemplate);
+    ReflectionTestUtils.setField(employeeImportService, "employeeFeignClient", employeeFeignClient);
+    ReflectionTestUtils.setField(employeeImportService, "employeeSearchIndex", employeeSearchIndex);
+    ReflectionTestUtils.setField(
+        employeeImportService, "orgDefaultsRepository", orgDefaultsRepository);
+    ReflectionTestUtils.setField(employeeImportService, "patternsRepository", patternsRepository);
+    ReflectionTestUtils.setField(employeeImportService, "rolesRepository", rolesRepository);
+    ReflectionTestUtils.setField(employeeImportService, "objectMapper", new ObjectMapper());
+    ReflectionTestUtils.setField(
+        employeeImportService, "passwordHashExecutor", (Executor) Runnable::run);
+    ReflectionTestUtils.setField(
+        employeeImportService, "sequenceAllocator", new SequenceAllocator(mongoTemplate, 10));
+
+    organization = new Organization();
+    organization.setId("org1");
+    UserContext.setLoggedInUser(
+        "admin@x.io", "Admin", organization, "EMP000", Set.of(), Set.of(), "token");
+    OrgDefaults employmentTypes = new OrgDefaults();
+    employmentTypes.setValues(
+        Set.of(new OrgValues("Full time", null), new OrgValues("Contract", null)));
+    when(orgDefaultsRepository.findByOrganizationIdAndKey("org1", "employeeTypes"))
+        .thenReturn(employmentTypes);
+    when(rolesRepository.findAllByOrganizationIdAndIsDefaultRole("org1", true))
+        .thenReturn(List.of());
+    when(employeeFeignClient.createEmployees(anyString(), anyList())).thenReturn(List.of());
+  }
+
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+    client.close();
+    server.shutdownNow();
+  }
+
+  @Test
+  void validRowsAreCreatedAndTheOthersReportedByRow() throws Exception {
+    mongoTemplate.save(user("CAROL", "carol@x.io"));
+
+    Map<Integer, EmployeeImportResult> results =
+        byRow(
+            importCsv(
+                HEADER
+                    + "Ann,Lee,ann@x.io,full TIME,e1\n"
+                    + "Bob,Ray,bob@x.io,Contract,E2\n"
+                    + "Bob,Ray,BOB@x.io,Contract,E3\n"
+                    + "Carol,Kim,Carol@X.io,Contract,E4\n"
+                    + "Dan,Day,not-an-email,Contract,E5\n"
+                    + "Eve,,eve@x.io,Contract,E6\n"
+                    + "Fay,Fox,fay@x.io,Intern,E7\n"
+                    + "Gus,Gray,gus@x.io,Contract,carol\n"));
+
+    assertEquals(8, results.size());
+    assertCreated(results.get(2), "E1");
+    assertFailed(results.get(3), Constants.IMPORT_DUPLICATE_EMAIL);
+    assertFailed(results.get(4), Constants.IMPORT_DUPLICATE_EMAIL);
+    assertFailed(results.get(5), Constants.USER_ALREADY_FOUND);
+    assertFailed(results.get(6), Constants.IMPORT_INVALID_EMAIL);
+    assertFailed(results.get(7), Constants.IMPORT_MISSING_FIELDS);
+    assertFailed(results.get(8), Constants.INVALID_EMPLOYMENT_TYPE);
+    assertFailed(results.get(9), Constants.EMPLOYEE_ID_ALREADY_FOUND);
+
+    User ann = mongoTemplate.findOne(Query.query(Criteria.where("employeeId").is("E1")), User.class);
+    assertNotNull(ann);
+    assertEquals("Full time", ann.getEmploymentType());
+    assertTrue(ann.getPassword().startsWith("$2"));
+    ArgumentCaptor<List<User>> indexed = ArgumentCaptor.forClass(List.class);
+    verify(employeeSearchIndex).upsertAll(indexed.capture());
+    assertEquals(List.of("E1"), indexed.getValue().stream().map(User::getEmployeeId).toList());
+  }
+
+  @Test
+  void missingIdsAreAllocatedFromThePatternSkippingTakenOnes() throws Exception {
+    OrganizationPattern pattern = new OrganizationPattern();
+    pattern.setId("pattern1");
+    pattern.setPrefix("emp");
+    pattern.setPatternLength(6);
+    pattern.setInitialSequence(1);
+    when(patternsRepository.findByOrganizationIdAndPatternTypeAndActive(
+            "org1", String.valueOf(PatternType.EMPLOYEE_ID_PATTERN), true))
+        .thenReturn(pattern);
+    mongoTemplate.save(user("EMP001", "old@x.io"));
+
+    Map<Integer, EmployeeImportResult> results =
+        byRow(
+            importCsv(
+                HEADER
+                    + "Ann,Lee,ann@x.io,Contract,\n"
+                    + "Bob,Ray,bob@x.io,Contract,EMP002\n"
+                    + "Cal,Cox,cal@x.io,Contract,\n"));
+
+    assertCreated(results.get(2), "EMP003");
+    assertCreated(results.get(3), "EMP002");
+    assertCreated(results.get(4), "EMP004");
+  }
+
+  @Test
+  void allocationContinuesAfterTheHighestIdInUse() throws Exception {
+    OrganizationPattern pattern = new OrganizationPattern();
+    pattern.setId("pattern1");
+    pattern.setPrefix("emp");
+    pattern.setPatternLength(6);
+    pattern.setInitialSequence(1);
+    when(patternsRepository.findByOrganizationIdAndPatternTypeAndActive(
+            "org1", String.valueOf(PatternType.EMPLOYEE_ID_PATTERN), true))
+        .thenReturn(pattern);
+    // The users numbered before EMP005 were deleted, so counting them would reuse EMP002.
+    mongoTemplate.save(user("EMP005", "old@x.io"));
+    mongoTemplate.save(user("E9", "other@x.io"));
+
+    Map<Integer, EmployeeImportResult> results =
+        byRow(importCsv(HEADER + "Ann,Lee,ann@x.io,Contract,\n"));
+
+    assertCreated(results.get(2), "EMP006");
+  }
+
+  @Test
+  void usersWhoseEmployeeRecordFailedAreRemoved() throws Exception {
+    when(employeeFeignClient.createEmployees(anyString(), anyList())).thenReturn(List.of("E2"));
+
+    Map<Integer, EmployeeImportResult> results =
+        byRow(
+            importCsv(
+                HEADER + "Ann,Lee,ann@x.io,Contract,E1\n" + "Bob,Ray,bob@x.io,Contract,E2\n"));
+
+    assertCreated(results.get(2), "E1");
+    assertFailed(results.get(3), Constants.EMPLOYEE_FEIGN_CLIENT_ERROR);
+    assertEquals(List.of("E1"), employeeIds());
+    verify(employeeFeignClient, never()).deleteImportedEmployees(anyString(), anyList());
+    ArgumentCaptor<List<String>> unindexed = ArgumentCaptor.forClass(List.class);
+    verify(employeeSearchIndex).removeAll(unindexed.capture());
+    assertEquals(1, unindexed.getValue().size());
+    ArgumentCaptor<List<User>> indexed = ArgumentCaptor.forClass(List.class);
+    verify(employeeSearchIndex).upsertAll(indexed.capture());
+    assertEquals(List.of("E1"), indexed.getValue().stream().map(User::getEmployeeId).toList());
+  }
+
+  @Test
+  void brokenBulkCallIsCompensatedOnTheEmployeeSide() throws Exception {
+    when(employeeFeignClient.createEmployees(anyString(), anyList()))
+        .thenThrow(
+            new FeignException.InternalServerError(
+                "timeout",
+                Request.create(
+                    Request.HttpMethod.POST,
+                    "http://employee-service/v1/users/bulk",
+                    Map.of(),
+                    null,
+                    StandardCharsets.UTF_8,
+                    null),
+                null,
+                null));
+
+    Map<Integer, EmployeeImportResult> results =
+        byRow(
+            importCsv(
+                HEADER + "Ann,Lee,ann@x.io,Contract,E1\n" + "Bob,Ray,bob@x.io,Contract,E2\n"));
+
+    assertFailed(results.get(2), Constants.EMPLOYEE_FEIGN_CLIENT_ERROR);
+    assertFailed(results.get(3), Constants.EMPLOYEE_FEIGN_CLIENT_ERROR);
+    assertTrue(employeeIds().isEmpty());
+    ArgumentCaptor<String> importId = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<List<Map<String, Object>>> sent = ArgumentCaptor.forClass(List.class);
+    verify(employeeFeignClient).createEmployees(importId.capture(), sent.capture());
+    ArgumentCaptor<List<String>> removed = ArgumentCaptor.forClass(List.class);
+    verify(employeeFeignClient).deleteImportedEmployees(eq(importId.getValue()), removed.capture());
+    assertEquals(2, removed.getValue().size());
+    assertEquals(
+        Set.copyOf(removed.getValue()),
+        sent.getValue().stream().map(employee -> employee.get("id")).collect(Collectors.toSet()));
+  }
+
+  @Test
+  void organizationWithoutEmploymentTypesIsRejectedBeforeStreaming() {
+    when(orgDefaultsRepository.findByOrganizationIdAndKey("org1", "employeeTypes"))
+        .thenReturn(null);
+
+    assertThrows(
+        BadRequestException.class,
+        () -> employeeImportService.importEmployees(csv(HEADER + "Ann,Lee,a@x.io,Contract,\n")));
+  }
+
+  private List<EmployeeImportResult> importCsv(String content) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    employeeImportService.importEmployees(csv(content)).writeTo(output);
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<EmployeeImportResult> results = new ArrayList<>();
+    for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+      results.add(objectMapper.readValue(line, EmployeeImportResult.class));
+    }
+    return results;
+  }
+
+  private static Map<Integer, EmployeeImportResult> byRow(List<EmployeeImportResult> results) {
+    return results.stream()
+        .collect(Collectors.toMap(EmployeeImportResult::getRowNumber, result -> result));
+  }
+
+  private static void assertCreated(EmployeeImportResult result, String employeeId) {
+    assertEquals(EmployeeImportResult.Status.CREATED, result.getStatus(), result.getMessage());
+    assertEquals(employeeId, result.getEmployeeId());
+    assertNotNull(result.getPassword());
+  }
+
+  private static void assertFailed(EmployeeImportResult result, String message) {
+    assertEquals(EmployeeImportResult.Status.FAILED, result.getStatus());
+    assertTrue(result.getMessage().startsWith(message), result.getMessage());
+    assertNull(result.getPassword());
+  }
+
+  private List<String> employeeIds() {
+    return mongoTemplate.findAll(User.class).stream()
+        .map(User::getEmployeeId)
+        .filter(id -> !id.equals("CAROL"))
+        .sorted()
+        .toList();
+  }
+
+  private User user(String employeeId, String email) {
+    User user = new User();
+    user.setEmployeeId(employeeId);
+    user.setEmail(email);
+    user.setOrganizations(organization);
+    return user;
+  }
+
+  private static MockMultipartFile csv(String content) {
+    return new MockMultipartFile(
+        "file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,287 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.model.dto.EmployeeDepartmentDTO;
+import com.beeja.api.accounts.response.EmployeeSearchResponse;
+import com.mongodb.DBRef;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeSearchIndexTest {
+
+  private static final String ORGANIZATION = "64b000000000000000000001";
+
+  private static final String OTHER_ORGANIZATION = "64b000000000000000000002";
+
+  private MongoTemplate mongoTemplate;
+  private EmployeeFeignClient employeeFeignClient;
+  private EmployeeSearchIndex employeeSearchIndex;
+  private List<Document> users;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    employeeFeignClient = mock(EmployeeFeignClient.class);
+    employeeSearchIndex = new EmployeeSearchIndex();
+    ReflectionTestUtils.setField(employeeSearchIndex, "mongoTemplate", mongoTemplate);
+    ReflectionTestUtils.setField(employeeSearchIndex, "employeeFeignClient", employeeFeignClient);
+    ReflectionTestUtils.setField(
+        employeeSearchIndex, "employeeSearchExecutor", (Executor) Runnable::run);
+    ReflectionTestUtils.setField(employeeSearchIndex, "refreshInterval", Duration.ofMinutes(5));
+    ReflectionTestUtils.setField(employeeSearchIndex, "maxResults", 20);
+
+    users =
+        new ArrayList<>(
+            List.of(
+                user("64c000000000000000000001", "EMP001", "John", "Smith"),
+                user("64c000000000000000000002", "EMP002", "Anna", "Johnson")));
+    when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("users")))
+        .thenAnswer(invocation -> users.stream());
+    when(employeeFeignClient.getDesignationsOfOrganization())
+        .thenReturn(List.of(new EmployeeDepartmentDTO("EMP001", "Developer", "Engineering")));
+  }
+
+  @Test
+  void firstSearchLoadsTheDesignations() {
+    List<EmployeeSearchResponse> results = employeeSearchIndex.search(ORGANIZATION, "john");
+
+    assertEquals(
+        List.of(
+            new EmployeeSearchResponse(
+                "EMP001", "John Smith", "Developer", "Engineering", "john@x.io"),
+            new EmployeeSearchResponse("EMP002", "Anna Johnson", "-", "-", "anna@x.io")),
+        results);
+    verify(employeeFeignClient, times(1)).getDesignationsOfOrganization();
+  }
+
+  @Test
+  void indexIsReusedUntilItIsStale() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    employeeSearchIndex.search(ORGANIZATION, "anna");
+    verify(employeeFeignClient, times(1)).getDesignationsOfOrganization();
+
+    ReflectionTestUtils.setField(employeeSearchIndex, "refreshInterval", Duration.ofSeconds(-1));
+    employeeSearchIndex.search(ORGANIZATION, "anna");
+    verify(employeeFeignClient, times(2)).getDesignationsOfOrganization();
+  }
+
+  @Test
+  void staleIndexIsServedWhileItIsRebuilt() {
+    List<Runnable> rebuilds = new ArrayList<>();
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    ReflectionTestUtils.setField(
+        employeeSearchIndex, "employeeSearchExecutor", (Executor) rebuilds::add);
+    ReflectionTestUtils.setField(employeeSearchIndex, "refreshInterval", Duration.ofSeconds(-1));
+    users.remove(0);
+
+    assertEquals(
+        List.of("EMP001", "EMP002"), employeeIds(employeeSearchIndex.search(ORGANIZATION, "john")));
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    assertEquals(1, rebuilds.size());
+    verify(employeeFeignClient, times(1)).getDesignationsOfOrganization();
+
+    rebuilds.get(0).run();
+    assertEquals(List.of("EMP002"), employeeIds(employeeSearchIndex.search(ORGANIZATION, "john")));
+  }
+
+  @Test
+  void concurrentFirstSearchesShareOneRebuild() throws Exception {
+    List<Runnable> rebuilds = new CopyOnWriteArrayList<>();
+    ReflectionTestUtils.setField(
+        employeeSearchIndex, "employeeSearchExecutor", (Executor) rebuilds::add);
+    ExecutorService searches = Executors.newFixedThreadPool(2);
+    try {
+      Future<List<EmployeeSearchResponse>> first =
+          searches.submit(() -> employeeSearchIndex.search(ORGANIZATION, "john"));
+      Future<List<EmployeeSearchResponse>> second =
+          searches.submit(() -> employeeSearchIndex.search(ORGANIZATION, "anna"));
+      while (rebuilds.isEmpty()) {
+        Thread.onSpinWait();
+      }
+      rebuilds.get(0).run();
+
+      assertEquals(2, first.get(5, TimeUnit.SECONDS).size());
+      assertEquals(List.of("EMP002"), employeeIds(second.get(5, TimeUnit.SECONDS)));
+    } finally {
+      searches.shutdownNow();
+    }
+    assertEquals(1, rebuilds.size());
+    verify(employeeFeignClient, times(1)).getDesignationsOfOrganization();
+  }
+
+  @Test
+  void indexBuiltAtStartupIsCompletedWithDesignations() {
+    employeeSearchIndex.buildAll();
+
+    assertEquals("-", employeeSearchIndex.search(ORGANIZATION, "smith").get(0).getDesignation());
+    assertEquals(
+        "Developer", employeeSearchIndex.search(ORGANIZATION, "smith").get(0).getDesignation());
+    verify(employeeFeignClient, times(1)).getDesignationsOfOrganization();
+  }
+
+  @Test
+  void savedUsersAreAppliedToBuiltIndexes() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    User renamed = savedUser("64c000000000000000000001", "EMP001", "Jon", ORGANIZATION);
+    User added = savedUser("64c000000000000000000003", "EMP003", "Johanna", ORGANIZATION);
+    User deactivated = savedUser("64c000000000000000000002", "EMP002", "Anna", ORGANIZATION);
+    deactivated.setActive(false);
+    User elsewhere = savedUser("64c000000000000000000004", "EMP004", "Johan", OTHER_ORGANIZATION);
+
+    employeeSearchIndex.upsertAll(List.of(renamed, added, deactivated, elsewhere));
+
+    List<EmployeeSearchResponse> results = employeeSearchIndex.search(ORGANIZATION, "jo");
+    assertEquals(List.of("EMP003", "EMP001"), employeeIds(results));
+    assertEquals("Developer", results.get(1).getDesignation());
+    assertEquals(List.of(), employeeSearchIndex.search(ORGANIZATION, "anna"));
+  }
+
+  @Test
+  void changedEmployeeIdDoesNotLeaveTheOldEntry() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+
+    employeeSearchIndex.upsert(
+        savedUser("64c000000000000000000001", "EMP101", "John", ORGANIZATION));
+
+    List<EmployeeSearchResponse> results = employeeSearchIndex.search(ORGANIZATION, "john");
+    assertEquals(List.of("EMP101", "EMP002"), employeeIds(results));
+    assertEquals("Developer", results.get(0).getDesignation());
+    assertFalse(
+        employeeIds(employeeSearchIndex.search(ORGANIZATION, "emp001")).contains("EMP001"));
+  }
+
+  @Test
+  void removedUsersAreLeftOut() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+
+    employeeSearchIndex.removeAll(List.of("64c000000000000000000001"));
+
+    assertEquals(List.of("EMP002"), employeeIds(employeeSearchIndex.search(ORGANIZATION, "john")));
+  }
+
+  @Test
+  void userRemovedWhileTheIndexIsRebuiltStaysRemoved() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    List<Document> readBeforeTheDelete = List.copyOf(users);
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("users")))
+        .thenAnswer(
+            invocation -> {
+              employeeSearchIndex.removeAll(List.of("64c000000000000000000001"));
+              return readBeforeTheDelete.stream();
+            });
+    ReflectionTestUtils.setField(employeeSearchIndex, "refreshInterval", Duration.ofSeconds(-1));
+
+    employeeSearchIndex.search(ORGANIZATION, "john");
+
+    ReflectionTestUtils.setField(employeeSearchIndex, "refreshInterval", Duration.ofMinutes(5));
+    assertEquals(List.of("EMP002"), employeeIds(employeeSearchIndex.search(ORGANIZATION, "john")));
+    verify(employeeFeignClient, times(2)).getDesignationsOfOrganization();
+  }
+
+  @Test
+  void indexInvalidatedWhileItIsRebuiltIsNotKept() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    List<Document> readBeforeTheDelete = List.copyOf(users);
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("users")))
+        .thenAnswer(
+            invocation -> {
+              employeeSearchIndex.invalidate();
+              return readBeforeTheDelete.stream();
+            });
+    ReflectionTestUtils.setField(employeeSearchIndex, "refreshInterval", Duration.ofSeconds(-1));
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("users")))
+        .thenAnswer(invocation -> users.subList(1, 2).stream());
+
+    assertEquals(List.of("EMP002"), employeeIds(employeeSearchIndex.search(ORGANIZATION, "john")));
+  }
+
+  @Test
+  void invalidatedIndexesAreRebuilt() {
+    employeeSearchIndex.search(ORGANIZATION, "john");
+    users.remove(0);
+
+    employeeSearchIndex.invalidate();
+
+    assertEquals(List.of("EMP002"), employeeIds(employeeSearchIndex.search(ORGANIZATION, "john")));
+    verify(employeeFeignClient, times(2)).getDesignationsOfOrganization();
+  }
+
+  @Test
+  void searchWorksWithoutDesignations() {
+    when(employeeFeignClient.getDesignationsOfOrganization())
+        .thenThrow(new IllegalStateException("employee service down"));
+
+    List<EmployeeSearchResponse> results = employeeSearchIndex.search(ORGANIZATION, "smith");
+
+    assertEquals(List.of("EMP001"), employeeIds(results));
+    assertEquals("-", results.get(0).getDesignation());
+  }
+
+  @Test
+  void failedDesignationsAreLoadedByTheNextSearch() {
+    when(employeeFeignClient.getDesignationsOfOrganization())
+        .thenThrow(new IllegalStateException("employee service down"))
+        .thenReturn(List.of(new EmployeeDepartmentDTO("EMP001", "Developer", "Engineering")));
+
+    employeeSearchIndex.search(ORGANIZATION, "smith");
+    employeeSearchIndex.search(ORGANIZATION, "smith");
+
+    assertEquals(
+        "Developer", employeeSearchIndex.search(ORGANIZATION, "smith").get(0).getDesignation());
+    verify(employeeFeignClient, times(2)).getDesignationsOfOrganization();
+  }
+
+  private static Document user(String id, String employeeId, String firstName, String lastName) {
+    return new Document("_id", new ObjectId(id))
+        .append("employeeId", employeeId)
+        .append("firstName", firstName)
+        .append("lastName", lastName)
+        .append("email", firstName.toLowerCase() + "@x.io")
+        .append("organizations", new DBRef("organizations", new ObjectId(ORGANIZATION)));
+  }
+
+  private static User savedUser(
+      String id, String employeeId, String firstName, String organizationId) {
+    Organization organization = new Organization();
+    organization.setId(organizationId);
+    User user = new User();
+    user.setId(id);
+    user.setEmployeeId(employeeId);
+    user.setFirstName(firstName);
+    user.setLastName("Doe");
+    user.setEmail(firstName.toLowerCase() + "@x.io");
+    user.setOrganizations(organization);
+    return user;
+  }
+
+  private static List<String> employeeIds(List<EmployeeSearchResponse> results) {
+    return results.stream().map(EmployeeSearchResponse::getEmployeeId).toList();
+  }
+}
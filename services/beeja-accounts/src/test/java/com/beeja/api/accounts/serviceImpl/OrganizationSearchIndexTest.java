@@ -0,0 +1,134 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class OrganizationSearchIndexTest {
+
+  private final OrganizationSearchIndex index =
+      OrganizationSearchIndex.of(
+          List.of(
+              entry("u1", "EMP001", "John", "Smith", "Developer"),
+              entry("u2", "EMP002", "Johnny", "Walker", "Designer"),
+              entry("u3", "EMP003", "Anna", "Johnson", "Developer"),
+              entry("u4", "EMP004", "Maria", "Garcia", "Manager")),
+          true);
+
+  @Test
+  void exactMatchesRankAbovePrefixMatches() {
+    // Johnson and Johnny are equally good, so they follow in name order.
+    assertEquals(List.of("EMP001", "EMP003", "EMP002"), employeeIds(index.search("john", 10)));
+  }
+
+  @Test
+  void prefixOfAnyFieldMatches() {
+    assertEquals(List.of("EMP004"), employeeIds(index.search("gar", 10)));
+    assertEquals(List.of("EMP002"), employeeIds(index.search("desig", 10)));
+    assertEquals(List.of("EMP003"), employeeIds(index.search("emp003", 1)));
+    assertEquals(List.of("EMP004"), employeeIds(index.search("maria@", 10)));
+  }
+
+  @Test
+  void everyWordOfTheKeywordHasToMatch() {
+    assertEquals(List.of("EMP001"), employeeIds(index.search("  John   SM ", 10)));
+    assertEquals(List.of("EMP003"), employeeIds(index.search("developer anna", 10)));
+  }
+
+  @Test
+  void smallTyposStillMatch() {
+    assertEquals(List.of("EMP004"), employeeIds(index.search("garica", 10)));
+    assertEquals(List.of("EMP001"), employeeIds(index.search("smiht", 10)));
+    assertTrue(index.search("xyz", 10).isEmpty());
+  }
+
+  @Test
+  void equallyGoodMatchesAreOrderedByNameUpToTheLimit() {
+    assertEquals(List.of("EMP003", "EMP001"), employeeIds(index.search("developer", 2)));
+    assertEquals(List.of("EMP003"), employeeIds(index.search("developer", 1)));
+    assertTrue(index.search(" ", 10).isEmpty());
+  }
+
+  @Test
+  void replacedEntryKeepsItsDesignation() {
+    OrganizationSearchIndex updated = index.with(entry("u1", "EMP001", "Jon", "Smith", null));
+
+    OrganizationSearchIndex.Entry jon = updated.search("jon", 1).get(0);
+    assertEquals("EMP001", jon.getEmployeeId());
+    assertEquals("Jon Smith", jon.getFullName());
+    assertEquals("Developer", jon.getDesignation());
+    assertEquals("John Smith", index.search("john", 1).get(0).getFullName());
+  }
+
+  @Test
+  void batchAddsReplacesAndRemovesEntries() {
+    OrganizationSearchIndex updated =
+        index.with(
+            List.of(
+                entry("u1", "EMP001", "John", "Smythe", null),
+                entry("u5", "EMP005", "Zoe", "Smith", null)),
+            Set.of("u2"));
+
+    assertEquals(List.of("EMP005"), employeeIds(updated.search("smith", 1)));
+    assertEquals(List.of("EMP001"), employeeIds(updated.search("smythe", 1)));
+    assertEquals(List.of("EMP001", "EMP003"), employeeIds(updated.search("john", 10)));
+  }
+
+  @Test
+  void changedEmployeeIdReplacesTheUsersEntry() {
+    OrganizationSearchIndex updated = index.with(entry("u1", "EMP101", "John", "Smith", null));
+
+    assertFalse(employeeIds(updated.search("emp001", 10)).contains("EMP001"));
+    assertEquals(List.of("EMP101"), employeeIds(updated.search("emp101", 1)));
+    assertEquals(List.of("EMP101"), employeeIds(updated.search("john smith", 10)));
+    assertEquals("Developer", updated.search("emp101", 1).get(0).getDesignation());
+  }
+
+  @Test
+  void removedEntriesAreNotFound() {
+    OrganizationSearchIndex updated = index.without(entry -> entry.getUserId().equals("u1"));
+
+    assertEquals(List.of("EMP003", "EMP002"), employeeIds(updated.search("john", 10)));
+    assertFalse(updated.contains(entry -> entry.getUserId().equals("u1")));
+    assertTrue(index.contains(entry -> entry.getUserId().equals("u1")));
+  }
+
+  @Test
+  void updatesKeepTheBuildTime() {
+    OrganizationSearchIndex updated = index.with(entry("u5", "EMP005", "Zoe", "Lane", null));
+
+    assertEquals(index.getBuiltAt(), updated.getBuiltAt());
+    assertTrue(updated.isDesignationsLoaded());
+    assertFalse(updated.isOlderThan(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  void prefixDistanceCountsTranspositionsAsOneEdit() {
+    assertEquals(0, OrganizationSearchIndex.prefixDistance("smi", "smith", 1));
+    assertEquals(1, OrganizationSearchIndex.prefixDistance("smiht", "smith", 1));
+    assertEquals(1, OrganizationSearchIndex.prefixDistance("smyth", "smith", 1));
+    assertEquals(1, OrganizationSearchIndex.prefixDistance("jhonny", "johnny", 1));
+    assertEquals(2, OrganizationSearchIndex.prefixDistance("jxyz", "john", 1));
+  }
+
+  private static OrganizationSearchIndex.Entry entry(
+      String userId, String employeeId, String firstName, String lastName, String designation) {
+    return new OrganizationSearchIndex.Entry(
+        userId,
+        employeeId,
+        firstName,
+        lastName,
+        firstName.toLowerCase() + "@x.io",
+        designation,
+        designation == null ? null : "Engineering");
+  }
+
+  private static List<String> employeeIds(List<OrganizationSearchIndex.Entry> entries) {
+    return entries.stream().map(OrganizationSearchIndex.Entry::getEmployeeId).toList();
+  }
+}
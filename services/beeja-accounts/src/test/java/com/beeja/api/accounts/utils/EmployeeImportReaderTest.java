@@ -0,0 +1,189 @@
+package com.beeja.api.accounts.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.accounts.exceptions.BadRequestException;
+import com.beeja.api.accounts.requests.EmployeeImportRow;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+class EmployeeImportReaderTest {
+
+  private static final String HEADER = "First Name,Last Name,Email,Employment Type,Department\n";
+
+  @Test
+  void columnsAreMatchedIgnoringCaseSpacesAndPunctuation() {
+    List<EmployeeImportRow> rows =
+        EmployeeImportReader.read(
+            csv(
+                "first_name,LASTNAME,E-mail,employmentType,employee id\n"
+                    + "Ann,Lee,a@x.io,Full time,e7\n"));
+
+    assertEquals(1, rows.size());
+    EmployeeImportRow row = rows.get(0);
+    assertEquals("Ann", row.getFirstName());
+    assertEquals("Lee", row.getLastName());
+    assertEquals("a@x.io", row.getEmail());
+    assertEquals("Full time", row.getEmploymentType());
+    assertEquals("e7", row.getEmployeeId());
+    assertEquals(2, row.getRowNumber());
+  }
+
+  @Test
+  void quotedFieldsKeepCommasQuotesAndLineBreaks() {
+    List<EmployeeImportRow> rows =
+        EmployeeImportReader.read(
+            csv(
+                HEADER
+                    + "\"Ann, Jr\",\"O\"\"Neil\",a@x.io,Full time,\"Research\nand Development\"\n"
+                    + "Bob,Ray,b@x.io,Contract,Sales\n"));
+
+    assertEquals("Ann, Jr", rows.get(0).getFirstName());
+    assertEquals("O\"Neil", rows.get(0).getLastName());
+    assertEquals("Research\nand Development", rows.get(0).getDepartment());
+    assertEquals(2, rows.get(0).getRowNumber());
+    // The quoted line break moves Bob to the fourth line of the file.
+    assertEquals(4, rows.get(1).getRowNumber());
+  }
+
+  @Test
+  void blankLinesAreSkippedWithoutShiftingRowNumbers() {
+    List<EmployeeImportRow> rows =
+        EmployeeImportReader.read(
+            csv(
+                HEADER
+                    + "\n"
+                    + "Ann,Lee,a@x.io,Full time,\n"
+                    + "\r\n"
+                    + ",,,,\n"
+                    + "Bob,Ray,b@x.io,Contract,Sales"));
+
+    assertEquals(2, rows.size());
+    assertEquals(3, rows.get(0).getRowNumber());
+    assertEquals(6, rows.get(1).getRowNumber());
+    assertNull(rows.get(0).getDepartment());
+  }
+
+  @Test
+  void windowsLineEndingsAndByteOrderMarkAreAccepted() {
+    List<EmployeeImportRow> rows =
+        EmployeeImportReader.read(
+            csv("\uFEFF" + HEADER.replace("\n", "\r\n") + "Ann,Lee,a@x.io,Full time,HR\r\n"));
+
+    assertEquals(1, rows.size());
+    assertEquals("HR", rows.get(0).getDepartment());
+    assertEquals(2, rows.get(0).getRowNumber());
+  }
+
+  @Test
+  void valuesAreTrimmedAndBlankValuesLeftUnset() {
+    List<EmployeeImportRow> rows =
+        EmployeeImportReader.read(csv(HEADER + "  Ann , Lee ,a@x.io,  ,   \n"));
+
+    assertEquals("Ann", rows.get(0).getFirstName());
+    assertEquals("Lee", rows.get(0).getLastName());
+    assertNull(rows.get(0).getEmploymentType());
+    assertNull(rows.get(0).getDepartment());
+  }
+
+  @Test
+  void xlsxCellsAreReadAsDisplayed() throws IOException {
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet();
+      Row header = sheet.createRow(0);
+      String[] columns = {"First Name", "Last Name", "Email", "Employment Type", "Employee Id"};
+      for (int column = 0; column < columns.length; column++) {
+        header.createCell(column).setCellValue(columns[column]);
+      }
+      Row ann = sheet.createRow(1);
+      ann.createCell(0).setCellValue("Ann");
+      ann.createCell(1).setCellValue(true);
+      ann.createCell(2).setCellValue("a@x.io");
+      ann.createCell(3).setCellValue("Full time");
+      ann.createCell(4).setCellValue(1001);
+      // Row 3 is left out entirely, row 4 only has empty cells.
+      sheet.createRow(3).createCell(0).setCellValue("");
+      Row bob = sheet.createRow(4);
+      bob.createCell(0).setCellValue("Bob");
+      bob.createCell(1).setCellValue(12.5);
+      bob.createCell(2).setCellValue("b@x.io");
+      bob.createCell(3).setCellValue("Contract");
+      CellStyle padded = workbook.createCellStyle();
+      padded.setDataFormat(workbook.createDataFormat().getFormat("00000"));
+      bob.createCell(4).setCellValue(42);
+      bob.getCell(4).setCellStyle(padded);
+
+      List<EmployeeImportRow> rows = EmployeeImportReader.read(xlsx(workbook));
+
+      assertEquals(2, rows.size());
+      assertEquals("TRUE", rows.get(0).getLastName());
+      assertEquals("1001", rows.get(0).getEmployeeId());
+      assertEquals(2, rows.get(0).getRowNumber());
+      assertEquals("12.5", rows.get(1).getLastName());
+      assertEquals("00042", rows.get(1).getEmployeeId());
+      assertEquals(5, rows.get(1).getRowNumber());
+    }
+  }
+
+  @Test
+  void missingRequiredColumnsAreRejected() {
+    BadRequestException exception =
+        assertThrows(
+            BadRequestException.class,
+            () -> EmployeeImportReader.read(csv("First Name,Email\nAnn,a@x.io\n")));
+
+    assertTrue(exception.getMessage().contains("lastname"));
+    assertTrue(exception.getMessage().contains("employmenttype"));
+  }
+
+  @Test
+  void otherFileTypesAreRejected() {
+    MockMultipartFile file =
+        new MockMultipartFile(
+            "file", "employees.txt", "text/plain", HEADER.getBytes(StandardCharsets.UTF_8));
+
+    BadRequestException exception =
+        assertThrows(BadRequestException.class, () -> EmployeeImportReader.read(file));
+
+    assertTrue(exception.getMessage().contains(Constants.IMPORT_UNSUPPORTED_FILE));
+  }
+
+  @Test
+  void tooManyRowsAreRejected() {
+    StringBuilder content = new StringBuilder(HEADER);
+    for (int i = 0; i <= Constants.EMPLOYEE_IMPORT_MAX_ROWS; i++) {
+      content.append("Ann,Lee,a").append(i).append("@x.io,Full time,\n");
+    }
+
+    assertThrows(BadRequestException.class, () -> EmployeeImportReader.read(csv(content)));
+  }
+
+  private static MockMultipartFile csv(CharSequence content) {
+    return new MockMultipartFile(
+        "file",
+        "employees.CSV",
+        "text/csv",
+        content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static MockMultipartFile xlsx(XSSFWorkbook workbook) throws IOException {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    workbook.write(content);
+    return new MockMultipartFile(
+        "file",
+        "employees.xlsx",
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+        content.toByteArray());
+  }
+}
@@ -1,11 +1,13 @@
 package com.beeja.api.accounts.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.beeja.api.accounts.model.Organization.Organization;
 import com.beeja.api.accounts.model.Organization.Role;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 public class UserContextTest {
@@ -34,4 +36,37 @@ public class UserContextTest {
     assertEquals(roles, UserContext.getLoggedInUserRoles());
     assertEquals(permissions, UserContext.getLoggedInUserPermissions());
   }
+
+  @Test
+  void testWrapPropagatesLoggedInUserToWorkerThread() throws Exception {
+    Organization organization = new Organization();
+    UserContext.setLoggedInUser(
+        "abc@example.com", "abc", organization, "123456", Set.of(), Set.of(), "accessToken");
+    AtomicReference<String> workerEmail = new AtomicReference<>();
+    AtomicReference<String> workerToken = new AtomicReference<>();
+
+    Thread worker =
+        new Thread(
+            UserContext.wrap(
+                () -> {
+                  workerEmail.set(UserContext.getLoggedInUserEmail());
+                  workerToken.set(UserContext.getAccessToken());
+                }));
+    worker.start();
+    worker.join();
+
+    assertEquals("abc@example.com", workerEmail.get());
+    assertEquals("accessToken", workerToken.get());
+  }
+
+  @Test
+  void testClearDropsLoggedInUser() {
+    UserContext.setLoggedInUser(
+        "abc@example.com", "abc", new Organization(), "123456", Set.of(), Set.of(), "accessToken");
+
+    UserContext.clear();
+
+    assertNull(UserContext.getLoggedInUserEmail());
+    assertNull(UserContext.getAccessToken());
+  }
 }
@@ -0,0 +1,86 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Decides whether a batch of request paths skips token relay, as the relay filter does for every
+ * request. The former check split the routes property and scanned it with {@code startsWith} on
+ * each call, and the {@link SkipRouteMatcher} walks its compiled trie. Run with {@code gradle
+ * :beeja-cloud-gateway:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SkipRouteMatcherBenchmark {
+
+  private static final String[] SERVICES = {
+    "accounts", "employees", "expenses", "files", "finance", "projects", "recruitment",
+    "performance"
+  };
+
+  @Param("16")
+  private int routeCount;
+
+  private String routes;
+
+  private List<String> paths;
+
+  private SkipRouteMatcher matcher;
+
+  @Setup
+  public void setUp() {
+    List<String> prefixes = new ArrayList<>();
+    for (int i = 0; i < routeCount; i++) {
+      prefixes.add("/" + SERVICES[i % SERVICES.length] + "/v1/public-" + i);
+    }
+    routes = String.join(",", prefixes);
+    paths = new ArrayList<>();
+    for (String service : SERVICES) {
+      paths.add("/" + service + "/v1/users/EMP0001");
+      paths.add("/" + service + "/v1/public-1/logo");
+    }
+
+    SkipGatewayFilterRoutesProperty property = new SkipGatewayFilterRoutesProperty();
+    property.setRoutes(routes);
+    matcher = new SkipRouteMatcher();
+    Field field =
+        ReflectionUtils.findField(SkipRouteMatcher.class, "skipGatewayFilterRoutesProperty");
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, matcher, property);
+  }
+
+  @Benchmark
+  public void splitAndScan(Blackhole blackhole) {
+    for (String path : paths) {
+      boolean skip = false;
+      for (String skipPath : routes.split(",")) {
+        if (path.startsWith(skipPath)) {
+          skip = true;
+          break;
+        }
+      }
+      blackhole.consume(skip);
+    }
+  }
+
+  @Benchmark
+  public void compiledTrie(Blackhole blackhole) {
+    for (String path : paths) {
+      blackhole.consume(matcher.matches(path));
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.beeja.api.apigateway.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+/** Body and representation headers of a cached downstream response. */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+  private final byte[] body;
+  private final HttpHeaders headers;
+  private final String eTag;
+
+  /** Invalidation generation of the cache region the response was produced in. */
+  private final long generation;
+}
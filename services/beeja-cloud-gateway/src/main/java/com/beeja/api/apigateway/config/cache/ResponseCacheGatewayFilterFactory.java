@@ -0,0 +1,186 @@
+package com.beeja.api.apigateway.config.cache;
+
+import com.beeja.api.apigateway.config.cache.properties.ResponseCacheProperties;
+import com.beeja.api.apigateway.config.security.IdentityToken;
+import com.beeja.api.apigateway.config.security.IdentityTokenService;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Opt-in response cache for read-mostly reference endpoints. Successful {@code GET} responses of
+ * the configured paths are cached per organization and permission scope, served with an {@code
+ * ETag}, and answered with {@code 304 Not Modified} when the client already holds them. Writes to
+ * the configured invalidation paths evict the organization's entries, see {@link
+ * ResponseCacheInvalidationFilter}.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+  private static final String CACHE_CONTROL = "private, no-cache";
+
+  @Autowired private ResponseCacheStore responseCacheStore;
+
+  @Autowired private ResponseCacheProperties responseCacheProperties;
+
+  @Autowired private IdentityTokenService identityTokenService;
+
+  public ResponseCacheGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    List<PathPattern> patterns =
+        config.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+    responseCacheStore.registerRegion(config.getRegion(), config.getInvalidateOn());
+
+    return (exchange, chain) -> {
+      ServerHttpRequest request = exchange.getRequest();
+      if (!responseCacheProperties.isEnabled()
+          || request.getMethod() != HttpMethod.GET
+          || patterns.stream().noneMatch(pattern -> pattern.matches(request.getPath()))) {
+        return chain.filter(exchange);
+      }
+      return identityTokenService
+          .currentIdentityToken()
+          .filter(identityToken -> identityToken.getOrganizationId() != null)
+          .map(Optional::of)
+          .defaultIfEmpty(Optional.empty())
+          .flatMap(
+              identityToken ->
+                  identityToken.isPresent()
+                      ? filterCached(exchange, chain, config.getRegion(), identityToken.get())
+                      : chain.filter(exchange));
+    };
+  }
+
+  private Mono<Void> filterCached(
+      ServerWebExchange exchange,
+      GatewayFilterChain chain,
+      String region,
+      IdentityToken identityToken) {
+    String organizationId = identityToken.getOrganizationId();
+    URI uri = exchange.getRequest().getURI();
+    String pathAndQuery =
+        uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    String key =
+        ResponseCacheStore.key(
+            region, organizationId, identityToken.getPermissionScope(), pathAndQuery);
+    long generation = responseCacheStore.currentGeneration(region, organizationId);
+
+    CachedResponse cached = responseCacheStore.get(key, generation);
+    if (cached != null) {
+      return writeCached(exchange, cached);
+    }
+
+    ServerHttpResponse response = exchange.getResponse();
+    ServerHttpResponseDecorator cachingResponse =
+        new ServerHttpResponseDecorator(response) {
+          @Override
+          public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (getStatusCode() != HttpStatus.OK
+                || headers.getContentLength()
+                    > responseCacheProperties.getMaxEntrySize().toBytes()) {
+              return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body))
+                .flatMap(
+                    joined -> {
+                      byte[] bytes = new byte[joined.readableByteCount()];
+                      joined.read(bytes);
+                      DataBufferUtils.release(joined);
+                      if (bytes.length <= responseCacheProperties.getMaxEntrySize().toBytes()) {
+                        CachedResponse stored =
+                            responseCacheStore.put(
+                                key,
+                                region,
+                                organizationId,
+                                generation,
+                                bytes,
+                                representationHeaders(headers));
+                        setValidators(headers, stored);
+                      }
+                      return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+          }
+        };
+    return chain.filter(exchange.mutate().response(cachingResponse).build());
+  }
+
+  private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+    ServerHttpResponse response = exchange.getResponse();
+    HttpHeaders headers = response.getHeaders();
+    setValidators(headers, cached);
+
+    List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+    if (ifNoneMatch.contains(cached.getETag()) || ifNoneMatch.contains("*")) {
+      response.setStatusCode(HttpStatus.NOT_MODIFIED);
+      return response.setComplete();
+    }
+    response.setStatusCode(HttpStatus.OK);
+    headers.addAll(cached.getHeaders());
+    headers.setContentLength(cached.getBody().length);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+  }
+
+  /**
+   * Lets browsers keep the response but revalidate it with {@code If-None-Match} on every use,
+   * replacing the no-store headers the services send by default.
+   */
+  private static void setValidators(HttpHeaders headers, CachedResponse cached) {
+    headers.setETag(cached.getETag());
+    headers.setCacheControl(CACHE_CONTROL);
+    headers.remove(HttpHeaders.PRAGMA);
+    headers.remove(HttpHeaders.EXPIRES);
+  }
+
+  private static HttpHeaders representationHeaders(HttpHeaders headers) {
+    HttpHeaders representation = new HttpHeaders();
+    if (headers.getContentType() != null) {
+      representation.setContentType(headers.getContentType());
+    }
+    List<String> contentDisposition = headers.get(HttpHeaders.CONTENT_DISPOSITION);
+    if (contentDisposition != null) {
+      representation.put(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+    }
+    return HttpHeaders.readOnlyHttpHeaders(representation);
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    /** Name of the cache region, shared by all paths that are invalidated together. */
+    private String region;
+
+    /** Path patterns of the endpoints whose responses are cached. */
+    private List<String> paths = new ArrayList<>();
+
+    /** Path prefixes whose writes invalidate the region. */
+    private List<String> invalidateOn = new ArrayList<>();
+  }
+}
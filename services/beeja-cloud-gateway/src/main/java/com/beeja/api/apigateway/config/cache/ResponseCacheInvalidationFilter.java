@@ -0,0 +1,49 @@
+package com.beeja.api.apigateway.config.cache;
+
+import com.beeja.api.apigateway.config.security.IdentityToken;
+import com.beeja.api.apigateway.config.security.IdentityTokenService;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Invalidates cached responses when a write passes through the gateway. It runs on every route,
+ * because a write through one service can change what another one returns (creating a user in
+ * accounts also creates the employee). Invalidation happens once the write completed, so reads
+ * racing with it cannot re-cache the old data.
+ */
+@Component
+public class ResponseCacheInvalidationFilter implements GlobalFilter {
+
+  @Autowired private ResponseCacheStore responseCacheStore;
+
+  @Autowired private IdentityTokenService identityTokenService;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    HttpMethod method = exchange.getRequest().getMethod();
+    if (HttpMethod.GET.equals(method)
+        || HttpMethod.HEAD.equals(method)
+        || HttpMethod.OPTIONS.equals(method)) {
+      return chain.filter(exchange);
+    }
+    String path = exchange.getRequest().getPath().value();
+    return identityTokenService
+        .currentIdentityToken()
+        .map(IdentityToken::getOrganizationId)
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .flatMap(
+            organizationId ->
+                chain
+                    .filter(exchange)
+                    .doFinally(
+                        signal ->
+                            responseCacheStore.invalidate(path, organizationId.orElse(null))));
+  }
+}
@@ -0,0 +1,117 @@
+package com.beeja.api.apigateway.config.cache;
+
+import com.beeja.api.apigateway.config.cache.properties.ResponseCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Responses cached by the {@code ResponseCache} route filters, grouped in regions.
+ *
+ * <p>Each region keeps an invalidation generation per organization. A write observed on one of the
+ * region's invalidation paths bumps the organization's generation, which turns every response
+ * cached before it into a miss. A read records the generation it started in and is only stored if
+ * no write completed meanwhile, so a response computed from pre-write data is never cached.
+ */
+@Slf4j
+@Component
+public class ResponseCacheStore {
+
+  private final Cache<String, CachedResponse> responses;
+
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  private final Map<String, List<String>> invalidationPaths = new ConcurrentHashMap<>();
+
+  public ResponseCacheStore(ResponseCacheProperties responseCacheProperties) {
+    this.responses =
+        Caffeine.newBuilder()
+            .expireAfterWrite(responseCacheProperties.getTtl())
+            .maximumWeight(responseCacheProperties.getMaxSize().toBytes())
+            .weigher(
+                (String key, CachedResponse response) -> key.length() + response.getBody().length)
+            .build();
+  }
+
+  /** Registers the path prefixes whose writes invalidate the given region. */
+  public void registerRegion(String region, List<String> invalidateOn) {
+    invalidationPaths.put(region, List.copyOf(invalidateOn));
+  }
+
+  public long currentGeneration(String region, String organizationId) {
+    return generations
+        .computeIfAbsent(scope(region, organizationId), scope -> new AtomicLong())
+        .get();
+  }
+
+  /** Returns the cached response, unless it was invalidated since it was stored. */
+  public CachedResponse get(String key, long currentGeneration) {
+    CachedResponse cached = responses.getIfPresent(key);
+    if (cached == null || cached.getGeneration() != currentGeneration) {
+      return null;
+    }
+    return cached;
+  }
+
+  /**
+   * Caches a response produced while the region was at {@code generation}, and returns it. The
+   * response is dropped instead when the region was invalidated in the meantime.
+   */
+  public CachedResponse put(
+      String key,
+      String region,
+      String organizationId,
+      long generation,
+      byte[] body,
+      HttpHeaders headers) {
+    String eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    CachedResponse cached = new CachedResponse(body, headers, eTag, generation);
+    if (currentGeneration(region, organizationId) == generation) {
+      responses.put(key, cached);
+    }
+    return cached;
+  }
+
+  /**
+   * Invalidates the regions whose invalidation paths cover the written path. Without an
+   * organization the region is invalidated for all of them.
+   */
+  public void invalidate(String path, String organizationId) {
+    invalidationPaths.forEach(
+        (region, prefixes) -> {
+          if (prefixes.stream().noneMatch(path::startsWith)) {
+            return;
+          }
+          if (organizationId != null) {
+            generations
+                .computeIfAbsent(scope(region, organizationId), scope -> new AtomicLong())
+                .incrementAndGet();
+          } else {
+            String regionPrefix = region + "|";
+            generations.forEach(
+                (scope, generation) -> {
+                  if (scope.startsWith(regionPrefix)) {
+                    generation.incrementAndGet();
+                  }
+                });
+          }
+          log.debug("Invalidated response cache region {} after write to {}", region, path);
+        });
+  }
+
+  static String key(
+      String region, String organizationId, String permissionScope, String pathAndQuery) {
+    return scope(region, organizationId) + "|" + permissionScope + "|" + pathAndQuery;
+  }
+
+  private static String scope(String region, String organizationId) {
+    return region + "|" + organizationId;
+  }
+}
@@ -0,0 +1,26 @@
+package com.beeja.api.apigateway.config.cache.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+  /** Switches off every {@code ResponseCache} route filter without editing the routes. */
+  private boolean enabled = true;
+
+  /** How long a cached response is served before the backend service is asked again. */
+  private Duration ttl = Duration.ofMinutes(10);
+
+  /** Upper bound for the bodies held by the cache, across all routes and organizations. */
+  private DataSize maxSize = DataSize.ofMegabytes(64);
+
+  /** Responses larger than this are relayed as usual but never cached. */
+  private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+}
@@ -0,0 +1,46 @@
+package com.beeja.api.apigateway.config.observability;
+
+import com.beeja.api.apigateway.utils.Constants;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Assigns every routed request a correlation id, unless the client already sent a well-formed one,
+ * and relays it to the downstream service and back on the response. The services log it with every
+ * line and forward it on their Feign calls, so one page load can be followed across all hops.
+ */
+@Component
+public class CorrelationIdFilter implements GlobalFilter, Ordered {
+
+  private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    String correlationId =
+        exchange.getRequest().getHeaders().getFirst(Constants.CORRELATION_ID_HEADER);
+    if (correlationId == null || !VALID_CORRELATION_ID.matcher(correlationId).matches()) {
+      correlationId = UUID.randomUUID().toString();
+    }
+    String relayedCorrelationId = correlationId;
+    ServerHttpRequest request =
+        exchange
+            .getRequest()
+            .mutate()
+            .headers(headers -> headers.set(Constants.CORRELATION_ID_HEADER, relayedCorrelationId))
+            .build();
+    exchange.getResponse().getHeaders().set(Constants.CORRELATION_ID_HEADER, relayedCorrelationId);
+    return chain.filter(exchange.mutate().request(request).build());
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
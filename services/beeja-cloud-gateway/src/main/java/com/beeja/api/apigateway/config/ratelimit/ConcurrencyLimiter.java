@@ -0,0 +1,87 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Non-blocking semaphore limiting the requests in flight. Requests over the limit wait in FIFO
+ * order and are handed a permit directly when a running request releases one.
+ */
+class ConcurrencyLimiter {
+  private static final int WAITING = 0;
+  private static final int GRANTED = 1;
+  private static final int CANCELLED = 2;
+
+  private final int maxConcurrent;
+  private final int maxQueued;
+  private final Deque<Waiter> waiters = new ArrayDeque<>();
+  private int inFlight;
+
+  ConcurrencyLimiter(int maxConcurrent, int maxQueued) {
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueued = maxQueued;
+  }
+
+  /**
+   * Completes with {@code true} once a permit was acquired, or with {@code false} when the wait
+   * queue is full. Cancelling while waiting, e.g. on a timeout, gives up the place in the queue.
+   */
+  Mono<Boolean> acquire() {
+    return Mono.create(
+        sink -> {
+          Waiter waiter = new Waiter(sink);
+          sink.onCancel(() -> cancel(waiter));
+          synchronized (this) {
+            if (inFlight < maxConcurrent) {
+              inFlight++;
+              waiter.state.set(GRANTED);
+            } else if (waiters.size() >= maxQueued) {
+              waiter.state.set(CANCELLED);
+              sink.success(false);
+              return;
+            } else {
+              waiters.add(waiter);
+              return;
+            }
+          }
+          sink.success(true);
+        });
+  }
+
+  void release() {
+    Waiter next;
+    synchronized (this) {
+      do {
+        next = waiters.poll();
+      } while (next != null && !next.state.compareAndSet(WAITING, GRANTED));
+      if (next == null) {
+        inFlight--;
+        return;
+      }
+    }
+    next.sink.success(true);
+  }
+
+  private void cancel(Waiter waiter) {
+    if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+      synchronized (this) {
+        waiters.remove(waiter);
+      }
+    } else if (waiter.state.get() == GRANTED) {
+      // The permit was granted but the request went away before it could use it
+      release();
+    }
+  }
+
+  private static final class Waiter {
+    private final MonoSink<Boolean> sink;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    private Waiter(MonoSink<Boolean> sink) {
+      this.sink = sink;
+    }
+  }
+}
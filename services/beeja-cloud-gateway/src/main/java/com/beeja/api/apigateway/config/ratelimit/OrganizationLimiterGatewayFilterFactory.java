@@ -0,0 +1,201 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import com.beeja.api.apigateway.config.security.IdentityToken;
+import com.beeja.api.apigateway.config.security.IdentityTokenService;
+import com.beeja.api.apigateway.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shapes the traffic of heavy operations per organization, so that one tenant cannot starve the
+ * others behind the same service. Each organization gets its own token bucket and its own
+ * in-flight limit; requests over the in-flight limit wait in a bounded queue for up to {@code
+ * maxQueueTime}. Rejected requests are answered with {@code 429 Too Many Requests}.
+ *
+ * <p>Limiter state lives in this gateway instance only, so the configured limits apply per
+ * instance.
+ */
+@Slf4j
+@Component
+public class OrganizationLimiterGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<OrganizationLimiterGatewayFilterFactory.Config> {
+
+  @Autowired private IdentityTokenService identityTokenService;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  public OrganizationLimiterGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    List<PathPattern> patterns =
+        config.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+    Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+    Timer queueTimer =
+        Timer.builder(Constants.METRIC_LIMITER_QUEUE_TIME)
+            .tag(Constants.TAG_LIMITER, config.getName())
+            .register(meterRegistry);
+
+    return (exchange, chain) -> {
+      if (!applies(config, patterns, exchange.getRequest())) {
+        return chain.filter(exchange);
+      }
+      return identityTokenService
+          .currentIdentityToken()
+          .map(IdentityToken::getOrganizationId)
+          .map(Optional::of)
+          .defaultIfEmpty(Optional.empty())
+          .flatMap(
+              organizationId -> {
+                if (organizationId.isEmpty()) {
+                  return chain.filter(exchange);
+                }
+                String organization = organizationId.get();
+                if (config.getReplenishRate() > 0) {
+                  Duration retryAfter =
+                      buckets
+                          .computeIfAbsent(organization, key -> newTokenBucket(config))
+                          .tryConsume(System.nanoTime());
+                  if (!retryAfter.isZero()) {
+                    return reject(
+                        exchange, config, organization, Constants.REASON_RATE, retryAfter);
+                  }
+                }
+                if (config.getMaxConcurrent() <= 0) {
+                  return chain.filter(exchange);
+                }
+                ConcurrencyLimiter limiter =
+                    concurrencyLimiters.computeIfAbsent(
+                        organization, key -> newConcurrencyLimiter(config));
+                return filterLimited(exchange, chain, config, organization, limiter, queueTimer);
+              });
+    };
+  }
+
+  private Mono<Void> filterLimited(
+      ServerWebExchange exchange,
+      GatewayFilterChain chain,
+      Config config,
+      String organization,
+      ConcurrencyLimiter limiter,
+      Timer queueTimer) {
+    long queuedAt = System.nanoTime();
+    return limiter
+        .acquire()
+        .timeout(config.getMaxQueueTime())
+        .onErrorResume(TimeoutException.class, e -> Mono.just(false))
+        .flatMap(
+            acquired -> {
+              queueTimer.record(Duration.ofNanos(System.nanoTime() - queuedAt));
+              if (!acquired) {
+                return reject(
+                    exchange,
+                    config,
+                    organization,
+                    Constants.REASON_CONCURRENCY,
+                    config.getMaxQueueTime());
+              }
+              return chain.filter(exchange).doFinally(signal -> limiter.release());
+            });
+  }
+
+  private Mono<Void> reject(
+      ServerWebExchange exchange,
+      Config config,
+      String organization,
+      String reason,
+      Duration retryAfter) {
+    Counter.builder(Constants.METRIC_LIMITER_REJECTIONS)
+        .tag(Constants.TAG_LIMITER, config.getName())
+        .tag(Constants.TAG_REASON, reason)
+        .register(meterRegistry)
+        .increment();
+    // Organizations are unbounded, so they are logged rather than tagged on the counter
+    log.info(Constants.LIMITER_REJECTED, config.getName(), organization, reason);
+
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+    long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    return response.setComplete();
+  }
+
+  private static TokenBucket newTokenBucket(Config config) {
+    return new TokenBucket(
+        config.getBurstCapacity(),
+        config.getReplenishRate(),
+        config.getReplenishPeriod(),
+        System.nanoTime());
+  }
+
+  private static ConcurrencyLimiter newConcurrencyLimiter(Config config) {
+    return new ConcurrencyLimiter(config.getMaxConcurrent(), config.getMaxQueued());
+  }
+
+  private static boolean applies(
+      Config config, List<PathPattern> patterns, ServerHttpRequest request) {
+    if (!config.getMethods().isEmpty()
+        && !config.getMethods().contains(request.getMethod().name())) {
+      return false;
+    }
+    return patterns.isEmpty()
+        || patterns.stream().anyMatch(pattern -> pattern.matches(request.getPath()));
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    /** Name of the limiter, used in metrics and logs. */
+    private String name;
+
+    /** Path patterns the limiter applies to; all paths of the route when empty. */
+    private List<String> paths = new ArrayList<>();
+
+    /** HTTP methods the limiter applies to; all methods when empty. */
+    private List<String> methods = new ArrayList<>();
+
+    /** Tokens added to an organization's bucket per {@code replenishPeriod}; 0 disables it. */
+    private int replenishRate;
+
+    private Duration replenishPeriod = Duration.ofSeconds(1);
+
+    /** Requests an organization may send in a burst. */
+    private int burstCapacity = 1;
+
+    /** Requests of an organization in flight at once; 0 disables the limit. */
+    private int maxConcurrent;
+
+    /** Requests of an organization waiting for an in-flight slot. */
+    private int maxQueued = 100;
+
+    /** How long a request may wait for an in-flight slot before it is rejected. */
+    private Duration maxQueueTime = Duration.ofSeconds(10);
+  }
+}
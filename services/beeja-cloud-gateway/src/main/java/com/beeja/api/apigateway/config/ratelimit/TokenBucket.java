@@ -0,0 +1,36 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket holding up to {@code capacity} tokens and refilled continuously with {@code
+ * replenishRate} tokens per {@code replenishPeriod}.
+ */
+class TokenBucket {
+  private final double capacity;
+  private final double tokensPerNano;
+
+  private double tokens;
+  private long refilledAt;
+
+  TokenBucket(int capacity, int replenishRate, Duration replenishPeriod, long now) {
+    this.capacity = capacity;
+    this.tokensPerNano = (double) replenishRate / replenishPeriod.toNanos();
+    this.tokens = capacity;
+    this.refilledAt = now;
+  }
+
+  /**
+   * Takes a token if one is available. Returns zero on success, otherwise the time until the next
+   * token becomes available.
+   */
+  synchronized Duration tryConsume(long now) {
+    tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+    refilledAt = now;
+    if (tokens >= 1) {
+      tokens -= 1;
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano));
+  }
+}
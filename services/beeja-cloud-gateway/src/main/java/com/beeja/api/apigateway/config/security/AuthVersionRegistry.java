@@ -0,0 +1,89 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.utils.Constants;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks users whose roles, permissions or status changed recently. Accounts bumps {@code
+ * authVersion} on every such change; this registry polls those changes so the relay filter can
+ * re-mint identity tokens that were issued against an older version.
+ */
+@Slf4j
+@Component
+public class AuthVersionRegistry {
+
+  @Autowired private ReactiveMongoTemplate mongoTemplate;
+
+  @Autowired private JwtProperties jwtProperties;
+
+  private final Map<String, Long> versionsByEmail = new ConcurrentHashMap<>();
+  private final Map<String, Instant> changedAtByEmail = new ConcurrentHashMap<>();
+  private volatile Instant lastPolledAt = Instant.now();
+
+  @Scheduled(fixedDelayString = "${jwt.auth-version-poll-interval:15s}")
+  public void pollAuthVersionChanges() {
+    Instant pollStartedAt = Instant.now();
+    // Overlap with the previous window so changes committed while polling are not missed.
+    Instant since = lastPolledAt.minus(jwtProperties.getAuthVersionPollInterval());
+    Query query =
+        Query.query(Criteria.where(Constants.FIELD_AUTH_VERSION_UPDATED_AT).gte(Date.from(since)));
+    query.fields().include(Constants.FIELD_EMAIL).include(Constants.FIELD_AUTH_VERSION);
+
+    try {
+      int changes = 0;
+      // Runs on the scheduling thread, so waiting for the reactive query here is safe.
+      List<Document> changedUsers =
+          mongoTemplate
+              .find(query, Document.class, Constants.USERS_COLLECTION)
+              .collectList()
+              .block();
+      for (Document user : changedUsers) {
+        String email = user.getString(Constants.FIELD_EMAIL);
+        Number version = user.get(Constants.FIELD_AUTH_VERSION, Number.class);
+        if (email != null && version != null) {
+          versionsByEmail.merge(email, version.longValue(), Math::max);
+          changedAtByEmail.put(email, pollStartedAt);
+          changes++;
+        }
+      }
+      if (changes > 0) {
+        log.info(Constants.AUTH_VERSION_CHANGES_FOUND, changes);
+      }
+      lastPolledAt = pollStartedAt;
+    } catch (Exception e) {
+      log.error("Failed to poll auth version changes: {}", e.getMessage());
+    }
+    evictSettledChanges(pollStartedAt);
+  }
+
+  /** Whether a token minted at {@code tokenVersion} no longer reflects the user's access. */
+  public boolean isStale(String email, long tokenVersion) {
+    Long latestVersion = versionsByEmail.get(email);
+    return latestVersion != null && latestVersion > tokenVersion;
+  }
+
+  /** Once every token minted before a change has expired, the entry is no longer needed. */
+  private void evictSettledChanges(Instant now) {
+    Instant settledBefore = now.minus(jwtProperties.getIdentityTokenTtl());
+    changedAtByEmail.forEach(
+        (email, changedAt) -> {
+          if (changedAt.isBefore(settledBefore)) {
+            changedAtByEmail.remove(email);
+            versionsByEmail.remove(email);
+          }
+        });
+  }
+}
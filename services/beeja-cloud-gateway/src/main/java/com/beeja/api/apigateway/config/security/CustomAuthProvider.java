@@ -1,9 +1,8 @@
 package com.beeja.api.apigateway.config.security;
 
-import com.beeja.api.apigateway.config.security.properties.JwtProperties;
 import com.beeja.api.apigateway.user.UserEntity;
 import com.beeja.api.apigateway.user.UserRepository;
-import com.beeja.api.apigateway.utils.JwtUtil;
+import com.beeja.api.apigateway.utils.Constants;
 import java.util.Collections;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -16,6 +15,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Component
 public class CustomAuthProvider implements ReactiveAuthenticationManager {
@@ -24,38 +24,46 @@ public class CustomAuthProvider implements ReactiveAuthenticationManager {
 
   @Autowired private PasswordEncoder passwordEncoder;
 
-  @Autowired private JwtProperties jwtProperties;
+  @Autowired private IdentityTokenService identityTokenService;
+
+  @Autowired private Scheduler passwordCheckScheduler;
 
   @Override
   public Mono<Authentication> authenticate(Authentication authentication) {
     String username = authentication.getName();
     String password = authentication.getCredentials().toString();
 
-    UserEntity user = userRepository.findByEmail(username);
-    if (user == null || !user.isActive()) {
-      return Mono.error(new BadCredentialsException("User Not Found"));
-    }
-
-    return Mono.just(user)
+    return userRepository
+        .findByEmail(username)
+        .filter(UserEntity::isActive)
+        .switchIfEmpty(Mono.error(new BadCredentialsException(Constants.USER_NOT_FOUND)))
         .flatMap(
-            userEntity -> {
-              if (userEntity != null
-                  && userEntity.isActive()
-                  && passwordEncoder.matches(password, userEntity.getPassword())) {
-                UserDetails userDetails =
-                    User.withUsername(username)
-                        .password(password)
-                        .authorities(
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
-                        .build();
-                String jwtToken =
-                    JwtUtil.generateToken(authentication.getName(), jwtProperties.getSecret());
-                return Mono.just(
-                    new UsernamePasswordAuthenticationToken(
-                        userDetails, jwtToken, userDetails.getAuthorities()));
-              } else {
-                return Mono.error(new BadCredentialsException("Invalid username or password"));
-              }
-            });
+            userEntity ->
+                Mono.fromCallable(() -> passwordEncoder.matches(password, userEntity.getPassword()))
+                    .subscribeOn(passwordCheckScheduler)
+                    .flatMap(
+                        matches -> {
+                          if (!matches) {
+                            return Mono.error(
+                                new BadCredentialsException(
+                                    Constants.INVALID_USERNAME_OR_PASSWORD));
+                          }
+                          UserDetails userDetails =
+                              User.withUsername(username)
+                                  .password(password)
+                                  .authorities(
+                                      Collections.singletonList(
+                                          new SimpleGrantedAuthority("ROLE_USER")))
+                                  .build();
+                          IdentityToken identityToken =
+                              identityTokenService.mintIdentityToken(userEntity);
+                          UsernamePasswordAuthenticationToken authenticated =
+                              new UsernamePasswordAuthenticationToken(
+                                  userDetails,
+                                  identityToken.getToken(),
+                                  userDetails.getAuthorities());
+                          authenticated.setDetails(identityToken);
+                          return Mono.just(authenticated);
+                        }));
   }
 }
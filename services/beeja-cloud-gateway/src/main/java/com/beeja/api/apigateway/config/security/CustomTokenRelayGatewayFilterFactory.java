@@ -1,23 +1,26 @@
 package com.beeja.api.apigateway.config.security;
 
-import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 @Component
 @Slf4j
 public class CustomTokenRelayGatewayFilterFactory
     extends AbstractGatewayFilterFactory<CustomTokenRelayGatewayFilterFactory.Config> {
 
-  @Autowired private SkipGatewayFilterRoutesProperty skipGatewayFilterRoutesProperty;
+  @Autowired private SkipRouteMatcher skipRouteMatcher;
+
+  @Autowired private IdentityTokenService identityTokenService;
 
   public CustomTokenRelayGatewayFilterFactory() {
     super(Config.class);
@@ -27,11 +30,9 @@ public class CustomTokenRelayGatewayFilterFactory
   public GatewayFilter apply(Config config) {
     return (exchange, chain) -> {
       String path = exchange.getRequest().getPath().toString();
-      for (String skipPath : skipGatewayFilterRoutesProperty.getRoutesAsList()) {
-        if (path.startsWith(skipPath)) {
-          log.info("Skipping token relay for path: {}", path);
-          return chain.filter(exchange);
-        }
+      if (skipRouteMatcher.matches(path)) {
+        log.debug("Skipping token relay for path: {}", path);
+        return chain.filter(exchange);
       }
 
       return ReactiveSecurityContextHolder.getContext()
@@ -39,14 +40,26 @@ public class CustomTokenRelayGatewayFilterFactory
           .flatMap(
               authentication -> {
                 if (authentication instanceof UsernamePasswordAuthenticationToken) {
-                  String token = (String) authentication.getCredentials();
-                  ServerHttpRequest mutatedRequest =
-                      exchange
-                          .getRequest()
-                          .mutate()
-                          .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                          .build();
-                  return chain.filter(exchange.mutate().request(mutatedRequest).build());
+                  // No header means the user is gone and the session was dropped.
+                  return identityTokenService
+                      .resolveAuthorizationHeader(exchange, authentication)
+                      .map(
+                          authorizationHeader -> {
+                            ServerHttpRequest mutatedRequest =
+                                exchange
+                                    .getRequest()
+                                    .mutate()
+                                    .header(HttpHeaders.AUTHORIZATION, authorizationHeader)
+                                    .build();
+                            return chain.filter(exchange.mutate().request(mutatedRequest).build());
+                          })
+                      .defaultIfEmpty(
+                          Mono.defer(
+                              () -> {
+                                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                                return exchange.getResponse().setComplete();
+                              }))
+                      .flatMap(relay -> relay);
                 } else {
                   return chain.filter(exchange);
                 }
@@ -0,0 +1,41 @@
+package com.beeja.api.apigateway.config.security;
+
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * Metadata of the identity token held in the session, kept as the authentication details so the
+ * relay filter can decide whether to re-mint without parsing the token on every request.
+ */
+@Getter
+public class IdentityToken {
+  private final String token;
+  private final long authVersion;
+  private final Instant expiresAt;
+
+  /** Organization the user belongs to when the token was minted. */
+  private final String organizationId;
+
+  /**
+   * Digest of the user's effective permissions. Users of the same organization sharing it are
+   * authorized for exactly the same requests, which lets the gateway share cached responses.
+   */
+  private final String permissionScope;
+
+  /** {@code Authorization} header value relayed downstream, built once when the token is minted. */
+  private final String authorizationHeader;
+
+  public IdentityToken(
+      String token,
+      long authVersion,
+      Instant expiresAt,
+      String organizationId,
+      String permissionScope) {
+    this.token = token;
+    this.authVersion = authVersion;
+    this.expiresAt = expiresAt;
+    this.organizationId = organizationId;
+    this.permissionScope = permissionScope;
+    this.authorizationHeader = "Bearer " + token;
+  }
+}
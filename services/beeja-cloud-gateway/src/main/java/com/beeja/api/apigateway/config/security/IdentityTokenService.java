@@ -0,0 +1,110 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.user.UserEntity;
+import com.beeja.api.apigateway.user.UserRepository;
+import com.beeja.api.apigateway.utils.Constants;
+import com.beeja.api.apigateway.utils.JwtUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mints the short-lived identity tokens relayed to downstream services and re-mints them when they
+ * are about to expire or when the user's access changed in accounts.
+ */
+@Slf4j
+@Component
+public class IdentityTokenService {
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private JwtProperties jwtProperties;
+
+  @Autowired private AuthVersionRegistry authVersionRegistry;
+
+  private final ServerSecurityContextRepository securityContextRepository =
+      new WebSessionServerSecurityContextRepository();
+
+  public IdentityToken mintIdentityToken(UserEntity user) {
+    Instant expiresAt = Instant.now().plus(jwtProperties.getIdentityTokenTtl());
+    String token =
+        JwtUtil.generateIdentityToken(user, jwtProperties.getSecret(), Date.from(expiresAt));
+    String organizationId =
+        user.getOrganizations() != null ? user.getOrganizations().getId() : null;
+    String permissionScope =
+        DigestUtils.md5DigestAsHex(
+            String.join(",", JwtUtil.collectPermissions(user)).getBytes(StandardCharsets.UTF_8));
+    return new IdentityToken(
+        token, user.getAuthVersion(), expiresAt, organizationId, permissionScope);
+  }
+
+  /** Identity token of the session bound to the current request, if it has one. */
+  public Mono<IdentityToken> currentIdentityToken() {
+    return ReactiveSecurityContextHolder.getContext()
+        .map(SecurityContext::getAuthentication)
+        .map(Authentication::getDetails)
+        .filter(IdentityToken.class::isInstance)
+        .cast(IdentityToken.class);
+  }
+
+  public boolean needsRefresh(Authentication authentication) {
+    if (!(authentication.getDetails() instanceof IdentityToken identityToken)) {
+      // Sessions created before identity tokens were introduced
+      return true;
+    }
+    Instant refreshAt =
+        identityToken.getExpiresAt().minus(jwtProperties.getIdentityTokenRefreshSkew());
+    return Instant.now().isAfter(refreshAt)
+        || authVersionRegistry.isStale(authentication.getName(), identityToken.getAuthVersion());
+  }
+
+  /**
+   * Returns the {@code Authorization} header value to relay for the given session authentication,
+   * re-minting the token and storing the refreshed authentication in the session when needed.
+   * Completes empty, after invalidating the session, when the user no longer exists, so that the
+   * session's earlier token is not relayed any further.
+   */
+  public Mono<String> resolveAuthorizationHeader(
+      ServerWebExchange exchange, Authentication authentication) {
+    if (!needsRefresh(authentication)) {
+      return Mono.just(((IdentityToken) authentication.getDetails()).getAuthorizationHeader());
+    }
+    return userRepository
+        .findByEmail(authentication.getName())
+        .flatMap(
+            user -> {
+              IdentityToken identityToken = mintIdentityToken(user);
+              UsernamePasswordAuthenticationToken refreshed =
+                  new UsernamePasswordAuthenticationToken(
+                      authentication.getPrincipal(),
+                      identityToken.getToken(),
+                      authentication.getAuthorities());
+              refreshed.setDetails(identityToken);
+              log.debug(Constants.IDENTITY_TOKEN_REFRESHED, authentication.getName());
+              return securityContextRepository
+                  .save(exchange, new SecurityContextImpl(refreshed))
+                  .thenReturn(identityToken.getAuthorizationHeader());
+            })
+        .switchIfEmpty(
+            Mono.defer(
+                () -> {
+                  log.info(Constants.SESSION_USER_NOT_FOUND, authentication.getName());
+                  return exchange.getSession().flatMap(WebSession::invalidate).then(Mono.empty());
+                }));
+  }
+}
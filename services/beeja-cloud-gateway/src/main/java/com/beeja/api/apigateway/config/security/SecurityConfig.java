@@ -28,6 +28,8 @@ import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 import org.springframework.web.server.session.CookieWebSessionIdResolver;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Configuration
@@ -169,6 +171,15 @@ public class SecurityConfig {
     return new BCryptPasswordEncoder();
   }
 
+  /** BCrypt checks are CPU-bound, so logins run them here instead of on the Netty event loop. */
+  @Bean(destroyMethod = "dispose")
+  public Scheduler passwordCheckScheduler() {
+    return Schedulers.newBoundedElastic(
+        Runtime.getRuntime().availableProcessors(),
+        Constants.PASSWORD_CHECK_QUEUE_CAPACITY,
+        Constants.PASSWORD_CHECK_THREAD_PREFIX);
+  }
+
   @Bean
   public CorsWebFilter corsWebFilter() throws Exception {
     if (authProperties.getFrontEndUrl() == null || authProperties.getUrls() == null) {
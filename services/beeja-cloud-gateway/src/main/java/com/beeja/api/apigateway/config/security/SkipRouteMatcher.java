@@ -0,0 +1,105 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches request paths against the routes that bypass token relay. The configured prefixes are
+ * compiled once into a character trie and recompiled only when the bound property value changes,
+ * so a refreshed configuration is picked up without re-splitting the routes on every request.
+ */
+@Component
+public class SkipRouteMatcher {
+
+  @Autowired private SkipGatewayFilterRoutesProperty skipGatewayFilterRoutesProperty;
+
+  private volatile CompiledRoutes compiledRoutes = CompiledRoutes.compile(null);
+
+  public boolean matches(String path) {
+    String routes = skipGatewayFilterRoutesProperty.getRoutes();
+    CompiledRoutes current = compiledRoutes;
+    if (current.source != routes) {
+      current = CompiledRoutes.compile(routes);
+      compiledRoutes = current;
+    }
+    return current.root.matchesPrefixOf(path);
+  }
+
+  private static final class CompiledRoutes {
+    private final String source;
+    private final Node root;
+
+    private CompiledRoutes(String source, Node root) {
+      this.source = source;
+      this.root = root;
+    }
+
+    static CompiledRoutes compile(String routes) {
+      Node root = new Node();
+      if (routes != null) {
+        for (String route : routes.split(",")) {
+          String prefix = route.trim();
+          if (!prefix.isEmpty()) {
+            root.insert(prefix);
+          }
+        }
+      }
+      return new CompiledRoutes(routes, root);
+    }
+  }
+
+  /** Trie node keyed by single characters; fan-out is small so children are scanned linearly. */
+  private static final class Node {
+    private char[] keys = new char[0];
+    private Node[] children = new Node[0];
+    private boolean terminal;
+
+    void insert(String prefix) {
+      Node node = this;
+      for (int i = 0; i < prefix.length(); i++) {
+        node = node.childOrCreate(prefix.charAt(i));
+      }
+      node.terminal = true;
+    }
+
+    boolean matchesPrefixOf(String path) {
+      Node node = this;
+      for (int i = 0; ; i++) {
+        if (node.terminal) {
+          return true;
+        }
+        if (i == path.length()) {
+          return false;
+        }
+        node = node.child(path.charAt(i));
+        if (node == null) {
+          return false;
+        }
+      }
+    }
+
+    private Node child(char key) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] == key) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    private Node childOrCreate(char key) {
+      Node existing = child(key);
+      if (existing != null) {
+        return existing;
+      }
+      Node created = new Node();
+      keys = Arrays.copyOf(keys, keys.length + 1);
+      children = Arrays.copyOf(children, children.length + 1);
+      keys[keys.length - 1] = key;
+      children[children.length - 1] = created;
+      return created;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.beeja.api.apigateway.config.security.properties;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -11,4 +12,13 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
   private String secret;
+
+  /** Lifetime of the identity token relayed to downstream services. */
+  private Duration identityTokenTtl = Duration.ofMinutes(5);
+
+  /** Tokens closer than this to their expiry are re-minted before being relayed. */
+  private Duration identityTokenRefreshSkew = Duration.ofSeconds(30);
+
+  /** How often the users collection is polled for role, permission or status changes. */
+  private Duration authVersionPollInterval = Duration.ofSeconds(15);
 }
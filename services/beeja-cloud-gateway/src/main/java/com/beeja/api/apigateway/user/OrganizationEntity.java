@@ -1,4 +1,4 @@
-package com.beeja.api.financemanagementservice.modals;
+package com.beeja.api.apigateway.user;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -6,11 +6,13 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+/** Read-only view of an accounts organization, limited to what the identity token carries. */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(collection = "device_sequences")
-public class DeviceSequence {
+@Document(collection = "organizations")
+public class OrganizationEntity {
   @Id private String id;
-  private long seq;
+  private String name;
+  private String email;
 }
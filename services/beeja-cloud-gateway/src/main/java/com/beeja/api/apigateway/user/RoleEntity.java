@@ -1,16 +1,19 @@
-package com.beeja.api.financemanagementservice.modals;
+package com.beeja.api.apigateway.user;
 
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+/** Read-only view of an accounts role, limited to what the identity token carries. */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(collection = "loan_sequences")
-public class LoanSequence {
+@Document(collection = "roles")
+public class RoleEntity {
   @Id private String id;
-  private long seq;
+  private String name;
+  private Set<String> permissions;
 }
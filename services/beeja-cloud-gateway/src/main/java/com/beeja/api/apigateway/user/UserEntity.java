@@ -1,9 +1,12 @@
 package com.beeja.api.apigateway.user;
 
+import java.util.HashSet;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
@@ -13,6 +16,12 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class UserEntity {
   @Id private String id;
   private String email;
+  private String firstName;
+  private String lastName;
+  private String employeeId;
+  @DBRef private Set<RoleEntity> roles = new HashSet<>();
+  @DBRef private OrganizationEntity organizations;
   private boolean isActive;
   private String password;
+  private long authVersion;
 }
@@ -0,0 +1,12 @@
+package com.beeja.api.apigateway.user;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * The reactive template does not resolve {@code @DBRef}s, so users are loaded through {@link
+ * UserRepositoryCustomImpl}, which fetches the referenced roles and organization itself.
+ */
+public interface UserRepositoryCustom {
+
+  Mono<UserEntity> findByEmail(String email);
+}
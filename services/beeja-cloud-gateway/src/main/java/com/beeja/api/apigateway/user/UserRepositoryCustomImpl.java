@@ -0,0 +1,78 @@
+package com.beeja.api.apigateway.user;
+
+import com.beeja.api.apigateway.utils.Constants;
+import com.mongodb.DBRef;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+  private static final String ROLES = "roles";
+  private static final String ORGANIZATIONS = "organizations";
+
+  @Autowired private ReactiveMongoTemplate mongoTemplate;
+
+  @Override
+  public Mono<UserEntity> findByEmail(String email) {
+    Query query = Query.query(Criteria.where(Constants.FIELD_EMAIL).is(email));
+    return mongoTemplate
+        .findOne(query, Document.class, Constants.USERS_COLLECTION)
+        .flatMap(this::resolveReferences);
+  }
+
+  private Mono<UserEntity> resolveReferences(Document document) {
+    List<Object> roleIds = new ArrayList<>();
+    if (document.get(ROLES) instanceof Collection<?> refs) {
+      for (Object ref : refs) {
+        Object roleId = referencedId(ref);
+        if (roleId != null) {
+          roleIds.add(roleId);
+        }
+      }
+    }
+    Object organizationId = referencedId(document.remove(ORGANIZATIONS));
+    document.remove(ROLES);
+    UserEntity user = mongoTemplate.getConverter().read(UserEntity.class, document);
+
+    Mono<List<RoleEntity>> roles =
+        roleIds.isEmpty()
+            ? Mono.just(List.of())
+            : mongoTemplate
+                .find(Query.query(Criteria.where("_id").in(roleIds)), RoleEntity.class)
+                .collectList();
+    Mono<Optional<OrganizationEntity>> organization =
+        organizationId == null
+            ? Mono.just(Optional.empty())
+            : mongoTemplate
+                .findById(organizationId, OrganizationEntity.class)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    return Mono.zip(roles, organization)
+        .map(
+            resolved -> {
+              user.setRoles(new HashSet<>(resolved.getT1()));
+              user.setOrganizations(resolved.getT2().orElse(null));
+              return user;
+            });
+  }
+
+  /** Reference ids come back as {@link DBRef} or as the raw {@code {$ref, $id}} document. */
+  private Object referencedId(Object ref) {
+    if (ref instanceof DBRef dbRef) {
+      return dbRef.getId();
+    }
+    if (ref instanceof Document document) {
+      return document.get("$id");
+    }
+    return null;
+  }
+}
@@ -4,4 +4,45 @@ public class Constants {
   public static final String REGISTERED_USERNAME_PASSWORD_PROVIDER =
       "Registered User Name Password Auth Provider";
   public static final String ERROR_MISSING_FE_URLS = "Missing Frontend Urls for CORS";
+
+  public static final String ID = "id";
+  public static final String NAME = "name";
+  public static final String EMAIL = "email";
+
+  //    Identity token claims
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+  public static final String CLAIM_LAST_NAME = "lastName";
+  public static final String CLAIM_ORGANIZATION = "organization";
+  public static final String CLAIM_ROLES = "roles";
+  public static final String CLAIM_PERMISSIONS = "permissions";
+  public static final String CLAIM_ACTIVE = "active";
+  public static final String CLAIM_AUTH_VERSION = "authVersion";
+
+  //    Users collection fields
+  public static final String USERS_COLLECTION = "users";
+  public static final String FIELD_EMAIL = "email";
+  public static final String FIELD_AUTH_VERSION = "authVersion";
+  public static final String FIELD_AUTH_VERSION_UPDATED_AT = "auth_version_updated_at";
+
+  public static final int PASSWORD_CHECK_QUEUE_CAPACITY = 1000;
+  public static final String PASSWORD_CHECK_THREAD_PREFIX = "password-check";
+
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+  //    Organization limiter metrics
+  public static final String METRIC_LIMITER_REJECTIONS = "gateway.organization.limiter.rejections";
+  public static final String METRIC_LIMITER_QUEUE_TIME = "gateway.organization.limiter.queue.time";
+  public static final String TAG_LIMITER = "limiter";
+  public static final String TAG_REASON = "reason";
+  public static final String REASON_RATE = "rate";
+  public static final String REASON_CONCURRENCY = "concurrency";
+
+  public static final String USER_NOT_FOUND = "User Not Found";
+  public static final String INVALID_USERNAME_OR_PASSWORD = "Invalid username or password";
+  public static final String IDENTITY_TOKEN_REFRESHED = "Refreshed identity token for {}";
+  public static final String SESSION_USER_NOT_FOUND =
+      "Dropped the session of {}, who no longer exists";
+  public static final String LIMITER_REJECTED = "Limiter {} rejected a request of {} ({})";
+  public static final String AUTH_VERSION_CHANGES_FOUND = "Found {} auth version changes";
 }
@@ -1,21 +1,70 @@
 package com.beeja.api.apigateway.utils;
 
+import com.beeja.api.apigateway.user.OrganizationEntity;
+import com.beeja.api.apigateway.user.RoleEntity;
+import com.beeja.api.apigateway.user.UserEntity;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class JwtUtil {
 
-  private static final long EXPIRATION_TIME = 864_000_000;
+  /**
+   * Mints the signed identity token relayed to downstream services. Besides the subject it carries
+   * everything the services need to build their user context, so they no longer have to look the
+   * user up in accounts on every request.
+   */
+  public static String generateIdentityToken(UserEntity user, String key, Date expiresAt) {
+    List<String> roleNames = new ArrayList<>();
+    if (user.getRoles() != null) {
+      for (RoleEntity role : user.getRoles()) {
+        roleNames.add(role.getName());
+      }
+    }
+
+    Map<String, Object> organization = new HashMap<>();
+    OrganizationEntity userOrganization = user.getOrganizations();
+    if (userOrganization != null) {
+      organization.put(Constants.ID, userOrganization.getId());
+      organization.put(Constants.NAME, userOrganization.getName());
+      organization.put(Constants.EMAIL, userOrganization.getEmail());
+    }
 
-  public static String generateToken(String email, String key) {
     return Jwts.builder()
-        .setSubject(email)
-        .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+        .setSubject(user.getEmail())
+        .claim(Constants.CLAIM_EMPLOYEE_ID, user.getEmployeeId())
+        .claim(Constants.CLAIM_FIRST_NAME, user.getFirstName())
+        .claim(Constants.CLAIM_LAST_NAME, user.getLastName())
+        .claim(Constants.CLAIM_ORGANIZATION, organization)
+        .claim(Constants.CLAIM_ROLES, roleNames)
+        .claim(Constants.CLAIM_PERMISSIONS, new ArrayList<>(collectPermissions(user)))
+        .claim(Constants.CLAIM_ACTIVE, user.isActive())
+        .claim(Constants.CLAIM_AUTH_VERSION, user.getAuthVersion())
+        .setIssuedAt(new Date())
+        .setExpiration(expiresAt)
         .signWith(SignatureAlgorithm.HS256, key)
         .compact();
   }
 
+  /** Union of the permissions granted by the user's roles, in a stable (sorted) order. */
+  public static Set<String> collectPermissions(UserEntity user) {
+    Set<String> permissions = new TreeSet<>();
+    if (user.getRoles() != null) {
+      for (RoleEntity role : user.getRoles()) {
+        if (role.getPermissions() != null) {
+          permissions.addAll(role.getPermissions());
+        }
+      }
+    }
+    return permissions;
+  }
+
   public static String extractUsername(String token, String key) {
     return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody().getSubject();
   }
@@ -0,0 +1,122 @@
+package com.beeja.api.apigateway.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.apigateway.config.cache.properties.ResponseCacheProperties;
+import com.beeja.api.apigateway.config.security.IdentityToken;
+import com.beeja.api.apigateway.config.security.IdentityTokenService;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+  private static final String BODY = "{\"departments\":[\"Engineering\"]}";
+
+  @Mock private IdentityTokenService identityTokenService;
+
+  @InjectMocks private ResponseCacheGatewayFilterFactory responseCacheGatewayFilterFactory;
+
+  private GatewayFilter filter;
+  private final AtomicInteger backendCalls = new AtomicInteger();
+
+  private final GatewayFilterChain backend =
+      exchange -> {
+        backendCalls.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setCacheControl("no-cache, no-store, max-age=0, must-revalidate");
+        return response.writeWith(
+            Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+      };
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    ResponseCacheProperties responseCacheProperties = new ResponseCacheProperties();
+    ReflectionTestUtils.setField(
+        responseCacheGatewayFilterFactory, "responseCacheProperties", responseCacheProperties);
+    ReflectionTestUtils.setField(
+        responseCacheGatewayFilterFactory,
+        "responseCacheStore",
+        new ResponseCacheStore(responseCacheProperties));
+    when(identityTokenService.currentIdentityToken())
+        .thenReturn(Mono.just(new IdentityToken("token", 0, Instant.now(), "org-1", "scope")));
+
+    ResponseCacheGatewayFilterFactory.Config config =
+        new ResponseCacheGatewayFilterFactory.Config();
+    config.setRegion("employee-values");
+    config.setPaths(List.of("/employees/v1/users/employee-values"));
+    config.setInvalidateOn(List.of("/employees/v1/users"));
+    filter = responseCacheGatewayFilterFactory.apply(config);
+  }
+
+  @Test
+  void secondReadIsServedFromCache() {
+    MockServerWebExchange first = get(null);
+    filter.filter(first, backend).block();
+    MockServerWebExchange second = get(null);
+    filter.filter(second, backend).block();
+
+    assertEquals(1, backendCalls.get());
+    assertEquals(BODY, second.getResponse().getBodyAsString().block());
+    assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+    assertEquals(
+        first.getResponse().getHeaders().getETag(), second.getResponse().getHeaders().getETag());
+    assertEquals("private, no-cache", second.getResponse().getHeaders().getCacheControl());
+  }
+
+  @Test
+  void matchingIfNoneMatchIsAnsweredWithNotModified() {
+    MockServerWebExchange first = get(null);
+    filter.filter(first, backend).block();
+    String eTag = first.getResponse().getHeaders().getETag();
+    assertNotNull(eTag);
+
+    MockServerWebExchange revalidation = get(eTag);
+    filter.filter(revalidation, backend).block();
+
+    assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+    assertEquals(1, backendCalls.get());
+  }
+
+  @Test
+  void otherPathsOfTheRouteAreNotCached() {
+    filter.filter(directory(), backend).block();
+    filter.filter(directory(), backend).block();
+
+    assertEquals(2, backendCalls.get());
+  }
+
+  private static MockServerWebExchange directory() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/employees/v1/users"));
+  }
+
+  private static MockServerWebExchange get(String ifNoneMatch) {
+    MockServerHttpRequest.BaseBuilder<?> request =
+        MockServerHttpRequest.get("/employees/v1/users/employee-values");
+    if (ifNoneMatch != null) {
+      request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    return MockServerWebExchange.from(request);
+  }
+}
@@ -0,0 +1,112 @@
+package com.beeja.api.apigateway.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.beeja.api.apigateway.config.cache.properties.ResponseCacheProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class ResponseCacheStoreTest {
+
+  private static final String REGION = "expense-values";
+  private static final byte[] BODY = "{\"categories\":[]}".getBytes(StandardCharsets.UTF_8);
+
+  private ResponseCacheStore responseCacheStore;
+
+  @BeforeEach
+  void setUp() {
+    responseCacheStore = new ResponseCacheStore(new ResponseCacheProperties());
+    responseCacheStore.registerRegion(REGION, List.of("/expenses/v1"));
+  }
+
+  @Test
+  void servesStoredResponseWithStableETag() {
+    String key = ResponseCacheStore.key(REGION, "org-1", "scope", "/expenses/v1/expense-values");
+    long generation = responseCacheStore.currentGeneration(REGION, "org-1");
+
+    CachedResponse stored =
+        responseCacheStore.put(key, REGION, "org-1", generation, BODY, new HttpHeaders());
+    CachedResponse cached = responseCacheStore.get(key, generation);
+
+    assertNotNull(cached);
+    assertEquals(stored.getETag(), cached.getETag());
+  }
+
+  @Test
+  void writeInvalidatesOnlyTheWritingOrganization() {
+    String orgOneKey =
+        ResponseCacheStore.key(REGION, "org-1", "scope", "/expenses/v1/expense-values");
+    String orgTwoKey =
+        ResponseCacheStore.key(REGION, "org-2", "scope", "/expenses/v1/expense-values");
+    responseCacheStore.put(
+        orgOneKey,
+        REGION,
+        "org-1",
+        responseCacheStore.currentGeneration(REGION, "org-1"),
+        BODY,
+        new HttpHeaders());
+    responseCacheStore.put(
+        orgTwoKey,
+        REGION,
+        "org-2",
+        responseCacheStore.currentGeneration(REGION, "org-2"),
+        BODY,
+        new HttpHeaders());
+
+    responseCacheStore.invalidate("/expenses/v1/expenses", "org-1");
+
+    assertNull(
+        responseCacheStore.get(orgOneKey, responseCacheStore.currentGeneration(REGION, "org-1")));
+    assertNotNull(
+        responseCacheStore.get(orgTwoKey, responseCacheStore.currentGeneration(REGION, "org-2")));
+  }
+
+  @Test
+  void writesOutsideTheInvalidationPathsKeepTheCache() {
+    String key = ResponseCacheStore.key(REGION, "org-1", "scope", "/expenses/v1/expense-values");
+    responseCacheStore.put(
+        key,
+        REGION,
+        "org-1",
+        responseCacheStore.currentGeneration(REGION, "org-1"),
+        BODY,
+        new HttpHeaders());
+
+    responseCacheStore.invalidate("/finance/v1/loans", "org-1");
+
+    assertNotNull(
+        responseCacheStore.get(key, responseCacheStore.currentGeneration(REGION, "org-1")));
+  }
+
+  @Test
+  void responseReadBeforeAConcurrentWriteIsNotCached() {
+    String key = ResponseCacheStore.key(REGION, "org-1", "scope", "/expenses/v1/expense-values");
+    long generationAtRead = responseCacheStore.currentGeneration(REGION, "org-1");
+
+    responseCacheStore.invalidate("/expenses/v1/expenses", "org-1");
+    responseCacheStore.put(key, REGION, "org-1", generationAtRead, BODY, new HttpHeaders());
+
+    assertNull(responseCacheStore.get(key, responseCacheStore.currentGeneration(REGION, "org-1")));
+  }
+
+  @Test
+  void writeWithoutOrganizationInvalidatesTheWholeRegion() {
+    String key = ResponseCacheStore.key(REGION, "org-1", "scope", "/expenses/v1/expense-values");
+    responseCacheStore.put(
+        key,
+        REGION,
+        "org-1",
+        responseCacheStore.currentGeneration(REGION, "org-1"),
+        BODY,
+        new HttpHeaders());
+
+    responseCacheStore.invalidate("/expenses/v1/expenses", null);
+
+    assertNull(responseCacheStore.get(key, responseCacheStore.currentGeneration(REGION, "org-1")));
+  }
+}
@@ -0,0 +1,54 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class ConcurrencyLimiterTest {
+
+  @Test
+  void waitingRequestIsHandedThePermitOnRelease() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+    assertTrue(limiter.acquire().block());
+
+    AtomicReference<Boolean> waiting = new AtomicReference<>();
+    limiter.acquire().subscribe(waiting::set);
+    assertNull(waiting.get());
+
+    limiter.release();
+    assertTrue(waiting.get());
+  }
+
+  @Test
+  void fullQueueIsRejectedImmediately() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+    limiter.acquire().block();
+    limiter.acquire().subscribe();
+
+    assertFalse(limiter.acquire().block());
+  }
+
+  @Test
+  void timedOutWaiterGivesUpItsPlace() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+    limiter.acquire().block();
+
+    StepVerifier.create(limiter.acquire().timeout(Duration.ofMillis(50)))
+        .expectError(TimeoutException.class)
+        .verify();
+
+    AtomicReference<Boolean> next = new AtomicReference<>();
+    limiter.acquire().subscribe(next::set);
+    limiter.release();
+    assertTrue(next.get());
+
+    limiter.release();
+    assertTrue(limiter.acquire().block());
+  }
+}
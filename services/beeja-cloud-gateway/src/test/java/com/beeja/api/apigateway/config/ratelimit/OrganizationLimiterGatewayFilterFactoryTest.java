@@ -0,0 +1,137 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.apigateway.config.security.IdentityToken;
+import com.beeja.api.apigateway.config.security.IdentityTokenService;
+import com.beeja.api.apigateway.utils.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class OrganizationLimiterGatewayFilterFactoryTest {
+
+  @Mock private IdentityTokenService identityTokenService;
+
+  @InjectMocks
+  private OrganizationLimiterGatewayFilterFactory organizationLimiterGatewayFilterFactory;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger backendCalls = new AtomicInteger();
+  private final GatewayFilterChain backend =
+      exchange -> {
+        backendCalls.incrementAndGet();
+        return Mono.empty();
+      };
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    ReflectionTestUtils.setField(
+        organizationLimiterGatewayFilterFactory, "meterRegistry", meterRegistry);
+    actAs("org-1");
+  }
+
+  @Test
+  void requestsOverTheBurstAreRejectedPerOrganization() {
+    OrganizationLimiterGatewayFilterFactory.Config config = config();
+    config.setReplenishRate(1);
+    config.setReplenishPeriod(Duration.ofMinutes(1));
+    config.setBurstCapacity(2);
+    GatewayFilter filter = organizationLimiterGatewayFilterFactory.apply(config);
+
+    filter.filter(upload(), backend).block();
+    filter.filter(upload(), backend).block();
+    MockServerWebExchange rejected = upload();
+    filter.filter(rejected, backend).block();
+
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+    assertEquals("60", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals(2, backendCalls.get());
+    assertEquals(
+        1,
+        meterRegistry
+            .get(Constants.METRIC_LIMITER_REJECTIONS)
+            .tag(Constants.TAG_REASON, Constants.REASON_RATE)
+            .counter()
+            .count());
+
+    actAs("org-2");
+    filter.filter(upload(), backend).block();
+    assertEquals(3, backendCalls.get());
+  }
+
+  @Test
+  void requestsOverTheInFlightLimitWaitAndTimeOut() {
+    OrganizationLimiterGatewayFilterFactory.Config config = config();
+    config.setMaxConcurrent(1);
+    config.setMaxQueueTime(Duration.ofMillis(100));
+    GatewayFilter filter = organizationLimiterGatewayFilterFactory.apply(config);
+
+    Sinks.Empty<Void> running = Sinks.empty();
+    filter.filter(upload(), exchange -> running.asMono()).subscribe();
+
+    MockServerWebExchange queued = upload();
+    filter.filter(queued, backend).block();
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, queued.getResponse().getStatusCode());
+    assertEquals(0, backendCalls.get());
+
+    running.tryEmitEmpty();
+    filter.filter(upload(), backend).block();
+    assertEquals(1, backendCalls.get());
+    assertEquals(3, meterRegistry.get(Constants.METRIC_LIMITER_QUEUE_TIME).timer().count());
+  }
+
+  @Test
+  void otherMethodsAreNotLimited() {
+    OrganizationLimiterGatewayFilterFactory.Config config = config();
+    config.setReplenishRate(1);
+    GatewayFilter filter = organizationLimiterGatewayFilterFactory.apply(config);
+
+    for (int i = 0; i < 5; i++) {
+      filter
+          .filter(
+              MockServerWebExchange.from(MockServerHttpRequest.get("/finance/v1/payslips")),
+              backend)
+          .block();
+    }
+
+    assertEquals(5, backendCalls.get());
+  }
+
+  private void actAs(String organizationId) {
+    when(identityTokenService.currentIdentityToken())
+        .thenReturn(
+            Mono.just(new IdentityToken("token", 0, Instant.now(), organizationId, "scope")));
+  }
+
+  private static OrganizationLimiterGatewayFilterFactory.Config config() {
+    OrganizationLimiterGatewayFilterFactory.Config config =
+        new OrganizationLimiterGatewayFilterFactory.Config();
+    config.setName("payslip-upload");
+    config.setPaths(List.of("/finance/v1/payslips"));
+    config.setMethods(List.of("POST"));
+    return config;
+  }
+
+  private static MockServerWebExchange upload() {
+    return MockServerWebExchange.from(MockServerHttpRequest.post("/finance/v1/payslips"));
+  }
+}
@@ -0,0 +1,130 @@
+package com.beeja.api.apigateway.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.apigateway.user.UserEntity;
+import com.beeja.api.apigateway.user.UserRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class CustomAuthProviderTest {
+
+  private static final Duration PASSWORD_CHECK_TIME = Duration.ofMillis(200);
+
+  @Mock private UserRepository userRepository;
+
+  @Mock private PasswordEncoder passwordEncoder;
+
+  @Mock private IdentityTokenService identityTokenService;
+
+  @InjectMocks private CustomAuthProvider customAuthProvider;
+
+  private Scheduler passwordCheckScheduler;
+  private Scheduler eventLoop;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    passwordCheckScheduler = Schedulers.newBoundedElastic(4, 100, "password-check-test");
+    eventLoop = Schedulers.newSingle("event-loop-test");
+    ReflectionTestUtils.setField(
+        customAuthProvider, "passwordCheckScheduler", passwordCheckScheduler);
+
+    UserEntity user = new UserEntity();
+    user.setEmail("abc@example.com");
+    user.setPassword("hash");
+    user.setActive(true);
+    when(userRepository.findByEmail(anyString())).thenReturn(Mono.just(user));
+    when(identityTokenService.mintIdentityToken(any()))
+        .thenReturn(new IdentityToken("token", 0, Instant.now().plusSeconds(60), "org", "scope"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    passwordCheckScheduler.dispose();
+    eventLoop.dispose();
+  }
+
+  @Test
+  void testAuthenticate_ValidPassword() {
+    when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+
+    StepVerifier.create(customAuthProvider.authenticate(login("secret")))
+        .expectNextMatches(auth -> "token".equals(auth.getCredentials()))
+        .verifyComplete();
+  }
+
+  @Test
+  void testAuthenticate_InvalidPassword() {
+    when(passwordEncoder.matches("wrong", "hash")).thenReturn(false);
+
+    StepVerifier.create(customAuthProvider.authenticate(login("wrong")))
+        .expectError(BadCredentialsException.class)
+        .verify();
+  }
+
+  @Test
+  void testAuthenticate_UnknownUser() {
+    when(userRepository.findByEmail(anyString())).thenReturn(Mono.empty());
+
+    StepVerifier.create(customAuthProvider.authenticate(login("secret")))
+        .expectError(BadCredentialsException.class)
+        .verify();
+  }
+
+  @Test
+  void testAuthenticate_BurstOfLoginsDoesNotStallEventLoop() throws Exception {
+    when(passwordEncoder.matches(anyString(), anyString()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(PASSWORD_CHECK_TIME.toMillis());
+              return true;
+            });
+
+    // Twenty logins started from the single event loop thread would hold it for 4 seconds if
+    // BCrypt ran inline; a request proxied on the same loop must still be served right away.
+    List<Mono<Authentication>> logins =
+        IntStream.range(0, 20)
+            .mapToObj(i -> customAuthProvider.authenticate(login("secret")).subscribeOn(eventLoop))
+            .toList();
+    CompletableFuture<List<Authentication>> loginsDone =
+        Flux.merge(logins).collectList().toFuture();
+
+    long probeStartedAt = System.nanoTime();
+    Mono.fromRunnable(() -> {}).subscribeOn(eventLoop).block(Duration.ofSeconds(5));
+    Duration probeLatency = Duration.ofNanos(System.nanoTime() - probeStartedAt);
+
+    assertTrue(
+        probeLatency.compareTo(PASSWORD_CHECK_TIME) < 0,
+        "event loop was blocked for " + probeLatency.toMillis() + "ms");
+    assertEquals(20, loginsDone.get(5, TimeUnit.SECONDS).size());
+  }
+
+  private Authentication login(String password) {
+    return new UsernamePasswordAuthenticationToken("abc@example.com", password);
+  }
+}
@@ -0,0 +1,48 @@
+package com.beeja.api.apigateway.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.apigateway.user.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.server.WebSession;
+import org.springframework.web.server.session.InMemoryWebSessionStore;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class IdentityTokenServiceTest {
+
+  @Mock private UserRepository userRepository;
+
+  @InjectMocks private IdentityTokenService identityTokenService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  void sessionOfARemovedUserIsDroppedInsteadOfRelayingItsToken() {
+    WebSession session = new InMemoryWebSessionStore().createWebSession().block();
+    session.start();
+    MockServerWebExchange exchange =
+        MockServerWebExchange.builder(MockServerHttpRequest.get("/employees/v1/users"))
+            .session(session)
+            .build();
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken("abc@example.com", "earlier-token", List.of());
+    when(userRepository.findByEmail("abc@example.com")).thenReturn(Mono.empty());
+
+    StepVerifier.create(identityTokenService.resolveAuthorizationHeader(exchange, authentication))
+        .verifyComplete();
+    assertTrue(session.isExpired());
+  }
+}
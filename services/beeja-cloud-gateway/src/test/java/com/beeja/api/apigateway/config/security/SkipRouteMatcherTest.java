@@ -0,0 +1,53 @@
+package com.beeja.api.apigateway.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SkipRouteMatcherTest {
+
+  private SkipGatewayFilterRoutesProperty skipGatewayFilterRoutesProperty;
+  private SkipRouteMatcher skipRouteMatcher;
+
+  @BeforeEach
+  void setUp() {
+    skipGatewayFilterRoutesProperty = new SkipGatewayFilterRoutesProperty();
+    skipRouteMatcher = new SkipRouteMatcher();
+    ReflectionTestUtils.setField(
+        skipRouteMatcher, "skipGatewayFilterRoutesProperty", skipGatewayFilterRoutesProperty);
+  }
+
+  @Test
+  void matchesConfiguredPrefixes() {
+    skipGatewayFilterRoutesProperty.setRoutes("/accounts/v1/public, /employees/v1/public,/files");
+
+    assertTrue(skipRouteMatcher.matches("/accounts/v1/public/orgs"));
+    assertTrue(skipRouteMatcher.matches("/employees/v1/public"));
+    assertTrue(skipRouteMatcher.matches("/files/v1/1"));
+    assertFalse(skipRouteMatcher.matches("/accounts/v1/users"));
+    assertFalse(skipRouteMatcher.matches("/employees/v1/pub"));
+    assertFalse(skipRouteMatcher.matches("/"));
+  }
+
+  @Test
+  void ignoresEmptyAndMissingRoutes() {
+    assertFalse(skipRouteMatcher.matches("/accounts/v1/users"));
+
+    skipGatewayFilterRoutesProperty.setRoutes(" ,,");
+    assertFalse(skipRouteMatcher.matches("/accounts/v1/users"));
+  }
+
+  @Test
+  void recompilesWhenRoutesChange() {
+    skipGatewayFilterRoutesProperty.setRoutes("/accounts");
+    assertTrue(skipRouteMatcher.matches("/accounts/v1/users"));
+
+    skipGatewayFilterRoutesProperty.setRoutes("/employees");
+    assertFalse(skipRouteMatcher.matches("/accounts/v1/users"));
+    assertTrue(skipRouteMatcher.matches("/employees/v1/users"));
+  }
+}
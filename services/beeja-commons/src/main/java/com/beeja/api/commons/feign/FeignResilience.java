@@ -0,0 +1,165 @@
+package com.beeja.api.commons.feign;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Resilience settings shared by the Feign clients of all services, registered as beans by each
+ * service's {@code FeignConfig}.
+ *
+ * <p>Every client gets its own circuit breaker, keyed by client name, which opens when calls keep
+ * failing with I/O errors or 5xx responses; while it is open calls fail fast with a {@link
+ * RetryableException}, like any other connection failure. GET calls that fail on I/O are retried a
+ * bounded number of times; other methods are never retried, as they may not be idempotent.
+ */
+public final class FeignResilience {
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final long RETRY_PERIOD_MILLIS = 100;
+  private static final long MAX_RETRY_PERIOD_MILLIS = 1000;
+
+  private FeignResilience() {}
+
+  public static CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+    CircuitBreakerConfig config =
+        CircuitBreakerConfig.custom()
+            .slidingWindowSize(20)
+            .minimumNumberOfCalls(10)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofSeconds(10))
+            .permittedNumberOfCallsInHalfOpenState(3)
+            .recordResult(result -> result instanceof Response response && response.status() >= 500)
+            .build();
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    return registry;
+  }
+
+  public static Capability circuitBreakerCapability(CircuitBreakerRegistry registry) {
+    return circuitBreakerCapability(registry, options -> options);
+  }
+
+  /**
+   * Like {@link #circuitBreakerCapability(CircuitBreakerRegistry)}, with the options of every call
+   * first passed through {@code optionsLimit}, which may also refuse the call with an I/O error.
+   */
+  public static Capability circuitBreakerCapability(
+      CircuitBreakerRegistry registry, OptionsLimit optionsLimit) {
+    return new CircuitBreakerCapability(registry, optionsLimit);
+  }
+
+  public static Retryer idempotentRetryer() {
+    return idempotentRetryer(() -> false);
+  }
+
+  /** Like {@link #idempotentRetryer()}, but gives up as soon as {@code giveUp} is true. */
+  public static Retryer idempotentRetryer(BooleanSupplier giveUp) {
+    return new IdempotentRetryer(giveUp);
+  }
+
+  /** Adjusts the options of a call before it is made. */
+  @FunctionalInterface
+  public interface OptionsLimit {
+    Request.Options apply(Request.Options options) throws IOException;
+  }
+
+  /** Thrown instead of calling a client whose circuit is open. */
+  public static class CircuitOpenException extends IOException {
+    CircuitOpenException(String client) {
+      super("Circuit breaker of " + client + " is open");
+    }
+  }
+
+  /** Public, as Feign looks up and invokes {@code enrich} reflectively. */
+  public static class CircuitBreakerCapability implements Capability {
+    private final CircuitBreakerRegistry registry;
+    private final OptionsLimit optionsLimit;
+
+    CircuitBreakerCapability(CircuitBreakerRegistry registry, OptionsLimit optionsLimit) {
+      this.registry = registry;
+      this.optionsLimit = optionsLimit;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+      return new CircuitBreakerClient(client, registry, optionsLimit);
+    }
+  }
+
+  static class CircuitBreakerClient implements Client {
+    private final Client delegate;
+    private final CircuitBreakerRegistry registry;
+    private final OptionsLimit optionsLimit;
+
+    CircuitBreakerClient(
+        Client delegate, CircuitBreakerRegistry registry, OptionsLimit optionsLimit) {
+      this.delegate = delegate;
+      this.registry = registry;
+      this.optionsLimit = optionsLimit;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+      Request.Options limited = optionsLimit.apply(options);
+      CircuitBreaker circuitBreaker = registry.circuitBreaker(clientName(request));
+      if (!circuitBreaker.tryAcquirePermission()) {
+        throw new CircuitOpenException(circuitBreaker.getName());
+      }
+      long start = System.nanoTime();
+      try {
+        Response response = delegate.execute(request, limited);
+        circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, response);
+        return response;
+      } catch (IOException | RuntimeException e) {
+        circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+        throw e;
+      }
+    }
+
+    private static String clientName(Request request) {
+      if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+        return request.requestTemplate().feignTarget().name();
+      }
+      return URI.create(request.url()).getHost();
+    }
+  }
+
+  static class IdempotentRetryer implements Retryer {
+    private final Retryer delegate =
+        new Retryer.Default(RETRY_PERIOD_MILLIS, MAX_RETRY_PERIOD_MILLIS, MAX_ATTEMPTS);
+    private final BooleanSupplier giveUp;
+
+    IdempotentRetryer(BooleanSupplier giveUp) {
+      this.giveUp = giveUp;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+      if (e.method() != Request.HttpMethod.GET
+          || e.getCause() instanceof CircuitOpenException
+          || giveUp.getAsBoolean()) {
+        throw e;
+      }
+      delegate.continueOrPropagate(e);
+    }
+
+    @Override
+    public Retryer clone() {
+      return new IdempotentRetryer(giveUp);
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.beeja.api.commons.indexes;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+/**
+ * Applies a service's index registry at startup and verifies it afterwards.
+ *
+ * <p>Registered indexes are created if missing, indexes retired by a newer registry version are
+ * dropped, and the applied version is recorded per service. Verification reports registered indexes
+ * that are missing, indexes outside the registry that have not been used for a week, and hot
+ * queries that the query planner would answer with a collection scan.
+ *
+ * <p>Each service declares it as a bean over its own {@code IndexRegistry}, along with a {@link
+ * MongoIndexHealthIndicator}.
+ */
+@Slf4j
+public class IndexManager {
+
+  private static final String REGISTRY_COLLECTION = "mongo_index_registry";
+  private static final String ID_INDEX = "_id_";
+  private static final Duration REVERIFY_INTERVAL = Duration.ofMinutes(10);
+  private static final Duration UNUSED_AFTER = Duration.ofDays(7);
+
+  private final MongoTemplate mongoTemplate;
+  private final String applicationName;
+  private final int version;
+  private final List<ManagedIndex> indexes;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  private final Map<String, List<String>> retired;
+
+  private volatile IndexReport report;
+
+  public IndexManager(
+      MongoTemplate mongoTemplate,
+      String applicationName,
+      int version,
+      List<ManagedIndex> indexes,
+      Map<String, List<String>> retired) {
+    this.mongoTemplate = mongoTemplate;
+    this.applicationName = applicationName;
+    this.version = version;
+    this.indexes = List.copyOf(indexes);
+    this.retired = retired;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void applyRegistry() {
+    try {
+      dropRetiredIndexes();
+      for (ManagedIndex managedIndex : indexes) {
+        try {
+          mongoTemplate.indexOps(managedIndex.getCollection()).ensureIndex(managedIndex.getIndex());
+        } catch (Exception e) {
+          log.error(
+              "Could not create index {} on {}: {}",
+              managedIndex.getName(),
+              managedIndex.getCollection(),
+              e.getMessage());
+        }
+      }
+      recordVersion();
+    } catch (Exception e) {
+      log.error("Could not apply MongoDB index registry: {}", e.getMessage());
+    }
+    verify();
+  }
+
+  /** Returns the latest report, verifying again once it is older than a few minutes. */
+  public IndexReport getReport() {
+    IndexReport current = report;
+    if (current == null
+        || current.getCheckedAt().plus(REVERIFY_INTERVAL).isBefore(Instant.now())) {
+      current = verify();
+    }
+    return current;
+  }
+
+  synchronized IndexReport verify() {
+    List<String> missing = new ArrayList<>();
+    List<String> unused = new ArrayList<>();
+    List<String> collectionScans = new ArrayList<>();
+    try {
+      Map<String, List<ManagedIndex>> byCollection =
+          indexes.stream()
+              .collect(
+                  Collectors.groupingBy(
+                      ManagedIndex::getCollection, LinkedHashMap::new, Collectors.toList()));
+      for (Map.Entry<String, List<ManagedIndex>> entry : byCollection.entrySet()) {
+        String collection = entry.getKey();
+        Set<String> managed =
+            entry.getValue().stream().map(ManagedIndex::getName).collect(Collectors.toSet());
+        Set<String> existing =
+            mongoTemplate.indexOps(collection).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        managed.stream()
+            .filter(name -> !existing.contains(name))
+            .forEach(name -> missing.add(collection + "." + name));
+        findUnused(collection, managed, unused);
+
+        for (ManagedIndex managedIndex : entry.getValue()) {
+          if (managedIndex.getHotQuery() != null && isCollectionScan(managedIndex)) {
+            collectionScans.add(collection + " " + managedIndex.getHotQuery().toJson());
+          }
+        }
+      }
+      report = new IndexReport(version, missing, unused, collectionScans, null, Instant.now());
+    } catch (Exception e) {
+      log.error("Could not verify MongoDB indexes: {}", e.getMessage());
+      report =
+          new IndexReport(version, missing, unused, collectionScans, e.getMessage(), Instant.now());
+    }
+    if (!missing.isEmpty() || !unused.isEmpty() || !collectionScans.isEmpty()) {
+      log.warn(
+          "MongoDB indexes - missing: {}, unused: {}, collection scans: {}",
+          missing,
+          unused,
+          collectionScans);
+    }
+    return report;
+  }
+
+  /**
+   * Usage counters start over when the server restarts or the index is rebuilt, so an index only
+   * counts as unused once its counter has stayed at zero for {@link #UNUSED_AFTER}.
+   */
+  private void findUnused(String collection, Set<String> managed, List<String> unused) {
+    Instant countedBefore = Instant.now().minus(UNUSED_AFTER);
+    try {
+      for (Document stats :
+          mongoTemplate
+              .getCollection(collection)
+              .aggregate(List.of(new Document("$indexStats", new Document())))) {
+        String name = stats.getString("name");
+        Document accesses = stats.get("accesses", Document.class);
+        Date since = accesses.getDate("since");
+        if (!managed.contains(name)
+            && !ID_INDEX.equals(name)
+            && accesses.get("ops", Number.class).longValue() == 0
+            && since != null
+            && since.toInstant().isBefore(countedBefore)) {
+          unused.add(collection + "." + name);
+        }
+      }
+    } catch (Exception e) {
+      log.debug("Could not read index usage of {}: {}", collection, e.getMessage());
+    }
+  }
+
+  private boolean isCollectionScan(ManagedIndex managedIndex) {
+    Document find =
+        new Document("find", managedIndex.getCollection())
+            .append("filter", managedIndex.getHotQuery());
+    if (managedIndex.getHotSort() != null) {
+      find.append("sort", managedIndex.getHotSort());
+    }
+    Document explain =
+        mongoTemplate
+            .getDb()
+            .runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+    return containsStage(explain.get("queryPlanner", Document.class).get("winningPlan"));
+  }
+
+  private static boolean containsStage(Object plan) {
+    if (plan instanceof Document document) {
+      return "COLLSCAN".equals(document.get("stage"))
+          || document.values().stream().anyMatch(IndexManager::containsStage);
+    }
+    if (plan instanceof List<?> list) {
+      return list.stream().anyMatch(IndexManager::containsStage);
+    }
+    return false;
+  }
+
+  private void dropRetiredIndexes() {
+    Document applied =
+        mongoTemplate
+            .getCollection(REGISTRY_COLLECTION)
+            .find(Filters.eq("_id", applicationName))
+            .first();
+    if (applied != null && applied.getInteger("version", 0) >= version) {
+      return;
+    }
+    retired.forEach(
+        (collection, names) -> {
+          Set<String> existing =
+              mongoTemplate.indexOps(collection).getIndexInfo().stream()
+                  .map(IndexInfo::getName)
+                  .collect(Collectors.toSet());
+          names.stream()
+              .filter(existing::contains)
+              .forEach(
+                  name -> {
+                    mongoTemplate.indexOps(collection).dropIndex(name);
+                    log.info("Dropped retired index {} on {}", name, collection);
+                  });
+        });
+  }
+
+  private void recordVersion() {
+    List<String> names =
+        indexes.stream()
+            .map(managedIndex -> managedIndex.getCollection() + "." + managedIndex.getName())
+            .toList();
+    mongoTemplate
+        .getCollection(REGISTRY_COLLECTION)
+        .replaceOne(
+            Filters.eq("_id", applicationName),
+            new Document("_id", applicationName)
+                .append("version", version)
+                .append("indexes", names)
+                .append("appliedAt", new Date()),
+            new ReplaceOptions().upsert(true));
+  }
+}
@@ -0,0 +1,33 @@
+package com.beeja.api.commons.indexes;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Outcome of verifying the MongoDB indexes against the ones registered by the service. */
+@Getter
+@AllArgsConstructor
+public class IndexReport {
+  private final int version;
+
+  /** Registered indexes that do not exist, as {@code collection.index}. */
+  private final List<String> missing;
+
+  /**
+   * Indexes outside the registry, as {@code collection.index}, whose usage counter has stayed at
+   * zero for the last seven days; counters start over when the server restarts or the index is
+   * rebuilt.
+   */
+  private final List<String> unused;
+
+  /** Hot queries whose winning plan scans their whole collection. */
+  private final List<String> collectionScans;
+
+  private final String error;
+  private final Instant checkedAt;
+
+  public boolean isHealthy() {
+    return error == null && collectionScans.isEmpty();
+  }
+}
@@ -0,0 +1,46 @@
+package com.beeja.api.commons.indexes;
+
+import lombok.Getter;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * An index the service relies on, optionally with a sample of the hot query it has to serve. Field
+ * names are the stored ones, e.g. {@code created_at} rather than {@code createdAt}.
+ */
+@Getter
+public class ManagedIndex {
+
+  /** Placeholder for query values; the plan chosen for a query does not depend on them. */
+  public static final String SAMPLE = "sample";
+
+  private final String collection;
+  private final Index index;
+  private final String name;
+  private Document hotQuery;
+  private Document hotSort;
+
+  private ManagedIndex(String collection, Index index) {
+    this.collection = collection;
+    this.index = index;
+    this.name = (String) index.getIndexOptions().get("name");
+    if (name == null) {
+      throw new IllegalArgumentException("Managed indexes of " + collection + " must be named");
+    }
+  }
+
+  public static ManagedIndex on(String collection, Index index) {
+    return new ManagedIndex(collection, index);
+  }
+
+  /** Declares a query that must be answered through an index instead of a collection scan. */
+  public ManagedIndex serves(Document filter) {
+    return serves(filter, null);
+  }
+
+  public ManagedIndex serves(Document filter, Document sort) {
+    this.hotQuery = filter;
+    this.hotSort = sort;
+    return this;
+  }
+}
@@ -0,0 +1,32 @@
+package com.beeja.api.commons.indexes;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports the service down while a hot query would scan its whole collection. Services register
+ * it as {@code mongoIndexes}, next to their {@link IndexManager}.
+ */
+public class MongoIndexHealthIndicator implements HealthIndicator {
+
+  private final IndexManager indexManager;
+
+  public MongoIndexHealthIndicator(IndexManager indexManager) {
+    this.indexManager = indexManager;
+  }
+
+  @Override
+  public Health health() {
+    IndexReport report = indexManager.getReport();
+    Health.Builder builder = report.isHealthy() ? Health.up() : Health.down();
+    builder
+        .withDetail("version", report.getVersion())
+        .withDetail("missing", report.getMissing())
+        .withDetail("unused", report.getUnused())
+        .withDetail("collectionScans", report.getCollectionScans());
+    if (report.getError() != null) {
+      builder.withDetail("error", report.getError());
+    }
+    return builder.build();
+  }
+}
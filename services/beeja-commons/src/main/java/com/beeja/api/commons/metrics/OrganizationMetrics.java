@@ -0,0 +1,104 @@
+package com.beeja.api.commons.metrics;
+
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationFilter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Tags the endpoint ({@code http.server.requests}), Feign client ({@code http.client.requests})
+ * and Mongo command ({@code mongodb.driver.commands}) timings with the caller's organization, so
+ * latency can be broken down per tenant. These timings carry percentile histograms, so the number
+ * of distinct organization values is capped by {@link #tagLimit(int)}. Each service registers
+ * these as beans, handing in how it reads the organization of the logged-in user.
+ */
+public final class OrganizationMetrics {
+
+  public static final String TAG_ORGANIZATION = "organization";
+
+  /** Request attribute the authorization filter records the caller's organization under. */
+  public static final String ORGANIZATION_ATTRIBUTE = "beeja.organizationId";
+
+  public static final String UNKNOWN_ORGANIZATION = "none";
+  public static final String OTHER_ORGANIZATION = "other";
+
+  private OrganizationMetrics() {}
+
+  public static ObservationFilter observationFilter(Supplier<String> currentOrganization) {
+    return context ->
+        context.addLowCardinalityKeyValue(
+            KeyValue.of(TAG_ORGANIZATION, organizationOf(context, currentOrganization)));
+  }
+
+  /**
+   * Keeps the organization tag of the first {@code maxValues} organizations seen by this instance
+   * and records later ones as {@code other}, so the series count stays bounded however many
+   * organizations there are.
+   */
+  public static MeterFilter tagLimit(int maxValues) {
+    Set<String> admitted = ConcurrentHashMap.newKeySet();
+    return new MeterFilter() {
+      @Override
+      public Meter.Id map(Meter.Id id) {
+        String organization = id.getTag(TAG_ORGANIZATION);
+        if (organization == null
+            || organization.equals(UNKNOWN_ORGANIZATION)
+            || admitted.contains(organization)) {
+          return id;
+        }
+        synchronized (admitted) {
+          if (admitted.size() < maxValues) {
+            admitted.add(organization);
+            return id;
+          }
+        }
+        return id.replaceTags(
+            Tags.of(id.getTagsAsIterable()).and(TAG_ORGANIZATION, OTHER_ORGANIZATION));
+      }
+    };
+  }
+
+  public static MongoCommandTagsProvider mongoCommandTagsProvider(
+      Supplier<String> currentOrganization) {
+    MongoCommandTagsProvider defaults = new DefaultMongoCommandTagsProvider();
+    return new MongoCommandTagsProvider() {
+      @Override
+      public void commandStarted(CommandStartedEvent event) {
+        defaults.commandStarted(event);
+      }
+
+      @Override
+      public Iterable<Tag> commandTags(CommandEvent event) {
+        return Tags.of(defaults.commandTags(event))
+            .and(TAG_ORGANIZATION, organizationOrUnknown(currentOrganization.get()));
+      }
+    };
+  }
+
+  /**
+   * Server observations are stopped after the authorization filter has cleared the user context, so
+   * the organization is taken from the request attribute that filter sets.
+   */
+  private static String organizationOf(
+      Observation.Context context, Supplier<String> currentOrganization) {
+    if (context instanceof ServerRequestObservationContext serverContext) {
+      return organizationOrUnknown(serverContext.getCarrier().getAttribute(ORGANIZATION_ATTRIBUTE));
+    }
+    return organizationOrUnknown(currentOrganization.get());
+  }
+
+  private static String organizationOrUnknown(Object organizationId) {
+    return organizationId != null ? organizationId.toString() : UNKNOWN_ORGANIZATION;
+  }
+}
@@ -0,0 +1,38 @@
+package com.beeja.api.commons.security;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Organization and permissions carried by the identity token the gateway mints for the services,
+ * read once here so every authorization filter rejects the same incomplete tokens.
+ *
+ * @param organization a mutable copy of the organization claim, which always has an {@code id}
+ * @param permissions a mutable copy of the permissions claim
+ */
+public record IdentityClaims(Map<String, Object> organization, Set<String> permissions) {
+
+  public static final String ORGANIZATION = "organization";
+  public static final String PERMISSIONS = "permissions";
+  public static final String ACTIVE = "active";
+
+  /**
+   * Reads the claims of an active user, or returns {@code null} when the user is inactive or the
+   * organization id or permissions are missing, in which case the token must be rejected.
+   */
+  @SuppressWarnings("unchecked")
+  public static IdentityClaims of(Map<String, Object> claims) {
+    if (!Boolean.TRUE.equals(claims.get(ACTIVE))
+        || !(claims.get(ORGANIZATION) instanceof Map<?, ?> organization)
+        || organization.get("id") == null
+        || !(claims.get(PERMISSIONS) instanceof Collection<?> permissions)) {
+      return null;
+    }
+    return new IdentityClaims(
+        new HashMap<>((Map<String, Object>) organization),
+        new HashSet<>((Collection<String>) permissions));
+  }
+}
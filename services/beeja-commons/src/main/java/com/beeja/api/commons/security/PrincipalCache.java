@@ -0,0 +1,64 @@
+package com.beeja.api.commons.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded, short-lived cache of the principals resolved from accounts for tokens that are not
+ * gateway identity tokens, keyed by token subject. Concurrent misses for the same subject wait on
+ * a single lookup; hit and miss counts are published as the {@code cache.gets} metric tagged
+ * {@code cache=principals}.
+ *
+ * <p>Each service declares it as a bean with its {@code auth.principal-cache} settings.
+ */
+public class PrincipalCache {
+
+  private final Cache<String, CachedPrincipal> principals;
+
+  public PrincipalCache(Duration ttl, long maxSize, MeterRegistry meterRegistry) {
+    this.principals =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+  }
+
+  /** Returns the cached principal, resolving it with the loader on a miss; nulls are not cached. */
+  public CachedPrincipal get(String subject, Function<String, CachedPrincipal> loader) {
+    return principals.get(subject, loader);
+  }
+
+  /**
+   * A user as resolved from accounts. It is shared by every request of its subject, so its
+   * organization and collections cannot be changed; a request copies what it needs to change.
+   *
+   * @param organization the organization's {@code id}, {@code name} and {@code email}
+   * @param roles names of the user's roles
+   * @param permissions union of the permissions of the user's roles
+   */
+  public record CachedPrincipal(
+      String email,
+      String firstName,
+      String lastName,
+      String employeeId,
+      Map<String, Object> organization,
+      Set<String> roles,
+      Set<String> permissions,
+      boolean active) {
+
+    public CachedPrincipal {
+      organization =
+          organization == null
+              ? Map.of()
+              : Collections.unmodifiableMap(new HashMap<>(organization));
+      roles = roles == null ? Set.of() : Set.copyOf(roles);
+      permissions = permissions == null ? Set.of() : Set.copyOf(permissions);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.beeja.api.commons.sequences;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** Last number handed out of an organization's sequence of one type. */
+@Data
+@Document(collection = "sequences")
+public class Sequence {
+  @Id private String id;
+  private String organizationId;
+  private String type;
+  private long value;
+}
@@ -0,0 +1,178 @@
+package com.beeja.api.commons.sequences;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Hands out per-organization, per-type numbers from the {@code sequences} collection. Each instance
+ * reserves {@code blockSize} numbers with one atomic increment and serves them from
+ * memory, so numbers are unique across instances but not gapless: the unused rest of a block is
+ * lost on restart, and instances interleave their blocks. Sequences are told apart by the name of
+ * their type, so each service keeps its own enum of them.
+ */
+public class SequenceAllocator {
+
+  private final MongoTemplate mongoTemplate;
+  private final int blockSize;
+  private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+  public SequenceAllocator(MongoTemplate mongoTemplate, int blockSize) {
+    this.mongoTemplate = mongoTemplate;
+    this.blockSize = Math.max(1, blockSize);
+  }
+
+  /**
+   * Next number of the sequence. {@code seed}, the last number used before the sequence existed, is
+   * only asked for when the sequence is created.
+   */
+  public long next(String organizationId, Enum<?> type, LongSupplier seed) {
+    Block block = block(organizationId, type);
+    synchronized (block) {
+      if (block.isEmpty()) {
+        reserve(block, organizationId, type, seed);
+      }
+      return block.next++;
+    }
+  }
+
+  /**
+   * Reserves {@code size} consecutive numbers of the sequence at once and returns the last of them,
+   * for callers that number a whole batch, such as imports. They are taken from the collection
+   * directly, so they never overlap the blocks instances hold. {@code sequence} names the sequence
+   * within the organization like a type name does, for sequences that are not one per type, and
+   * {@code seed} is only asked for when the sequence is created.
+   */
+  public long reserve(String organizationId, String sequence, int size, LongSupplier seed) {
+    return increment(organizationId, sequence, Math.max(1, size), seed);
+  }
+
+  /**
+   * Next id of the sequence, formatted with the organization's pattern: its prefix followed by the
+   * number padded to the pattern length. The pattern is looked up for every id, so callers pass a
+   * cached lookup; without one the id is the bare number. A new sequence starts at the pattern's
+   * initial sequence or after {@code seed}, whichever is higher.
+   */
+  public String nextId(
+      String organizationId,
+      Enum<?> type,
+      Supplier<? extends SequencePattern> patternLookup,
+      LongSupplier seed) {
+    SequencePattern pattern = patternLookup.get();
+    long initial = pattern == null ? 1 : pattern.getInitialSequence();
+    long number = next(organizationId, type, () -> Math.max(initial - 1, seed.getAsLong()));
+    return format(pattern, number);
+  }
+
+  /**
+   * Highest number among the ids the organization's documents already carry, read from their
+   * trailing digits; meant as the seed of a new sequence. Unlike a count of the documents it stays
+   * ahead of the ids of deleted ones. A prefix ending in digits can only make it overshoot, which
+   * leaves a gap rather than a duplicate.
+   */
+  public <T> long highestNumber(
+      String organizationId, Class<T> entity, String idProperty, Function<T, String> id) {
+    return highestNumber(
+        organizationId, entity, idProperty, id, SequenceAllocator::trailingNumber);
+  }
+
+  /**
+   * Highest number among the ids the organization's documents already carry, each read by {@code
+   * number}, or 0 when there are none. Only the id is loaded, and only when a sequence is created.
+   */
+  public <T> long highestNumber(
+      String organizationId,
+      Class<T> entity,
+      String idProperty,
+      Function<T, String> id,
+      ToLongFunction<String> number) {
+    Query query = Query.query(Criteria.where("organizationId").is(organizationId));
+    query.fields().include(idProperty);
+    try (Stream<T> documents = mongoTemplate.stream(query, entity)) {
+      return documents.map(id).filter(Objects::nonNull).mapToLong(number).max().orElse(0);
+    }
+  }
+
+  /** Number formed by the digits the id ends with, or 0 when it ends with none. */
+  public static long trailingNumber(String id) {
+    int start = id.length();
+    while (start > 0 && Character.isDigit(id.charAt(start - 1))) {
+      start--;
+    }
+    // Longer runs do not fit a long; they are no id a sequence handed out
+    return start == id.length() || id.length() - start > 18
+        ? 0
+        : Long.parseLong(id.substring(start));
+  }
+
+  static String format(SequencePattern pattern, long number) {
+    if (pattern == null || pattern.getPrefix() == null) {
+      return String.valueOf(number);
+    }
+    String prefix = pattern.getPrefix().toUpperCase(Locale.ROOT);
+    int numberLength = pattern.getPatternLength() - prefix.length();
+    return numberLength > 0
+        ? prefix + String.format("%0" + numberLength + "d", number)
+        : prefix + number;
+  }
+
+  private Block block(String organizationId, Enum<?> type) {
+    return blocks.computeIfAbsent(organizationId + ":" + type.name(), key -> new Block());
+  }
+
+  private void reserve(Block block, String organizationId, Enum<?> type, LongSupplier seed) {
+    block.last = increment(organizationId, type.name(), blockSize, block.seeded ? null : seed);
+    block.seeded = true;
+    block.next = block.last - blockSize + 1;
+  }
+
+  /**
+   * Adds {@code amount} to the sequence and returns its new value. The sequence is created with
+   * {@code seed} first if it does not exist yet, unless {@code seed} is null.
+   */
+  private long increment(String organizationId, String type, int amount, LongSupplier seed) {
+    Query query = Query.query(Criteria.where("_id").is(organizationId + ":" + type));
+    if (seed != null && !mongoTemplate.exists(query, Sequence.class)) {
+      try {
+        mongoTemplate.upsert(
+            query,
+            new Update()
+                .setOnInsert("organizationId", organizationId)
+                .setOnInsert("type", type)
+                .setOnInsert("value", seed.getAsLong()),
+            Sequence.class);
+      } catch (DuplicateKeyException e) {
+        // Another instance created the sequence first; its seed stands.
+      }
+    }
+    Sequence sequence =
+        mongoTemplate.findAndModify(
+            query,
+            new Update().inc("value", amount),
+            FindAndModifyOptions.options().returnNew(true),
+            Sequence.class);
+    return sequence.getValue();
+  }
+
+  private static final class Block {
+    private long next = 1;
+    private long last;
+    private boolean seeded;
+
+    private boolean isEmpty() {
+      return next > last;
+    }
+  }
+}
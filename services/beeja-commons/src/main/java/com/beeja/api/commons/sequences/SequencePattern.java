@@ -0,0 +1,11 @@
+package com.beeja.api.commons.sequences;
+
+/** Format of the ids of a sequence: a prefix followed by the number, padded to a total length. */
+public interface SequencePattern {
+
+  String getPrefix();
+
+  int getPatternLength();
+
+  int getInitialSequence();
+}
@@ -0,0 +1,116 @@
+package com.beeja.api.commons.utils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Turns partial JSON payloads into a Mongo {@code $set} of only the fields they contain. The
+ * allowed property paths are resolved against the entity's mapping metadata once, when the mapper
+ * is created, together with a reader for each path's type; applying the mapper only walks the
+ * payload. Null values are ignored, like absent ones.
+ */
+public final class PartialUpdateMapper {
+
+  private final Map<String, ObjectReader> readers;
+
+  private final Set<String> parents;
+
+  private PartialUpdateMapper(Map<String, ObjectReader> readers, Set<String> parents) {
+    this.readers = readers;
+    this.parents = parents;
+  }
+
+  /**
+   * Creates a mapper for the given property paths of the entity, e.g. {@code address.city}.
+   *
+   * @throws org.springframework.data.mapping.context.InvalidPersistentPropertyPath if a path does
+   *     not exist
+   */
+  public static PartialUpdateMapper of(
+      MongoMappingContext mappingContext,
+      ObjectMapper objectMapper,
+      Class<?> entityType,
+      Collection<String> paths) {
+    Map<String, ObjectReader> readers = new HashMap<>();
+    Set<String> parents = new HashSet<>();
+    for (String path : paths) {
+      PersistentPropertyPath<MongoPersistentProperty> propertyPath =
+          mappingContext.getPersistentPropertyPath(path, entityType);
+      JavaType type =
+          objectMapper.constructType(
+              propertyPath
+                  .getLeafProperty()
+                  .getTypeInformation()
+                  .toTypeDescriptor()
+                  .getResolvableType()
+                  .getType());
+      readers.put(path, objectMapper.readerFor(type));
+      for (int dot = path.indexOf('.'); dot > 0; dot = path.indexOf('.', dot + 1)) {
+        parents.add(path.substring(0, dot));
+      }
+    }
+    return new PartialUpdateMapper(Map.copyOf(readers), Set.copyOf(parents));
+  }
+
+  /**
+   * Returns the update setting every non-null value of the payload.
+   *
+   * @throws InvalidFieldException for a path that may not be updated or a value of the wrong type
+   */
+  public Update toUpdate(JsonNode payload) {
+    Update update = new Update();
+    collect(payload, "", update);
+    return update;
+  }
+
+  private void collect(JsonNode node, String prefix, Update update) {
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      String path = prefix + field.getKey();
+      JsonNode value = field.getValue();
+      if (value.isNull()) {
+        continue;
+      }
+      ObjectReader reader = readers.get(path);
+      if (reader != null) {
+        try {
+          update.set(path, reader.readValue(value));
+        } catch (IOException e) {
+          throw new InvalidFieldException(path, false);
+        }
+      } else if (parents.contains(path) && value.isObject()) {
+        collect(value, path + ".", update);
+      } else {
+        throw new InvalidFieldException(path, true);
+      }
+    }
+  }
+
+  /** Thrown for a payload field that is not an allowed path, or whose value cannot be read. */
+  @Getter
+  public static class InvalidFieldException extends RuntimeException {
+    private final String path;
+    private final boolean unknown;
+
+    public InvalidFieldException(String path, boolean unknown) {
+      super((unknown ? "Unknown field " : "Invalid value for ") + path);
+      this.path = path;
+      this.unknown = unknown;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.beeja.api.commons.feign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Headers;
+import feign.RequestLine;
+import feign.Response;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FeignResilienceTest {
+
+  private final CircuitBreakerRegistry registry =
+      FeignResilience.circuitBreakerRegistry(new SimpleMeterRegistry());
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  interface StubApi {
+    @RequestLine("GET /values")
+    String get();
+
+    @RequestLine("POST /values")
+    @Headers("Content-Type: application/json")
+    String post(String body);
+  }
+
+  @Test
+  void failedGetCallsAreRetried() {
+    StubApi api =
+        client(
+            (request, options) -> {
+              calls.incrementAndGet();
+              throw new IOException("connection reset");
+            });
+
+    assertThrows(RetryableException.class, api::get);
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void failedPostCallsAreNotRetried() {
+    StubApi api =
+        client(
+            (request, options) -> {
+              calls.incrementAndGet();
+              throw new IOException("connection reset");
+            });
+
+    assertThrows(RetryableException.class, () -> api.post("{}"));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void repeatedServerErrorsOpenTheCircuit() {
+    StubApi api =
+        client(
+            (request, options) -> {
+              calls.incrementAndGet();
+              return Response.builder()
+                  .status(503)
+                  .request(request)
+                  .headers(Map.of())
+                  .body(new byte[0])
+                  .build();
+            });
+
+    for (int i = 0; i < 10; i++) {
+      assertThrows(FeignException.ServiceUnavailable.class, api::get);
+    }
+    RetryableException failFast = assertThrows(RetryableException.class, api::get);
+
+    assertEquals(10, calls.get());
+    assertInstanceOf(FeignResilience.CircuitOpenException.class, failFast.getCause());
+  }
+
+  private StubApi client(Client stub) {
+    return Feign.builder()
+        .client(stub)
+        .addCapability(FeignResilience.circuitBreakerCapability(registry))
+        .retryer(FeignResilience.idempotentRetryer())
+        .target(StubApi.class, "http://stub");
+  }
+}
@@ -0,0 +1,189 @@
+package com.beeja.api.commons.indexes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+class IndexManagerTest {
+
+  private static final List<ManagedIndex> INDEXES =
+      List.of(
+          ManagedIndex.on(
+                  "loans",
+                  new Index()
+                      .on("organizationId", Sort.Direction.ASC)
+                      .on("status", Sort.Direction.ASC)
+                      .named("organization_status"))
+              .serves(
+                  new Document("organizationId", ManagedIndex.SAMPLE).append("status", "ACTIVE"),
+                  new Document("createdAt", -1)),
+          ManagedIndex.on(
+              "loans",
+              new Index().on("loanNumber", Sort.Direction.ASC).unique().named("loan_number")),
+          ManagedIndex.on(
+                  "files",
+                  new Index().on("organizationId", Sort.Direction.ASC).named("organization"))
+              .serves(new Document("organizationId", ManagedIndex.SAMPLE)));
+
+  private static final Map<String, List<ManagedIndex>> REGISTERED =
+      INDEXES.stream().collect(Collectors.groupingBy(ManagedIndex::getCollection));
+
+  private static final String COLLECTION = INDEXES.get(0).getCollection();
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private MongoTemplate mongoTemplate;
+
+  private IndexManager indexManager;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    indexManager = new IndexManager(mongoTemplate, "beeja-test", 1, INDEXES, Map.of());
+    for (String collection : REGISTERED.keySet()) {
+      when(mongoTemplate.getCollection(collection).aggregate(anyList()))
+          .thenThrow(new IllegalStateException("not authorized"));
+    }
+  }
+
+  @Test
+  void indexesHaveToBeNamed() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ManagedIndex.on("loans", new Index().on("status", Sort.Direction.ASC)));
+  }
+
+  @Test
+  void indexedHotQueriesAreHealthy() {
+    existingIndexes(true);
+    winningPlan(
+        new Document("stage", "FETCH").append("inputStage", new Document("stage", "IXSCAN")));
+
+    IndexReport report = indexManager.verify();
+
+    assertTrue(report.isHealthy());
+    assertTrue(report.getMissing().isEmpty());
+    assertTrue(report.getCollectionScans().isEmpty());
+  }
+
+  @Test
+  void missingIndexesAndCollectionScansAreReported() {
+    existingIndexes(false);
+    winningPlan(
+        new Document("stage", "SORT").append("inputStage", new Document("stage", "COLLSCAN")));
+
+    IndexReport report = indexManager.verify();
+
+    assertFalse(report.isHealthy());
+    assertEquals(
+        INDEXES.stream()
+            .map(index -> index.getCollection() + "." + index.getName())
+            .collect(Collectors.toSet()),
+        new HashSet<>(report.getMissing()));
+    assertEquals(
+        INDEXES.stream().filter(index -> index.getHotQuery() != null).count(),
+        report.getCollectionScans().size());
+  }
+
+  @Test
+  void healthIsDownWhileAHotQueryScansItsCollection() {
+    existingIndexes(false);
+    winningPlan(new Document("stage", "COLLSCAN"));
+    MongoIndexHealthIndicator healthIndicator = new MongoIndexHealthIndicator(indexManager);
+
+    assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+  }
+
+  @Test
+  void indexesUnusedForAWeekAreReported() {
+    existingIndexes(true);
+    winningPlan(new Document("stage", "IXSCAN"));
+    indexStats(
+        stats("legacy_index", 0, Instant.now().minus(Duration.ofDays(8))),
+        stats("busy_index", 42, Instant.now().minus(Duration.ofDays(8))));
+
+    assertEquals(List.of(COLLECTION + ".legacy_index"), indexManager.verify().getUnused());
+  }
+
+  @Test
+  void indexesAreNotUnusedWhileTheirCountersAreRecent() {
+    existingIndexes(true);
+    winningPlan(new Document("stage", "IXSCAN"));
+    indexStats(stats("legacy_index", 0, Instant.now().minus(Duration.ofHours(1))));
+
+    assertTrue(indexManager.verify().getUnused().isEmpty());
+  }
+
+  private void existingIndexes(boolean registered) {
+    REGISTERED.forEach(
+        (collection, indexes) -> {
+          List<String> names = new ArrayList<>(List.of("_id_"));
+          if (registered) {
+            indexes.forEach(index -> names.add(index.getName()));
+          }
+          when(mongoTemplate.indexOps(collection).getIndexInfo())
+              .thenReturn(
+                  names.stream()
+                      .map(name -> new IndexInfo(List.of(), name, false, false, null))
+                      .toList());
+        });
+  }
+
+  private void winningPlan(Document plan) {
+    when(mongoTemplate.getDb().runCommand(any(Document.class)))
+        .thenReturn(new Document("queryPlanner", new Document("winningPlan", plan)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void indexStats(Document... stats) {
+    Iterator<Document> documents =
+        Stream.concat(
+                REGISTERED.get(COLLECTION).stream().map(index -> stats(index.getName(), 0, null)),
+                Stream.of(stats))
+            .iterator();
+    MongoCursor<Document> cursor = mock(MongoCursor.class);
+    when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext());
+    when(cursor.next()).thenAnswer(invocation -> documents.next());
+    AggregateIterable<Document> iterable = mock(AggregateIterable.class);
+    when(iterable.iterator()).thenReturn(cursor);
+    MongoCollection<Document> collection = mongoTemplate.getCollection(COLLECTION);
+    doReturn(iterable).when(collection).aggregate(anyList());
+  }
+
+  private static Document stats(String name, long ops, Instant since) {
+    return new Document("name", name)
+        .append(
+            "accesses",
+            new Document("ops", ops).append("since", since == null ? null : Date.from(since)));
+  }
+}
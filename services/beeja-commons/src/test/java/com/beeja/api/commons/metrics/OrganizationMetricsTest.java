@@ -0,0 +1,89 @@
+package com.beeja.api.commons.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class OrganizationMetricsTest {
+
+  @Test
+  void serverRequestsAreTaggedWithTheOrganizationRecordedByTheFilter() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(OrganizationMetrics.ORGANIZATION_ATTRIBUTE, "org-1");
+    ServerRequestObservationContext context =
+        new ServerRequestObservationContext(request, new MockHttpServletResponse());
+
+    OrganizationMetrics.observationFilter(() -> "org-2").map(context);
+
+    assertEquals(
+        "org-1",
+        context.getLowCardinalityKeyValue(OrganizationMetrics.TAG_ORGANIZATION).getValue());
+  }
+
+  @Test
+  void clientCallsAreTaggedWithTheLoggedInOrganization() {
+    Observation.Context context = new Observation.Context();
+
+    OrganizationMetrics.observationFilter(() -> "org-2").map(context);
+
+    assertEquals(
+        "org-2",
+        context.getLowCardinalityKeyValue(OrganizationMetrics.TAG_ORGANIZATION).getValue());
+  }
+
+  @Test
+  void unauthenticatedWorkIsTaggedAsUnknown() {
+    Observation.Context context = new Observation.Context();
+
+    OrganizationMetrics.observationFilter(() -> null).map(context);
+
+    assertEquals(
+        OrganizationMetrics.UNKNOWN_ORGANIZATION,
+        context.getLowCardinalityKeyValue(OrganizationMetrics.TAG_ORGANIZATION).getValue());
+  }
+
+  @Test
+  void organizationsBeyondTheLimitAreRecordedAsOther() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    registry.config().meterFilter(OrganizationMetrics.tagLimit(2));
+
+    for (String organization :
+        List.of(
+            "org-1",
+            "org-2",
+            "org-3",
+            "org-4",
+            "org-1",
+            OrganizationMetrics.UNKNOWN_ORGANIZATION)) {
+      registry
+          .timer("http.server.requests", OrganizationMetrics.TAG_ORGANIZATION, organization)
+          .record(Duration.ofMillis(1));
+    }
+
+    assertEquals(
+        Set.of(
+            "org-1",
+            "org-2",
+            OrganizationMetrics.OTHER_ORGANIZATION,
+            OrganizationMetrics.UNKNOWN_ORGANIZATION),
+        registry.find("http.server.requests").timers().stream()
+            .map(timer -> timer.getId().getTag(OrganizationMetrics.TAG_ORGANIZATION))
+            .collect(Collectors.toSet()));
+    assertEquals(
+        2,
+        registry
+            .get("http.server.requests")
+            .tag(OrganizationMetrics.TAG_ORGANIZATION, OrganizationMetrics.OTHER_ORGANIZATION)
+            .timer()
+            .count());
+  }
+}
@@ -0,0 +1,56 @@
+package com.beeja.api.commons.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IdentityClaimsTest {
+
+  @Test
+  void claimsOfAnActiveUserAreRead() {
+    IdentityClaims identity = IdentityClaims.of(claims());
+
+    assertEquals(Map.of("id", "org1", "name", "Org"), identity.organization());
+    assertEquals(Set.of("READ_EMPLOYEE"), identity.permissions());
+  }
+
+  @Test
+  void inactiveUsersAreRejected() {
+    Map<String, Object> claims = claims();
+    claims.put(IdentityClaims.ACTIVE, false);
+
+    assertNull(IdentityClaims.of(claims));
+  }
+
+  @Test
+  void organizationWithoutIdIsRejected() {
+    Map<String, Object> claims = claims();
+    claims.put(IdentityClaims.ORGANIZATION, Map.of("name", "Org"));
+
+    assertNull(IdentityClaims.of(claims));
+  }
+
+  @Test
+  void missingClaimsAreRejected() {
+    Map<String, Object> withoutOrganization = claims();
+    withoutOrganization.remove(IdentityClaims.ORGANIZATION);
+    Map<String, Object> withoutPermissions = claims();
+    withoutPermissions.remove(IdentityClaims.PERMISSIONS);
+
+    assertNull(IdentityClaims.of(withoutOrganization));
+    assertNull(IdentityClaims.of(withoutPermissions));
+  }
+
+  private static Map<String, Object> claims() {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(IdentityClaims.ORGANIZATION, Map.of("id", "org1", "name", "Org"));
+    claims.put(IdentityClaims.PERMISSIONS, List.of("READ_EMPLOYEE"));
+    claims.put(IdentityClaims.ACTIVE, true);
+    return claims;
+  }
+}
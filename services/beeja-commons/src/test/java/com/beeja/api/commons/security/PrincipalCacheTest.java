@@ -0,0 +1,113 @@
+package com.beeja.api.commons.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private PrincipalCache principalCache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    principalCache = new PrincipalCache(Duration.ofMinutes(1), 100, meterRegistry);
+  }
+
+  @Test
+  void testGet_ResolvesOncePerSubject() {
+    AtomicInteger lookups = new AtomicInteger();
+    PrincipalCache.CachedPrincipal principal = principal(Map.of("id", "org1"), Set.of("READ"));
+
+    PrincipalCache.CachedPrincipal first =
+        principalCache.get(
+            "abc@example.com",
+            email -> {
+              lookups.incrementAndGet();
+              return principal;
+            });
+    PrincipalCache.CachedPrincipal second =
+        principalCache.get(
+            "abc@example.com",
+            email -> {
+              lookups.incrementAndGet();
+              return principal;
+            });
+
+    assertSame(principal, first);
+    assertSame(principal, second);
+    assertEquals(1, lookups.get());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("cache.gets")
+            .tag("cache", "principals")
+            .tag("result", "hit")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void testGet_DoesNotCacheMissingUser() {
+    AtomicInteger lookups = new AtomicInteger();
+
+    principalCache.get(
+        "missing@example.com",
+        email -> {
+          lookups.incrementAndGet();
+          return null;
+        });
+    PrincipalCache.CachedPrincipal result =
+        principalCache.get(
+            "missing@example.com",
+            email -> {
+              lookups.incrementAndGet();
+              return null;
+            });
+
+    assertNull(result);
+    assertEquals(2, lookups.get());
+  }
+
+  @Test
+  void testCachedPrincipal_CannotBeChangedThroughItsSources() {
+    Map<String, Object> organization = new HashMap<>(Map.of("id", "org1"));
+    Set<String> permissions = new HashSet<>(Set.of("READ"));
+    PrincipalCache.CachedPrincipal principal = principal(organization, permissions);
+
+    organization.put("id", "org2");
+    permissions.add("DELETE");
+
+    assertEquals("org1", principal.organization().get("id"));
+    assertEquals(Set.of("READ"), principal.permissions());
+    assertThrows(
+        UnsupportedOperationException.class, () -> principal.organization().put("id", "org2"));
+    assertThrows(UnsupportedOperationException.class, () -> principal.roles().clear());
+    assertThrows(UnsupportedOperationException.class, () -> principal.permissions().add("DELETE"));
+  }
+
+  private static PrincipalCache.CachedPrincipal principal(
+      Map<String, Object> organization, Set<String> permissions) {
+    return new PrincipalCache.CachedPrincipal(
+        "abc@example.com",
+        "abc",
+        "def",
+        "EMP1",
+        organization,
+        Set.of("Employee"),
+        permissions,
+        true);
+  }
+}
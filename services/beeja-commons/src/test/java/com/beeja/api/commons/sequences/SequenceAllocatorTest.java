@@ -0,0 +1,196 @@
+package com.beeja.api.commons.sequences;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@ExtendWith(MockitoExtension.class)
+class SequenceAllocatorTest {
+
+  @Mock private MongoTemplate mongoTemplate;
+
+  private final AtomicLong stored = new AtomicLong();
+
+  private SequenceAllocator allocator;
+
+  @BeforeEach
+  void setUp() {
+    allocator = new SequenceAllocator(mongoTemplate, 5);
+    // Emulates the atomic increment of the stored sequence value.
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Sequence.class)))
+        .thenAnswer(
+            invocation -> {
+              Update update = invocation.getArgument(1);
+              Number inc = (Number) ((Document) update.getUpdateObject().get("$inc")).get("value");
+              Sequence sequence = new Sequence();
+              sequence.setValue(stored.addAndGet(inc.longValue()));
+              return sequence;
+            });
+  }
+
+  @Test
+  void numbersAreServedFromBlocks() {
+    List<Long> numbers = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      numbers.add(allocator.next("org", SequenceType.LOAN, () -> 0));
+    }
+
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L), numbers);
+    verify(mongoTemplate, times(3))
+        .findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Sequence.class));
+  }
+
+  @Test
+  void runsOfNumbersAreReservedAtOnce() {
+    when(mongoTemplate.exists(any(Query.class), eq(Sequence.class))).thenReturn(false);
+
+    assertEquals(20L, allocator.reserve("org", "EMPLOYEE_ID:p1", 20, () -> 0));
+    assertEquals(23L, allocator.reserve("org", "EMPLOYEE_ID:p1", 3, () -> 0));
+    verify(mongoTemplate, times(2))
+        .findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Sequence.class));
+  }
+
+  @Test
+  void newSequenceIsSeededOnce() {
+    when(mongoTemplate.exists(any(Query.class), eq(Sequence.class))).thenReturn(false);
+    AtomicInteger seedCalls = new AtomicInteger();
+    stored.set(41);
+
+    for (int i = 0; i < 6; i++) {
+      allocator.next("org", SequenceType.DEVICE, () -> seedCalls.incrementAndGet() + 40);
+    }
+
+    ArgumentCaptor<Update> seed = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).upsert(any(Query.class), seed.capture(), eq(Sequence.class));
+    assertEquals(
+        41L, ((Document) seed.getValue().getUpdateObject().get("$setOnInsert")).get("value"));
+    assertEquals(1, seedCalls.get());
+    verify(mongoTemplate, times(1)).exists(any(Query.class), eq(Sequence.class));
+  }
+
+  @Test
+  void idsAreFormattedWithTheCurrentPattern() {
+    AtomicReference<SequencePattern> current = new AtomicReference<>(new Pattern("dev", 7, 1));
+
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      ids.add(allocator.nextId("org", SequenceType.DEVICE, current::get, () -> 0));
+    }
+    current.set(new Pattern("IT", 5, 0));
+    ids.add(allocator.nextId("org", SequenceType.DEVICE, current::get, () -> 0));
+
+    assertEquals(List.of("DEV0001", "DEV0002", "DEV0003", "IT004"), ids);
+  }
+
+  @Test
+  void idsWithoutPatternAreBareNumbers() {
+    assertEquals("1", allocator.nextId("org", SequenceType.LOAN, () -> null, () -> 0));
+  }
+
+  @Test
+  void newSequenceIsSeededWithTheHighestNumberInUse() {
+    when(mongoTemplate.exists(any(Query.class), eq(Sequence.class))).thenReturn(false);
+    // L-8 and L-9 were deleted, so the two loans left would seed a count-based sequence at 2
+    when(mongoTemplate.stream(any(Query.class), eq(Loan.class)))
+        .thenReturn(Stream.of(loan("L-10"), loan(null), loan("L-7")));
+
+    allocator.next(
+        "org",
+        SequenceType.LOAN,
+        () -> allocator.highestNumber("org", Loan.class, "loanNumber", Loan::getLoanNumber));
+
+    ArgumentCaptor<Update> seed = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).upsert(any(Query.class), seed.capture(), eq(Sequence.class));
+    assertEquals(
+        10L, ((Document) seed.getValue().getUpdateObject().get("$setOnInsert")).get("value"));
+    assertEquals(12, SequenceAllocator.trailingNumber("DEV0012"));
+    assertEquals(0, SequenceAllocator.trailingNumber("DEV"));
+    assertEquals(0, SequenceAllocator.trailingNumber("X1234567890123456789"));
+  }
+
+  @Test
+  void newSequenceIsStoredUnderTheNameOfItsType() {
+    when(mongoTemplate.exists(any(Query.class), eq(Sequence.class))).thenReturn(false);
+
+    allocator.next("org", SequenceType.LOAN, () -> 0);
+
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> seed = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).upsert(query.capture(), seed.capture(), eq(Sequence.class));
+    assertEquals("org:LOAN", query.getValue().getQueryObject().get("_id"));
+    assertEquals(
+        "LOAN", ((Document) seed.getValue().getUpdateObject().get("$setOnInsert")).get("type"));
+  }
+
+  private static Loan loan(String loanNumber) {
+    Loan loan = new Loan();
+    loan.loanNumber = loanNumber;
+    return loan;
+  }
+
+  enum SequenceType {
+    LOAN,
+    DEVICE
+  }
+
+  static class Loan {
+    String organizationId;
+    String loanNumber;
+
+    String getLoanNumber() {
+      return loanNumber;
+    }
+  }
+
+  record Pattern(String prefix, int patternLength, int initialSequence)
+      implements SequencePattern {
+
+    @Override
+    public String getPrefix() {
+      return prefix;
+    }
+
+    @Override
+    public int getPatternLength() {
+      return patternLength;
+    }
+
+    @Override
+    public int getInitialSequence() {
+      return initialSequence;
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.beeja.api.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+
+class PartialUpdateMapperTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final PartialUpdateMapper mapper =
+      PartialUpdateMapper.of(
+          new MongoMappingContext(),
+          objectMapper,
+          Organization.class,
+          List.of("name", "preferences.theme", "preferences.fontSize", "loanLimit.maxAmount"));
+
+  @Test
+  void onlyTheFieldsPresentAreSet() throws Exception {
+    Update update =
+        mapper.toUpdate(
+            objectMapper.readTree(
+                "{\"name\": \"Acme\", \"preferences\": {\"fontSize\": null}, \"loanLimit\": {}}"));
+
+    assertEquals(new Document("name", "Acme"), update.getUpdateObject().get("$set"));
+  }
+
+  @Test
+  void valuesAreReadAsThePropertyType() throws Exception {
+    Update update =
+        mapper.toUpdate(
+            objectMapper.readTree(
+                "{\"preferences\": {\"theme\": \"DARK\", \"fontSize\": 14},"
+                    + " \"loanLimit\": {\"maxAmount\": 7}}"));
+
+    assertEquals(
+        new Document("preferences.theme", Theme.DARK)
+            .append("preferences.fontSize", 14)
+            .append("loanLimit.maxAmount", 7L),
+        update.getUpdateObject().get("$set"));
+  }
+
+  @Test
+  void emptyPayloadGivesAnEmptyUpdate() throws Exception {
+    assertTrue(mapper.toUpdate(objectMapper.readTree("{}")).getUpdateObject().isEmpty());
+  }
+
+  @Test
+  void fieldsOutsideTheAllowedPathsAreRejected() throws Exception {
+    PartialUpdateMapper.InvalidFieldException exception =
+        assertThrows(
+            PartialUpdateMapper.InvalidFieldException.class,
+            () -> mapper.toUpdate(objectMapper.readTree("{\"logoFileId\": \"file1\"}")));
+
+    assertEquals("logoFileId", exception.getPath());
+    assertTrue(exception.isUnknown());
+  }
+
+  @Test
+  void nestedFieldsOutsideTheAllowedPathsAreRejected() throws Exception {
+    PartialUpdateMapper.InvalidFieldException exception =
+        assertThrows(
+            PartialUpdateMapper.InvalidFieldException.class,
+            () ->
+                mapper.toUpdate(
+                    objectMapper.readTree("{\"loanLimit\": {\"monitorLoan\": true}}")));
+
+    assertEquals("loanLimit.monitorLoan", exception.getPath());
+    assertTrue(exception.isUnknown());
+  }
+
+  @Test
+  void parentGivenAsAValueIsRejected() throws Exception {
+    PartialUpdateMapper.InvalidFieldException exception =
+        assertThrows(
+            PartialUpdateMapper.InvalidFieldException.class,
+            () -> mapper.toUpdate(objectMapper.readTree("{\"preferences\": \"DARK\"}")));
+
+    assertEquals("preferences", exception.getPath());
+    assertTrue(exception.isUnknown());
+  }
+
+  @Test
+  void valueOfTheWrongTypeIsRejected() throws Exception {
+    PartialUpdateMapper.InvalidFieldException exception =
+        assertThrows(
+            PartialUpdateMapper.InvalidFieldException.class,
+            () ->
+                mapper.toUpdate(
+                    objectMapper.readTree("{\"preferences\": {\"theme\": \"PINK\"}}")));
+
+    assertEquals("preferences.theme", exception.getPath());
+    assertFalse(exception.isUnknown());
+  }
+
+  @Test
+  void pathsMissingFromTheEntityFailOnCreation() {
+    assertThrows(
+        InvalidPersistentPropertyPath.class,
+        () ->
+            PartialUpdateMapper.of(
+                new MongoMappingContext(),
+                objectMapper,
+                Organization.class,
+                List.of("preferences.colour")));
+  }
+
+  enum Theme {
+    LIGHT,
+    DARK
+  }
+
+  static class Organization {
+    String name;
+    Preferences preferences;
+    LoanLimit loanLimit;
+  }
+
+  static class Preferences {
+    Theme theme;
+    Integer fontSize;
+  }
+
+  static class LoanLimit {
+    boolean monitorLoan;
+    long maxAmount;
+  }
+}
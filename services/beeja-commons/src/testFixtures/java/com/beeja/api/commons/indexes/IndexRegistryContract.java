@@ -0,0 +1,41 @@
+package com.beeja.api.commons.indexes;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks every service runs against its index registry; a service's {@code IndexRegistryTest}
+ * extends it and returns the registered indexes. Applying and verifying them is tested in {@link
+ * IndexManager}'s own tests.
+ */
+public abstract class IndexRegistryContract {
+
+  protected abstract List<ManagedIndex> indexes();
+
+  @Test
+  void registeredIndexesAreNamedOncePerCollection() {
+    Map<String, List<ManagedIndex>> registered =
+        indexes().stream().collect(Collectors.groupingBy(ManagedIndex::getCollection));
+    registered.forEach(
+        (collection, indexes) -> {
+          Set<String> names = new HashSet<>();
+          indexes.forEach(index -> assertTrue(names.add(index.getName()), index.getName()));
+        });
+  }
+
+  @Test
+  void hotQueriesFilterOnTheFirstFieldOfTheirIndex() {
+    for (ManagedIndex index : indexes()) {
+      if (index.getHotQuery() != null) {
+        String firstField = index.getIndex().getIndexKeys().keySet().iterator().next();
+        assertTrue(index.getHotQuery().containsKey(firstField), index.getName());
+      }
+    }
+  }
+}
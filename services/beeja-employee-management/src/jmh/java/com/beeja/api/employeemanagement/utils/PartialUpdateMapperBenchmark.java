@@ -0,0 +1,104 @@
+package com.beeja.api.employeemanagement.utils;
+
+import com.beeja.api.commons.utils.PartialUpdateMapper;
+import com.beeja.api.employeemanagement.model.BankDetails;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.KYCDetails;
+import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Compares the former reflective KYC update, which rebuilt the employee from a payload map, with
+ * the {@link PartialUpdateMapper} that turns the payload straight into a {@code $set}. Run with
+ * {@code gradle :beeja-employee-management:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartialUpdateMapperBenchmark {
+
+  private UpdateKYCRequest request;
+
+  private JsonNode payload;
+
+  private PartialUpdateMapper mapper;
+
+  @Setup
+  public void setUp() {
+    KYCDetails kycDetails = new KYCDetails();
+    kycDetails.setPanNumber("ABCDE1234F");
+    kycDetails.setAadhaarNumber("123412341234");
+    BankDetails bankDetails = new BankDetails();
+    bankDetails.setAccountNo(123456789L);
+    bankDetails.setIfscCode("SBIN0001234");
+    bankDetails.setBankName("State Bank");
+    request = new UpdateKYCRequest();
+    request.setKycDetails(kycDetails);
+    request.setBankDetails(bankDetails);
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    payload = objectMapper.valueToTree(request);
+    mapper =
+        PartialUpdateMapper.of(
+            new MongoMappingContext(),
+            objectMapper,
+            Employee.class,
+            List.of(
+                "kycDetails.panNumber",
+                "kycDetails.aadhaarNumber",
+                "kycDetails.passportNumber",
+                "bankDetails.accountNo",
+                "bankDetails.ifscCode",
+                "bankDetails.bankName",
+                "bankDetails.branchName"));
+  }
+
+  @Benchmark
+  public Update fieldPathMapper() {
+    return mapper.toUpdate(payload);
+  }
+
+  @Benchmark
+  public Employee reflective() throws Exception {
+    Employee employee = new Employee();
+    ObjectMapper objectMapper = new ObjectMapper();
+    Map<String, Object> fieldsMap =
+        objectMapper.readValue(
+            objectMapper.writeValueAsString(request), new TypeReference<Map<String, Object>>() {});
+    for (Map.Entry<String, Object> entry : fieldsMap.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      Field field = Employee.class.getDeclaredField(entry.getKey());
+      field.setAccessible(true);
+      Class<?> nestedType =
+          entry.getKey().equals("kycDetails") ? KYCDetails.class : BankDetails.class;
+      Object nested = nestedType.getDeclaredConstructor().newInstance();
+      for (Map.Entry<String, Object> nestedEntry :
+          ((Map<String, Object>) entry.getValue()).entrySet()) {
+        if (nestedEntry.getValue() != null) {
+          Field nestedField = nestedType.getDeclaredField(nestedEntry.getKey());
+          nestedField.setAccessible(true);
+          nestedField.set(nested, nestedEntry.getValue());
+        }
+      }
+      field.set(employee, nested);
+    }
+    return employee;
+  }
+}
@@ -0,0 +1,16 @@
+package com.beeja.api.employeemanagement.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(value = "finance-service", url = "${client-urls.financeService}")
+public interface FinanceClient {
+
+  @GetMapping("/v1/loans/{employeeId}")
+  ResponseEntity<Object> getLoansByEmployeeId(@PathVariable String employeeId);
+
+  @GetMapping("/v1/health-insurances/{employeeId}")
+  ResponseEntity<Object> getHealthInsuranceByEmployeeId(@PathVariable String employeeId);
+}
@@ -0,0 +1,51 @@
+package com.beeja.api.employeemanagement.config;
+
+import com.beeja.api.employeemanagement.utils.UserContext;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+  /**
+   * Runs the parts of a composite read, such as the employee profile, next to each other. The pool
+   * and its queue are bounded, so a burst of profile requests is turned away with a rejected part
+   * instead of piling up threads; each part runs as the requesting user and keeps its correlation
+   * id.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor profilePartExecutor(
+      @Value("${employee-profile.max-parallel-parts:32}") int maxParallelParts) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxParallelParts);
+    executor.setMaxPoolSize(maxParallelParts);
+    executor.setQueueCapacity(maxParallelParts * 4);
+    executor.setThreadNamePrefix("ProfilePart-");
+    executor.setTaskDecorator(task -> withMdc(UserContext.wrap(task)));
+    executor.initialize();
+    return executor;
+  }
+
+  private static Runnable withMdc(Runnable task) {
+    Map<String, String> captured = MDC.getCopyOfContextMap();
+    return () -> {
+      Map<String, String> previous = MDC.getCopyOfContextMap();
+      if (captured != null) {
+        MDC.setContextMap(captured);
+      }
+      try {
+        task.run();
+      } finally {
+        if (previous != null) {
+          MDC.setContextMap(previous);
+        } else {
+          MDC.clear();
+        }
+      }
+    };
+  }
+}
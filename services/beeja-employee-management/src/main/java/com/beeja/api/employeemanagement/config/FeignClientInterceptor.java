@@ -1,7 +1,10 @@
 package com.beeja.api.employeemanagement.config;
 
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -15,6 +18,10 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (token != null) {
       template.header("authorization", token);
     }
+    String correlationId = MDC.get(Constants.CORRELATION_ID);
+    if (correlationId != null) {
+      template.header(Constants.CORRELATION_ID_HEADER, correlationId);
+    }
   }
 
   private String getRequestToken() {
@@ -23,6 +30,7 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader("authorization");
     }
-    return null;
+    // Work handed to another thread has no request bound, but carries the caller's UserContext
+    return UserContext.getAccessToken();
   }
 }
@@ -0,0 +1,59 @@
+package com.beeja.api.employeemanagement.config;
+
+import com.beeja.api.commons.feign.FeignResilience;
+import com.beeja.api.employeemanagement.utils.CallDeadline;
+import feign.Capability;
+import feign.Request;
+import feign.Retryer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@link FeignResilience} to all Feign clients of this service. Connection pooling,
+ * compression and per-client timeouts are configured under {@code spring.cloud.openfeign}.
+ *
+ * <p>Calls made under a {@link CallDeadline} get at most the time left before it as connect and
+ * read timeout, and are neither made nor retried once it has passed.
+ */
+@Configuration
+public class FeignConfig {
+
+  @Bean
+  public CircuitBreakerRegistry feignCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+    return FeignResilience.circuitBreakerRegistry(meterRegistry);
+  }
+
+  @Bean
+  public Capability circuitBreakerCapability(CircuitBreakerRegistry feignCircuitBreakerRegistry) {
+    return FeignResilience.circuitBreakerCapability(
+        feignCircuitBreakerRegistry, FeignConfig::boundedByDeadline);
+  }
+
+  @Bean
+  public Retryer feignRetryer() {
+    return FeignResilience.idempotentRetryer(CallDeadline::passed);
+  }
+
+  private static Request.Options boundedByDeadline(Request.Options options)
+      throws SocketTimeoutException {
+    Duration remaining = CallDeadline.remaining();
+    if (remaining == null) {
+      return options;
+    }
+    long millis = remaining.toMillis();
+    if (millis <= 0) {
+      throw new SocketTimeoutException("Call deadline has passed");
+    }
+    return new Request.Options(
+        Math.min(options.connectTimeoutMillis(), millis),
+        TimeUnit.MILLISECONDS,
+        Math.min(options.readTimeoutMillis(), millis),
+        TimeUnit.MILLISECONDS,
+        options.isFollowRedirects());
+  }
+}
@@ -1,9 +1,13 @@
 package com.beeja.api.employeemanagement.config.filters;
 
+import com.beeja.api.commons.metrics.OrganizationMetrics;
+import com.beeja.api.commons.security.IdentityClaims;
+import com.beeja.api.commons.security.PrincipalCache;
 import com.beeja.api.employeemanagement.client.AccountClient;
 import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
 import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
 import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
+import com.beeja.api.employeemanagement.utils.Constants;
 import com.beeja.api.employeemanagement.utils.JwtUtils;
 import com.beeja.api.employeemanagement.utils.UserContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,8 +34,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class AuthorizationFilter extends OncePerRequestFilter {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   @Autowired AccountClient accountClient;
 
+  @Autowired PrincipalCache principalCache;
+
   @Autowired JwtProperties jwtProperties;
 
   @Override
@@ -51,53 +59,38 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
     accessToken = accessToken.substring(7);
     if (isValidAccessToken(accessToken)) {
-      filterChain.doFilter(request, response);
+      request.setAttribute(
+          OrganizationMetrics.ORGANIZATION_ATTRIBUTE, UserContext.getLoggedInUserOrganizationId());
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        UserContext.clear();
+      }
     } else {
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
       response.getWriter().write("Access Denied");
-    }  
+    }
   }
 
   private boolean isValidAccessToken(String accessToken) {
     try {
-      ObjectMapper objectMapper = new ObjectMapper();
       Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
+      if (claims.get(Constants.CLAIM_EMPLOYEE_ID) != null) {
+        return setLoggedInUserFromClaims(claims, accessToken);
+      }
       String email = claims.get("sub").toString();
-      ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
-          (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
-      LinkedHashMap<String, Object> responseBodyMap = userIsPresent.getBody();
-      UserDTO responseBody = objectMapper.convertValue(responseBodyMap, UserDTO.class);
-
-      if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-        boolean userIsActive = responseBody.isActive();
-        if (userIsActive) {
-          Set<RoleDTO> roles = responseBody.getRoles();
-          Set<String> permissions = new HashSet<>();
-          for (RoleDTO role : roles) {
-            Collection<String> rolePermissions = role.getPermissions();
-            if (rolePermissions != null) {
-              permissions.addAll(rolePermissions);
-            }
-          }
-
-          Map<String, Object> userOrganization = new HashMap<>();
-          OrganizationDTO organizations = responseBody.getOrganizations();
-
-          if (organizations != null) {
-            userOrganization.put("id", organizations.getId());
-            userOrganization.put("name", organizations.getName());
-            userOrganization.put("email", organizations.getEmail());
-          }
-          UserContext.setLoggedInUser(
-              responseBody.getEmail(),
-              responseBody.getFirstName(),
-              responseBody.getEmployeeId(),
-              responseBody.getOrganizations(),
-              permissions,
-              responseBody,
-              "Bearer " + accessToken);
-        }
-        return userIsActive;
+      PrincipalCache.CachedPrincipal principal = principalCache.get(email, this::resolvePrincipal);
+      if (principal != null && principal.active()) {
+        setLoggedInUser(
+            principal.email(),
+            principal.firstName(),
+            principal.lastName(),
+            principal.employeeId(),
+            principal.organization(),
+            principal.roles(),
+            new HashSet<>(principal.permissions()),
+            accessToken);
+        return true;
       }
     } catch (HttpClientErrorException e) {
       log.error("HTTP Error: {}", e.getStatusCode());
@@ -108,4 +101,96 @@ public class AuthorizationFilter extends OncePerRequestFilter {
     }
     return false;
   }
+
+  private PrincipalCache.CachedPrincipal resolvePrincipal(String email) {
+    ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
+        (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
+    UserDTO user = OBJECT_MAPPER.convertValue(userIsPresent.getBody(), UserDTO.class);
+    if (!userIsPresent.getStatusCode().is2xxSuccessful() || user == null) {
+      return null;
+    }
+    Set<String> roles = new HashSet<>();
+    Set<String> permissions = new HashSet<>();
+    if (user.getRoles() != null) {
+      for (RoleDTO role : user.getRoles()) {
+        roles.add(role.getName());
+        Collection<String> rolePermissions = role.getPermissions();
+        if (rolePermissions != null) {
+          permissions.addAll(rolePermissions);
+        }
+      }
+    }
+    Map<String, Object> organization = new HashMap<>();
+    if (user.getOrganizations() != null) {
+      organization.put("id", user.getOrganizations().getId());
+      organization.put("name", user.getOrganizations().getName());
+      organization.put("email", user.getOrganizations().getEmail());
+    }
+    return new PrincipalCache.CachedPrincipal(
+        user.getEmail(),
+        user.getFirstName(),
+        user.getLastName(),
+        user.getEmployeeId(),
+        organization,
+        roles,
+        permissions,
+        user.isActive());
+  }
+
+  /** Identity tokens minted by the gateway carry the user details, so accounts is not called. */
+  private boolean setLoggedInUserFromClaims(Claims claims, String accessToken) {
+    IdentityClaims identity = IdentityClaims.of(claims);
+    if (identity == null) {
+      return false;
+    }
+    Collection<String> roleNames = (Collection<String>) claims.get(Constants.CLAIM_ROLES);
+    setLoggedInUser(
+        claims.getSubject(),
+        claims.get(Constants.CLAIM_FIRST_NAME, String.class),
+        claims.get(Constants.CLAIM_LAST_NAME, String.class),
+        claims.get(Constants.CLAIM_EMPLOYEE_ID, String.class),
+        identity.organization(),
+        roleNames,
+        identity.permissions(),
+        accessToken);
+    return true;
+  }
+
+  /**
+   * Builds the request's own user from the given details, so that nothing a request changes is
+   * shared with other requests.
+   */
+  private void setLoggedInUser(
+      String email,
+      String firstName,
+      String lastName,
+      String employeeId,
+      Map<String, Object> organizationDetails,
+      Collection<String> roleNames,
+      Set<String> permissions,
+      String accessToken) {
+    Set<RoleDTO> roles = new HashSet<>();
+    if (roleNames != null) {
+      for (String roleName : roleNames) {
+        RoleDTO role = new RoleDTO();
+        role.setName(roleName);
+        roles.add(role);
+      }
+    }
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId((String) organizationDetails.get("id"));
+    organization.setName((String) organizationDetails.get("name"));
+    organization.setEmail((String) organizationDetails.get("email"));
+
+    UserDTO user = new UserDTO();
+    user.setEmail(email);
+    user.setFirstName(firstName);
+    user.setLastName(lastName);
+    user.setEmployeeId(employeeId);
+    user.setOrganizations(organization);
+    user.setRoles(roles);
+    user.setActive(true);
+    UserContext.setLoggedInUser(
+        email, firstName, employeeId, organization, permissions, user, "Bearer " + accessToken);
+  }
 }
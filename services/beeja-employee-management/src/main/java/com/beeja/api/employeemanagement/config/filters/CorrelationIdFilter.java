@@ -0,0 +1,44 @@
+package com.beeja.api.employeemanagement.config.filters;
+
+import com.beeja.api.employeemanagement.utils.Constants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Binds the correlation id assigned by the gateway to the log lines of the request and echoes it on
+ * the response; requests that did not come through the gateway get a fresh one. Feign calls made
+ * while serving the request forward it to the next service.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+  private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String correlationId = request.getHeader(Constants.CORRELATION_ID_HEADER);
+    if (correlationId == null || !VALID_CORRELATION_ID.matcher(correlationId).matches()) {
+      correlationId = UUID.randomUUID().toString();
+    }
+    MDC.put(Constants.CORRELATION_ID, correlationId);
+    response.setHeader(Constants.CORRELATION_ID_HEADER, correlationId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(Constants.CORRELATION_ID);
+    }
+  }
+}
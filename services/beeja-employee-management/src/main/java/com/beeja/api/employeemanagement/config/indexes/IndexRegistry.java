@@ -0,0 +1,116 @@
+package com.beeja.api.employeemanagement.config.indexes;
+
+import static com.beeja.api.commons.indexes.ManagedIndex.SAMPLE;
+
+import com.beeja.api.commons.indexes.ManagedIndex;
+import com.beeja.api.employeemanagement.utils.Constants;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Indexes the queries of this service rely on, applied at startup through {@link IndexConfig}. Bump
+ * {@link #VERSION} whenever an index is added, changed or retired.
+ */
+public final class IndexRegistry {
+
+  public static final int VERSION = 4;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  public static final Map<String, List<String>> RETIRED =
+      Map.of("employees", List.of("organization_employee_id"));
+
+  private IndexRegistry() {}
+
+  public static List<ManagedIndex> indexes() {
+    return List.of(
+        ManagedIndex.on(
+                "employees",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .unique()
+                    .named("organization_employee_id_unique"))
+            .serves(new Document("organizationId", SAMPLE).append("employeeId", SAMPLE)),
+        ManagedIndex.on(
+                "employees",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("account.active", Sort.Direction.ASC)
+                    .on("employeeNumber", Sort.Direction.ASC)
+                    .named(Constants.EMPLOYEE_DIRECTORY_INDEX))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("account.active", new Document("$in", List.of(true, false))),
+                new Document("employeeNumber", 1)),
+        ManagedIndex.on(
+                "employees",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("jobDetails.designation", Sort.Direction.ASC)
+                    .named("organization_designation"))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("jobDetails.designation", new Document("$in", List.of(SAMPLE)))),
+        ManagedIndex.on(
+                "employees",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("jobDetails.department", Sort.Direction.ASC)
+                    .named("organization_department"))
+            .serves(
+                new Document("organizationId", SAMPLE).append("jobDetails.department", SAMPLE)),
+        ManagedIndex.on(
+                "employees",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("jobDetails.employementType", Sort.Direction.ASC)
+                    .named("organization_employment_type"))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("jobDetails.employementType", SAMPLE)),
+        ManagedIndex.on(
+                "job_history",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .on("startDate", Sort.Direction.ASC)
+                    .named("organization_employee_start_date"))
+            .serves(
+                new Document("organizationId", SAMPLE).append("employeeId", SAMPLE),
+                new Document("startDate", 1)),
+        ManagedIndex.on(
+                "job_history",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("endDate", Sort.Direction.DESC)
+                    .named("organization_end_date"))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("endDate", new Document("$gte", new Date(0))),
+                new Document("endDate", -1)),
+        ManagedIndex.on(
+                "job_history",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("department", Sort.Direction.ASC)
+                    .on("endDate", Sort.Direction.DESC)
+                    .named("organization_department_end_date"))
+            .serves(
+                new Document("organizationId", SAMPLE).append("department", SAMPLE),
+                new Document("endDate", -1)),
+        ManagedIndex.on(
+                "job_history",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("designation", Sort.Direction.ASC)
+                    .on("endDate", Sort.Direction.DESC)
+                    .named("organization_designation_end_date"))
+            .serves(
+                new Document("organizationId", SAMPLE).append("designation", SAMPLE),
+                new Document("endDate", -1)));
+  }
+}
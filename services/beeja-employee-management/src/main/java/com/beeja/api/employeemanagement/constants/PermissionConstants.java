@@ -3,6 +3,8 @@ package com.beeja.api.employeemanagement.constants;
 public class PermissionConstants {
   public static final String CREATE_EMPLOYEE = "CEMP";
   public static final String READ_EMPLOYEE = "REMP";
+  public static final String UPDATE_EMPLOYEE = "UEMP";
+  public static final String INACTIVE_EMPLOYEE = "IEM";
   public static final String DELETE_ORGANIZATIONS = "DELETE_ORGANIZATIONS";
   public static final String READ_COMPLETE_EMPLOYEE_DETAILS = "RCEMP";
   public static final String UPDATE_ALL_EMPLOYEES = "UALEMP";
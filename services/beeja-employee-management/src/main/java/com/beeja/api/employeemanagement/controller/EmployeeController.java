@@ -2,6 +2,7 @@ package com.beeja.api.employeemanagement.controller;
 
 import com.beeja.api.employeemanagement.annotations.HasPermission;
 import com.beeja.api.employeemanagement.constants.PermissionConstants;
+import com.beeja.api.employeemanagement.enums.ExportFormat;
 import com.beeja.api.employeemanagement.model.DTO.EmployeeSummaryDTO;
 import com.beeja.api.employeemanagement.model.Employee;
 import com.beeja.api.employeemanagement.model.JobDetails;
@@ -10,20 +11,36 @@ import com.beeja.api.employeemanagement.model.clients.accounts.EmployeeDepartmen
 import com.beeja.api.employeemanagement.repository.EmployeeRepository;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
+import com.beeja.api.employeemanagement.response.EmployeeProfile;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
 import com.beeja.api.employeemanagement.response.EmployeeValues;
+import com.beeja.api.employeemanagement.response.JobHistoryResponse;
+import com.beeja.api.employeemanagement.service.EmployeeProfileService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
+import com.beeja.api.employeemanagement.service.JobHistoryService;
+import com.beeja.api.employeemanagement.utils.Constants;
 import com.beeja.api.employeemanagement.utils.UserContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/v1/users")
@@ -31,6 +48,10 @@ public class EmployeeController {
 
   @Autowired private EmployeeService employeeService;
 
+  @Autowired private EmployeeProfileService employeeProfileService;
+
+  @Autowired private JobHistoryService jobHistoryService;
+
   @Autowired private EmployeeRepository employeeRepository;
 
   @GetMapping("/organization")
@@ -57,6 +78,26 @@ public class EmployeeController {
     return ResponseEntity.ok(combinedDataList);
   }
 
+  @GetMapping("/export")
+  @HasPermission(PermissionConstants.READ_COMPLETE_EMPLOYEE_DETAILS)
+  public ResponseEntity<StreamingResponseBody> exportEmployees(
+      @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+      @RequestParam(name = "department", required = false) String department,
+      @RequestParam(name = "designation", required = false) String designation,
+      @RequestParam(name = "employmentType", required = false) String employmentType,
+      @RequestParam(name = "status", required = false) String status) {
+    String fileName =
+        Constants.EMPLOYEE_EXPORT_FILE_NAME + "-" + LocalDate.now() + "." + format.getExtension();
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType()))
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(fileName).build().toString())
+        .body(
+            employeeService.exportEmployees(
+                format, department, designation, employmentType, status));
+  }
+
   @GetMapping("/{employeeID}")
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<Map<String, Object>> getEmployeeByEmployeeId(
@@ -64,12 +105,35 @@ public class EmployeeController {
     return new ResponseEntity<>(employeeService.getEmployeeByEmployeeId(employeeID), HttpStatus.OK);
   }
 
+  @GetMapping("/{employeeID}/profile")
+  @HasPermission(PermissionConstants.READ_EMPLOYEE)
+  public ResponseEntity<EmployeeProfile> getEmployeeProfile(@PathVariable String employeeID)
+      throws Exception {
+    return ResponseEntity.ok(employeeProfileService.getEmployeeProfile(employeeID));
+  }
+
   @PostMapping
   @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
   public ResponseEntity<?> createEmployee(@RequestBody Map<String, Object> user) throws Exception {
     return new ResponseEntity<>(employeeService.createEmployee(user), HttpStatus.CREATED);
   }
 
+  @PostMapping("/bulk")
+  @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
+  public ResponseEntity<List<String>> createEmployees(
+      @RequestParam String importId, @RequestBody List<Map<String, Object>> users) {
+    return new ResponseEntity<>(
+        employeeService.createEmployees(importId, users), HttpStatus.CREATED);
+  }
+
+  @PostMapping("/bulk/delete")
+  @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
+  public ResponseEntity<Void> deleteImportedEmployees(
+      @RequestParam String importId, @RequestBody List<String> accountIds) {
+    employeeService.deleteImportedEmployees(importId, accountIds);
+    return ResponseEntity.noContent().build();
+  }
+
   @PutMapping("/{employeeId}")
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<Object> updateEmployee(
@@ -82,7 +146,10 @@ public class EmployeeController {
   @PatchMapping("/{employeeId}/kyc")
   public ResponseEntity<Employee> updateKycDetails(
       @PathVariable String employeeId,
-      @RequestBody UpdateKYCRequest updateKYCRequest,
+      @RequestBody
+          @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              content = @Content(schema = @Schema(implementation = UpdateKYCRequest.class)))
+          JsonNode updateKYCRequest,
       @Valid BindingResult bindingResult)
       throws Exception {
     if (bindingResult.hasErrors()) {
@@ -108,36 +175,62 @@ public class EmployeeController {
     return ResponseEntity.ok(employeeService.getAllEmpInfo(designations));
   }
 
+  // Authorized in the service: an employee update permission, or the caller's own account.
+  @PutMapping("/{employeeId}/account")
+  public ResponseEntity<Void> syncAccount(@PathVariable String employeeId) throws Exception {
+    employeeService.syncAccount(employeeId);
+    return ResponseEntity.noContent().build();
+  }
+
+  @GetMapping("/history")
+  @HasPermission(PermissionConstants.READ_COMPLETE_EMPLOYEE_DETAILS)
+  public ResponseEntity<JobHistoryResponse> getOrganizationJobHistory(
+      @RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE) Date from,
+      @RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE) Date to,
+      @RequestParam(name = "department", required = false) String department,
+      @RequestParam(name = "designation", required = false) String designation,
+      @RequestParam(name = "pageNumber", defaultValue = "1") int pageNumber,
+      @RequestParam(name = "pageSize", defaultValue = "10") int pageSize) {
+    return ResponseEntity.ok(
+        jobHistoryService.getOrganizationJobHistory(
+            from, to, department, designation, pageNumber, pageSize));
+  }
+
   @PostMapping("/{employeeId}/history")
-  public ResponseEntity<Employee> addJobStage(
+  public ResponseEntity<JobDetails> addJobStage(
           @PathVariable String employeeId,
-          @RequestBody JobDetails newJob) throws Exception {
-    return ResponseEntity.ok(employeeService.addJobHistory(employeeId, newJob));
+          @RequestBody JobDetails newJob) {
+    return ResponseEntity.ok(jobHistoryService.addJobHistory(employeeId, newJob));
   }
 
   @PutMapping("/{employeeId}/history/{jobId}")
-  public ResponseEntity<Employee> updateJobStage(
+  public ResponseEntity<JobDetails> updateJobStage(
           @PathVariable String employeeId,
           @PathVariable String jobId,
-          @RequestBody JobDetails updatedJob) throws Exception {
-    return ResponseEntity.ok(employeeService.updateJobHistory(employeeId, jobId, updatedJob));
+          @RequestBody JobDetails updatedJob) {
+    return ResponseEntity.ok(jobHistoryService.updateJobHistory(employeeId, jobId, updatedJob));
   }
 
   @DeleteMapping("/{employeeId}/history/{jobId}")
-  public ResponseEntity<Employee> deleteJobStage(
+  public ResponseEntity<JobDetails> deleteJobStage(
           @PathVariable String employeeId,
-          @PathVariable String jobId) throws Exception {
-    return ResponseEntity.ok(employeeService.deleteJobHistory(employeeId, jobId));
+          @PathVariable String jobId) {
+    return ResponseEntity.ok(jobHistoryService.deleteJobHistory(employeeId, jobId));
   }
 
   @GetMapping("/{employeeId}/history")
-  public ResponseEntity<List<JobDetails>> getJobHistory(@PathVariable String employeeId) throws Exception {
-    return ResponseEntity.ok(employeeService.getJobHistory(employeeId));
+  public ResponseEntity<List<JobDetails>> getJobHistory(@PathVariable String employeeId) {
+    return ResponseEntity.ok(jobHistoryService.getJobHistory(employeeId));
   }
 
+    /** Without employee ids, returns the designations of the whole organization. */
     @GetMapping("/departments")
-    public List<EmployeeDepartmentDTO> getDepartmentsByEmployeeIds(@RequestParam List<String> employeeIds) {
+    public List<EmployeeDepartmentDTO> getDepartmentsByEmployeeIds(
+        @RequestParam(required = false) List<String> employeeIds) {
         String orgId = UserContext.getLoggedInUserOrganization().getId();
+        if (employeeIds == null) {
+            return employeeRepository.findDesignationsByOrganizationId(orgId);
+        }
         return employeeRepository.findDesignationsByEmployeeIds(employeeIds, orgId);
     }
 }
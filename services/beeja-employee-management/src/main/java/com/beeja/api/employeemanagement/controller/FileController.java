@@ -6,10 +6,15 @@ import com.beeja.api.employeemanagement.model.Employee;
 import com.beeja.api.employeemanagement.model.File;
 import com.beeja.api.employeemanagement.requests.FileUploadRequest;
 import com.beeja.api.employeemanagement.response.FileResponse;
+import com.beeja.api.employeemanagement.response.ProfilePicThumbnail;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import com.beeja.api.employeemanagement.service.FileService;
+import com.beeja.api.employeemanagement.service.ProfilePicService;
+import com.beeja.api.employeemanagement.utils.ThumbnailGenerator;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -31,6 +37,8 @@ public class FileController {
 
   @Autowired EmployeeService employeeService;
 
+  @Autowired ProfilePicService profilePicService;
+
   @GetMapping("/{entityId}")
   @HasPermission({
     PermissionConstants.READ_EMPLOYEE_DOCUMENT,
@@ -101,4 +109,32 @@ public class FileController {
     Employee response = employeeService.uploadOrUpdateProfilePic(file, entityId);
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * Serves an employee's avatar as the stored thumbnail closest to {@code size}. Requests that name
+   * the current picture version in {@code v} may be cached by the browser for good, as a new
+   * picture comes with a new version; all others are revalidated through their ETag.
+   */
+  @GetMapping("/profile-pic/{employeeId}")
+  @HasPermission(PermissionConstants.READ_EMPLOYEE)
+  public ResponseEntity<byte[]> getProfilePicThumbnail(
+      @PathVariable String employeeId,
+      @RequestParam(defaultValue = "96") int size,
+      @RequestParam(value = "v", required = false) String version,
+      WebRequest request) {
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(employeeId, size);
+    if (request.checkNotModified(thumbnail.getETag())) {
+      return null;
+    }
+    CacheControl cacheControl =
+        thumbnail.getVersion().equals(version)
+            ? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+            : CacheControl.noCache().cachePrivate();
+    byte[] content = profilePicService.getThumbnailContent(thumbnail);
+    return ResponseEntity.ok()
+        .cacheControl(cacheControl)
+        .eTag(thumbnail.getETag())
+        .contentType(MediaType.parseMediaType(ThumbnailGenerator.contentType(content)))
+        .body(content);
+  }
 }
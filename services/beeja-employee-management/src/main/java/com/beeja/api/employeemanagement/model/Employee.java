@@ -38,10 +38,27 @@ public class Employee {
   private PersonalInformation personalInformation;
   private Contact contact;
   private JobDetails jobDetails;
-  private List<JobDetails> jobHistory;
+
+  /** History embedded by earlier versions, kept until it is moved to {@link JobHistory}. */
+  @JsonIgnore private List<JobDetails> jobHistory;
+
   private String position;
   private PFDetails pfDetails;
   private KYCDetails kycDetails;
   private BankDetails bankDetails;
   private String profilePictureId;
+
+  /**
+   * MD5 of the current picture's content. The file id stays the same when a picture is replaced,
+   * so this is what tells the pictures apart.
+   */
+  private String profilePictureVersion;
+
+  private ProfilePictureThumbnails profilePictureThumbnails;
+
+  /** Bulk import that created the employee, see {@code EmployeeService#createEmployees}. */
+  @JsonIgnore private String importId;
+
+  /** Kept in sync from accounts, see {@code EmployeeService#syncAccount}. */
+  @JsonIgnore private EmployeeAccount account;
 }
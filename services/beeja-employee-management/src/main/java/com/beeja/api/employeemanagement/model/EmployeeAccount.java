@@ -0,0 +1,16 @@
+package com.beeja.api.employeemanagement.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Account fields owned by accounts, copied onto the employee for the employee directory. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeAccount {
+  private String firstName;
+  private String lastName;
+  private String email;
+  private Boolean active;
+}
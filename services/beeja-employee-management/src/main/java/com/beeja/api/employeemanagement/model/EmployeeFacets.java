@@ -0,0 +1,27 @@
+package com.beeja.api.employeemanagement.model;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** Distinct job details values of an organization's employees, with their headcounts. */
+@Data
+@NoArgsConstructor
+@Document(collection = "employee_facets")
+public class EmployeeFacets {
+  @Id private String organizationId;
+  @Version private Long version;
+  private List<FacetCount> departments = new ArrayList<>();
+  private List<FacetCount> designations = new ArrayList<>();
+  private List<FacetCount> employmentTypes = new ArrayList<>();
+  private Date builtAt;
+
+  public EmployeeFacets(String organizationId) {
+    this.organizationId = organizationId;
+  }
+}
@@ -0,0 +1,58 @@
+package com.beeja.api.employeemanagement.model;
+
+import java.util.Date;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A past job of an employee. Kept in its own collection rather than embedded in the employee, so
+ * that entries are written one at a time and organization-wide history is queried by index.
+ */
+@Data
+@NoArgsConstructor
+@Document(collection = "job_history")
+public class JobHistory {
+  @Id private String id;
+  private String organizationId;
+  private String employeeId;
+  private String designation;
+  private String employementType;
+  private String department;
+  private String description;
+  private Date startDate;
+  private Date endDate;
+  private String updatedBy;
+  private Date updatedAt;
+
+  public static JobHistory of(String organizationId, String employeeId, JobDetails job) {
+    JobHistory entry = new JobHistory();
+    entry.setId(job.getId());
+    entry.setOrganizationId(organizationId);
+    entry.setEmployeeId(employeeId);
+    entry.setDesignation(job.getDesignation());
+    entry.setEmployementType(job.getEmployementType());
+    entry.setDepartment(job.getDepartment());
+    entry.setDescription(job.getDescription());
+    entry.setStartDate(job.getStartDate());
+    entry.setEndDate(job.getEndDate());
+    entry.setUpdatedBy(job.getUpdatedBy());
+    entry.setUpdatedAt(job.getUpdatedAt());
+    return entry;
+  }
+
+  public JobDetails toJobDetails() {
+    JobDetails job = new JobDetails();
+    job.setId(id);
+    job.setDesignation(designation);
+    job.setEmployementType(employementType);
+    job.setDepartment(department);
+    job.setDescription(description);
+    job.setStartDate(startDate);
+    job.setEndDate(endDate);
+    job.setUpdatedBy(updatedBy);
+    job.setUpdatedAt(updatedAt);
+    return job;
+  }
+}
@@ -0,0 +1,18 @@
+package com.beeja.api.employeemanagement.model;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Scaled-down copies of an employee's profile picture, stored in file-management. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProfilePictureThumbnails {
+  /** The {@code profilePictureVersion} of the picture the thumbnails were made from. */
+  private String version;
+
+  /** File id of each thumbnail, keyed by its edge length in pixels. */
+  private Map<String, String> fileIds;
+}
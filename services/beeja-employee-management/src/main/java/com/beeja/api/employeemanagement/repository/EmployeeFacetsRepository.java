@@ -0,0 +1,8 @@
+package com.beeja.api.employeemanagement.repository;
+
+import com.beeja.api.employeemanagement.model.EmployeeFacets;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmployeeFacetsRepository extends MongoRepository<EmployeeFacets, String> {}
@@ -27,6 +27,13 @@ public interface EmployeeRepository extends MongoRepository<Employee, String> {
           "{ 'employeeId': 1, 'organizationId': 1, 'address': 1, 'personalInformation': 1, 'contact': 1, 'jobDetails' : 1 }")
   Employee getLimitedDataFindByEmployeeId(String employeeId, String organizationId);
 
+  @Query(
+      value = "{ 'employeeId': ?0, 'organizationId': ?1 }",
+      fields =
+          "{ 'employeeId': 1, 'profilePictureId': 1, 'profilePictureVersion': 1,"
+              + " 'profilePictureThumbnails': 1 }")
+  Employee findProfilePictureByEmployeeId(String employeeId, String organizationId);
+
   @Aggregation(
       pipeline = {
         "{ $match: { 'organizationId': ?0 } }",
@@ -56,4 +63,13 @@ public interface EmployeeRepository extends MongoRepository<Employee, String> {
                  "} }"
  })
  List<EmployeeDepartmentDTO> findDesignationsByEmployeeIds(List<String> employeeIds, String organizationId);
+
+  @Aggregation(
+      pipeline = {
+        "{ $match: { 'organizationId': ?0 } }",
+        "{ $project: { _id: 0, employeeId: 1, "
+            + "designation: { $ifNull: ['$jobDetails.designation', '-'] }, "
+            + "department: { $ifNull: ['$jobDetails.department', '-'] } } }"
+      })
+  List<EmployeeDepartmentDTO> findDesignationsByOrganizationId(String organizationId);
 }
@@ -0,0 +1,21 @@
+package com.beeja.api.employeemanagement.response;
+
+import com.beeja.api.employeemanagement.model.JobDetails;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+@Data
+public class EmployeeProfile {
+  private Map<String, Object> employee;
+  private FileResponse documents;
+  private Object loans;
+  private Object healthInsurance;
+
+  /** Past jobs followed by the current one; only for callers who read complete details. */
+  private List<JobDetails> jobHistory;
+
+  /** Parts that could not be loaded, mapped to the reason, e.g. {@code loans -> timeout}. */
+  private Map<String, String> unavailable = new LinkedHashMap<>();
+}
@@ -1,5 +1,6 @@
 package com.beeja.api.employeemanagement.response;
 
+import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,4 +13,7 @@ public class EmployeeValues {
   private Set<String> employmentTypes;
   private Set<String> designations;
   private Set<String> departments;
+  private Map<String, Long> employmentTypeCounts;
+  private Map<String, Long> designationCounts;
+  private Map<String, Long> departmentCounts;
 }
@@ -1,6 +1,7 @@
 package com.beeja.api.employeemanagement.response;
 
 import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.model.ProfilePictureThumbnails;
 import lombok.Data;
 
 @Data
@@ -9,4 +10,6 @@ public class GetLimitedEmployee {
   private String employeeId;
   private JobDetails jobDetails;
   private String profilePictureId;
+  private String profilePictureVersion;
+  private ProfilePictureThumbnails profilePictureThumbnails;
 }
@@ -0,0 +1,15 @@
+package com.beeja.api.employeemanagement.response;
+
+import com.beeja.api.employeemanagement.model.JobHistory;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobHistoryResponse {
+  List<JobHistory> history;
+  Long totalSize;
+}
@@ -0,0 +1,19 @@
+package com.beeja.api.employeemanagement.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProfilePicThumbnail {
+  private String fileId;
+  private int size;
+  private String version;
+
+  /** Whether {@link #fileId} is the original picture, to be scaled down when it is served. */
+  private boolean scaledOnRead;
+
+  public String getETag() {
+    return "\"" + version + "-" + size + "\"";
+  }
+}
@@ -0,0 +1,30 @@
+package com.beeja.api.employeemanagement.service;
+
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.response.EmployeeValues;
+
+public interface EmployeeFacetService {
+
+  EmployeeValues getEmployeeValues(String organizationId);
+
+  /**
+   * Adjusts the organization's facet counts after an employee's job details changed from {@code
+   * before} to {@code after}; either may be null for a created or removed employee.
+   */
+  void recordChange(String organizationId, JobDetails before, JobDetails after);
+
+  /** Drops the organization's facets, to be rebuilt from its employees on the next read. */
+  void invalidate(String organizationId);
+
+  /** Copies the faceted fields, to compare them once the job details were updated in place. */
+  static JobDetails snapshot(JobDetails jobDetails) {
+    if (jobDetails == null) {
+      return null;
+    }
+    JobDetails snapshot = new JobDetails();
+    snapshot.setDepartment(jobDetails.getDepartment());
+    snapshot.setDesignation(jobDetails.getDesignation());
+    snapshot.setEmployementType(jobDetails.getEmployementType());
+    return snapshot;
+  }
+}
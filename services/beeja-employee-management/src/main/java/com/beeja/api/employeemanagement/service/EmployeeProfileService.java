@@ -0,0 +1,7 @@
+package com.beeja.api.employeemanagement.service;
+
+import com.beeja.api.employeemanagement.response.EmployeeProfile;
+
+public interface EmployeeProfileService {
+  EmployeeProfile getEmployeeProfile(String employeeId) throws Exception;
+}
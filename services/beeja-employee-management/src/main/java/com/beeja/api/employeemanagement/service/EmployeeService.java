@@ -1,17 +1,18 @@
 package com.beeja.api.employeemanagement.service;
 
+import com.beeja.api.employeemanagement.enums.ExportFormat;
 import com.beeja.api.employeemanagement.model.DTO.EmployeeSummaryDTO;
 import com.beeja.api.employeemanagement.model.Employee;
-import com.beeja.api.employeemanagement.model.JobDetails;
 import com.beeja.api.employeemanagement.model.clients.accounts.EmployeeBasicInfo;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
-import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
 import com.beeja.api.employeemanagement.response.EmployeeValues;
 import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 import java.util.Map;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface EmployeeService {
 
@@ -19,6 +20,19 @@ public interface EmployeeService {
 
   Employee createEmployee(Map<String, Object> employee) throws Exception;
 
+  /**
+   * Inserts the employees into the caller's organization in one bulk write and returns the ids of
+   * those that failed, e.g. because the employee id is taken. The records are marked with the
+   * import that created them.
+   */
+  List<String> createEmployees(String importId, List<Map<String, Object>> employees);
+
+  /**
+   * Removes the employees the given import created for the given accounts, after the accounts
+   * could not be created. Employees created any other way are never matched.
+   */
+  void deleteImportedEmployees(String importId, List<String> accountIds);
+
   Map<String, Object> getEmployeeByEmployeeId(String employeeId) throws Exception;
 
   Employee updateEmployee(String id, EmployeeUpdateRequest updatedEmployee) throws Exception;
@@ -32,6 +46,17 @@ public interface EmployeeService {
       String status)
       throws Exception;
 
+  /**
+   * Returns a body that writes the organization's employees matching the directory filters as a
+   * CSV or XLSX file, row by row.
+   */
+  StreamingResponseBody exportEmployees(
+      ExportFormat format,
+      String department,
+      String designation,
+      String employmentType,
+      String status);
+
   List<GetLimitedEmployee> getLimitedDataOfEmployees(
       String department,
       String designation,
@@ -40,19 +65,15 @@ public interface EmployeeService {
       int pageSize,
       String status);
 
-  Employee updateKYCRequest(String id, UpdateKYCRequest updateKYCRequest) throws Exception;
+  /** Refreshes the account fields kept on the employee from accounts. */
+  void syncAccount(String employeeId) throws Exception;
+
+  /** Sets the KYC and bank fields present in the payload, shaped like {@code UpdateKYCRequest}. */
+  Employee updateKYCRequest(String id, JsonNode updateKYCRequest) throws Exception;
 
   Employee uploadOrUpdateProfilePic(MultipartFile file, String employeeId) throws Exception;
 
   EmployeeValues getEmployeeValues() throws Exception;
 
   List<EmployeeBasicInfo> getAllEmpInfo(List<String> designations);
-
-  Employee addJobHistory(String employeeId, JobDetails newJob) throws Exception;
-
-  Employee updateJobHistory(String employeeId, String jobId, JobDetails updatedJob) throws Exception;
-
-  Employee deleteJobHistory(String employeeId, String jobId) throws Exception;
-
-  List<JobDetails> getJobHistory(String employeeId) throws Exception;
 }
@@ -0,0 +1,43 @@
+package com.beeja.api.employeemanagement.service;
+
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
+import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
+import com.beeja.api.employeemanagement.response.JobHistoryResponse;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public interface JobHistoryService {
+
+  JobDetails addJobHistory(String employeeId, JobDetails newJob);
+
+  JobDetails updateJobHistory(String employeeId, String jobId, JobDetails updatedJob);
+
+  JobDetails deleteJobHistory(String employeeId, String jobId);
+
+  /** The employee's past jobs by start date, followed by the current one. */
+  List<JobDetails> getJobHistory(String employeeId);
+
+  /** Appends the job an employee just left, as closed by an update of the job details. */
+  void recordClosedJob(String organizationId, String employeeId, JobDetails closedJob);
+
+  /**
+   * Past jobs of the logged in user's organization that ended within {@code [from, to)}, latest
+   * first. A job ends when the employee's job details change, so this lists the changes made in
+   * that period; department and designation filter on the job that was left.
+   */
+  JobHistoryResponse getOrganizationJobHistory(
+      Date from, Date to, String department, String designation, int pageNumber, int pageSize);
+
+  /** The logged in user as recorded on job changes, e.g. {@code "Jane Doe (HR | Admin)"}. */
+  static String modifiedBy() {
+    UserDTO user = UserContext.getLoggedInUserDTO();
+    String roles =
+        user.getRoles() == null
+            ? ""
+            : user.getRoles().stream().map(RoleDTO::getName).collect(Collectors.joining(" | "));
+    return user.getFirstName() + " " + user.getLastName() + " (" + roles + ")";
+  }
+}
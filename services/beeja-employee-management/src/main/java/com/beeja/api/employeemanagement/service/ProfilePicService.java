@@ -1,7 +1,10 @@
 package com.beeja.api.employeemanagement.service;
 
 import com.beeja.api.employeemanagement.model.File;
+import com.beeja.api.employeemanagement.model.ProfilePictureThumbnails;
 import com.beeja.api.employeemanagement.requests.FileUploadRequest;
+import com.beeja.api.employeemanagement.response.ProfilePicThumbnail;
+import java.awt.image.BufferedImage;
 import org.springframework.core.io.ByteArrayResource;
 
 public interface ProfilePicService {
@@ -11,4 +14,11 @@ public interface ProfilePicService {
   File updateProfilePicture(String fileId, FileUploadRequest fileUploadRequest) throws Exception;
 
   ByteArrayResource getProfilePicById(String fileId) throws Exception;
+
+  ProfilePictureThumbnails saveThumbnails(String employeeId, BufferedImage picture, String version)
+      throws Exception;
+
+  ProfilePicThumbnail getProfilePicThumbnail(String employeeId, int size);
+
+  byte[] getThumbnailContent(ProfilePicThumbnail thumbnail);
 }
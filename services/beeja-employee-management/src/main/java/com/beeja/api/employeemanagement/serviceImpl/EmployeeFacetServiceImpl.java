@@ -0,0 +1,253 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.EmployeeFacets;
+import com.beeja.api.employeemanagement.model.FacetCount;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.repository.EmployeeFacetsRepository;
+import com.beeja.api.employeemanagement.response.EmployeeValues;
+import com.beeja.api.employeemanagement.service.EmployeeFacetService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps one {@code employee_facets} document per organization with its distinct departments,
+ * designations and employment types and their headcounts. Employee writes adjust the counts under
+ * optimistic locking, reads are served from a short-lived in-memory cache, and a missing document,
+ * or one older than the rebuild interval, is recomputed from the employees. Other instances see a
+ * change once their cached entry expires.
+ *
+ * <p>A change made while there is no document leaves one without {@code builtAt} behind, with its
+ * version bumped. A rebuild that aggregated before the change then fails to insert its counts, or
+ * has its counts marked for the next read to rebuild, so the change is not lost.
+ */
+@Slf4j
+@Service
+public class EmployeeFacetServiceImpl implements EmployeeFacetService {
+
+  private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+  @Autowired private EmployeeFacetsRepository employeeFacetsRepository;
+
+  @Autowired private MongoTemplate mongoTemplate;
+
+  private final Cache<String, EmployeeValues> employeeValues;
+
+  private final Duration rebuildInterval;
+
+  public EmployeeFacetServiceImpl(
+      @Value("${employee-facets.cache-ttl:5m}") Duration cacheTtl,
+      @Value("${employee-facets.rebuild-interval:6h}") Duration rebuildInterval,
+      MeterRegistry meterRegistry) {
+    this.rebuildInterval = rebuildInterval;
+    this.employeeValues =
+        Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(cacheTtl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, employeeValues, "employeeFacets");
+  }
+
+  @Override
+  public EmployeeValues getEmployeeValues(String organizationId) {
+    return employeeValues.get(organizationId, this::load);
+  }
+
+  @Override
+  public void recordChange(String organizationId, JobDetails before, JobDetails after) {
+    if (Objects.equals(department(before), department(after))
+        && Objects.equals(designation(before), designation(after))
+        && Objects.equals(employmentType(before), employmentType(after))) {
+      return;
+    }
+    try {
+      for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+        Optional<EmployeeFacets> stored = employeeFacetsRepository.findById(organizationId);
+        if (stored.isEmpty()) {
+          // Nothing to adjust yet; the next read builds the facets from the employees.
+          mongoTemplate.upsert(
+              new Query(Criteria.where("_id").is(organizationId)),
+              new Update().inc("version", 1).unset("builtAt"),
+              EmployeeFacets.class);
+          employeeValues.invalidate(organizationId);
+          return;
+        }
+        EmployeeFacets facets = stored.get();
+        adjust(facets.getDepartments(), department(before), department(after));
+        adjust(facets.getDesignations(), designation(before), designation(after));
+        adjust(facets.getEmploymentTypes(), employmentType(before), employmentType(after));
+        try {
+          EmployeeFacets saved = employeeFacetsRepository.save(facets);
+          employeeValues.put(organizationId, toEmployeeValues(saved));
+          return;
+        } catch (OptimisticLockingFailureException e) {
+          log.debug("Concurrent facet update for organization {}, retrying", organizationId);
+        }
+      }
+      // Still contended: drop the counts so the next read rebuilds them instead of drifting.
+      drop(organizationId);
+    } catch (Exception e) {
+      log.warn(
+          "Could not update employee facets of organization {}: {}",
+          organizationId,
+          e.getMessage());
+      drop(organizationId);
+    }
+    employeeValues.invalidate(organizationId);
+  }
+
+  /** Deletes the stored counts; when that fails too they are corrected by the next rebuild. */
+  private void drop(String organizationId) {
+    try {
+      employeeFacetsRepository.deleteById(organizationId);
+    } catch (Exception e) {
+      log.warn(
+          "Could not drop employee facets of organization {}: {}", organizationId, e.getMessage());
+    }
+  }
+
+  @Override
+  public void invalidate(String organizationId) {
+    employeeFacetsRepository.deleteById(organizationId);
+    employeeValues.invalidate(organizationId);
+  }
+
+  private EmployeeValues load(String organizationId) {
+    Optional<EmployeeFacets> stored = employeeFacetsRepository.findById(organizationId);
+    if (stored.isPresent()
+        && stored.get().getBuiltAt() != null
+        && stored.get().getBuiltAt().toInstant().plus(rebuildInterval).isAfter(Instant.now())) {
+      return toEmployeeValues(stored.get());
+    }
+    return toEmployeeValues(rebuild(stored.orElseGet(() -> new EmployeeFacets(organizationId))));
+  }
+
+  private EmployeeFacets rebuild(EmployeeFacets facets) {
+    Aggregation aggregation =
+        Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("organizationId").is(facets.getOrganizationId())),
+            Aggregation.facet(Aggregation.group("jobDetails.department").count().as("count"))
+                .as("departments")
+                .and(Aggregation.group("jobDetails.designation").count().as("count"))
+                .as("designations")
+                .and(Aggregation.group("jobDetails.employementType").count().as("count"))
+                .as("employmentTypes"));
+    Document result =
+        mongoTemplate
+            .aggregate(aggregation, Employee.class, Document.class)
+            .getUniqueMappedResult();
+
+    facets.setDepartments(toFacetCounts(result.getList("departments", Document.class)));
+    facets.setDesignations(toFacetCounts(result.getList("designations", Document.class)));
+    facets.setEmploymentTypes(toFacetCounts(result.getList("employmentTypes", Document.class)));
+    facets.setBuiltAt(new Date());
+    try {
+      return employeeFacetsRepository.save(facets);
+    } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+      // Another instance rebuilt them concurrently; both results are equally fresh.
+      return facets;
+    }
+  }
+
+  private static List<FacetCount> toFacetCounts(List<Document> groups) {
+    List<FacetCount> counts = new ArrayList<>();
+    for (Document group : groups) {
+      Object value = group.get("_id");
+      if (value instanceof String text && !text.isBlank()) {
+        counts.add(new FacetCount(text, group.get("count", Number.class).longValue()));
+      }
+    }
+    counts.sort(Comparator.comparing(FacetCount::getValue));
+    return counts;
+  }
+
+  private static void adjust(List<FacetCount> counts, String removed, String added) {
+    if (Objects.equals(removed, added)) {
+      return;
+    }
+    if (removed != null && !removed.isBlank()) {
+      counts.stream()
+          .filter(count -> count.getValue().equals(removed))
+          .findFirst()
+          .ifPresent(count -> count.setCount(count.getCount() - 1));
+      counts.removeIf(count -> count.getCount() <= 0);
+    }
+    if (added != null && !added.isBlank()) {
+      counts.stream()
+          .filter(count -> count.getValue().equals(added))
+          .findFirst()
+          .ifPresentOrElse(
+              count -> count.setCount(count.getCount() + 1),
+              () -> {
+                counts.add(new FacetCount(added, 1));
+                counts.sort(Comparator.comparing(FacetCount::getValue));
+              });
+    }
+  }
+
+  private static EmployeeValues toEmployeeValues(EmployeeFacets facets) {
+    EmployeeValues values = new EmployeeValues();
+    values.setDepartments(valuesOf(facets.getDepartments()));
+    values.setDesignations(valuesOf(facets.getDesignations()));
+    values.setEmploymentTypes(valuesOf(facets.getEmploymentTypes()));
+    values.setDepartmentCounts(countsOf(facets.getDepartments()));
+    values.setDesignationCounts(countsOf(facets.getDesignations()));
+    values.setEmploymentTypeCounts(countsOf(facets.getEmploymentTypes()));
+    return values;
+  }
+
+  private static LinkedHashSet<String> valuesOf(List<FacetCount> counts) {
+    LinkedHashSet<String> values = new LinkedHashSet<>();
+    counts.forEach(count -> values.add(count.getValue()));
+    return values;
+  }
+
+  private static Map<String, Long> countsOf(List<FacetCount> counts) {
+    Map<String, Long> values = new LinkedHashMap<>();
+    counts.forEach(count -> values.put(count.getValue(), count.getCount()));
+    return values;
+  }
+
+  private static String department(JobDetails jobDetails) {
+    return valueOf(jobDetails, JobDetails::getDepartment);
+  }
+
+  private static String designation(JobDetails jobDetails) {
+    return valueOf(jobDetails, JobDetails::getDesignation);
+  }
+
+  private static String employmentType(JobDetails jobDetails) {
+    return valueOf(jobDetails, JobDetails::getEmployementType);
+  }
+
+  private static String valueOf(JobDetails jobDetails, Function<JobDetails, String> field) {
+    return jobDetails == null ? null : field.apply(jobDetails);
+  }
+}
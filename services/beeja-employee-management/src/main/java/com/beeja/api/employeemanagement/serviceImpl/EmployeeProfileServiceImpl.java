@@ -0,0 +1,169 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import com.beeja.api.employeemanagement.client.FinanceClient;
+import com.beeja.api.employeemanagement.constants.PermissionConstants;
+import com.beeja.api.employeemanagement.enums.ErrorCode;
+import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.exceptions.UnAuthorisedException;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.response.EmployeeProfile;
+import com.beeja.api.employeemanagement.response.FileResponse;
+import com.beeja.api.employeemanagement.service.EmployeeProfileService;
+import com.beeja.api.employeemanagement.service.EmployeeService;
+import com.beeja.api.employeemanagement.service.FileService;
+import com.beeja.api.employeemanagement.service.JobHistoryService;
+import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
+import com.beeja.api.employeemanagement.utils.CallDeadline;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import feign.FeignException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Assembles the employee profile page from its parts in one request. The parts are fetched next to
+ * each other on the bounded profile executor, so the response takes as long as the slowest part
+ * rather than the sum of all of them. Each part has its own timeout; only the employee itself is
+ * required, every other part that fails is left out and listed in {@link
+ * EmployeeProfile#getUnavailable()} with the reason. Job history is only part of the profile for
+ * callers who may read the employee's complete details, as it was when it was embedded in the
+ * employee.
+ *
+ * <p>A part that times out is not interrupted, so each part also runs under a {@link CallDeadline}
+ * of the same timeout. Its remote calls are cut short at that point and its thread is returned to
+ * the executor, rather than waiting out the client's own read timeout.
+ */
+@Slf4j
+@Service
+public class EmployeeProfileServiceImpl implements EmployeeProfileService {
+
+  @Autowired EmployeeService employeeService;
+
+  @Autowired FileService fileService;
+
+  @Autowired FinanceClient financeClient;
+
+  @Autowired JobHistoryService jobHistoryService;
+
+  @Autowired
+  @Qualifier("profilePartExecutor")
+  Executor profilePartExecutor;
+
+  @Value("${employee-profile.part-timeout:3s}")
+  Duration partTimeout;
+
+  @Override
+  public EmployeeProfile getEmployeeProfile(String employeeId) throws Exception {
+    CompletableFuture<Map<String, Object>> employee =
+        fetch(() -> employeeService.getEmployeeByEmployeeId(employeeId));
+    CompletableFuture<FileResponse> documents =
+        fetch(
+            () ->
+                fileService.listOfFileByEntityId(
+                    employeeId, 1, Constants.PROFILE_DOCUMENTS_PAGE_SIZE));
+    CompletableFuture<Object> loans =
+        fetch(() -> financeClient.getLoansByEmployeeId(employeeId).getBody());
+    CompletableFuture<Object> healthInsurance =
+        fetch(() -> financeClient.getHealthInsuranceByEmployeeId(employeeId).getBody());
+    CompletableFuture<List<JobDetails>> jobHistory =
+        readsCompleteDetails(employeeId)
+            ? fetch(() -> jobHistoryService.getJobHistory(employeeId))
+            : CompletableFuture.completedFuture(null);
+
+    EmployeeProfile profile = new EmployeeProfile();
+    try {
+      profile.setEmployee(employee.join());
+    } catch (CompletionException e) {
+      Stream.of(documents, loans, healthInsurance, jobHistory)
+          .forEach(part -> part.cancel(true));
+      throw requiredPartFailure(employeeId, e.getCause());
+    }
+    profile.setDocuments(optionalPart(Constants.PROFILE_PART_DOCUMENTS, documents, profile));
+    profile.setLoans(optionalPart(Constants.PROFILE_PART_LOANS, loans, profile));
+    profile.setHealthInsurance(
+        optionalPart(Constants.PROFILE_PART_HEALTH_INSURANCE, healthInsurance, profile));
+    profile.setJobHistory(optionalPart(Constants.PROFILE_PART_JOB_HISTORY, jobHistory, profile));
+    return profile;
+  }
+
+  private static boolean readsCompleteDetails(String employeeId) {
+    return Objects.equals(employeeId, UserContext.getLoggedInEmployeeId())
+        || UserContext.getLoggedInUserPermissions()
+            .contains(PermissionConstants.READ_COMPLETE_EMPLOYEE_DETAILS);
+  }
+
+  private <T> CompletableFuture<T> fetch(Callable<T> part) {
+    try {
+      return CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  return CallDeadline.within(partTimeout, part);
+                } catch (Exception e) {
+                  throw new CompletionException(e);
+                }
+              },
+              profilePartExecutor)
+          .orTimeout(partTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private <T> T optionalPart(String name, CompletableFuture<T> part, EmployeeProfile profile) {
+    try {
+      return part.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof FeignException.NotFound) {
+        return null;
+      }
+      log.warn("Employee profile part {} is unavailable: {}", name, String.valueOf(cause));
+      profile.getUnavailable().put(name, reason(cause));
+      return null;
+    }
+  }
+
+  private static String reason(Throwable cause) {
+    if (cause instanceof TimeoutException) {
+      return Constants.PART_TIMEOUT;
+    }
+    if (cause instanceof RejectedExecutionException) {
+      return Constants.PART_BUSY;
+    }
+    if (cause instanceof UnAuthorisedException
+        || cause instanceof FeignException.Forbidden
+        || cause instanceof FeignException.Unauthorized) {
+      return Constants.PART_FORBIDDEN;
+    }
+    return Constants.PART_ERROR;
+  }
+
+  private static Exception requiredPartFailure(String employeeId, Throwable cause) {
+    if (cause instanceof Exception exception
+        && !(cause instanceof TimeoutException)
+        && !(cause instanceof RejectedExecutionException)) {
+      return exception;
+    }
+    log.error("Employee profile of {} could not be loaded: {}", employeeId, String.valueOf(cause));
+    return new Exception(
+        BuildErrorMessage.buildErrorMessage(
+            ErrorType.API_ERROR,
+            ErrorCode.SERVER_ERROR,
+            Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
+  }
+}
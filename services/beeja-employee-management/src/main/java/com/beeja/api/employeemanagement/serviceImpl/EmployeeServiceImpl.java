@@ -14,65 +14,78 @@ import static com.beeja.api.employeemanagement.utils.Constants.INVALID_PROFILE_P
 import static com.beeja.api.employeemanagement.utils.Constants.SUCCESSFULLY_UPDATED_PROFILE_PHOTO;
 import static com.google.common.io.Files.getFileExtension;
 
-import com.beeja.api.employeemanagement.model.DTO.EmployeeName;
 import com.beeja.api.employeemanagement.model.DTO.EmployeeSummaryDTO;
 import com.beeja.api.employeemanagement.model.clients.accounts.EmployeeBasicInfo;
 import com.beeja.api.employeemanagement.model.clients.accounts.EmployeeNameDTO;
-import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
-import com.beeja.api.employeemanagement.response.EmployeeDefaultValues;
 import com.beeja.api.employeemanagement.response.EmployeeValues;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.beeja.api.commons.utils.PartialUpdateMapper;
 import com.beeja.api.employeemanagement.client.AccountClient;
 import com.beeja.api.employeemanagement.constants.PermissionConstants;
 import com.beeja.api.employeemanagement.enums.ErrorCode;
 import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.enums.ExportFormat;
 import com.beeja.api.employeemanagement.exceptions.BadRequestException;
 import com.beeja.api.employeemanagement.exceptions.ResourceAlreadyFound;
 import com.beeja.api.employeemanagement.exceptions.ResourceNotFound;
 import com.beeja.api.employeemanagement.exceptions.UnAuthorisedException;
 import com.beeja.api.employeemanagement.model.Address;
-import com.beeja.api.employeemanagement.model.BankDetails;
 import com.beeja.api.employeemanagement.model.Contact;
 import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.EmployeeAccount;
 import com.beeja.api.employeemanagement.model.File;
 import com.beeja.api.employeemanagement.model.JobDetails;
-import com.beeja.api.employeemanagement.model.KYCDetails;
 import com.beeja.api.employeemanagement.model.NomineeDetails;
 import com.beeja.api.employeemanagement.model.PFDetails;
 import com.beeja.api.employeemanagement.model.PersonalInformation;
+import com.beeja.api.employeemanagement.model.ProfilePictureThumbnails;
 import com.beeja.api.employeemanagement.repository.EmployeeRepository;
 import com.beeja.api.employeemanagement.requests.EmployeeOrgRequest;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.FileUploadRequest;
-import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
-import com.beeja.api.employeemanagement.response.EmployeeDefaultValues;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
 import com.beeja.api.employeemanagement.response.EmployeeValues;
 import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
+import com.beeja.api.employeemanagement.service.EmployeeFacetService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import com.beeja.api.employeemanagement.service.FileService;
+import com.beeja.api.employeemanagement.service.JobHistoryService;
+import com.beeja.api.employeemanagement.service.ProfilePicService;
 import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
 import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.EmployeeExportWriter;
 import com.beeja.api.employeemanagement.utils.ExtractEmpNumUtil;
+import com.beeja.api.employeemanagement.utils.ThumbnailGenerator;
 import com.beeja.api.employeemanagement.utils.UserContext;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.lang.reflect.Field;
+import com.mongodb.client.result.UpdateResult;
+import jakarta.annotation.PostConstruct;
+import java.awt.image.BufferedImage;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @Slf4j
@@ -86,11 +99,42 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Autowired FileService fileService;
 
+  @Autowired ProfilePicService profilePicService;
+
+  @Autowired EmployeeFacetService employeeFacetService;
+
+  @Autowired JobHistoryService jobHistoryService;
+
+  @Autowired ObjectMapper objectMapper;
+
+  @Autowired MongoMappingContext mongoMappingContext;
+
+  /** The KYC and bank fields an employee's KYC update may set. */
+  private static final List<String> KYC_UPDATE_PATHS =
+      List.of(
+          "kycDetails.panNumber",
+          "kycDetails.aadhaarNumber",
+          "kycDetails.passportNumber",
+          "bankDetails.accountNo",
+          "bankDetails.ifscCode",
+          "bankDetails.bankName",
+          "bankDetails.branchName");
+
+  private PartialUpdateMapper kycUpdateMapper;
+
+  private final Set<String> backfilledOrganizations = ConcurrentHashMap.newKeySet();
+
   public EmployeeServiceImpl(EmployeeRepository employeeRepository, AccountClient accountClient) {
     this.employeeRepository = employeeRepository;
     this.accountClient = accountClient;
   }
 
+  @PostConstruct
+  void initUpdateMappers() {
+    kycUpdateMapper =
+        PartialUpdateMapper.of(mongoMappingContext, objectMapper, Employee.class, KYC_UPDATE_PATHS);
+  }
+
   @Override
   public List<EmployeeSummaryDTO> getEmployeesByOrganizationId(String organizationId) {
     return employeeRepository.findEmployeeSummariesByOrganizationId(organizationId);
@@ -98,6 +142,79 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Override
   public Employee createEmployee(Map<String, Object> employee) throws Exception {
+    Employee emp = toEmployee(employee);
+    Employee savedEmployee;
+    try {
+      savedEmployee = employeeRepository.save(emp);
+    } catch (Exception e) {
+      log.error("Error while creating employee: " + e.getMessage());
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.DB_ERROR,
+              ErrorCode.CANNOT_SAVE_CHANGES,
+              Constants.ERROR_IN_SAVING_DETAILS));
+    }
+    employeeFacetService.recordChange(
+        savedEmployee.getOrganizationId(), null, savedEmployee.getJobDetails());
+    return savedEmployee;
+  }
+
+  @Override
+  public List<String> createEmployees(String importId, List<Map<String, Object>> employees) {
+    if (employees.isEmpty()) {
+      return List.of();
+    }
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    List<Employee> newEmployees = new ArrayList<>(employees.size());
+    for (Map<String, Object> employee : employees) {
+      Employee newEmployee = toEmployee(employee);
+      newEmployee.setOrganizationId(organizationId);
+      newEmployee.setImportId(importId);
+      newEmployees.add(newEmployee);
+    }
+    // Insert only: an employee id that is already taken fails on the unique index and is reported
+    // back, it never overwrites the stored employee.
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+    bulkOperations.insert(newEmployees);
+
+    List<String> failedEmployeeIds = new ArrayList<>();
+    try {
+      bulkOperations.execute();
+    } catch (BulkOperationException e) {
+      log.error("Bulk employee insert failed for {} employees", e.getErrors().size());
+      e.getErrors()
+          .forEach(
+              error -> failedEmployeeIds.add(newEmployees.get(error.getIndex()).getEmployeeId()));
+    }
+    // Rebuilding once is cheaper than adjusting the facet counts per imported employee.
+    employeeFacetService.invalidate(organizationId);
+    return failedEmployeeIds;
+  }
+
+  @Override
+  public void deleteImportedEmployees(String importId, List<String> accountIds) {
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    long deleted =
+        mongoTemplate
+            .remove(
+                Query.query(
+                    Criteria.where("organizationId")
+                        .is(organizationId)
+                        .and("importId")
+                        .is(importId)
+                        .and("beejaAccountId")
+                        .in(accountIds)),
+                Employee.class)
+            .getDeletedCount();
+    if (deleted > 0) {
+      employeeFacetService.invalidate(organizationId);
+    }
+    log.info(
+        "Removed {} employees of import {} in organization {}", deleted, importId, organizationId);
+  }
+
+  private Employee toEmployee(Map<String, Object> employee) {
     Employee emp = new Employee();
     emp.setBeejaAccountId(((String) employee.get("id")));
     emp.setEmployeeId(((String) employee.get("employeeId")));
@@ -109,6 +226,12 @@ public class EmployeeServiceImpl implements EmployeeService {
       contact.setPhone(mobileNumber.trim());
       emp.setContact(contact);
     }
+    emp.setAccount(
+        new EmployeeAccount(
+            (String) employee.get("firstName"),
+            (String) employee.get("lastName"),
+            (String) employee.get("email"),
+            !Boolean.FALSE.equals(employee.get("active"))));
     try{
       if (organizationsObject instanceof Map) {
         Map<String, Object> organizationsMap = (Map<String, Object>) organizationsObject;
@@ -128,16 +251,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }catch (Exception e){
       log.error("error occurred while mapping departments and jobdetails : " + e.getMessage());
     }
-    try {
-      return employeeRepository.save(emp);
-    } catch (Exception e) {
-      log.error("Error while creating employee: " + e.getMessage());
-      throw new Exception(
-          BuildErrorMessage.buildErrorMessage(
-              ErrorType.DB_ERROR,
-              ErrorCode.CANNOT_SAVE_CHANGES,
-              Constants.ERROR_IN_SAVING_DETAILS));
-    }
+    return emp;
   }
 
   @Override
@@ -244,14 +358,15 @@ public class EmployeeServiceImpl implements EmployeeService {
       String currentEmployeeId = existingEmployee.getEmployeeId();
       String newEmployeeId = updatedEmployee.getEmployeeId();
 
-
       if (UserContext.getLoggedInUserPermissions().contains(UPDATE_ALL_EMPLOYEES)) {
         existingEmployee.setPosition(updatedEmployee.getPosition());
 
         // Updating embedded objects like address, jobDetails etc;
         updateAddress(existingEmployee, updatedEmployee.getAddress());
         updatePersonalInformation(existingEmployee, updatedEmployee.getPersonalInformation());
-        updateJobDetails(existingEmployee, updatedEmployee.getJobDetails());
+        JobDetails previousJobDetails =
+            EmployeeFacetService.snapshot(existingEmployee.getJobDetails());
+        JobDetails closedJob = updateJobDetails(existingEmployee, updatedEmployee.getJobDetails());
         updateContact(existingEmployee, updatedEmployee.getContact());
         updatePfDetails(existingEmployee, updatedEmployee.getPfDetails());
         updateEmployeeId(existingEmployee, newEmployeeId);
@@ -272,7 +387,14 @@ public class EmployeeServiceImpl implements EmployeeService {
           accountClient.updateUser(currentEmployeeId, updatedEmployee);
         }
 
-        return employeeRepository.save(existingEmployee);
+        Employee savedEmployee = employeeRepository.save(existingEmployee);
+        if (closedJob != null) {
+          jobHistoryService.recordClosedJob(
+              savedEmployee.getOrganizationId(), savedEmployee.getEmployeeId(), closedJob);
+        }
+        employeeFacetService.recordChange(
+            savedEmployee.getOrganizationId(), previousJobDetails, savedEmployee.getJobDetails());
+        return savedEmployee;
       } else if (UserContext.getLoggedInEmployeeId().equals(id)) {
         updateContact(existingEmployee, updatedEmployee.getContact());
         return employeeRepository.save(existingEmployee);
@@ -321,68 +443,23 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Override
   public List<GetLimitedEmployee> getLimitedDataOfEmployees(
-          String department,
-          String designation,
-          String employmentType,
-          int pageNumber,
-          int pageSize,
-          String status) {
-    String organizationId = UserContext.getLoggedInUserOrganization().getId();
-
-    Criteria criteria = Criteria.where("organizationId").is(organizationId);
-    if (department != null && !department.isEmpty()) {
-      criteria.and("jobDetails.department").is(department);
-    }
-    if (designation != null && !designation.isEmpty()) {
-      criteria.and("jobDetails.designation").is(designation);
-    }
-    if (employmentType != null && !employmentType.isEmpty()) {
-      criteria.and("jobDetails.employementType").is(employmentType);
-    }
-
-    Query baseQuery = new Query(criteria);
-    List<Employee> filteredEmployees = mongoTemplate.find(baseQuery, Employee.class);
-    List<String> employeeIds = filteredEmployees.stream()
-            .map(Employee::getEmployeeId)
-            .collect(Collectors.toList());
-
-    ResponseEntity<?> accountResponse =
-            accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
-
-    if (accountResponse == null || !accountResponse.getStatusCode().is2xxSuccessful()) {
-      return Collections.emptyList();
-    }
-
-    List<Map<String, Object>> accountDataList = (List<Map<String, Object>>) accountResponse.getBody();
-
-    List<String> matchedEmployeeIds = accountDataList.stream()
-            .filter(account -> {
-              if (status == null || status.equals("-") || status.isEmpty()) return true;
-              boolean isActive = "active".equalsIgnoreCase(status);
-              return Boolean.TRUE.equals(account.get("active")) == isActive;
-            })
-            .map(account -> (String) account.get("employeeId"))
-            .collect(Collectors.toList());
-
-    if (matchedEmployeeIds.isEmpty()) return Collections.emptyList();
-    Criteria finalCriteria = Criteria.where("organizationId").is(organizationId)
-            .and("employeeId").in(matchedEmployeeIds);
-
-    Aggregation aggregation = Aggregation.newAggregation(
-            Aggregation.match(finalCriteria),
-            Aggregation.project("id", "employeeId", "jobDetails", "employeeNumber"),
-            Aggregation.sort(Sort.by(Sort.Direction.ASC, "employeeNumber")),
-            Aggregation.skip((long) (pageNumber - 1) * pageSize),
-            Aggregation.limit(pageSize)
-    );
-
-    AggregationResults<GetLimitedEmployee> results =
-            mongoTemplate.aggregate(aggregation, "employees", GetLimitedEmployee.class);
-
-    return results.getMappedResults();
+      String department,
+      String designation,
+      String employmentType,
+      int pageNumber,
+      int pageSize,
+      String status) {
+    Document page =
+        findDirectoryPage(department, designation, employmentType, pageNumber, pageSize, status);
+    return page.getList("employees", Document.class).stream()
+        .map(entry -> mongoTemplate.getConverter().read(GetLimitedEmployee.class, entry))
+        .collect(Collectors.toList());
   }
 
-
+  /**
+   * Serves one page of the employee directory and the total number of matching employees with a
+   * single query, using the account fields kept on each employee instead of calling accounts.
+   */
   public EmployeeResponse getCombinedLimitedDataOfEmployees(
       String department,
       String designation,
@@ -391,137 +468,292 @@ public class EmployeeServiceImpl implements EmployeeService {
       int pageSize,
       String status)
       throws Exception {
-    List<GetLimitedEmployee> employeesWithLimitedData =
-        getLimitedDataOfEmployees(
-            department, designation, employementType, pageNumber, pageSize, status);
-    if (employeesWithLimitedData == null || employeesWithLimitedData.isEmpty()) {
-      EmployeeResponse emptyResponse = new EmployeeResponse();
-      emptyResponse.setEmployeeList(Collections.emptyList());
-      emptyResponse.setTotalSize(0L);
-      return emptyResponse;
+    Document page =
+        findDirectoryPage(department, designation, employementType, pageNumber, pageSize, status);
+
+    List<Map<String, Object>> combinedDataList = new ArrayList<>();
+    for (Document entry : page.getList("employees", Document.class)) {
+      GetLimitedEmployee employee =
+          mongoTemplate.getConverter().read(GetLimitedEmployee.class, entry);
+      EmployeeAccount account =
+          mongoTemplate
+              .getConverter()
+              .read(EmployeeAccount.class, entry.get("account", Document.class));
+
+      Map<String, Object> accountData = new HashMap<>();
+      accountData.put("id", entry.getString("beejaAccountId"));
+      accountData.put("employeeId", employee.getEmployeeId());
+      accountData.put("firstName", account.getFirstName());
+      accountData.put("lastName", account.getLastName());
+      accountData.put("email", account.getEmail());
+      accountData.put("active", account.getActive());
+
+      Map<String, Object> combinedData = new HashMap<>();
+      combinedData.put("employee", employee);
+      combinedData.put("account", accountData);
+      combinedDataList.add(combinedData);
     }
-    if (employeesWithLimitedData != null && !employeesWithLimitedData.isEmpty()) {
-      ResponseEntity<?> accountResponse = null;
-      List<String> employeeIds =
-          employeesWithLimitedData.stream()
-              .map(GetLimitedEmployee::getEmployeeId)
-              .collect(Collectors.toList());
 
-      try {
-        accountResponse = accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
-      } catch (Exception e) {
-        log.error(
-            ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE + " Organization Id: {} {} ",
-            UserContext.getLoggedInUserOrganization().getId(),
-            e.getMessage());
-        throw new Exception(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.API_ERROR,
-                ErrorCode.SERVER_ERROR,
-                Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
-      }
+    List<Document> totals = page.getList("totalSize", Document.class);
+    EmployeeResponse response = new EmployeeResponse();
+    response.setEmployeeList(combinedDataList);
+    response.setTotalSize(
+        totals.isEmpty() ? 0L : totals.get(0).get("total", Number.class).longValue());
+    return response;
+  }
 
-      assert accountResponse != null;
-      if (accountResponse.getStatusCode().is2xxSuccessful()) {
-        List<Map<String, Object>> combinedDataList = new ArrayList<>();
-        List<Map<String, Object>> accountDataList =
-            (List<Map<String, Object>>) accountResponse.getBody();
-
-        for (GetLimitedEmployee employee : employeesWithLimitedData) {
-          Optional<Map<String, Object>> accountDataOptional =
-              accountDataList.stream()
-                      .filter(accountData ->
-                              employee.getEmployeeId().equals(accountData.get("employeeId")) &&
-                                      (status == null || status.equals("-") || status.isEmpty() ||
-                                              accountData.get("active").equals("active".equalsIgnoreCase(status)))
-                      )
-                  .findFirst();
-
-          if (accountDataOptional.isPresent()) {
-            Map<String, Object> combinedData = new HashMap<>();
-            combinedData.put("employee", employee);
-            combinedData.put("account", accountDataOptional.get());
-            combinedDataList.add(combinedData);
-          }
-        }
-        Long totalCount =
-            getFilteredEmployeeCount(department, designation, employementType, status);
-        EmployeeResponse response = new EmployeeResponse();
-        response.setEmployeeList(combinedDataList);
-        response.setTotalSize(totalCount);
-        return response;
+  private Document findDirectoryPage(
+      String department,
+      String designation,
+      String employmentType,
+      int pageNumber,
+      int pageSize,
+      String status) {
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    backfillAccounts(organizationId);
+
+    Aggregation aggregation =
+        Aggregation.newAggregation(
+            Aggregation.match(
+                directoryCriteria(
+                    organizationId, department, designation, employmentType, status)),
+            // Sorting ahead of the facet lets the match and sort use the directory index.
+            Aggregation.sort(Sort.by(Sort.Direction.ASC, "employeeNumber")),
+            Aggregation.facet(
+                    Aggregation.skip((long) Math.max(pageNumber - 1, 0) * pageSize),
+                    Aggregation.limit(pageSize),
+                    Aggregation.project(
+                        "id",
+                        "employeeId",
+                        "beejaAccountId",
+                        "jobDetails",
+                        "profilePictureId",
+                        "profilePictureVersion",
+                        "profilePictureThumbnails",
+                        "account"))
+                .as("employees")
+                .and(Aggregation.count().as("total"))
+                .as("totalSize"));
+
+    return mongoTemplate
+        .aggregate(aggregation, Employee.class, Document.class)
+        .getUniqueMappedResult();
+  }
 
-      } else {
-        throw new Exception(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.API_ERROR,
-                ErrorCode.SERVER_ERROR,
-                Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
-      }
+  private static Criteria directoryCriteria(
+      String organizationId,
+      String department,
+      String designation,
+      String employmentType,
+      String status) {
+    Criteria criteria = Criteria.where("organizationId").is(organizationId);
+    if (status == null || status.isEmpty() || status.equals(Constants.ALL_STATUSES)) {
+      // Employees without an account in accounts are left out, as they were before.
+      criteria.and("account.active").in(true, false);
     } else {
-      throw new ResourceNotFound(
-          BuildErrorMessage.buildErrorMessage(
-              ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
+      criteria.and("account.active").is(Constants.STATUS_ACTIVE.equalsIgnoreCase(status));
     }
-  }
-
-  private Long getFilteredEmployeeCount(
-          String department, String designation, String employementType, String status) {
-
-    Criteria criteria = new Criteria();
     if (department != null && !department.isEmpty()) {
       criteria.and("jobDetails.department").is(department);
     }
     if (designation != null && !designation.isEmpty()) {
       criteria.and("jobDetails.designation").is(designation);
     }
-    if (employementType != null && !employementType.isEmpty()) {
-      criteria.and("jobDetails.employementType").is(employementType);
+    if (employmentType != null && !employmentType.isEmpty()) {
+      criteria.and("jobDetails.employementType").is(employmentType);
     }
+    return criteria;
+  }
 
-    List<Employee> employees = mongoTemplate.find(new Query(criteria), Employee.class);
-    List<String> employeeIds = employees.stream()
-            .map(Employee::getEmployeeId)
-            .collect(Collectors.toList());
-
-    ResponseEntity<?> accountResponse =
-            accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
-
-    if (accountResponse != null && accountResponse.getStatusCode().is2xxSuccessful()) {
-      List<Map<String, Object>> accountDataList =
-              (List<Map<String, Object>>) accountResponse.getBody();
+  /**
+   * Streams the directory of the organization to the response as it is read. The employees are
+   * read through one cursor in directory order, with the account fields kept on the employee, so
+   * memory stays flat however large the organization is.
+   */
+  @Override
+  public StreamingResponseBody exportEmployees(
+      ExportFormat format,
+      String department,
+      String designation,
+      String employmentType,
+      String status) {
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    backfillAccounts(organizationId);
+
+    Query query =
+        new Query(
+                directoryCriteria(organizationId, department, designation, employmentType, status))
+            .with(Sort.by(Sort.Direction.ASC, "employeeNumber"))
+            .cursorBatchSize(Constants.EMPLOYEE_EXPORT_BATCH_SIZE);
+    query.fields().include("employeeId", "account", "jobDetails", "contact");
+
+    return outputStream -> {
+      long start = System.currentTimeMillis();
+      int exported = 0;
+      try (Stream<Document> employees =
+              mongoTemplate.stream(
+                  query, Document.class, mongoTemplate.getCollectionName(Employee.class));
+          EmployeeExportWriter writer = EmployeeExportWriter.open(format, outputStream)) {
+        writer.writeRow(Constants.EMPLOYEE_EXPORT_COLUMNS);
+        Iterator<Document> rows = employees.iterator();
+        while (rows.hasNext()) {
+          writer.writeRow(exportRow(rows.next()));
+          exported++;
+        }
+      }
+      log.info(
+          "Exported {} employees of organization {} as {} in {} ms",
+          exported,
+          organizationId,
+          format,
+          System.currentTimeMillis() - start);
+    };
+  }
 
-      // Index account data by employeeId for fast lookup
-      Map<String, Map<String, Object>> accountMap = accountDataList.stream()
-              .collect(Collectors.toMap(
-                      acc -> (String) acc.get("employeeId"),
-                      acc -> acc,
-                      (existing, replacement) -> existing // handle duplicates
-              ));
+  private static List<String> exportRow(Document employee) {
+    Document account = employee.get("account", new Document());
+    Document jobDetails = employee.get("jobDetails", new Document());
+    Document contact = employee.get("contact", new Document());
+    Date joiningDate = jobDetails.getDate("joiningDate");
+    Boolean active = account.getBoolean("active");
+    return Arrays.asList(
+        employee.getString("employeeId"),
+        account.getString("firstName"),
+        account.getString("lastName"),
+        account.getString("email"),
+        active == null ? null : active ? "Active" : "Inactive",
+        jobDetails.getString("department"),
+        jobDetails.getString("designation"),
+        jobDetails.getString("employementType"),
+        joiningDate == null
+            ? null
+            : joiningDate.toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString(),
+        contact.getString("phone"),
+        contact.getString("alternativePhone"),
+        contact.getString("alternativeEmail"));
+  }
 
-      boolean isFilterApplied = status != null && !status.equals("-") && !status.isEmpty();
-      boolean isActive = "active".equalsIgnoreCase(status);
+  /**
+   * Copies the account fields of the organization's employees that predate the directory from
+   * accounts, once per organization and instance. Employees created since then carry them from the
+   * start and are kept in sync through {@link #syncAccount(String)}.
+   */
+  private void backfillAccounts(String organizationId) {
+    if (backfilledOrganizations.contains(organizationId)) {
+      return;
+    }
+    Query missing =
+        new Query(Criteria.where("organizationId").is(organizationId).and("account").exists(false));
+    missing.fields().include("employeeId");
+    List<String> employeeIds =
+        mongoTemplate.find(missing, Employee.class).stream()
+            .map(Employee::getEmployeeId)
+            .collect(Collectors.toList());
+    if (employeeIds.isEmpty()) {
+      backfilledOrganizations.add(organizationId);
+      return;
+    }
 
-      long count = 0;
-      for (Employee employee : employees) {
-        Map<String, Object> account = accountMap.get(employee.getEmployeeId());
-        if (account == null) continue;
+    ResponseEntity<?> accountResponse;
+    try {
+      accountResponse = accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
+    } catch (Exception e) {
+      log.error(
+          ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE + " Organization Id: {} {} ",
+          organizationId,
+          e.getMessage());
+      return;
+    }
+    if (accountResponse == null || !accountResponse.getStatusCode().is2xxSuccessful()) {
+      return;
+    }
 
-        Object activeObj = account.get("active");
+    Map<String, EmployeeAccount> accounts = new HashMap<>();
+    for (Map<String, Object> accountData : (List<Map<String, Object>>) accountResponse.getBody()) {
+      accounts.put((String) accountData.get("employeeId"), toEmployeeAccount(accountData));
+    }
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+    for (String employeeId : employeeIds) {
+      // Employees unknown to accounts get an empty account, which the directory skips.
+      bulkOperations.updateOne(
+          new Query(
+              Criteria.where("organizationId").is(organizationId).and("employeeId").is(employeeId)),
+          Update.update("account", accounts.getOrDefault(employeeId, new EmployeeAccount())));
+    }
+    bulkOperations.execute();
+    backfilledOrganizations.add(organizationId);
+    log.info(
+        "Backfilled accounts of {} employees of organization {}",
+        employeeIds.size(),
+        organizationId);
+  }
 
-        if (!isFilterApplied || (Boolean.TRUE.equals(activeObj) == isActive)) {
-          count++;
-        }
-      }
-      return count;
+  @Override
+  public void syncAccount(String employeeId) throws Exception {
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    // Accounts syncs after status and profile changes, and after users change their own email.
+    Set<String> permissions = UserContext.getLoggedInUserPermissions();
+    if (!employeeId.equalsIgnoreCase(UserContext.getLoggedInEmployeeId())
+        && !permissions.contains(PermissionConstants.UPDATE_EMPLOYEE)
+        && !permissions.contains(PermissionConstants.INACTIVE_EMPLOYEE)
+        && !permissions.contains(UPDATE_ALL_EMPLOYEES)) {
+      throw new UnAuthorisedException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.AUTHORIZATION_ERROR, ErrorCode.PERMISSION_MISSING, UNAUTHORISED_ACCESS));
+    }
+    ResponseEntity<Object> accountResponse;
+    try {
+      accountResponse = accountClient.getUserByEmployeeId(employeeId.toUpperCase());
+    } catch (Exception e) {
+      log.error(
+          ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE
+              + " Organization Id: {} , EmployeeID: {} {}",
+          organizationId,
+          employeeId,
+          e.getMessage());
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.API_ERROR,
+              ErrorCode.SERVER_ERROR,
+              Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
+    }
+    if (!accountResponse.getStatusCode().is2xxSuccessful()
+        || !(accountResponse.getBody() instanceof Map<?, ?> accountData)) {
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.API_ERROR,
+              ErrorCode.SERVER_ERROR,
+              Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
     }
 
-    return 0L;
+    UpdateResult result =
+        mongoTemplate.updateFirst(
+            new Query(
+                Criteria.where("organizationId")
+                    .is(organizationId)
+                    .and("employeeId")
+                    .is(employeeId.toUpperCase())),
+            Update.update("account", toEmployeeAccount((Map<String, Object>) accountData)),
+            Employee.class);
+    if (result.getMatchedCount() == 0) {
+      throw new ResourceNotFound(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
+    }
   }
 
+  private static EmployeeAccount toEmployeeAccount(Map<String, Object> accountData) {
+    return new EmployeeAccount(
+        (String) accountData.get("firstName"),
+        (String) accountData.get("lastName"),
+        (String) accountData.get("email"),
+        Boolean.TRUE.equals(accountData.get("active")));
+  }
 
-
-  public void updateJobDetails(Employee existingEmployee, JobDetails updatedJobDetails) {
+  /** Applies the job details and returns the job they close, if the employment type changed. */
+  public JobDetails updateJobDetails(Employee existingEmployee, JobDetails updatedJobDetails) {
+    JobDetails closedJob = null;
     if (updatedJobDetails != null) {
       JobDetails existingJobDetails = existingEmployee.getJobDetails();
       if (existingJobDetails == null) {
@@ -529,43 +761,26 @@ public class EmployeeServiceImpl implements EmployeeService {
         existingEmployee.setJobDetails(existingJobDetails);
       }
       existingJobDetails.setUpdatedAt(new Date());
-      EmployeeName employeeName= accountClient.getEmployeeName(UserContext.getLoggedInEmployeeId());
-      String fullName=employeeName.getFirstName()+" "+employeeName.getLastName();
-      existingJobDetails.setUpdatedBy(
-               fullName + " (" +
-                        UserContext.getLoggedInUserDTO().getRoles()
-                                .stream()
-                                .map(RoleDTO::getName)
-                                .collect(Collectors.joining(" | ")) + ")"
-      );
+      String modifiedBy = JobHistoryService.modifiedBy();
+      existingJobDetails.setUpdatedBy(modifiedBy);
       if (updatedJobDetails.getEmployementType() != null &&
               !updatedJobDetails.getEmployementType().equals(existingJobDetails.getEmployementType())) {
 
-        if (existingEmployee.getJobHistory() == null) {
-          existingEmployee.setJobHistory(new ArrayList<>());
-        }
-        JobDetails historyJob = new JobDetails();
-        historyJob.setDesignation(existingJobDetails.getDesignation());
-        historyJob.setEmployementType(existingJobDetails.getEmployementType());
-        historyJob.setDepartment(existingJobDetails.getDepartment());
+        closedJob = new JobDetails();
+        closedJob.setDesignation(existingJobDetails.getDesignation());
+        closedJob.setEmployementType(existingJobDetails.getEmployementType());
+        closedJob.setDepartment(existingJobDetails.getDepartment());
         if(existingJobDetails.getStartDate()==null) {
-          historyJob.setStartDate(existingJobDetails.getJoiningDate());
+          closedJob.setStartDate(existingJobDetails.getJoiningDate());
         }
         else{
-          historyJob.setStartDate(existingJobDetails.getStartDate());
+          closedJob.setStartDate(existingJobDetails.getStartDate());
         }
-        historyJob.setEndDate(new Date());
-        historyJob.setDescription(existingJobDetails.getDescription());
-        historyJob.setUpdatedAt(existingJobDetails.getUpdatedAt());
-        historyJob.setId(UUID.randomUUID().toString());
-        historyJob.setUpdatedBy(
-                fullName + " (" +
-                        UserContext.getLoggedInUserDTO().getRoles()
-                                .stream()
-                                .map(RoleDTO::getName)
-                                .collect(Collectors.joining(" | ")) + ")"
-        );
-        existingEmployee.getJobHistory().add(historyJob);
+        closedJob.setEndDate(new Date());
+        closedJob.setDescription(existingJobDetails.getDescription());
+        closedJob.setUpdatedAt(existingJobDetails.getUpdatedAt());
+        closedJob.setId(UUID.randomUUID().toString());
+        closedJob.setUpdatedBy(modifiedBy);
         existingJobDetails.setStartDate(new Date());
       }
 
@@ -585,6 +800,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         existingJobDetails.setResignationDate(updatedJobDetails.getResignationDate());
       }
     }
+    return closedJob;
   }
 
   private void updateContact(Employee existingEmployee, Contact updatedContact) {
@@ -726,81 +942,31 @@ public class EmployeeServiceImpl implements EmployeeService {
   }
 
   @Override
-  public Employee updateKYCRequest(String id, UpdateKYCRequest updateKYCRequest) throws Exception {
-    Employee employee =
-        employeeRepository.findByEmployeeIdAndOrganizationId(
-            id, UserContext.getLoggedInUserOrganization().getId());
-    if (employee == null) {
-      throw new ResourceNotFound(
+  public Employee updateKYCRequest(String id, JsonNode updateKYCRequest) throws Exception {
+    Update update;
+    try {
+      update = kycUpdateMapper.toUpdate(updateKYCRequest);
+    } catch (PartialUpdateMapper.InvalidFieldException e) {
+      log.error(e.getMessage());
+      throw new BadRequestException(
           BuildErrorMessage.buildErrorMessage(
-              ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
-    }
-    ObjectMapper objectMapper = new ObjectMapper();
-    String jsonString = objectMapper.writeValueAsString(updateKYCRequest);
-    Map<String, Object> fieldsMap =
-        objectMapper.readValue(
-            jsonString,
-            new TypeReference<Map<String, Object>>() {
-              // checkstyle
-            });
-    for (Map.Entry<String, Object> entry : fieldsMap.entrySet()) {
-      String key = entry.getKey();
-      Object value = entry.getValue();
-      if (value == null) {
-        continue;
-      }
-      try {
-        Field field = Employee.class.getDeclaredField(key);
-        field.setAccessible(true);
-        if (key.equals("kycDetails")) {
-          Map<String, Object> kycDetailsMap = (Map<String, Object>) value;
-          KYCDetails kycDetails;
-          if (employee.getKycDetails() == null) {
-            kycDetails = new KYCDetails();
-          } else {
-            kycDetails = employee.getKycDetails();
-          }
-          for (Map.Entry<String, Object> kycEntry : kycDetailsMap.entrySet()) {
-            String kycDetailsKey = kycEntry.getKey();
-            Object kycDetailsValue = kycEntry.getValue();
-            if (kycDetailsValue != null) {
-              Field kycFiled = KYCDetails.class.getDeclaredField(kycDetailsKey);
-              kycFiled.setAccessible(true);
-              kycFiled.set(kycDetails, kycDetailsValue);
-            }
-          }
-          field.set(employee, kycDetails);
-        } else if (key.equals("bankDetails")) {
-          Map<String, Object> bankDetailsMap = (Map<String, Object>) value;
-          BankDetails bankDetails;
-          if (employee.getBankDetails() == null) {
-            bankDetails = new BankDetails();
-          } else {
-            bankDetails = employee.getBankDetails();
-          }
-          for (Map.Entry<String, Object> bankEntry : bankDetailsMap.entrySet()) {
-            String bankDetailsKey = bankEntry.getKey();
-            Object bankDetailsValue = bankEntry.getValue();
-            if (bankDetailsValue != null) {
-              Field bankFiled = BankDetails.class.getDeclaredField(bankDetailsKey);
-              bankFiled.setAccessible(true);
-              bankFiled.set(bankDetails, bankDetailsValue);
-            }
-          }
-          field.set(employee, bankDetails);
-        }
-
-      } catch (NoSuchFieldException | IllegalAccessException e) {
-        log.error(e.getMessage());
-        throw new BadRequestException(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.VALIDATION_ERROR,
-                ErrorCode.FIELD_VALIDATION_MISSING,
-                Constants.IMPROPER_PAYLOAD));
-      }
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.FIELD_VALIDATION_MISSING,
+              Constants.IMPROPER_PAYLOAD));
     }
+    Query query =
+        new Query(
+            Criteria.where("employeeId")
+                .is(id)
+                .and("organizationId")
+                .is(UserContext.getLoggedInUserOrganization().getId()));
+    Employee employee;
     try {
-      return employeeRepository.save(employee);
+      employee =
+          update.getUpdateObject().isEmpty()
+              ? mongoTemplate.findOne(query, Employee.class)
+              : mongoTemplate.findAndModify(
+                  query, update, FindAndModifyOptions.options().returnNew(true), Employee.class);
     } catch (DuplicateKeyException e) {
       String errorMessage = extractDuplicateKeyError(e);
       throw new Exception(
@@ -813,6 +979,12 @@ public class EmployeeServiceImpl implements EmployeeService {
               ErrorCode.CANNOT_SAVE_CHANGES,
               Constants.ERROR_IN_SAVING_DETAILS));
     }
+    if (employee == null) {
+      throw new ResourceNotFound(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
+    }
+    return employee;
   }
 
   @Override
@@ -866,13 +1038,25 @@ public class EmployeeServiceImpl implements EmployeeService {
           BuildErrorMessage.buildErrorMessage(
               ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
     }
+    byte[] content = file.getBytes();
+    BufferedImage picture = ThumbnailGenerator.decode(content);
+    if (picture == null) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.FIELD_VALIDATION_MISSING,
+              INVALID_PROFILE_PIC_FORMATS));
+    }
     FileUploadRequest fileUploadRequest = new FileUploadRequest();
     fileUploadRequest.setFile(file);
     fileUploadRequest.setEntityId(employeeId);
     fileUploadRequest.setFileType("ProfilePicture");
     fileUploadRequest.setName(filename);
     File response = fileService.uploadOrUpdateFile(fileUploadRequest);
+    String version = DigestUtils.md5DigestAsHex(content);
     employee.setProfilePictureId(response.getId());
+    employee.setProfilePictureVersion(version);
+    employee.setProfilePictureThumbnails(saveThumbnails(employeeId, picture, version));
 
     try {
       employeeRepository.save(employee);
@@ -893,29 +1077,24 @@ public class EmployeeServiceImpl implements EmployeeService {
     return employee;
   }
 
+  /**
+   * Stores the thumbnails of a new profile picture. Without them avatars are scaled down from the
+   * original when served, so a failure here does not fail the upload.
+   */
+  private ProfilePictureThumbnails saveThumbnails(
+      String employeeId, BufferedImage picture, String version) {
+    try {
+      return profilePicService.saveThumbnails(employeeId, picture, version);
+    } catch (Exception e) {
+      log.warn("Could not store profile picture thumbnails of {}: {}", employeeId, e.getMessage());
+      return null;
+    }
+  }
+
   @Override
   public EmployeeValues getEmployeeValues() throws Exception {
-    EmployeeValues employeeValues = new EmployeeValues();
-    List<EmployeeDefaultValues> employeeDefaultValues =
-        employeeRepository.findDistinctTypeByOrganizationId(
-            UserContext.getLoggedInUserOrganization().getId());
-    Set<String> departments =
-        employeeDefaultValues.stream()
-            .map(EmployeeDefaultValues::getDepartment)
-            .collect(Collectors.toSet());
-    Set<String> designations =
-        employeeDefaultValues.stream()
-            .map(EmployeeDefaultValues::getDesignation)
-            .collect(Collectors.toSet());
-    Set<String> employmentTypes =
-        employeeDefaultValues.stream()
-            .map(EmployeeDefaultValues::getEmploymentType)
-            .collect(Collectors.toSet());
-
-    employeeValues.setDepartments(departments);
-    employeeValues.setDesignations(designations);
-    employeeValues.setEmploymentTypes(employmentTypes);
-    return employeeValues;
+    return employeeFacetService.getEmployeeValues(
+        UserContext.getLoggedInUserOrganization().getId());
   }
 
   @Override
@@ -976,121 +1155,4 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
     return "Duplicate entry found.";
   }
-
-  private Employee getEmployeeById(String employeeId) throws Exception {
-    return employeeRepository.findByEmployeeId(employeeId)
-            .orElseThrow(() -> new Exception("Employee not found with id: " + employeeId));
-  }
-
-  private void validateJobDetails(JobDetails job) throws Exception {
-    if (job.getDesignation() == null || job.getDesignation().isBlank()) {
-      throw new Exception("Designation is mandatory");
-    }
-    if (job.getEmployementType() == null || job.getEmployementType().isBlank()) {
-      throw new Exception("Employment type is mandatory");
-    }
-    if (job.getStartDate() == null) {
-      throw new Exception("Start date is mandatory");
-    }
-    if (job.getEndDate() == null) {
-      throw new Exception("End date is mandatory");
-    }
-  }
-
-  @Override
-  public Employee addJobHistory(String employeeId, JobDetails newJob) throws Exception {
-    Employee employee = getEmployeeById(employeeId);
-
-    EmployeeName employeeName= accountClient.getEmployeeName(UserContext.getLoggedInEmployeeId());
-    String fullName=employeeName.getFirstName()+" "+employeeName.getLastName();
-    newJob.setUpdatedBy(
-            fullName + " (" +
-                    UserContext.getLoggedInUserDTO().getRoles()
-                            .stream()
-                            .map(RoleDTO::getName)
-                            .collect(Collectors.joining(" | ")) + ")"
-    );
-    validateJobDetails(newJob);
-
-    if (employee.getJobHistory() == null) {
-      employee.setJobHistory(new ArrayList<>());
-    }
-
-    newJob.setUpdatedAt(new Date());
-    newJob.setId(UUID.randomUUID().toString());
-
-    employee.getJobHistory().add(newJob);
-
-    return employeeRepository.save(employee);
-  }
-
-  @Override
-  public Employee updateJobHistory(String employeeId, String jobId, JobDetails updatedJob) throws Exception {
-    Employee employee = getEmployeeById(employeeId);
-
-    if (employee.getJobHistory() == null || employee.getJobHistory().isEmpty()) {
-      throw new Exception("Job history is empty");
-    }
-
-    int jobIndex = -1;
-    for (int i = 0; i < employee.getJobHistory().size(); i++) {
-      if (employee.getJobHistory().get(i).getId().equals(jobId)) {
-        jobIndex = i;
-        break;
-      }
-    }
-
-    if (jobIndex == -1) {
-      throw new Exception("Job history not found with id: " + jobId);
-    }
-
-    updatedJob.setUpdatedAt(new Date());
-    validateJobDetails(updatedJob);
-    updatedJob.setId(jobId);
-    EmployeeName employeeName= accountClient.getEmployeeName(UserContext.getLoggedInEmployeeId());
-    String fullName=employeeName.getFirstName()+" "+employeeName.getLastName();
-    updatedJob.setUpdatedBy(
-            fullName + " (" +
-                    UserContext.getLoggedInUserDTO().getRoles()
-                            .stream()
-                            .map(RoleDTO::getName)
-                            .collect(Collectors.joining(" | ")) + ")"
-    );
-    employee.getJobHistory().set(jobIndex, updatedJob);
-
-    return employeeRepository.save(employee);
-  }
-
-  @Override
-  public Employee deleteJobHistory(String employeeId, String jobId) throws Exception {
-    Employee employee = getEmployeeById(employeeId);
-
-    JobDetails jobToRemove = employee.getJobHistory()
-            .stream()
-            .filter(job -> job.getId()!=null && job.getId().equals(jobId) )
-            .findFirst()
-            .orElseThrow(() -> new Exception("Job history not found with id: " + jobId));
-
-    employee.getJobHistory().remove(jobToRemove);
-
-    return employeeRepository.save(employee);
-  }
-
-  @Override
-  public List<JobDetails> getJobHistory(String employeeId) throws Exception {
-    Employee employee = getEmployeeById(employeeId);
-
-    List<JobDetails> history = new ArrayList<>();
-
-    if (employee.getJobHistory() != null && !employee.getJobHistory().isEmpty()) {
-      history.addAll(employee.getJobHistory());
-    }
-    if (employee.getJobDetails() != null) {
-      employee.getJobDetails().setId(UUID.randomUUID().toString());
-      employee.getJobDetails().setResignationDate(null);
-      history.add(employee.getJobDetails());
-    }
-    return history;
-  }
-
 }
@@ -0,0 +1,271 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static com.beeja.api.employeemanagement.utils.Constants.DESIGNATION_IS_MANDATORY;
+import static com.beeja.api.employeemanagement.utils.Constants.EMPLOYEE_NOT_FOUND;
+import static com.beeja.api.employeemanagement.utils.Constants.EMPLOYMENT_TYPE_IS_MANDATORY;
+import static com.beeja.api.employeemanagement.utils.Constants.END_DATE_IS_MANDATORY;
+import static com.beeja.api.employeemanagement.utils.Constants.JOB_HISTORY_NOT_FOUND;
+import static com.beeja.api.employeemanagement.utils.Constants.START_DATE_IS_MANDATORY;
+
+import com.beeja.api.employeemanagement.enums.ErrorCode;
+import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.exceptions.BadRequestException;
+import com.beeja.api.employeemanagement.exceptions.ResourceNotFound;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.model.JobHistory;
+import com.beeja.api.employeemanagement.response.JobHistoryResponse;
+import com.beeja.api.employeemanagement.service.JobHistoryService;
+import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores job history in the {@code job_history} collection, one document per past job. Each write
+ * touches a single entry by id, so edits never load or rewrite the employee, and concurrent edits
+ * of different entries cannot overwrite each other. History embedded in employees by earlier
+ * versions is moved over once the application is ready.
+ */
+@Slf4j
+@Service
+public class JobHistoryServiceImpl implements JobHistoryService {
+
+  @Autowired private MongoTemplate mongoTemplate;
+
+  @Override
+  public JobDetails addJobHistory(String employeeId, JobDetails newJob) {
+    validateJobDetails(newJob);
+    String organizationId = UserContext.getLoggedInUserOrganizationId();
+    if (!mongoTemplate.exists(employeeQuery(organizationId, employeeId), Employee.class)) {
+      throw new ResourceNotFound(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
+    }
+    newJob.setId(UUID.randomUUID().toString());
+    newJob.setUpdatedBy(JobHistoryService.modifiedBy());
+    newJob.setUpdatedAt(new Date());
+    return mongoTemplate.insert(JobHistory.of(organizationId, employeeId, newJob)).toJobDetails();
+  }
+
+  @Override
+  public JobDetails updateJobHistory(String employeeId, String jobId, JobDetails updatedJob) {
+    validateJobDetails(updatedJob);
+    Update update =
+        new Update()
+            .set("designation", updatedJob.getDesignation())
+            .set("employementType", updatedJob.getEmployementType())
+            .set("department", updatedJob.getDepartment())
+            .set("description", updatedJob.getDescription())
+            .set("startDate", updatedJob.getStartDate())
+            .set("endDate", updatedJob.getEndDate())
+            .set("updatedBy", JobHistoryService.modifiedBy())
+            .set("updatedAt", new Date());
+    JobHistory updated =
+        mongoTemplate.findAndModify(
+            entryQuery(employeeId, jobId),
+            update,
+            FindAndModifyOptions.options().returnNew(true),
+            JobHistory.class);
+    return found(updated).toJobDetails();
+  }
+
+  @Override
+  public JobDetails deleteJobHistory(String employeeId, String jobId) {
+    return found(mongoTemplate.findAndRemove(entryQuery(employeeId, jobId), JobHistory.class))
+        .toJobDetails();
+  }
+
+  @Override
+  public List<JobDetails> getJobHistory(String employeeId) {
+    String organizationId = UserContext.getLoggedInUserOrganizationId();
+    Query historyQuery =
+        employeeQuery(organizationId, employeeId).with(Sort.by(Sort.Direction.ASC, "startDate"));
+    List<JobDetails> history = new ArrayList<>();
+    for (JobHistory entry : mongoTemplate.find(historyQuery, JobHistory.class)) {
+      history.add(entry.toJobDetails());
+    }
+
+    Query currentQuery = employeeQuery(organizationId, employeeId);
+    currentQuery.fields().include("jobDetails");
+    Employee employee = mongoTemplate.findOne(currentQuery, Employee.class);
+    if (employee != null && employee.getJobDetails() != null) {
+      employee.getJobDetails().setId(UUID.randomUUID().toString());
+      employee.getJobDetails().setResignationDate(null);
+      history.add(employee.getJobDetails());
+    }
+    return history;
+  }
+
+  @Override
+  public void recordClosedJob(String organizationId, String employeeId, JobDetails closedJob) {
+    if (closedJob.getId() == null) {
+      closedJob.setId(UUID.randomUUID().toString());
+    }
+    mongoTemplate.insert(JobHistory.of(organizationId, employeeId, closedJob));
+  }
+
+  @Override
+  public JobHistoryResponse getOrganizationJobHistory(
+      Date from, Date to, String department, String designation, int pageNumber, int pageSize) {
+    Criteria criteria =
+        Criteria.where("organizationId").is(UserContext.getLoggedInUserOrganizationId());
+    if (department != null) {
+      criteria.and("department").is(department);
+    }
+    if (designation != null) {
+      criteria.and("designation").is(designation);
+    }
+    if (from != null || to != null) {
+      Criteria endDate = criteria.and("endDate");
+      if (from != null) {
+        endDate.gte(from);
+      }
+      if (to != null) {
+        endDate.lt(to);
+      }
+    }
+    long totalSize = mongoTemplate.count(new Query(criteria), JobHistory.class);
+    int validPage = pageNumber > 0 ? pageNumber - 1 : 0;
+    int validSize = Math.min(Math.max(pageSize, 1), Constants.JOB_HISTORY_MAX_PAGE_SIZE);
+    Query pageQuery =
+        new Query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "endDate"))
+            .skip((long) validPage * validSize)
+            .limit(validSize);
+    return new JobHistoryResponse(mongoTemplate.find(pageQuery, JobHistory.class), totalSize);
+  }
+
+  /**
+   * Moves history embedded in employees by earlier versions into the collection. Entries are
+   * upserted by id, so a migration interrupted before the embedded array was removed can simply
+   * run again.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateEmbeddedJobHistory() {
+    Query legacy = new Query(Criteria.where("jobHistory.0").exists(true));
+    legacy.fields().include("organizationId", "employeeId", "jobHistory");
+    legacy.cursorBatchSize(Constants.JOB_HISTORY_MIGRATION_BATCH_SIZE);
+    String collection = mongoTemplate.getCollectionName(Employee.class);
+    int migrated = 0;
+    Document employee = null;
+    try (Stream<Document> employees = mongoTemplate.stream(legacy, Document.class, collection)) {
+      Iterator<Document> legacyEmployees = employees.iterator();
+      while (legacyEmployees.hasNext()) {
+        employee = legacyEmployees.next();
+        migrate(employee);
+        migrated++;
+      }
+    } catch (Exception e) {
+      log.error(
+          "Stopped moving embedded job history at employee {} of organization {} after moving {}"
+              + " employees; the remaining ones are moved on the next start",
+          employee == null ? null : employee.getString("employeeId"),
+          employee == null ? null : employee.getString("organizationId"),
+          migrated,
+          e);
+      return;
+    }
+    if (migrated > 0) {
+      log.info("Moved the job history of {} employees to its own collection", migrated);
+    }
+  }
+
+  private void migrate(Document employee) {
+    String organizationId = employee.getString("organizationId");
+    String employeeId = employee.getString("employeeId");
+    List<Document> jobs = employee.getList("jobHistory", Document.class);
+    BulkOperations bulk =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobHistory.class);
+    for (int i = 0; i < jobs.size(); i++) {
+      Document job = jobs.get(i);
+      Object id = job.get("_id");
+      if (id == null) {
+        // Derived from the position, so that a rerun upserts the same entry.
+        byte[] position = (employee.get("_id") + "/" + i).getBytes(StandardCharsets.UTF_8);
+        id = UUID.nameUUIDFromBytes(position).toString();
+      }
+      Update entry =
+          new Update()
+              .set("organizationId", organizationId)
+              .set("employeeId", employeeId)
+              .set("designation", job.get("designation"))
+              .set("employementType", job.get("employementType"))
+              .set("department", job.get("department"))
+              .set("description", job.get("description"))
+              .set("startDate", job.get("startDate"))
+              .set("endDate", job.get("endDate"))
+              .set("updatedBy", job.get("updatedBy"))
+              .set("updatedAt", job.get("updatedAt"));
+      bulk.upsert(new Query(Criteria.where("_id").is(id)), entry);
+    }
+    bulk.execute();
+    mongoTemplate.updateFirst(
+        new Query(Criteria.where("_id").is(employee.get("_id"))),
+        new Update().unset("jobHistory"),
+        Employee.class);
+  }
+
+  private static Query employeeQuery(String organizationId, String employeeId) {
+    return new Query(
+        Criteria.where("organizationId").is(organizationId).and("employeeId").is(employeeId));
+  }
+
+  private static Query entryQuery(String employeeId, String jobId) {
+    return new Query(
+        Criteria.where("_id")
+            .is(jobId)
+            .and("organizationId")
+            .is(UserContext.getLoggedInUserOrganizationId())
+            .and("employeeId")
+            .is(employeeId));
+  }
+
+  private static JobHistory found(JobHistory entry) {
+    if (entry == null) {
+      throw new ResourceNotFound(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR,
+              ErrorCode.RESOURCE_NOT_FOUND,
+              JOB_HISTORY_NOT_FOUND));
+    }
+    return entry;
+  }
+
+  private static void validateJobDetails(JobDetails job) {
+    String missing = null;
+    if (job.getDesignation() == null || job.getDesignation().isBlank()) {
+      missing = DESIGNATION_IS_MANDATORY;
+    } else if (job.getEmployementType() == null || job.getEmployementType().isBlank()) {
+      missing = EMPLOYMENT_TYPE_IS_MANDATORY;
+    } else if (job.getStartDate() == null) {
+      missing = START_DATE_IS_MANDATORY;
+    } else if (job.getEndDate() == null) {
+      missing = END_DATE_IS_MANDATORY;
+    }
+    if (missing != null) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR, ErrorCode.FIELD_VALIDATION_MISSING, missing));
+    }
+  }
+}
@@ -1,22 +1,73 @@
 package com.beeja.api.employeemanagement.serviceImpl;
 
+import com.beeja.api.employeemanagement.client.FileClient;
+import com.beeja.api.employeemanagement.enums.ErrorCode;
+import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.exceptions.FeignClientException;
+import com.beeja.api.employeemanagement.exceptions.ResourceNotFound;
+import com.beeja.api.employeemanagement.model.Employee;
 import com.beeja.api.employeemanagement.model.File;
+import com.beeja.api.employeemanagement.model.ProfilePictureThumbnails;
+import com.beeja.api.employeemanagement.repository.EmployeeRepository;
 import com.beeja.api.employeemanagement.requests.FileUploadRequest;
+import com.beeja.api.employeemanagement.response.ProfilePicThumbnail;
 import com.beeja.api.employeemanagement.service.FileService;
 import com.beeja.api.employeemanagement.service.ProfilePicService;
+import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
 import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.InMemoryMultipartFile;
+import com.beeja.api.employeemanagement.utils.ThumbnailGenerator;
 import com.beeja.api.employeemanagement.utils.UserContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
+/**
+ * Profile pictures and their thumbnails. Thumbnails in the configured sizes are generated when a
+ * picture is uploaded and stored next to it in file-management; avatars are served from them
+ * through a bounded in-memory LRU, so rendering an org chart reads a few kilobytes per employee
+ * from memory instead of the full original from file-management.
+ */
 @Slf4j
 @Service
 public class ProfilePicServiceImpl implements ProfilePicService {
 
   @Autowired FileService fileService;
 
+  @Autowired FileClient fileClient;
+
+  @Autowired EmployeeRepository employeeRepository;
+
+  private final List<Integer> thumbnailSizes;
+
+  private final Cache<String, byte[]> thumbnails;
+
+  public ProfilePicServiceImpl(
+      @Value("${profile-pic.thumbnail-sizes:48,96,192}") List<Integer> thumbnailSizes,
+      @Value("${profile-pic.thumbnail-cache-size:32MB}") DataSize thumbnailCacheSize,
+      MeterRegistry meterRegistry) {
+    this.thumbnailSizes = thumbnailSizes.stream().sorted().toList();
+    this.thumbnails =
+        Caffeine.newBuilder()
+            .maximumWeight(thumbnailCacheSize.toBytes())
+            .weigher((String key, byte[] content) -> key.length() + content.length)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, thumbnails, "profilePicThumbnails");
+  }
+
   @Override
   public File saveProfilePicture(FileUploadRequest fileUploadRequest) throws Exception {
 
@@ -56,4 +107,106 @@ public class ProfilePicServiceImpl implements ProfilePicService {
       throw new Exception(Constants.ERROR_IN_DOWNLOADING_FILE_FROM_FILE_SERVICE);
     }
   }
+
+  @Override
+  public ProfilePictureThumbnails saveThumbnails(
+      String employeeId, BufferedImage picture, String version) throws Exception {
+    String format = ThumbnailGenerator.formatOf(picture);
+    String contentType = ThumbnailGenerator.PNG.equals(format) ? "image/png" : "image/jpeg";
+    Map<String, String> fileIds = new LinkedHashMap<>();
+    for (int size : thumbnailSizes) {
+      byte[] content = ThumbnailGenerator.thumbnail(picture, size);
+      FileUploadRequest fileUploadRequest = new FileUploadRequest();
+      fileUploadRequest.setFile(
+          new InMemoryMultipartFile(
+              "file", "profile-picture-" + size + "." + format, contentType, content));
+      fileUploadRequest.setEntityId(employeeId);
+      fileUploadRequest.setFileType(Constants.PROFILE_PIC_THUMBNAIL_FILE_TYPE + size);
+      File thumbnail = fileService.uploadOrUpdateFile(fileUploadRequest);
+      fileIds.put(String.valueOf(size), thumbnail.getId());
+      thumbnails.put(cacheKey(thumbnail.getId(), version, size), content);
+    }
+    return new ProfilePictureThumbnails(version, fileIds);
+  }
+
+  @Override
+  public ProfilePicThumbnail getProfilePicThumbnail(String employeeId, int size) {
+    Employee employee =
+        employeeRepository.findProfilePictureByEmployeeId(
+            employeeId, UserContext.getLoggedInUserOrganization().getId());
+    if (employee == null || employee.getProfilePictureId() == null) {
+      throw new ResourceNotFound(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR,
+              ErrorCode.FILE_NOT_FOUND,
+              Constants.PROFILE_PIC_NOT_FOUND));
+    }
+    int thumbnailSize =
+        thumbnailSizes.stream()
+            .filter(candidate -> candidate >= size)
+            .findFirst()
+            .orElse(thumbnailSizes.get(thumbnailSizes.size() - 1));
+    ProfilePictureThumbnails stored = employee.getProfilePictureThumbnails();
+    String version = version(employee);
+    String fileId =
+        stored != null && stored.getFileIds() != null && version.equals(stored.getVersion())
+            ? stored.getFileIds().get(String.valueOf(thumbnailSize))
+            : null;
+    if (fileId != null) {
+      return new ProfilePicThumbnail(fileId, thumbnailSize, version, false);
+    }
+    // Pictures whose thumbnails are missing, or were not made for them, are scaled down when
+    // first served.
+    return new ProfilePicThumbnail(employee.getProfilePictureId(), thumbnailSize, version, true);
+  }
+
+  /**
+   * The version of the employee's current picture. Pictures uploaded before versions were stored
+   * fall back to their thumbnails' version, and then to the file id.
+   */
+  private static String version(Employee employee) {
+    if (employee.getProfilePictureVersion() != null) {
+      return employee.getProfilePictureVersion();
+    }
+    ProfilePictureThumbnails stored = employee.getProfilePictureThumbnails();
+    return stored != null && stored.getVersion() != null
+        ? stored.getVersion()
+        : employee.getProfilePictureId();
+  }
+
+  @Override
+  public byte[] getThumbnailContent(ProfilePicThumbnail thumbnail) {
+    return thumbnails.get(
+        cacheKey(thumbnail.getFileId(), thumbnail.getVersion(), thumbnail.getSize()),
+        key -> downloadThumbnail(thumbnail));
+  }
+
+  private byte[] downloadThumbnail(ProfilePicThumbnail thumbnail) {
+    try {
+      byte[] content =
+          Objects.requireNonNull(fileClient.downloadFile(thumbnail.getFileId()).getBody());
+      if (!thumbnail.isScaledOnRead()) {
+        return content;
+      }
+      BufferedImage picture = ThumbnailGenerator.decode(content);
+      if (picture == null) {
+        return content;
+      }
+      return ThumbnailGenerator.thumbnail(picture, thumbnail.getSize());
+    } catch (Exception e) {
+      log.error(
+          Constants.ERROR_IN_DOWNLOADING_FILE_FROM_FILE_SERVICE + "File Id : {}, error: {}",
+          thumbnail.getFileId(),
+          e.getMessage());
+      throw new FeignClientException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.API_ERROR,
+              ErrorCode.UNABLE_TO_FETCH_DETAILS,
+              Constants.ERROR_IN_DOWNLOADING_FILE_FROM_FILE_SERVICE));
+    }
+  }
+
+  private static String cacheKey(String fileId, String version, int size) {
+    return fileId + ":" + version + ":" + size;
+  }
 }
@@ -0,0 +1,44 @@
+package com.beeja.api.employeemanagement.utils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Deadline for the remote calls made by the current thread. Work that gives up on a result after a
+ * timeout, such as a part of the employee profile, runs under a deadline so that the Feign calls it
+ * makes never wait longer than the time that is left; otherwise the abandoned call would keep its
+ * thread for the client's full read timeout.
+ */
+public final class CallDeadline {
+
+  private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+  private CallDeadline() {}
+
+  /** Runs the call with a deadline of {@code timeout} from now, or the current one if earlier. */
+  public static <T> T within(Duration timeout, Callable<T> call) throws Exception {
+    Long previous = DEADLINE.get();
+    long deadline = System.nanoTime() + timeout.toNanos();
+    DEADLINE.set(previous == null || deadline - previous < 0 ? deadline : previous);
+    try {
+      return call.call();
+    } finally {
+      if (previous == null) {
+        DEADLINE.remove();
+      } else {
+        DEADLINE.set(previous);
+      }
+    }
+  }
+
+  /** Returns the time left before the current thread's deadline, or null if it has none. */
+  public static Duration remaining() {
+    Long deadline = DEADLINE.get();
+    return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime());
+  }
+
+  public static boolean passed() {
+    Duration remaining = remaining();
+    return remaining != null && (remaining.isNegative() || remaining.isZero());
+  }
+}
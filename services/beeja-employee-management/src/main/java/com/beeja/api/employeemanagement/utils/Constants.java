@@ -1,8 +1,15 @@
 package com.beeja.api.employeemanagement.utils;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 public class Constants {
+  //    IDENTITY TOKEN CLAIMS
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+  public static final String CLAIM_LAST_NAME = "lastName";
+  public static final String CLAIM_ROLES = "roles";
+
   public static final String BEEJA = "BEEJA";
   public static final String UNAUTHORISED_TO_READ_OTHERS_DOCUMENTS =
       "UNAUTHORISED TO READ OTHERS DOCUMENTS";
@@ -52,6 +59,8 @@ public class Constants {
 
   public static final String INVALID_PROFILE_PIC_FORMATS =
       "Please provide valid file formats (jpeg, jpg, png)";
+  public static final String PROFILE_PIC_NOT_FOUND = "Employee has no profile picture";
+  public static final String PROFILE_PIC_THUMBNAIL_FILE_TYPE = "ProfilePictureThumbnail";
   public static final String NO_NUMERIC_FOUND = "No numeric part found in empId : ";
   public static final String ERROR_IN_EXTRACTING_EMP_NUMBER =
       "Failed to extract numeric employee number from empId: {}";
@@ -60,4 +69,50 @@ public class Constants {
   public static final Pattern CONTAINS_LETTER = Pattern.compile("[a-zA-Z]");
   public static final Pattern CONTAINS_DIGIT = Pattern.compile("\\d");
 
+  //    Employee directory
+  public static final String EMPLOYEE_DIRECTORY_INDEX = "organization_account_active_number";
+  public static final String STATUS_ACTIVE = "active";
+  public static final String ALL_STATUSES = "-";
+
+  //    Employee export
+  public static final int EMPLOYEE_EXPORT_BATCH_SIZE = 500;
+  public static final String EMPLOYEE_EXPORT_FILE_NAME = "employees";
+  public static final List<String> EMPLOYEE_EXPORT_COLUMNS =
+      List.of(
+          "Employee ID",
+          "First Name",
+          "Last Name",
+          "Email",
+          "Status",
+          "Department",
+          "Designation",
+          "Employment Type",
+          "Joining Date",
+          "Phone",
+          "Alternative Phone",
+          "Alternative Email");
+
+  //    Job history
+  public static final String JOB_HISTORY_NOT_FOUND = "Job history not found";
+  public static final String DESIGNATION_IS_MANDATORY = "Designation is mandatory";
+  public static final String EMPLOYMENT_TYPE_IS_MANDATORY = "Employment type is mandatory";
+  public static final String START_DATE_IS_MANDATORY = "Start date is mandatory";
+  public static final String END_DATE_IS_MANDATORY = "End date is mandatory";
+  public static final int JOB_HISTORY_MIGRATION_BATCH_SIZE = 500;
+  public static final int JOB_HISTORY_MAX_PAGE_SIZE = 100;
+
+  //    Employee profile
+  public static final String PROFILE_PART_DOCUMENTS = "documents";
+  public static final String PROFILE_PART_LOANS = "loans";
+  public static final String PROFILE_PART_HEALTH_INSURANCE = "healthInsurance";
+  public static final String PROFILE_PART_JOB_HISTORY = "jobHistory";
+  public static final String PART_TIMEOUT = "timeout";
+  public static final String PART_FORBIDDEN = "forbidden";
+  public static final String PART_BUSY = "busy";
+  public static final String PART_ERROR = "error";
+  public static final int PROFILE_DOCUMENTS_PAGE_SIZE = 10;
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
 }
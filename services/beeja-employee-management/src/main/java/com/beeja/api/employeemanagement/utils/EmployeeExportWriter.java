@@ -0,0 +1,115 @@
+package com.beeja.api.employeemanagement.utils;
+
+import com.beeja.api.employeemanagement.enums.ExportFormat;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes export rows to a response as they are produced, holding only a bounded window of them in
+ * memory: CSV rows go straight to the stream, XLSX rows are flushed to a temporary file by POI's
+ * streaming workbook once the window is full and copied to the stream on {@link #close()}.
+ */
+public abstract class EmployeeExportWriter implements Closeable {
+
+  private static final int XLSX_ROWS_IN_MEMORY = 100;
+
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  public static EmployeeExportWriter open(ExportFormat format, OutputStream output) {
+    return format == ExportFormat.XLSX ? new Xlsx(output) : new Csv(output);
+  }
+
+  public abstract void writeRow(List<String> values) throws IOException;
+
+  /**
+   * Keeps spreadsheet applications from evaluating CSV values that start like a formula, as names,
+   * emails and phone numbers come from user input. Besides {@code = + - @}, Excel and LibreOffice
+   * also start a formula after a leading tab or carriage return. XLSX cells are written as strings,
+   * which are never evaluated, so they keep their values as entered.
+   */
+  static String neutralize(String value) {
+    if (value == null || value.isEmpty()) {
+      return "";
+    }
+    return FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+  }
+
+  private static class Csv extends EmployeeExportWriter {
+
+    private final Writer writer;
+
+    Csv(OutputStream output) {
+      this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(quote(neutralize(values.get(i))));
+      }
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.flush();
+    }
+
+    private static String quote(String value) {
+      if (value.indexOf(',') < 0
+          && value.indexOf('"') < 0
+          && value.indexOf('\n') < 0
+          && value.indexOf('\r') < 0) {
+        return value;
+      }
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+  }
+
+  private static class Xlsx extends EmployeeExportWriter {
+
+    private final OutputStream output;
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROWS_IN_MEMORY);
+    private final Sheet sheet = workbook.createSheet("Employees");
+    private int rowIndex;
+
+    Xlsx(OutputStream output) {
+      this.output = output;
+      workbook.setCompressTempFiles(true);
+    }
+
+    @Override
+    public void writeRow(List<String> values) {
+      Row row = sheet.createRow(rowIndex++);
+      for (int i = 0; i < values.size(); i++) {
+        String value = values.get(i);
+        if (value != null) {
+          row.createCell(i).setCellValue(value);
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        workbook.write(output);
+        output.flush();
+      } finally {
+        workbook.dispose();
+        workbook.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.beeja.api.employeemanagement.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Scales profile pictures down to square thumbnails; pictures are never scaled up. Pictures are
+ * cropped to their centre square and halved step by step before the final resize, which keeps
+ * thumbnails of large photos sharp without the cost of an area-averaging filter. Pictures with
+ * transparency stay PNG, everything else is written as JPEG.
+ */
+public final class ThumbnailGenerator {
+
+  public static final String PNG = "png";
+  public static final String JPEG = "jpg";
+
+  /**
+   * Largest picture decoded, in pixels. A few kilobytes of PNG can declare a picture that takes
+   * gigabytes once decoded, so the size is read from the header first.
+   */
+  public static final long MAX_PIXELS = 40_000_000L;
+
+  private ThumbnailGenerator() {}
+
+  /**
+   * Decodes an uploaded picture, or returns {@code null} when it is not a readable image or has
+   * more than {@link #MAX_PIXELS} pixels.
+   */
+  public static BufferedImage decode(byte[] content) {
+    try (ImageInputStream input =
+        ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+      Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+      if (readers == null || !readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+          return null;
+        }
+        return reader.read(0);
+      } finally {
+        reader.dispose();
+      }
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  public static String formatOf(BufferedImage image) {
+    return image.getColorModel().hasAlpha() ? PNG : JPEG;
+  }
+
+  public static byte[] thumbnail(BufferedImage source, int size) throws IOException {
+    int edge = Math.min(source.getWidth(), source.getHeight());
+    BufferedImage image =
+        source.getSubimage(
+            (source.getWidth() - edge) / 2, (source.getHeight() - edge) / 2, edge, edge);
+    String format = formatOf(source);
+    int type = PNG.equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+    int target = Math.min(size, edge);
+    int current = edge;
+    do {
+      current = Math.max(current / 2, target);
+      image = resize(image, current, type);
+    } while (current > target);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, format, out);
+    return out.toByteArray();
+  }
+
+  public static String contentType(byte[] thumbnail) {
+    return thumbnail.length > 0 && (thumbnail[0] & 0xFF) == 0x89 ? "image/png" : "image/jpeg";
+  }
+
+  private static BufferedImage resize(BufferedImage image, int size, int type) {
+    BufferedImage resized = new BufferedImage(size, size, type);
+    Graphics2D graphics = resized.createGraphics();
+    try {
+      graphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.drawImage(image, 0, 0, size, size, null);
+    } finally {
+      graphics.dispose();
+    }
+    return resized;
+  }
+}
@@ -0,0 +1,86 @@
+package com.beeja.api.employeemanagement.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.employeemanagement.utils.CallDeadline;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FeignConfigTest {
+
+  private final FeignConfig feignConfig = new FeignConfig();
+
+  private final CircuitBreakerRegistry registry =
+      feignConfig.feignCircuitBreakerRegistry(new SimpleMeterRegistry());
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  interface StubApi {
+    @RequestLine("GET /values")
+    String get();
+  }
+
+  @Test
+  void callsUnderADeadlineGetAtMostTheTimeLeft() throws Exception {
+    List<Request.Options> options = new ArrayList<>();
+    StubApi api =
+        client(
+            (request, requestOptions) -> {
+              options.add(requestOptions);
+              return Response.builder()
+                  .status(200)
+                  .request(request)
+                  .headers(Map.of())
+                  .body("ok", StandardCharsets.UTF_8)
+                  .build();
+            });
+
+    CallDeadline.within(Duration.ofMillis(500), api::get);
+
+    assertTrue(options.get(0).readTimeoutMillis() <= 500);
+    assertTrue(options.get(0).connectTimeoutMillis() <= 500);
+  }
+
+  @Test
+  void passedDeadlineStopsCallsAndRetries() throws Exception {
+    StubApi api =
+        client(
+            (request, options) -> {
+              calls.incrementAndGet();
+              try {
+                Thread.sleep(150);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              throw new IOException("read timed out");
+            });
+
+    assertThrows(
+        RetryableException.class, () -> CallDeadline.within(Duration.ofMillis(100), api::get));
+    assertEquals(1, calls.get());
+  }
+
+  private StubApi client(Client stub) {
+    return Feign.builder()
+        .client(stub)
+        .addCapability(feignConfig.circuitBreakerCapability(registry))
+        .retryer(feignConfig.feignRetryer())
+        .target(StubApi.class, "http://stub");
+  }
+}
@@ -0,0 +1,192 @@
+package com.beeja.api.employeemanagement.config.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.beeja.api.commons.security.IdentityClaims;
+import com.beeja.api.commons.security.PrincipalCache;
+import com.beeja.api.employeemanagement.client.AccountClient;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AuthorizationFilterTest {
+
+  private static final String SECRET = "dGVzdC1zZWNyZXQtZm9yLWF1dGhvcml6YXRpb24tZmlsdGVyLXRlc3Rz";
+
+  private AuthorizationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(SECRET);
+    filter = new AuthorizationFilter();
+    filter.jwtProperties = jwtProperties;
+    filter.accountClient = mock(AccountClient.class);
+    filter.principalCache =
+        new PrincipalCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void identityTokenSetsUserContextWithoutCallingAccounts() throws Exception {
+    AtomicReference<String> organizationId = new AtomicReference<>();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(
+        request(identityToken().claim(IdentityClaims.ORGANIZATION, Map.of("id", "org1"))),
+        response,
+        new MockFilterChain() {
+          @Override
+          public void doFilter(
+              jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+            organizationId.set(UserContext.getLoggedInUserOrganizationId());
+          }
+        });
+
+    assertEquals(200, response.getStatus());
+    assertEquals("org1", organizationId.get());
+    verifyNoInteractions(filter.accountClient);
+  }
+
+  @Test
+  void identityTokenWithoutOrganizationIsRejected() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request(identityToken()), response, chain);
+
+    assertEquals(403, response.getStatus());
+    assertNull(chain.getRequest());
+    verifyNoInteractions(filter.accountClient);
+  }
+
+  @Test
+  void identityTokenWithoutOrganizationIdIsRejected() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(
+        request(identityToken().claim(IdentityClaims.ORGANIZATION, Map.of("name", "Org"))),
+        response,
+        chain);
+
+    assertEquals(403, response.getStatus());
+    assertNull(chain.getRequest());
+  }
+
+  @Test
+  void accountsTokenResolvesThePrincipalOncePerSubject() throws Exception {
+    LinkedHashMap<String, Object> user = new LinkedHashMap<>();
+    user.put("email", "abc@example.com");
+    user.put("firstName", "abc");
+    user.put("employeeId", "EMP1");
+    user.put("active", true);
+    user.put("organizations", Map.of("id", "org1"));
+    user.put(
+        "roles", List.of(Map.of("name", "Employee", "permissions", List.of("READ_EMPLOYEE"))));
+    doReturn(ResponseEntity.ok(user))
+        .when(filter.accountClient)
+        .getEmployeeByEmail("abc@example.com");
+    AtomicReference<Set<String>> permissions = new AtomicReference<>();
+    MockFilterChain chain =
+        new MockFilterChain() {
+          @Override
+          public void doFilter(
+              jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+            permissions.set(UserContext.getLoggedInUserPermissions());
+          }
+        };
+
+    for (int i = 0; i < 3; i++) {
+      filter.doFilter(
+          request(Jwts.builder().setSubject("abc@example.com")),
+          new MockHttpServletResponse(),
+          chain);
+    }
+
+    assertEquals(Set.of("READ_EMPLOYEE"), permissions.get());
+    verify(filter.accountClient, times(1)).getEmployeeByEmail("abc@example.com");
+  }
+
+  @Test
+  void requestChangesToItsUserDoNotReachLaterRequests() throws Exception {
+    LinkedHashMap<String, Object> user = new LinkedHashMap<>();
+    user.put("email", "abc@example.com");
+    user.put("active", true);
+    user.put("organizations", Map.of("id", "org1"));
+    user.put(
+        "roles", List.of(Map.of("name", "Employee", "permissions", List.of("READ_EMPLOYEE"))));
+    doReturn(ResponseEntity.ok(user))
+        .when(filter.accountClient)
+        .getEmployeeByEmail("abc@example.com");
+    AtomicReference<String> organizationId = new AtomicReference<>();
+    AtomicReference<Set<String>> permissions = new AtomicReference<>();
+    MockFilterChain changingChain =
+        new MockFilterChain() {
+          @Override
+          public void doFilter(
+              jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+            UserContext.getLoggedInUserOrganization().setId("org2");
+            UserContext.getLoggedInUserDTO().getRoles().clear();
+            UserContext.getLoggedInUserPermissions().add("DELETE_EMPLOYEE");
+          }
+        };
+    MockFilterChain readingChain =
+        new MockFilterChain() {
+          @Override
+          public void doFilter(
+              jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+            organizationId.set(UserContext.getLoggedInUserOrganizationId());
+            permissions.set(UserContext.getLoggedInUserPermissions());
+          }
+        };
+
+    filter.doFilter(
+        request(Jwts.builder().setSubject("abc@example.com")),
+        new MockHttpServletResponse(),
+        changingChain);
+    filter.doFilter(
+        request(Jwts.builder().setSubject("abc@example.com")),
+        new MockHttpServletResponse(),
+        readingChain);
+
+    assertEquals("org1", organizationId.get());
+    assertEquals(Set.of("READ_EMPLOYEE"), permissions.get());
+  }
+
+  private static JwtBuilder identityToken() {
+    return Jwts.builder()
+        .setSubject("abc@example.com")
+        .claim(Constants.CLAIM_EMPLOYEE_ID, "EMP1")
+        .claim(Constants.CLAIM_FIRST_NAME, "abc")
+        .claim(IdentityClaims.PERMISSIONS, List.of("READ_EMPLOYEE"))
+        .claim(IdentityClaims.ACTIVE, true);
+  }
+
+  private static MockHttpServletRequest request(JwtBuilder token) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/v1/users");
+    request.addHeader(
+        "authorization", "Bearer " + token.signWith(SignatureAlgorithm.HS256, SECRET).compact());
+    return request;
+  }
+}
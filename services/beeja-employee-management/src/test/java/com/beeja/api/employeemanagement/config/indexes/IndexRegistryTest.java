@@ -0,0 +1,28 @@
+package com.beeja.api.employeemanagement.config.indexes;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.commons.indexes.IndexRegistryContract;
+import com.beeja.api.commons.indexes.ManagedIndex;
+import com.beeja.api.employeemanagement.utils.Constants;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Runs the shared registry checks of beeja-commons against the indexes of this service. */
+class IndexRegistryTest extends IndexRegistryContract {
+
+  @Override
+  protected List<ManagedIndex> indexes() {
+    return IndexRegistry.indexes();
+  }
+
+  @Test
+  void directoryIndexIsRegistered() {
+    assertTrue(
+        indexes().stream()
+            .anyMatch(
+                index ->
+                    index.getCollection().equals("employees")
+                        && index.getName().equals(Constants.EMPLOYEE_DIRECTORY_INDEX)));
+  }
+}
@@ -9,18 +9,23 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.beeja.api.commons.security.PrincipalCache;
 import com.beeja.api.employeemanagement.client.AccountClient;
 import com.beeja.api.employeemanagement.config.filters.JwtProperties;
 import com.beeja.api.employeemanagement.enums.ErrorCode;
 import com.beeja.api.employeemanagement.enums.ErrorType;
 import com.beeja.api.employeemanagement.model.*;
+import com.beeja.api.employeemanagement.repository.EmployeeRepository;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
+import com.beeja.api.employeemanagement.service.EmployeeProfileService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import com.beeja.api.employeemanagement.service.FileService;
+import com.beeja.api.employeemanagement.service.JobHistoryService;
 import com.beeja.api.employeemanagement.utils.Constants;
 import com.beeja.api.employeemanagement.utils.UserContext;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Collections;
 import java.util.HashMap;
@@ -52,10 +57,18 @@ class EmployeeControllerTest {
 
   @MockBean JwtProperties jwtProperties;
 
+  @MockBean PrincipalCache principalCache;
+
   @InjectMocks EmployeeController employeeController;
 
   @MockBean EmployeeService employeeService;
 
+  @MockBean EmployeeProfileService employeeProfileService;
+
+  @MockBean JobHistoryService jobHistoryService;
+
+  @MockBean EmployeeRepository employeeRepository;
+
   @MockBean FileService fileService;
 
   @MockBean AccountClient accountClient;
@@ -244,7 +257,7 @@ class EmployeeControllerTest {
     Employee updatedEmployee = new Employee();
     updatedEmployee.setId(employeeId);
 
-    Mockito.when(employeeService.updateKYCRequest(eq(employeeId), any(UpdateKYCRequest.class)))
+    Mockito.when(employeeService.updateKYCRequest(eq(employeeId), any(JsonNode.class)))
             .thenReturn(updatedEmployee);
 
     ObjectMapper objectMapper = new ObjectMapper();
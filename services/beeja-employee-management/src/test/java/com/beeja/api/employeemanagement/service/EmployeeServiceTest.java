@@ -3,6 +3,7 @@ package com.beeja.api.employeemanagement.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,26 +20,33 @@ import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
 import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
 import com.beeja.api.employeemanagement.serviceImpl.EmployeeServiceImpl;
 import com.beeja.api.employeemanagement.utils.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /** */
 @ExtendWith(MockitoExtension.class)
@@ -272,14 +280,24 @@ public class EmployeeServiceTest {
     kycDetails.setPassportNumber("A1234567");
     mockEmployee.setKycDetails(kycDetails);
 
-    when(employeeRepository.findByEmployeeIdAndOrganizationId(employeeId, organizationId))
+    ObjectMapper objectMapper = new ObjectMapper();
+    ReflectionTestUtils.setField(employeeService, "mongoTemplate", mongoTemplate);
+    ReflectionTestUtils.setField(employeeService, "objectMapper", objectMapper);
+    ReflectionTestUtils.setField(
+        employeeService, "mongoMappingContext", new MongoMappingContext());
+    ReflectionTestUtils.invokeMethod(employeeService, "initUpdateMappers");
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Employee.class)))
         .thenReturn(mockEmployee);
-    when(employeeRepository.save(any(Employee.class))).thenReturn(mockEmployee);
 
     UpdateKYCRequest validKYCRequest = new UpdateKYCRequest();
     validKYCRequest.setKycDetails(kycDetails);
 
-    Employee updatedEmployee = employeeService.updateKYCRequest(employeeId, validKYCRequest);
+    Employee updatedEmployee =
+        employeeService.updateKYCRequest(employeeId, objectMapper.valueToTree(validKYCRequest));
 
     assertNotNull(updatedEmployee);
     assertEquals(employeeId, updatedEmployee.getId());
@@ -287,9 +305,15 @@ public class EmployeeServiceTest {
     assertEquals("123456789012", updatedEmployee.getKycDetails().getAadhaarNumber());
     assertEquals("A1234567", updatedEmployee.getKycDetails().getPassportNumber());
 
-    verify(employeeRepository, times(1))
-        .findByEmployeeIdAndOrganizationId(employeeId, organizationId);
-    verify(employeeRepository, times(1)).save(mockEmployee);
+    ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate, times(1))
+        .findAndModify(
+            any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(Employee.class));
+    Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+    assertEquals("ABCDE1234F", set.get("kycDetails.panNumber"));
+    assertEquals("123456789012", set.get("kycDetails.aadhaarNumber"));
+    assertEquals("A1234567", set.get("kycDetails.passportNumber"));
+    assertEquals(3, set.size());
   }
 
   @Test
@@ -0,0 +1,133 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.beeja.api.employeemanagement.client.AccountClient;
+import com.beeja.api.employeemanagement.config.indexes.IndexRegistry;
+import com.beeja.api.employeemanagement.model.Contact;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
+import com.beeja.api.employeemanagement.repository.EmployeeRepository;
+import com.beeja.api.employeemanagement.service.EmployeeFacetService;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeBulkImportTest {
+
+  private MongoServer server;
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private EmployeeFacetService employeeFacetService;
+  private EmployeeServiceImpl employeeService;
+
+  @BeforeEach
+  void setUp() {
+    server = new MongoServer(new MemoryBackend());
+    client = MongoClients.create(server.bindAndGetConnectionString());
+    mongoTemplate = new MongoTemplate(client, "employees");
+    IndexRegistry.indexes().stream()
+        .filter(index -> index.getCollection().equals("employees"))
+        .forEach(index -> mongoTemplate.indexOps("employees").ensureIndex(index.getIndex()));
+    employeeFacetService = mock(EmployeeFacetService.class);
+    employeeService =
+        new EmployeeServiceImpl(mock(EmployeeRepository.class), mock(AccountClient.class));
+    ReflectionTestUtils.setField(employeeService, "mongoTemplate", mongoTemplate);
+    ReflectionTestUtils.setField(employeeService, "employeeFacetService", employeeFacetService);
+
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId("org1");
+    UserContext.setLoggedInUserOrganization(organization);
+  }
+
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+    client.close();
+    server.shutdownNow();
+  }
+
+  @Test
+  void takenEmployeeIdsFailWithoutTouchingTheStoredEmployee() {
+    Employee stored = new Employee();
+    stored.setOrganizationId("org1");
+    stored.setEmployeeId("E1");
+    stored.setBeejaAccountId("account0");
+    stored.setContact(new Contact());
+    stored.getContact().setPhone("+911234567890");
+    mongoTemplate.save(stored);
+
+    List<String> failed =
+        employeeService.createEmployees(
+            "import1", List.of(newEmployee("account1", "E1"), newEmployee("account2", "E2")));
+
+    assertEquals(List.of("E1"), failed);
+    Employee kept = find("E1");
+    assertEquals("account0", kept.getBeejaAccountId());
+    assertEquals("+911234567890", kept.getContact().getPhone());
+    assertEquals("account2", find("E2").getBeejaAccountId());
+    verify(employeeFacetService).invalidate("org1");
+  }
+
+  @Test
+  void employeesAreCreatedInTheCallersOrganization() {
+    Map<String, Object> employee = newEmployee("account1", "E1");
+    employee.put("organizations", Map.of("id", "org2"));
+
+    employeeService.createEmployees("import1", List.of(employee));
+
+    Employee created = find("E1");
+    assertNotNull(created);
+    assertEquals("org1", created.getOrganizationId());
+    assertEquals("import1", created.getImportId());
+  }
+
+  @Test
+  void compensationRemovesOnlyTheImportsOwnEmployees() {
+    Employee manual = new Employee();
+    manual.setOrganizationId("org1");
+    manual.setEmployeeId("E0");
+    manual.setBeejaAccountId("account0");
+    mongoTemplate.save(manual);
+    employeeService.createEmployees(
+        "import1", List.of(newEmployee("account1", "E1"), newEmployee("account2", "E2")));
+
+    employeeService.deleteImportedEmployees("import1", List.of("account0", "account1"));
+    employeeService.deleteImportedEmployees("import2", List.of("account2"));
+
+    assertEquals(
+        List.of("E0", "E2"),
+        mongoTemplate.findAll(Employee.class).stream().map(Employee::getEmployeeId).toList());
+  }
+
+  private Employee find(String employeeId) {
+    return mongoTemplate.findOne(
+        Query.query(Criteria.where("employeeId").is(employeeId)), Employee.class);
+  }
+
+  private static Map<String, Object> newEmployee(String accountId, String employeeId) {
+    Map<String, Object> employee = new HashMap<>();
+    employee.put("id", accountId);
+    employee.put("employeeId", employeeId);
+    employee.put("firstName", "Ann");
+    employee.put("lastName", "Lee");
+    employee.put("email", employeeId.toLowerCase() + "@x.io");
+    employee.put("organizations", Map.of("id", "org1"));
+    return employee;
+  }
+}
@@ -0,0 +1,144 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.employeemanagement.client.AccountClient;
+import com.beeja.api.employeemanagement.enums.ExportFormat;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
+import com.beeja.api.employeemanagement.repository.EmployeeRepository;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeExportTest {
+
+  private MongoTemplate mongoTemplate;
+  private EmployeeServiceImpl employeeService;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    employeeService =
+        new EmployeeServiceImpl(mock(EmployeeRepository.class), mock(AccountClient.class));
+    ReflectionTestUtils.setField(employeeService, "mongoTemplate", mongoTemplate);
+
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId("org1");
+    UserContext.setLoggedInUserOrganization(organization);
+
+    when(mongoTemplate.getCollectionName(Employee.class)).thenReturn("employees");
+    when(mongoTemplate.find(any(Query.class), eq(Employee.class))).thenReturn(List.of());
+  }
+
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+  }
+
+  @Test
+  void directoryIsExportedAsCsvInEmployeeNumberOrder() throws Exception {
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("employees")))
+        .thenReturn(Stream.of(employee()));
+
+    String csv = export(ExportFormat.CSV, "Engineering", null, null, "active");
+
+    String[] lines = csv.split("\r\n");
+    assertEquals(String.join(",", Constants.EMPLOYEE_EXPORT_COLUMNS), lines[0]);
+    assertEquals(
+        "EMP1,Ann,'=Smith,ann@example.com,Active,Engineering,Developer,Full time,2024-03-01,"
+            + "'+919876543210,,",
+        lines[1]);
+    assertEquals(2, lines.length);
+
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).stream(query.capture(), eq(Document.class), eq("employees"));
+    assertEquals(new Document("employeeNumber", 1), query.getValue().getSortObject());
+    assertEquals(
+        new Document("organizationId", "org1")
+            .append("account.active", true)
+            .append("jobDetails.department", "Engineering"),
+        query.getValue().getQueryObject());
+  }
+
+  @Test
+  void emptyDirectoryExportsTheHeader() throws Exception {
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("employees")))
+        .thenReturn(Stream.empty());
+
+    String csv = export(ExportFormat.CSV, null, null, null, null);
+
+    assertEquals(String.join(",", Constants.EMPLOYEE_EXPORT_COLUMNS) + "\r\n", csv);
+  }
+
+  @Test
+  void xlsxExportIsAWorkbook() throws Exception {
+    when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("employees")))
+        .thenReturn(Stream.of(employee()));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    employeeService.exportEmployees(ExportFormat.XLSX, null, null, null, null).writeTo(output);
+
+    try (XSSFWorkbook workbook =
+        new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+      Sheet sheet = workbook.getSheet("Employees");
+      assertEquals(1, sheet.getLastRowNum());
+      assertEquals("Employee ID", sheet.getRow(0).getCell(0).getStringCellValue());
+      assertEquals("=Smith", sheet.getRow(1).getCell(2).getStringCellValue());
+      assertNull(sheet.getRow(1).getCell(10));
+    }
+  }
+
+  private String export(
+      ExportFormat format,
+      String department,
+      String designation,
+      String employmentType,
+      String status)
+      throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    employeeService
+        .exportEmployees(format, department, designation, employmentType, status)
+        .writeTo(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static Document employee() {
+    return new Document("employeeId", "EMP1")
+        .append(
+            "account",
+            new Document("firstName", "Ann")
+                .append("lastName", "=Smith")
+                .append("email", "ann@example.com")
+                .append("active", true))
+        .append(
+            "jobDetails",
+            new Document("department", "Engineering")
+                .append("designation", "Developer")
+                .append("employementType", "Full time")
+                .append("joiningDate", Date.from(Instant.parse("2024-03-01T00:00:00Z"))))
+        .append("contact", new Document("phone", "+919876543210"));
+  }
+}
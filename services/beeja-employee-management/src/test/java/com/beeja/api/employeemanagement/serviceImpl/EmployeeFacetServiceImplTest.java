@@ -0,0 +1,264 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.EmployeeFacets;
+import com.beeja.api.employeemanagement.model.FacetCount;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.repository.EmployeeFacetsRepository;
+import com.beeja.api.employeemanagement.response.EmployeeValues;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeFacetServiceImplTest {
+
+  private static final String ORGANIZATION = "org1";
+
+  private EmployeeFacetsRepository employeeFacetsRepository;
+
+  private MongoTemplate mongoTemplate;
+
+  private EmployeeFacetServiceImpl employeeFacetService;
+
+  @BeforeEach
+  void setUp() {
+    employeeFacetsRepository = mock(EmployeeFacetsRepository.class);
+    mongoTemplate = mock(MongoTemplate.class);
+    employeeFacetService =
+        new EmployeeFacetServiceImpl(
+            Duration.ofMinutes(5), Duration.ofHours(6), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(
+        employeeFacetService, "employeeFacetsRepository", employeeFacetsRepository);
+    ReflectionTestUtils.setField(employeeFacetService, "mongoTemplate", mongoTemplate);
+    when(employeeFacetsRepository.save(any(EmployeeFacets.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void unchangedFacetsAreNotWritten() {
+    employeeFacetService.recordChange(
+        ORGANIZATION,
+        job("Engineering", "Developer", "Full time"),
+        job("Engineering", "Developer", "Full time"));
+
+    verifyNoInteractions(employeeFacetsRepository);
+  }
+
+  @Test
+  void movedEmployeeIsCountedUnderTheNewValues() {
+    when(employeeFacetsRepository.findById(ORGANIZATION)).thenReturn(Optional.of(stored()));
+
+    employeeFacetService.recordChange(
+        ORGANIZATION,
+        job("Engineering", "Developer", "Full time"),
+        job("Sales", "Developer", "Contract"));
+    EmployeeValues values = employeeFacetService.getEmployeeValues(ORGANIZATION);
+
+    assertEquals(Map.of("Engineering", 1L, "Sales", 2L), values.getDepartmentCounts());
+    assertEquals(Map.of("Developer", 3L), values.getDesignationCounts());
+    assertEquals(Map.of("Contract", 1L, "Full time", 2L), values.getEmploymentTypeCounts());
+    // The saved counts are cached, so the read does not go back to the repository.
+    verify(employeeFacetsRepository, times(1)).findById(ORGANIZATION);
+  }
+
+  @Test
+  void lastEmployeeOfAValueRemovesItAndNewValuesAreKeptSorted() {
+    when(employeeFacetsRepository.findById(ORGANIZATION)).thenReturn(Optional.of(stored()));
+
+    employeeFacetService.recordChange(
+        ORGANIZATION,
+        job("Sales", "Developer", "Full time"),
+        job("Design", "Developer", "Full time"));
+    EmployeeValues values = employeeFacetService.getEmployeeValues(ORGANIZATION);
+
+    assertEquals(List.of("Design", "Engineering"), List.copyOf(values.getDepartments()));
+    assertEquals(Map.of("Design", 1L, "Engineering", 2L), values.getDepartmentCounts());
+  }
+
+  @Test
+  void createdAndRemovedEmployeesAdjustOneSide() {
+    when(employeeFacetsRepository.findById(ORGANIZATION))
+        .thenReturn(Optional.of(stored()))
+        .thenReturn(Optional.of(stored()));
+
+    employeeFacetService.recordChange(ORGANIZATION, null, job("Sales", " ", null));
+    assertEquals(
+        Map.of("Engineering", 2L, "Sales", 2L),
+        employeeFacetService.getEmployeeValues(ORGANIZATION).getDepartmentCounts());
+    assertEquals(
+        Map.of("Developer", 3L),
+        employeeFacetService.getEmployeeValues(ORGANIZATION).getDesignationCounts());
+
+    employeeFacetService.recordChange(ORGANIZATION, job("Engineering", "Developer", null), null);
+    EmployeeValues values = employeeFacetService.getEmployeeValues(ORGANIZATION);
+    assertEquals(Map.of("Engineering", 1L, "Sales", 1L), values.getDepartmentCounts());
+    assertEquals(Map.of("Developer", 2L), values.getDesignationCounts());
+  }
+
+  @Test
+  void optimisticLockFailureIsRetriedOnFreshCounts() {
+    EmployeeFacets first = stored();
+    EmployeeFacets concurrent = stored();
+    concurrent.getDepartments().get(1).setCount(5);
+    when(employeeFacetsRepository.findById(ORGANIZATION))
+        .thenReturn(Optional.of(first))
+        .thenReturn(Optional.of(concurrent));
+    when(employeeFacetsRepository.save(first))
+        .thenThrow(new OptimisticLockingFailureException("stale version"));
+
+    employeeFacetService.recordChange(
+        ORGANIZATION, job("Engineering", null, null), job("Sales", null, null));
+
+    verify(employeeFacetsRepository, times(2)).findById(ORGANIZATION);
+    verify(employeeFacetsRepository).save(concurrent);
+    verify(employeeFacetsRepository, never()).deleteById(ORGANIZATION);
+    assertEquals(
+        Map.of("Engineering", 1L, "Sales", 6L),
+        employeeFacetService.getEmployeeValues(ORGANIZATION).getDepartmentCounts());
+  }
+
+  @Test
+  void persistentContentionDropsTheCountsForARebuild() {
+    when(employeeFacetsRepository.findById(ORGANIZATION))
+        .thenAnswer(invocation -> Optional.of(stored()));
+    when(employeeFacetsRepository.save(any(EmployeeFacets.class)))
+        .thenThrow(new OptimisticLockingFailureException("stale version"));
+
+    employeeFacetService.recordChange(
+        ORGANIZATION, job("Engineering", null, null), job("Sales", null, null));
+
+    verify(employeeFacetsRepository, times(3)).save(any(EmployeeFacets.class));
+    verify(employeeFacetsRepository).deleteById(ORGANIZATION);
+  }
+
+  @Test
+  void missingFacetsAreLeftForTheNextRead() {
+    when(employeeFacetsRepository.findById(ORGANIZATION)).thenReturn(Optional.empty());
+
+    employeeFacetService.recordChange(
+        ORGANIZATION, job("Engineering", null, null), job("Sales", null, null));
+
+    // The version bump fails the insert of a rebuild that aggregated before the change.
+    ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).upsert(any(Query.class), update.capture(), eq(EmployeeFacets.class));
+    assertEquals(
+        new Document("$inc", new Document("version", 1))
+            .append("$unset", new Document("builtAt", 1)),
+        update.getValue().getUpdateObject());
+    verify(employeeFacetsRepository, never()).save(any(EmployeeFacets.class));
+    verify(employeeFacetsRepository, never()).deleteById(ORGANIZATION);
+  }
+
+  @Test
+  void facetsChangedBeforeTheirFirstBuildAreRebuiltOnRead() {
+    EmployeeFacets marked = new EmployeeFacets(ORGANIZATION);
+    marked.setVersion(1L);
+    when(employeeFacetsRepository.findById(ORGANIZATION)).thenReturn(Optional.of(marked));
+    Document result =
+        new Document("departments", List.of(new Document("_id", "Sales").append("count", 1)))
+            .append("designations", List.of())
+            .append("employmentTypes", List.of());
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(Employee.class), eq(Document.class)))
+        .thenReturn(new AggregationResults<>(List.of(result), new Document()));
+
+    EmployeeValues values = employeeFacetService.getEmployeeValues(ORGANIZATION);
+
+    assertEquals(Map.of("Sales", 1L), values.getDepartmentCounts());
+    verify(employeeFacetsRepository).save(marked);
+  }
+
+  @Test
+  void failedCleanupDoesNotHideTheUpdateFailure() {
+    when(employeeFacetsRepository.findById(ORGANIZATION))
+        .thenThrow(new IllegalStateException("database down"));
+    doThrow(new IllegalStateException("database down"))
+        .when(employeeFacetsRepository)
+        .deleteById(ORGANIZATION);
+
+    assertDoesNotThrow(
+        () ->
+            employeeFacetService.recordChange(
+                ORGANIZATION, job("Engineering", null, null), job("Sales", null, null)));
+    verify(employeeFacetsRepository).deleteById(ORGANIZATION);
+  }
+
+  @Test
+  void freshFacetsAreServedWithoutAggregating() {
+    when(employeeFacetsRepository.findById(ORGANIZATION)).thenReturn(Optional.of(stored()));
+
+    employeeFacetService.getEmployeeValues(ORGANIZATION);
+
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void staleFacetsAreRebuiltFromTheEmployees() {
+    EmployeeFacets stale = stored();
+    stale.setBuiltAt(Date.from(Instant.now().minus(Duration.ofHours(7))));
+    when(employeeFacetsRepository.findById(ORGANIZATION)).thenReturn(Optional.of(stale));
+    Document result =
+        new Document(
+                "departments",
+                List.of(
+                    new Document("_id", "Sales").append("count", 4),
+                    new Document("_id", null).append("count", 2),
+                    new Document("_id", "Engineering").append("count", 1)))
+            .append("designations", List.of(new Document("_id", "Developer").append("count", 5)))
+            .append("employmentTypes", List.of());
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(Employee.class), eq(Document.class)))
+        .thenReturn(new AggregationResults<>(List.of(result), new Document()));
+
+    EmployeeValues values = employeeFacetService.getEmployeeValues(ORGANIZATION);
+
+    assertEquals(List.of("Engineering", "Sales"), List.copyOf(values.getDepartments()));
+    assertEquals(Map.of("Engineering", 1L, "Sales", 4L), values.getDepartmentCounts());
+    assertEquals(Map.of(), values.getEmploymentTypeCounts());
+    verify(employeeFacetsRepository).save(stale);
+  }
+
+  private static EmployeeFacets stored() {
+    EmployeeFacets facets = new EmployeeFacets(ORGANIZATION);
+    facets.setDepartments(
+        new ArrayList<>(List.of(new FacetCount("Engineering", 2), new FacetCount("Sales", 1))));
+    facets.setDesignations(new ArrayList<>(List.of(new FacetCount("Developer", 3))));
+    facets.setEmploymentTypes(new ArrayList<>(List.of(new FacetCount("Full time", 3))));
+    facets.setBuiltAt(new Date());
+    return facets;
+  }
+
+  private static JobDetails job(String department, String designation, String employmentType) {
+    JobDetails jobDetails = new JobDetails();
+    jobDetails.setDepartment(department);
+    jobDetails.setDesignation(designation);
+    jobDetails.setEmployementType(employmentType);
+    return jobDetails;
+  }
+}
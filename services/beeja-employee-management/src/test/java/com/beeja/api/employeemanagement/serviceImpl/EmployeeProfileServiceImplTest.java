@@ -0,0 +1,243 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.employeemanagement.client.FinanceClient;
+import com.beeja.api.employeemanagement.constants.PermissionConstants;
+import com.beeja.api.employeemanagement.exceptions.ResourceNotFound;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.response.EmployeeProfile;
+import com.beeja.api.employeemanagement.response.FileResponse;
+import com.beeja.api.employeemanagement.service.EmployeeService;
+import com.beeja.api.employeemanagement.service.FileService;
+import com.beeja.api.employeemanagement.service.JobHistoryService;
+import com.beeja.api.employeemanagement.utils.CallDeadline;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import feign.FeignException;
+import feign.Request;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class EmployeeProfileServiceImplTest {
+
+  private static final String EMPLOYEE_ID = "EMP1";
+
+  private static final Duration PART_TIMEOUT = Duration.ofMillis(300);
+
+  private static final Request REQUEST =
+      Request.create(
+          Request.HttpMethod.GET,
+          "http://finance-service/v1/loans/EMP1",
+          Map.of(),
+          null,
+          StandardCharsets.UTF_8,
+          null);
+
+  private EmployeeService employeeService;
+  private FileService fileService;
+  private FinanceClient financeClient;
+  private JobHistoryService jobHistoryService;
+  private List<JobDetails> jobHistory;
+  private ExecutorService executor;
+  private EmployeeProfileServiceImpl employeeProfileService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    employeeService = mock(EmployeeService.class);
+    fileService = mock(FileService.class);
+    financeClient = mock(FinanceClient.class);
+    jobHistoryService = mock(JobHistoryService.class);
+    executor = Executors.newFixedThreadPool(4);
+
+    employeeProfileService = new EmployeeProfileServiceImpl();
+    employeeProfileService.employeeService = employeeService;
+    employeeProfileService.fileService = fileService;
+    employeeProfileService.financeClient = financeClient;
+    employeeProfileService.jobHistoryService = jobHistoryService;
+    employeeProfileService.profilePartExecutor = executor;
+    employeeProfileService.partTimeout = PART_TIMEOUT;
+
+    when(employeeService.getEmployeeByEmployeeId(EMPLOYEE_ID))
+        .thenReturn(Map.of("employeeId", EMPLOYEE_ID));
+    when(fileService.listOfFileByEntityId(anyString(), anyInt(), anyInt()))
+        .thenReturn(new FileResponse());
+    when(financeClient.getLoansByEmployeeId(EMPLOYEE_ID))
+        .thenReturn(ResponseEntity.ok(List.of("loan")));
+    when(financeClient.getHealthInsuranceByEmployeeId(EMPLOYEE_ID))
+        .thenReturn(ResponseEntity.ok("insurance"));
+    jobHistory = List.of(new JobDetails());
+    when(jobHistoryService.getJobHistory(EMPLOYEE_ID)).thenReturn(jobHistory);
+    UserContext.setLoggedInEmployeeId("EMP0");
+    UserContext.setLoggedInUserPermissions(
+        Set.of(PermissionConstants.READ_COMPLETE_EMPLOYEE_DETAILS));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    UserContext.clear();
+  }
+
+  @Test
+  void allPartsAreAssembled() throws Exception {
+    EmployeeProfile profile = employeeProfileService.getEmployeeProfile(EMPLOYEE_ID);
+
+    assertEquals(Map.of("employeeId", EMPLOYEE_ID), profile.getEmployee());
+    assertEquals(List.of("loan"), profile.getLoans());
+    assertEquals("insurance", profile.getHealthInsurance());
+    assertSame(jobHistory, profile.getJobHistory());
+    assertTrue(profile.getUnavailable().isEmpty());
+  }
+
+  @Test
+  void ownJobHistoryIsPartOfTheProfile() throws Exception {
+    UserContext.setLoggedInEmployeeId(EMPLOYEE_ID);
+    UserContext.setLoggedInUserPermissions(Set.of());
+
+    assertSame(jobHistory, employeeProfileService.getEmployeeProfile(EMPLOYEE_ID).getJobHistory());
+  }
+
+  @Test
+  void jobHistoryIsLeftOutWithoutAccessToCompleteDetails() throws Exception {
+    UserContext.setLoggedInUserPermissions(Set.of());
+
+    EmployeeProfile profile = employeeProfileService.getEmployeeProfile(EMPLOYEE_ID);
+
+    assertNull(profile.getJobHistory());
+    assertTrue(profile.getUnavailable().isEmpty());
+    verifyNoInteractions(jobHistoryService);
+  }
+
+  @Test
+  void slowPartIsLeftOutAfterItsTimeout() throws Exception {
+    when(financeClient.getLoansByEmployeeId(EMPLOYEE_ID))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(5_000);
+              return ResponseEntity.ok(List.of("late"));
+            });
+
+    long start = System.nanoTime();
+    EmployeeProfile profile = employeeProfileService.getEmployeeProfile(EMPLOYEE_ID);
+
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+    assertNull(profile.getLoans());
+    assertEquals("insurance", profile.getHealthInsurance());
+    assertEquals(
+        Map.of(Constants.PROFILE_PART_LOANS, Constants.PART_TIMEOUT), profile.getUnavailable());
+  }
+
+  @Test
+  void partsRunUnderADeadlineOfTheirTimeout() throws Exception {
+    AtomicReference<Duration> remaining = new AtomicReference<>();
+    when(financeClient.getLoansByEmployeeId(EMPLOYEE_ID))
+        .thenAnswer(
+            invocation -> {
+              remaining.set(CallDeadline.remaining());
+              return ResponseEntity.ok(List.of());
+            });
+
+    employeeProfileService.getEmployeeProfile(EMPLOYEE_ID);
+
+    assertTrue(remaining.get().compareTo(Duration.ZERO) > 0);
+    assertTrue(remaining.get().compareTo(PART_TIMEOUT) <= 0);
+  }
+
+  @Test
+  void failedPartsAreListedWithTheirReason() throws Exception {
+    when(fileService.listOfFileByEntityId(anyString(), anyInt(), anyInt()))
+        .thenThrow(new IllegalStateException("file service down"));
+    when(financeClient.getLoansByEmployeeId(EMPLOYEE_ID))
+        .thenThrow(new FeignException.NotFound("no loans", REQUEST, null, null));
+    when(financeClient.getHealthInsuranceByEmployeeId(EMPLOYEE_ID))
+        .thenThrow(new FeignException.Forbidden("denied", REQUEST, null, null));
+    when(jobHistoryService.getJobHistory(EMPLOYEE_ID))
+        .thenThrow(new IllegalStateException("mongo down"));
+
+    EmployeeProfile profile = employeeProfileService.getEmployeeProfile(EMPLOYEE_ID);
+
+    assertEquals(Map.of("employeeId", EMPLOYEE_ID), profile.getEmployee());
+    assertNull(profile.getDocuments());
+    assertNull(profile.getLoans());
+    assertNull(profile.getHealthInsurance());
+    assertEquals(
+        Map.of(
+            Constants.PROFILE_PART_DOCUMENTS, Constants.PART_ERROR,
+            Constants.PROFILE_PART_HEALTH_INSURANCE, Constants.PART_FORBIDDEN,
+            Constants.PROFILE_PART_JOB_HISTORY, Constants.PART_ERROR),
+        profile.getUnavailable());
+  }
+
+  @Test
+  void partsTurnedAwayByTheExecutorAreBusy() throws Exception {
+    AtomicInteger submitted = new AtomicInteger();
+    employeeProfileService.profilePartExecutor =
+        command -> {
+          // Only the first part, the employee, finds room.
+          if (submitted.getAndIncrement() > 0) {
+            throw new RejectedExecutionException("queue full");
+          }
+          executor.execute(command);
+        };
+
+    EmployeeProfile profile = employeeProfileService.getEmployeeProfile(EMPLOYEE_ID);
+
+    assertEquals(Map.of("employeeId", EMPLOYEE_ID), profile.getEmployee());
+    assertEquals(
+        Map.of(
+            Constants.PROFILE_PART_DOCUMENTS, Constants.PART_BUSY,
+            Constants.PROFILE_PART_LOANS, Constants.PART_BUSY,
+            Constants.PROFILE_PART_HEALTH_INSURANCE, Constants.PART_BUSY,
+            Constants.PROFILE_PART_JOB_HISTORY, Constants.PART_BUSY),
+        profile.getUnavailable());
+  }
+
+  @Test
+  void missingEmployeeFailsTheProfile() throws Exception {
+    ResourceNotFound notFound = new ResourceNotFound("employee not found");
+    when(employeeService.getEmployeeByEmployeeId(EMPLOYEE_ID)).thenThrow(notFound);
+
+    Exception exception =
+        assertThrows(Exception.class, () -> employeeProfileService.getEmployeeProfile(EMPLOYEE_ID));
+
+    assertSame(notFound, exception);
+  }
+
+  @Test
+  void slowEmployeeFailsTheProfileAfterTheTimeout() throws Exception {
+    when(employeeService.getEmployeeByEmployeeId(EMPLOYEE_ID))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(5_000);
+              return Map.of();
+            });
+
+    Exception exception =
+        assertThrows(Exception.class, () -> employeeProfileService.getEmployeeProfile(EMPLOYEE_ID));
+
+    assertTrue(
+        exception.getMessage().contains(Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
+  }
+}
@@ -0,0 +1,273 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beeja.api.employeemanagement.exceptions.BadRequestException;
+import com.beeja.api.employeemanagement.exceptions.ResourceNotFound;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.model.JobHistory;
+import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
+import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
+import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
+import com.beeja.api.employeemanagement.response.JobHistoryResponse;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JobHistoryServiceImplTest {
+
+  private MongoServer server;
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private JobHistoryServiceImpl jobHistoryService;
+
+  @BeforeEach
+  void setUp() {
+    server = new MongoServer(new MemoryBackend());
+    client = MongoClients.create(server.bindAndGetConnectionString());
+    mongoTemplate = new MongoTemplate(client, "employees");
+    jobHistoryService = new JobHistoryServiceImpl();
+    ReflectionTestUtils.setField(jobHistoryService, "mongoTemplate", mongoTemplate);
+
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId("org1");
+    UserContext.setLoggedInUserOrganization(organization);
+    UserDTO user = new UserDTO();
+    user.setFirstName("Jane");
+    user.setLastName("Doe");
+    RoleDTO role = new RoleDTO();
+    role.setName("HR");
+    user.setRoles(Set.of(role));
+    UserContext.setLoggedInUserDTO(user);
+
+    mongoTemplate.save(employee("org1", "EMP1", job("Lead", "Engineering", "2024-01-01", null)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+    client.close();
+    server.shutdownNow();
+  }
+
+  @Test
+  void addedJobsAreListedByStartDateBeforeTheCurrentJob() {
+    jobHistoryService.addJobHistory(
+        "EMP1", job("Engineer", "Engineering", "2022-01-01", "2023-01-01"));
+    JobDetails added =
+        jobHistoryService.addJobHistory(
+            "EMP1", job("Intern", "Engineering", "2021-01-01", "2022-01-01"));
+
+    List<JobDetails> history = jobHistoryService.getJobHistory("EMP1");
+
+    assertNotNull(added.getId());
+    assertEquals("Jane Doe (HR)", added.getUpdatedBy());
+    assertEquals(
+        List.of("Intern", "Engineer", "Lead"),
+        history.stream().map(JobDetails::getDesignation).toList());
+    assertNull(history.get(2).getResignationDate());
+  }
+
+  @Test
+  void jobsOfUnknownEmployeesAreRejected() {
+    assertThrows(
+        ResourceNotFound.class,
+        () ->
+            jobHistoryService.addJobHistory(
+                "EMP9", job("Engineer", "Engineering", "2022-01-01", "2023-01-01")));
+  }
+
+  @Test
+  void jobsWithoutAnEndDateAreRejected() {
+    assertThrows(
+        BadRequestException.class,
+        () ->
+            jobHistoryService.addJobHistory(
+                "EMP1", job("Engineer", "Engineering", "2022-01-01", null)));
+  }
+
+  @Test
+  void updateChangesOnlyThatEntry() {
+    JobDetails first =
+        jobHistoryService.addJobHistory(
+            "EMP1", job("Engineer", "Engineering", "2022-01-01", "2023-01-01"));
+    JobDetails second =
+        jobHistoryService.addJobHistory(
+            "EMP1", job("Intern", "Engineering", "2021-01-01", "2022-01-01"));
+
+    JobDetails updated =
+        jobHistoryService.updateJobHistory(
+            "EMP1", first.getId(), job("Engineer II", "Platform", "2022-01-01", "2023-01-01"));
+
+    assertEquals("Engineer II", updated.getDesignation());
+    assertEquals("Platform", updated.getDepartment());
+    assertEquals(
+        "Intern", mongoTemplate.findById(second.getId(), JobHistory.class).getDesignation());
+  }
+
+  @Test
+  void entriesOfOtherOrganizationsCannotBeChanged() {
+    JobDetails entry =
+        jobHistoryService.addJobHistory(
+            "EMP1", job("Engineer", "Engineering", "2022-01-01", "2023-01-01"));
+    OrganizationDTO other = new OrganizationDTO();
+    other.setId("org2");
+    UserContext.setLoggedInUserOrganization(other);
+
+    assertThrows(
+        ResourceNotFound.class,
+        () ->
+            jobHistoryService.updateJobHistory(
+                "EMP1", entry.getId(), job("Boss", "Engineering", "2022-01-01", "2023-01-01")));
+    assertThrows(
+        ResourceNotFound.class, () -> jobHistoryService.deleteJobHistory("EMP1", entry.getId()));
+  }
+
+  @Test
+  void deletedEntryIsReturnedOnce() {
+    JobDetails entry =
+        jobHistoryService.addJobHistory(
+            "EMP1", job("Engineer", "Engineering", "2022-01-01", "2023-01-01"));
+
+    assertEquals(
+        "Engineer", jobHistoryService.deleteJobHistory("EMP1", entry.getId()).getDesignation());
+    assertThrows(
+        ResourceNotFound.class, () -> jobHistoryService.deleteJobHistory("EMP1", entry.getId()));
+    assertEquals(1, jobHistoryService.getJobHistory("EMP1").size());
+  }
+
+  @Test
+  void organizationHistoryListsJobsEndedInThePeriodLatestFirst() {
+    jobHistoryService.recordClosedJob(
+        "org1", "EMP1", job("Intern", "Engineering", "2021-01-01", "2022-01-01"));
+    jobHistoryService.recordClosedJob(
+        "org1", "EMP2", job("Analyst", "Sales", "2021-06-01", "2022-06-01"));
+    jobHistoryService.recordClosedJob(
+        "org1", "EMP3", job("Engineer", "Engineering", "2022-01-01", "2023-01-01"));
+    jobHistoryService.recordClosedJob(
+        "org2", "EMP1", job("Engineer", "Engineering", "2021-01-01", "2022-03-01"));
+
+    JobHistoryResponse inPeriod =
+        jobHistoryService.getOrganizationJobHistory(
+            date("2022-01-01"), date("2023-01-01"), null, null, 1, 10);
+    JobHistoryResponse engineering =
+        jobHistoryService.getOrganizationJobHistory(null, null, "Engineering", null, 1, 1);
+
+    assertEquals(2L, inPeriod.getTotalSize());
+    assertEquals(
+        List.of("Analyst", "Intern"),
+        inPeriod.getHistory().stream().map(JobHistory::getDesignation).toList());
+    assertEquals(2L, engineering.getTotalSize());
+    assertEquals(
+        List.of("Engineer"),
+        engineering.getHistory().stream().map(JobHistory::getDesignation).toList());
+  }
+
+  @Test
+  void organizationHistoryPagesAreClamped() {
+    for (int i = 0; i < Constants.JOB_HISTORY_MAX_PAGE_SIZE + 1; i++) {
+      jobHistoryService.recordClosedJob(
+          "org1", "EMP" + i, job("Engineer", "Engineering", "2021-01-01", "2022-01-01"));
+    }
+
+    JobHistoryResponse firstPage =
+        jobHistoryService.getOrganizationJobHistory(null, null, null, null, 0, 0);
+    JobHistoryResponse largestPage =
+        jobHistoryService.getOrganizationJobHistory(null, null, null, null, -1, 1_000);
+
+    assertEquals(1, firstPage.getHistory().size());
+    assertEquals(Constants.JOB_HISTORY_MAX_PAGE_SIZE, largestPage.getHistory().size());
+    assertEquals(Constants.JOB_HISTORY_MAX_PAGE_SIZE + 1L, largestPage.getTotalSize());
+  }
+
+  @Test
+  void embeddedHistoryIsMovedOnceAndTheArrayRemoved() {
+    String employees = mongoTemplate.getCollectionName(Employee.class);
+    mongoTemplate.insert(
+        new Document("_id", "e2")
+            .append("organizationId", "org1")
+            .append("employeeId", "EMP2")
+            .append(
+                "jobHistory",
+                List.of(
+                    new Document("_id", "job1")
+                        .append("designation", "Intern")
+                        .append("startDate", date("2020-01-01"))
+                        .append("endDate", date("2021-01-01")),
+                    new Document("designation", "Engineer")
+                        .append("startDate", date("2021-01-01"))
+                        .append("endDate", date("2022-01-01")))),
+        employees);
+
+    jobHistoryService.migrateEmbeddedJobHistory();
+    // A run interrupted before the array was removed is repeated without duplicating entries.
+    mongoTemplate.updateFirst(
+        new Query(Criteria.where("_id").is("e2")),
+        new Update()
+            .set(
+                "jobHistory",
+                List.of(
+                    new Document("_id", "job1").append("designation", "Intern"),
+                    new Document("designation", "Engineer"))),
+        employees);
+    jobHistoryService.migrateEmbeddedJobHistory();
+
+    List<JobHistory> moved =
+        mongoTemplate.find(new Query(Criteria.where("employeeId").is("EMP2")), JobHistory.class);
+    assertEquals(2, moved.size());
+    assertEquals(
+        Set.of("Intern", "Engineer"),
+        Set.copyOf(moved.stream().map(JobHistory::getDesignation).toList()));
+    assertEquals(
+        Set.of("org1"), Set.copyOf(moved.stream().map(JobHistory::getOrganizationId).toList()));
+    assertNotNull(mongoTemplate.findById("job1", JobHistory.class));
+    assertFalse(
+        mongoTemplate
+            .findOne(new Query(Criteria.where("_id").is("e2")), Document.class, employees)
+            .containsKey("jobHistory"));
+  }
+
+  private static Employee employee(String organizationId, String employeeId, JobDetails job) {
+    Employee employee = new Employee();
+    employee.setOrganizationId(organizationId);
+    employee.setEmployeeId(employeeId);
+    employee.setJobDetails(job);
+    return employee;
+  }
+
+  private static JobDetails job(
+      String designation, String department, String startDate, String endDate) {
+    JobDetails job = new JobDetails();
+    job.setDesignation(designation);
+    job.setDepartment(department);
+    job.setEmployementType("Full time");
+    job.setStartDate(date(startDate));
+    job.setEndDate(endDate == null ? null : date(endDate));
+    return job;
+  }
+
+  private static Date date(String day) {
+    return Date.from(Instant.parse(day + "T00:00:00Z"));
+  }
+}
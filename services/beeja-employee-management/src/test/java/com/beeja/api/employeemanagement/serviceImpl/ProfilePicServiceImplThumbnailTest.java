@@ -0,0 +1,165 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.employeemanagement.client.FileClient;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.ProfilePictureThumbnails;
+import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
+import com.beeja.api.employeemanagement.repository.EmployeeRepository;
+import com.beeja.api.employeemanagement.response.ProfilePicThumbnail;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Serving of profile picture thumbnails by {@link ProfilePicServiceImpl}: size selection, ETags and
+ * the thumbnail cache.
+ */
+class ProfilePicServiceImplThumbnailTest {
+
+  private static final String EMPLOYEE_ID = "EMP1";
+
+  private EmployeeRepository employeeRepository;
+  private FileClient fileClient;
+  private ProfilePicServiceImpl profilePicService;
+  private Employee employee;
+
+  @BeforeEach
+  void setUp() {
+    employeeRepository = mock(EmployeeRepository.class);
+    fileClient = mock(FileClient.class);
+    profilePicService =
+        new ProfilePicServiceImpl(
+            List.of(192, 48, 96), DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+    profilePicService.employeeRepository = employeeRepository;
+    profilePicService.fileClient = fileClient;
+
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId("org1");
+    UserContext.setLoggedInUserOrganization(organization);
+
+    employee = new Employee();
+    employee.setProfilePictureId("original");
+    employee.setProfilePictureVersion("v1");
+    employee.setProfilePictureThumbnails(
+        new ProfilePictureThumbnails(
+            "v1", Map.of("48", "thumb48", "96", "thumb96", "192", "thumb192")));
+    when(employeeRepository.findProfilePictureByEmployeeId(EMPLOYEE_ID, "org1"))
+        .thenReturn(employee);
+  }
+
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+  }
+
+  @Test
+  void closestLargerThumbnailIsServed() {
+    assertEquals("thumb48", fileIdFor(32));
+    assertEquals("thumb96", fileIdFor(60));
+    assertEquals("thumb192", fileIdFor(192));
+    assertEquals("thumb192", fileIdFor(512));
+  }
+
+  @Test
+  void eTagIsStableUntilANewPictureIsUploaded() {
+    String eTag = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96).getETag();
+
+    assertEquals(eTag, profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96).getETag());
+    assertEquals(eTag, profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 80).getETag());
+    assertFalse(eTag.equals(profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 48).getETag()));
+
+    employee.setProfilePictureVersion("v2");
+    employee.getProfilePictureThumbnails().setVersion("v2");
+
+    assertFalse(eTag.equals(profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96).getETag()));
+  }
+
+  @Test
+  void replacedPictureWithoutThumbnailsGetsANewVersion() {
+    // The original keeps its file id when replaced, and thumbnails of the new one failed.
+    String eTag = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96).getETag();
+    employee.setProfilePictureVersion("v2");
+    employee.setProfilePictureThumbnails(null);
+
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96);
+
+    assertEquals("original", thumbnail.getFileId());
+    assertEquals("v2", thumbnail.getVersion());
+    assertFalse(eTag.equals(thumbnail.getETag()));
+  }
+
+  @Test
+  void thumbnailsOfAnEarlierPictureAreNotServed() {
+    employee.setProfilePictureVersion("v2");
+
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96);
+
+    assertEquals("original", thumbnail.getFileId());
+    assertTrue(thumbnail.isScaledOnRead());
+    assertEquals("v2", thumbnail.getVersion());
+  }
+
+  @Test
+  void picturesUploadedBeforeVersionsUseTheirThumbnailsVersion() {
+    employee.setProfilePictureVersion(null);
+
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96);
+
+    assertEquals("thumb96", thumbnail.getFileId());
+    assertEquals("v1", thumbnail.getVersion());
+  }
+
+  @Test
+  void picturesWithoutThumbnailsAreScaledOnRead() {
+    employee.setProfilePictureThumbnails(null);
+
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96);
+
+    assertEquals("original", thumbnail.getFileId());
+    assertTrue(thumbnail.isScaledOnRead());
+    assertEquals(
+        thumbnail.getETag(), profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96).getETag());
+  }
+
+  @Test
+  void thumbnailContentIsDownloadedOnce() {
+    byte[] content = {(byte) 0xFF, (byte) 0xD8, 1, 2};
+    when(fileClient.downloadFile("thumb96")).thenReturn(ResponseEntity.ok(content));
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96);
+
+    assertArrayEquals(content, profilePicService.getThumbnailContent(thumbnail));
+    assertArrayEquals(content, profilePicService.getThumbnailContent(thumbnail));
+    verify(fileClient, times(1)).downloadFile("thumb96");
+  }
+
+  @Test
+  void undecodableOriginalIsServedAsStored() {
+    employee.setProfilePictureThumbnails(null);
+    byte[] content = "not an image".getBytes(StandardCharsets.UTF_8);
+    when(fileClient.downloadFile("original")).thenReturn(ResponseEntity.ok(content));
+
+    ProfilePicThumbnail thumbnail = profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, 96);
+
+    assertArrayEquals(content, profilePicService.getThumbnailContent(thumbnail));
+  }
+
+  private String fileIdFor(int size) {
+    return profilePicService.getProfilePicThumbnail(EMPLOYEE_ID, size).getFileId();
+  }
+}
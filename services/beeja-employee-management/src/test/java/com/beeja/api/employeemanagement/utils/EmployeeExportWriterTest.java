@@ -0,0 +1,110 @@
+package com.beeja.api.employeemanagement.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.beeja.api.employeemanagement.enums.ExportFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class EmployeeExportWriterTest {
+
+  @Test
+  void csvRowsAreWrittenInOrder() throws Exception {
+    String csv = csv(List.of("Employee ID", "First Name"), List.of("EMP1", "Ann"));
+
+    assertEquals("Employee ID,First Name\r\nEMP1,Ann\r\n", csv);
+  }
+
+  @Test
+  void csvValuesWithSeparatorsAreQuoted() throws Exception {
+    String csv = csv(List.of("Smith, Jr.", "say \"hi\"", "two\nlines"));
+
+    assertEquals("\"Smith, Jr.\",\"say \"\"hi\"\"\",\"two\nlines\"\r\n", csv);
+  }
+
+  @Test
+  void csvValuesThatLookLikeFormulasAreNeutralized() throws Exception {
+    String csv = csv(List.of("=HYPERLINK(\"x\")", "+919876543210", "-1", "@SUM(A1)", "a=b"));
+
+    assertEquals("\"'=HYPERLINK(\"\"x\"\")\",'+919876543210,'-1,'@SUM(A1),a=b\r\n", csv);
+  }
+
+  @Test
+  void csvValuesStartingWithTabOrCarriageReturnAreNeutralized() throws Exception {
+    String csv = csv(List.of("\t=1+1", "\r=1+1", "a\tb"));
+
+    assertEquals("'\t=1+1,\"'\r=1+1\",a\tb\r\n", csv);
+  }
+
+  @Test
+  void missingCsvValuesAreEmpty() throws Exception {
+    assertEquals("EMP1,,\r\n", csv(Arrays.asList("EMP1", null, "")));
+  }
+
+  @Test
+  void xlsxCellsKeepTheirValuesAsStrings() throws Exception {
+    Sheet sheet = xlsx(List.of("=HYPERLINK(\"x\")", "+919876543210", "-1", "@SUM(A1)"));
+
+    Row row = sheet.getRow(0);
+    assertEquals("=HYPERLINK(\"x\")", row.getCell(0).getStringCellValue());
+    assertEquals("+919876543210", row.getCell(1).getStringCellValue());
+    assertEquals("-1", row.getCell(2).getStringCellValue());
+    assertEquals("@SUM(A1)", row.getCell(3).getStringCellValue());
+    assertEquals(CellType.STRING, row.getCell(0).getCellType());
+  }
+
+  @Test
+  void missingXlsxValuesAreLeftBlank() throws Exception {
+    Row row = xlsx(Arrays.asList("EMP1", null, "Ann")).getRow(0);
+
+    assertNull(row.getCell(1));
+    assertEquals("Ann", row.getCell(2).getStringCellValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void xlsxRowsBeyondTheInMemoryWindowAreKept() throws Exception {
+    List<String>[] rows = new List[250];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = List.of("EMP" + i);
+    }
+
+    Sheet sheet = xlsx(rows);
+
+    assertEquals(249, sheet.getLastRowNum());
+    assertEquals("EMP0", sheet.getRow(0).getCell(0).getStringCellValue());
+    assertEquals("EMP249", sheet.getRow(249).getCell(0).getStringCellValue());
+  }
+
+  @SafeVarargs
+  private static String csv(List<String>... rows) throws Exception {
+    return new String(write(ExportFormat.CSV, rows), StandardCharsets.UTF_8);
+  }
+
+  @SafeVarargs
+  private static Sheet xlsx(List<String>... rows) throws Exception {
+    try (XSSFWorkbook workbook =
+        new XSSFWorkbook(new ByteArrayInputStream(write(ExportFormat.XLSX, rows)))) {
+      return workbook.getSheet("Employees");
+    }
+  }
+
+  private static byte[] write(ExportFormat format, List<String>[] rows) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (EmployeeExportWriter writer = EmployeeExportWriter.open(format, output)) {
+      for (List<String> row : rows) {
+        writer.writeRow(row);
+      }
+    }
+    return output.toByteArray();
+  }
+}
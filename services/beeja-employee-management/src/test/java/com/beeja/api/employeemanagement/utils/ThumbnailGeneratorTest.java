@@ -0,0 +1,120 @@
+package com.beeja.api.employeemanagement.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ThumbnailGeneratorTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {48, 96, 192})
+  void photosAreScaledToSquareThumbnails(int size) throws Exception {
+    byte[] thumbnail = ThumbnailGenerator.thumbnail(photo(1200, 900), size);
+
+    BufferedImage image = ThumbnailGenerator.decode(thumbnail);
+    assertEquals(size, image.getWidth());
+    assertEquals(size, image.getHeight());
+    assertEquals("image/jpeg", ThumbnailGenerator.contentType(thumbnail));
+  }
+
+  @Test
+  void thumbnailIsCutFromTheCentreSquare() throws Exception {
+    // A wide picture with red side bars around a blue centre square.
+    BufferedImage wide = new BufferedImage(300, 100, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = wide.createGraphics();
+    graphics.setColor(Color.RED);
+    graphics.fillRect(0, 0, 300, 100);
+    graphics.setColor(Color.BLUE);
+    graphics.fillRect(100, 0, 100, 100);
+    graphics.dispose();
+
+    BufferedImage image = ThumbnailGenerator.decode(ThumbnailGenerator.thumbnail(wide, 48));
+
+    Color corner = new Color(image.getRGB(2, 2));
+    assertEquals(48, image.getWidth());
+    assertEquals(48, image.getHeight());
+    assertEquals(0, corner.getRed(), 40);
+    assertEquals(255, corner.getBlue(), 40);
+  }
+
+  @Test
+  void smallPicturesAreNotScaledUp() throws Exception {
+    BufferedImage image =
+        ThumbnailGenerator.decode(ThumbnailGenerator.thumbnail(photo(64, 80), 192));
+
+    assertEquals(64, image.getWidth());
+    assertEquals(64, image.getHeight());
+  }
+
+  @Test
+  void picturesWithTransparencyStayPng() throws Exception {
+    BufferedImage transparent = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+    byte[] thumbnail =
+        ThumbnailGenerator.thumbnail(ThumbnailGenerator.decode(png(transparent)), 96);
+
+    assertEquals(ThumbnailGenerator.PNG, ThumbnailGenerator.formatOf(transparent));
+    assertEquals("image/png", ThumbnailGenerator.contentType(thumbnail));
+    assertEquals(0, ThumbnailGenerator.decode(thumbnail).getRGB(48, 48) >>> 24);
+  }
+
+  @Test
+  void samePictureGivesTheSameThumbnail() throws Exception {
+    // The ETag names the picture version and size, so the bytes behind it must not change
+    // when a thumbnail is generated again, e.g. after a cache eviction.
+    byte[] upload = png(photo(640, 480));
+
+    byte[] first = ThumbnailGenerator.thumbnail(ThumbnailGenerator.decode(upload), 96);
+    byte[] second = ThumbnailGenerator.thumbnail(ThumbnailGenerator.decode(upload), 96);
+
+    assertArrayEquals(first, second);
+  }
+
+  @Test
+  void undecodableContentIsNotAnImage() {
+    assertNull(ThumbnailGenerator.decode("%PDF-1.7".getBytes(StandardCharsets.US_ASCII)));
+    assertNull(ThumbnailGenerator.decode(new byte[0]));
+  }
+
+  @Test
+  void picturesWithTooManyPixelsAreNotDecoded() throws Exception {
+    // A small PNG whose header declares 100 megapixels, with the header checksum fixed up.
+    byte[] bomb = png(photo(1, 1));
+    ByteBuffer header = ByteBuffer.wrap(bomb);
+    header.putInt(16, 10_000);
+    header.putInt(20, 10_000);
+    CRC32 crc = new CRC32();
+    crc.update(bomb, 12, 17);
+    header.putInt(29, (int) crc.getValue());
+
+    assertNull(ThumbnailGenerator.decode(bomb));
+  }
+
+  private static BufferedImage photo(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8);
+      }
+    }
+    return image;
+  }
+
+  private static byte[] png(BufferedImage image) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, ThumbnailGenerator.PNG, out);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,149 @@
+package com.beeja.api.expense.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Calls a local stub service returning a JSON list, from several threads at once, through the
+ * former Feign setup (the JDK {@code HttpURLConnection} client, uncompressed) and through the one
+ * {@link FeignConfig} and {@code spring.cloud.openfeign} now configure: a pooled Apache HttpClient 5
+ * with gzip responses, the per-client circuit breaker and the GET-only retryer. Run with {@code
+ * gradle :beeja-expense:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class FeignClientBenchmark {
+
+  interface StubApi {
+    @RequestLine("GET /values")
+    String values();
+  }
+
+  @Param("500")
+  private int records;
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private CloseableHttpClient httpClient;
+
+  private StubApi urlConnection;
+
+  private StubApi pooledGzip;
+
+  @Setup
+  public void setUp() throws IOException {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < records; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":\"")
+          .append(i)
+          .append("\",\"employeeId\":\"EMP")
+          .append(i)
+          .append("\",\"organizationId\":\"org1\",\"category\":\"Travel\",\"amount\":1250.0}");
+    }
+    byte[] plain = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(plain);
+    }
+    byte[] gzipped = compressed.toByteArray();
+
+    // Without it the stub's responses wait out the 40 ms delayed ACK and hide the client cost.
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    serverExecutor = Executors.newFixedThreadPool(16);
+    server.setExecutor(serverExecutor);
+    server.createContext("/values", exchange -> respond(exchange, plain, gzipped));
+    server.start();
+    String url = "http://127.0.0.1:" + server.getAddress().getPort();
+
+    urlConnection =
+        Feign.builder().client(new Client.Default(null, null)).target(StubApi.class, url);
+
+    httpClient =
+        HttpClients.custom()
+            .setConnectionManager(
+                PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(200)
+                    .setMaxConnPerRoute(50)
+                    .setConnectionTimeToLive(TimeValue.ofSeconds(300))
+                    .build())
+            .build();
+    FeignConfig feignConfig = new FeignConfig();
+    CircuitBreakerRegistry registry =
+        feignConfig.feignCircuitBreakerRegistry(new SimpleMeterRegistry());
+    pooledGzip =
+        Feign.builder()
+            .client(new ApacheHttp5Client(httpClient))
+            .addCapability(feignConfig.circuitBreakerCapability(registry))
+            .retryer(feignConfig.feignRetryer())
+            .target(StubApi.class, url);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    httpClient.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public String urlConnection() {
+    return urlConnection.values();
+  }
+
+  @Benchmark
+  public String pooledGzip() {
+    return pooledGzip.values();
+  }
+
+  private static void respond(HttpExchange exchange, byte[] plain, byte[] gzipped)
+      throws IOException {
+    String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    byte[] body = plain;
+    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+      exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+      body = gzipped;
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
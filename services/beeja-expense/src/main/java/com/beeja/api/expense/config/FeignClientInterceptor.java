@@ -1,7 +1,9 @@
 package com.beeja.api.expense.config;
 
+import com.beeja.api.expense.utils.Constants;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -15,6 +17,10 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (token != null) {
       template.header("authorization", token);
     }
+    String correlationId = MDC.get(Constants.CORRELATION_ID);
+    if (correlationId != null) {
+      template.header(Constants.CORRELATION_ID_HEADER, correlationId);
+    }
   }
 
   private String getRequestToken() {
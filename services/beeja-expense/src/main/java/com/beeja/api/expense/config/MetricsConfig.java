@@ -0,0 +1,34 @@
+package com.beeja.api.expense.config;
+
+import com.beeja.api.commons.metrics.OrganizationMetrics;
+import com.beeja.api.expense.utils.UserContext;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.ObservationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the organization tagging of {@link OrganizationMetrics} with the caller's organization
+ * taken from {@link UserContext}.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public ObservationFilter organizationObservationFilter() {
+    return OrganizationMetrics.observationFilter(UserContext::getLoggedInUserOrganizationId);
+  }
+
+  @Bean
+  public MeterFilter organizationTagLimit(
+      @Value("${metrics.organization-tag.max-values:100}") int maxValues) {
+    return OrganizationMetrics.tagLimit(maxValues);
+  }
+
+  @Bean
+  public MongoCommandTagsProvider mongoCommandTagsProvider() {
+    return OrganizationMetrics.mongoCommandTagsProvider(UserContext::getLoggedInUserOrganizationId);
+  }
+}
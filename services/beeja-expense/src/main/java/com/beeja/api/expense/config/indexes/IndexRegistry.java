@@ -0,0 +1,39 @@
+package com.beeja.api.expense.config.indexes;
+
+import static com.beeja.api.commons.indexes.ManagedIndex.SAMPLE;
+
+import com.beeja.api.commons.indexes.ManagedIndex;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Indexes the queries of this service rely on, applied at startup through {@link IndexConfig}. Bump
+ * {@link #VERSION} whenever an index is added, changed or retired.
+ */
+public final class IndexRegistry {
+
+  public static final int VERSION = 1;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  public static final Map<String, List<String>> RETIRED = Map.of();
+
+  private IndexRegistry() {}
+
+  public static List<ManagedIndex> indexes() {
+    return List.of(
+        ManagedIndex.on(
+                "expenses",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("expenseDate", Sort.Direction.DESC)
+                    .named("organization_expense_date"))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("expenseDate", new Document("$gte", new Date(0))),
+                new Document("expenseDate", -1)));
+  }
+}
@@ -1,6 +1,5 @@
 package com.beeja.api.expense.modal;
 
-import com.beeja.api.expense.utils.UserContext;
 import java.util.Date;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -27,10 +26,10 @@ public class Expense {
   private boolean isClaimed;
   private String paymentMadeBy;
   private String description;
-  private String organizationId = (String) UserContext.getLoggedInUserOrganization().get("id");
+  private String organizationId;
   private String department;
-  private String createdBy = UserContext.getLoggedInUserEmail();
-  private String createdByEmployeeId = UserContext.getLoggedInEmployeeId();
+  private String createdBy;
+  private String createdByEmployeeId;
   private List<String> fileId;
   private List<File> files;
   private Date expenseDate;
@@ -264,6 +264,9 @@ public class ExpenseServiceImpl implements ExpenseService {
     newExpense.setPaymentMadeBy(createExpense.getPaymentMadeBy());
     newExpense.setDescription(createExpense.getDescription());
     newExpense.setDepartment(createExpense.getDepartment());
+    newExpense.setOrganizationId((String) UserContext.getLoggedInUserOrganization().get("id"));
+    newExpense.setCreatedBy(UserContext.getLoggedInUserEmail());
+    newExpense.setCreatedByEmployeeId(UserContext.getLoggedInEmployeeId());
 
     if ("null".equals(newExpense.getStatus())) {
       newExpense.setStatus("Pending");
@@ -1,6 +1,10 @@
 package com.beeja.api.expense.utils;
 
 public class Constants {
+  //    IDENTITY TOKEN CLAIMS
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+
 
   public static final String BEEJA = "BEEJA";
   public static final String DOC_URL_RESOURCE_NOT_FOUND = "https://beeja-dev.techatcore.com/";
@@ -50,4 +54,8 @@ public class Constants {
       "The uploaded file exceeds the maximum allowed size of ";
   public static final String INVALID_PAGINATION_PARAM =
       "Invalid pagination parameters(pageNumber and pageSize)";
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
 }
@@ -2,19 +2,64 @@ package com.beeja.api.expense.utils;
 
 import java.util.Map;
 import java.util.Set;
-import lombok.Getter;
-import lombok.Setter;
 
 public class UserContext {
-  @Getter @Setter private static String loggedInUserEmail;
+  private static final ThreadLocal<UserContext> CURRENT = ThreadLocal.withInitial(UserContext::new);
 
-  @Getter @Setter private static String loggedInUserName;
+  private String loggedInUserEmail;
+  private String loggedInUserName;
+  private String loggedInEmployeeId;
+  private Map<String, Object> loggedInUserOrganization;
+  private Set<String> loggedInUserPermissions;
 
-  @Getter @Setter private static String loggedInEmployeeId;
+  public static String getLoggedInUserEmail() {
+    return CURRENT.get().loggedInUserEmail;
+  }
+
+  public static void setLoggedInUserEmail(String loggedInUserEmail) {
+    CURRENT.get().loggedInUserEmail = loggedInUserEmail;
+  }
 
-  @Getter @Setter private static Map<String, Object> loggedInUserOrganization;
+  public static String getLoggedInUserName() {
+    return CURRENT.get().loggedInUserName;
+  }
 
-  @Getter @Setter private static Set<String> loggedInUserPermissions;
+  public static void setLoggedInUserName(String loggedInUserName) {
+    CURRENT.get().loggedInUserName = loggedInUserName;
+  }
+
+  public static String getLoggedInEmployeeId() {
+    return CURRENT.get().loggedInEmployeeId;
+  }
+
+  public static void setLoggedInEmployeeId(String loggedInEmployeeId) {
+    CURRENT.get().loggedInEmployeeId = loggedInEmployeeId;
+  }
+
+  public static Map<String, Object> getLoggedInUserOrganization() {
+    return CURRENT.get().loggedInUserOrganization;
+  }
+
+  public static void setLoggedInUserOrganization(Map<String, Object> loggedInUserOrganization) {
+    CURRENT.get().loggedInUserOrganization = loggedInUserOrganization;
+  }
+
+  /** Id of the logged-in user's organization, or {@code null} outside an authenticated request. */
+  public static String getLoggedInUserOrganizationId() {
+    Map<String, Object> organization = CURRENT.get().loggedInUserOrganization;
+    if (organization == null || organization.get("id") == null) {
+      return null;
+    }
+    return organization.get("id").toString();
+  }
+
+  public static Set<String> getLoggedInUserPermissions() {
+    return CURRENT.get().loggedInUserPermissions;
+  }
+
+  public static void setLoggedInUserPermissions(Set<String> loggedInUserPermissions) {
+    CURRENT.get().loggedInUserPermissions = loggedInUserPermissions;
+  }
 
   public static void setLoggedInUser(
       String email,
@@ -22,10 +67,47 @@ public class UserContext {
       String employeeId,
       Map<String, Object> organization,
       Set<String> permissions) {
-    loggedInUserEmail = email;
-    loggedInUserName = name;
-    loggedInEmployeeId = employeeId;
-    loggedInUserOrganization = organization;
-    loggedInUserPermissions = permissions;
+    UserContext context = CURRENT.get();
+    context.loggedInUserEmail = email;
+    context.loggedInUserName = name;
+    context.loggedInEmployeeId = employeeId;
+    context.loggedInUserOrganization = organization;
+    context.loggedInUserPermissions = permissions;
+  }
+
+  /**
+   * Returns a copy of the calling thread's user, for handing over to work run on another thread.
+   */
+  public static UserContext capture() {
+    UserContext source = CURRENT.get();
+    UserContext copy = new UserContext();
+    copy.loggedInUserEmail = source.loggedInUserEmail;
+    copy.loggedInUserName = source.loggedInUserName;
+    copy.loggedInEmployeeId = source.loggedInEmployeeId;
+    copy.loggedInUserOrganization = source.loggedInUserOrganization;
+    copy.loggedInUserPermissions = source.loggedInUserPermissions;
+    return copy;
+  }
+
+  /**
+   * Wraps a task so it runs with the calling thread's user, restoring the executing thread's own
+   * context afterwards. Used for {@code @Async} executors and any other fan-out to worker threads.
+   */
+  public static Runnable wrap(Runnable task) {
+    UserContext captured = capture();
+    return () -> {
+      UserContext previous = CURRENT.get();
+      CURRENT.set(captured);
+      try {
+        task.run();
+      } finally {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  /** Drops the user bound to the calling thread; called once the request has been served. */
+  public static void clear() {
+    CURRENT.remove();
   }
 }
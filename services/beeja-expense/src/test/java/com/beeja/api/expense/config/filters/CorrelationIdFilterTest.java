@@ -0,0 +1,55 @@
+package com.beeja.api.expense.config.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.beeja.api.expense.utils.Constants;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class CorrelationIdFilterTest {
+
+  private final CorrelationIdFilter correlationIdFilter = new CorrelationIdFilter();
+
+  @Test
+  void keepsTheGatewayCorrelationIdForTheRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(Constants.CORRELATION_ID_HEADER, "3f1c2a9e-gateway");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<String> logged = new AtomicReference<>();
+
+    correlationIdFilter.doFilter(
+        request,
+        response,
+        new MockFilterChain() {
+          @Override
+          public void doFilter(ServletRequest request, ServletResponse response) {
+            logged.set(MDC.get(Constants.CORRELATION_ID));
+          }
+        });
+
+    assertEquals("3f1c2a9e-gateway", logged.get());
+    assertEquals("3f1c2a9e-gateway", response.getHeader(Constants.CORRELATION_ID_HEADER));
+    assertNull(MDC.get(Constants.CORRELATION_ID));
+  }
+
+  @Test
+  void replacesMalformedCorrelationIds() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(Constants.CORRELATION_ID_HEADER, "forged\nlog line");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    correlationIdFilter.doFilter(request, response, new MockFilterChain());
+
+    String correlationId = response.getHeader(Constants.CORRELATION_ID_HEADER);
+    assertNotEquals("forged\nlog line", correlationId);
+    assertEquals(36, correlationId.length());
+  }
+}
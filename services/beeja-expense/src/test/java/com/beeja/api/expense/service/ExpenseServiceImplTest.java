@@ -1,7 +1,9 @@
 package com.beeja.api.expense.service;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -32,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -73,6 +76,8 @@ class ExpenseServiceImplTest {
     createExpense.setPaymentMadeBy("Employee");
     createExpense.setDescription("Business trip to client");
     createExpense.setDepartment("Sales");
+    UserContext.setLoggedInUserEmail("test@example.com");
+    UserContext.setLoggedInEmployeeId("EMP1");
     Expense mockExpense = new Expense();
     when(expenseRepository.save(any())).thenReturn(mockExpense);
     when(accountClient.getCountryByOrganizationId(anyString()))
@@ -85,7 +90,21 @@ class ExpenseServiceImplTest {
         .thenReturn(ResponseEntity.ok(mockCountryResponse));
     Expense savedExpense = expenseService.createExpense(createExpense);
     assertNotNull(savedExpense);
-    verify(expenseRepository, times(1)).save(any());
+    ArgumentCaptor<Expense> saved = ArgumentCaptor.forClass(Expense.class);
+    verify(expenseRepository, times(1)).save(saved.capture());
+    assertEquals("tac", saved.getValue().getOrganizationId());
+    assertEquals("test@example.com", saved.getValue().getCreatedBy());
+    assertEquals("EMP1", saved.getValue().getCreatedByEmployeeId());
+  }
+
+  @Test
+  void testExpenseCanBeBuiltOutsideARequest() {
+    UserContext.clear();
+
+    Expense expense = assertDoesNotThrow(() -> new Expense());
+
+    assertNull(expense.getOrganizationId());
+    assertNull(expense.getCreatedBy());
   }
 
   @Test
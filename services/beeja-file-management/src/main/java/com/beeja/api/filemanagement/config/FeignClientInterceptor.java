@@ -3,12 +3,7 @@ package com.beeja.api.filemanagement.config;
 import com.beeja.api.filemanagement.utils.Constants;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
-import feign.codec.Decoder;
-import org.springframework.beans.factory.ObjectFactory;
-import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
-import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
-import org.springframework.cloud.openfeign.support.SpringDecoder;
-import org.springframework.context.annotation.Bean;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -22,6 +17,10 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (token != null) {
       template.header(Constants.ACCESS_TOKEN_HEADER, token);
     }
+    String correlationId = MDC.get(Constants.CORRELATION_ID);
+    if (correlationId != null) {
+      template.header(Constants.CORRELATION_ID_HEADER, correlationId);
+    }
   }
 
   private String getRequestToken() {
@@ -32,13 +31,4 @@ public class FeignClientInterceptor implements RequestInterceptor {
     }
     return null;
   }
-
-  @Bean
-  public Decoder feignDecoder() {
-    return new ResponseEntityDecoder(new SpringDecoder(feignHttpMessageConverter()));
-  }
-
-  private ObjectFactory<HttpMessageConverters> feignHttpMessageConverter() {
-    return () -> new HttpMessageConverters();
-  }
 }
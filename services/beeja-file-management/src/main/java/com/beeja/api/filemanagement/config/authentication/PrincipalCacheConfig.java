@@ -0,0 +1,21 @@
+package com.beeja.api.filemanagement.config.authentication;
+
+import com.beeja.api.commons.security.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Declares the {@link PrincipalCache} of this service's authorization filter. */
+@Configuration
+public class PrincipalCacheConfig {
+
+  @Bean
+  public PrincipalCache principalCache(
+      @Value("${auth.principal-cache.ttl:30s}") Duration ttl,
+      @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+      MeterRegistry meterRegistry) {
+    return new PrincipalCache(ttl, maxSize, meterRegistry);
+  }
+}
@@ -1,6 +1,5 @@
 package com.beeja.api.filemanagement.model;
 
-import com.beeja.api.filemanagement.utils.UserContext;
 import jakarta.validation.constraints.Pattern;
 import java.util.Date;
 import lombok.AllArgsConstructor;
@@ -29,10 +28,10 @@ public class File {
 
   private String description;
 
-  private String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+  private String organizationId;
 
-  private String createdBy = UserContext.getLoggedInEmployeeId();
-  private String createdByName = UserContext.getLoggedInUserName();
+  private String createdBy;
+  private String createdByName;
   private String modifiedBy;
 
   @Field("created_at")
@@ -76,6 +76,9 @@ public class FileServiceImpl implements FileService {
           FileExtensionHelpers.getExtension(file.getFile().getOriginalFilename()));
       fileEntity.setEntityType(file.getEntityType());
       fileEntity.setFileType(file.getFileType() != null ? file.getFileType() : "General");
+      fileEntity.setOrganizationId(UserContext.getLoggedInUserOrganization().get("id").toString());
+      fileEntity.setCreatedBy(UserContext.getLoggedInEmployeeId());
+      fileEntity.setCreatedByName(UserContext.getLoggedInUserName());
 
       savedFile = fileRepository.save(fileEntity);
 
@@ -199,7 +202,7 @@ public class FileServiceImpl implements FileService {
                   .is(UserContext.getLoggedInUserOrganization().get("id").toString())
                   .and("fileType")
                   .not()
-                  .regex("^profilepicture$", "i"));
+                  .regex("^profilepicture", "i"));
       SkipOperation skipStage = Aggregation.skip((long) (page - 1) * size);
       LimitOperation limitStage = Aggregation.limit(size); // Limit to the specified size
       Aggregation aggregation = Aggregation.newAggregation(matchStage, skipStage, limitStage);
@@ -209,7 +212,7 @@ public class FileServiceImpl implements FileService {
       query.addCriteria(
           Criteria.where("organizationId")
               .is(UserContext.getLoggedInUserOrganization().get("id").toString()));
-      query.addCriteria(Criteria.where("fileType").not().regex("^profilepicture$", "i"));
+      query.addCriteria(Criteria.where("fileType").not().regex("^profilepicture", "i"));
 
       List<File> documents =
           mongoTemplate.aggregate(aggregation, File.class, File.class).getMappedResults();
@@ -1,6 +1,10 @@
 package com.beeja.api.filemanagement.utils;
 
 public class Constants {
+  //    IDENTITY TOKEN CLAIMS
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+
   public static final String ACCESS_TOKEN_HEADER = "authorization";
   public static final String NO_ACCESS_TOKEN_ERROR = "NO AUTH_TOK_403";
   public static final String TOKEN_VERIFICATION_SUCCESSFULLY_FAILED_ERROR =
@@ -36,4 +40,8 @@ public class Constants {
   public static final String FILE_UPLOAD_FAILED = "Error accessing file.";
   public static final String FILE_UPDATE_FAILED = "Error updating file with ID: ";
   public static final String ERROR_UPLOAD_UPDATE = "Error during uploadOrUpdate";
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
 }
@@ -17,6 +17,7 @@ import org.bson.BsonDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -76,6 +77,8 @@ class FileServiceImplTest {
         request.setEntityId("entity123");
         request.setDescription("test description");
         request.setFileType("General");
+        UserContext.setLoggedInEmployeeId("EMP1");
+        UserContext.setLoggedInUserName("Jane Doe");
 
         when(allowedContentTypes.getAllowedTypes()).thenReturn(new String[]{"text/plain"});
         when(fileRepository.save(any(File.class))).thenReturn(new File());
@@ -84,6 +87,21 @@ class FileServiceImplTest {
 
         assertNotNull(result);
         verify(fileStorage, times(1)).uploadFile(eq(multipartFile), any(File.class)); // Corrected verify call
+        ArgumentCaptor<File> saved = ArgumentCaptor.forClass(File.class);
+        verify(fileRepository).save(saved.capture());
+        assertEquals("org123", saved.getValue().getOrganizationId());
+        assertEquals("EMP1", saved.getValue().getCreatedBy());
+        assertEquals("Jane Doe", saved.getValue().getCreatedByName());
+    }
+
+    @Test
+    void testFileCanBeBuiltOutsideARequest() {
+        UserContext.clear();
+
+        File file = assertDoesNotThrow(() -> new File());
+
+        assertNull(file.getOrganizationId());
+        assertNull(file.getCreatedBy());
     }
 
     @Test
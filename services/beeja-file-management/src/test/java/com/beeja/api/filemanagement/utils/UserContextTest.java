@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 public class UserContextTest {
@@ -28,4 +29,17 @@ public class UserContextTest {
 
     assertEquals(permissions, UserContext.getLoggedInUserPermissions());
   }
+
+  @Test
+  void testLoggedInUserIsNotSharedAcrossThreads() throws Exception {
+    UserContext.setLoggedInUser("abc@example.com", "abc", "123456", new HashMap<>(), Set.of());
+    AtomicReference<String> otherThreadEmail = new AtomicReference<>("unset");
+
+    Thread other = new Thread(() -> otherThreadEmail.set(UserContext.getLoggedInUserEmail()));
+    other.start();
+    other.join();
+
+    assertNull(otherThreadEmail.get());
+    assertEquals("abc@example.com", UserContext.getLoggedInUserEmail());
+  }
 }
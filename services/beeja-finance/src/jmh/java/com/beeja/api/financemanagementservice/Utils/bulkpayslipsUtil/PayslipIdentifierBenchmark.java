@@ -0,0 +1,122 @@
+package com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil;
+
+import com.beeja.api.financemanagementservice.config.properties.PayslipIdentificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Identifies the employees of a corpus of generated multi-page payslips, by stripping every page
+ * and compiling the pattern per file as the former extraction did, by stripping only the first page
+ * with a {@link PayslipIdentifier}, and by identifying payslips that were uploaded before. Run with
+ * {@code gradle :beeja-finance:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayslipIdentifierBenchmark {
+
+  @Param("2000")
+  private int payslips;
+
+  @Param("3")
+  private int pagesPerPayslip;
+
+  private byte[][] corpus;
+
+  private PayslipIdentificationProperties properties;
+
+  private PayslipIdentifier warmIdentifier;
+
+  @Setup
+  public void setUp() throws IOException {
+    corpus = new byte[payslips][];
+    for (int i = 0; i < payslips; i++) {
+      corpus[i] = payslip(String.format("EMP%05d", i));
+    }
+    properties = new PayslipIdentificationProperties();
+    warmIdentifier = new PayslipIdentifier(properties, new SimpleMeterRegistry());
+    identifyAll(warmIdentifier);
+  }
+
+  @Benchmark
+  public int fullTextPerFilePattern() throws IOException {
+    int identified = 0;
+    for (byte[] pdf : corpus) {
+      try (PDDocument document = PDDocument.load(pdf)) {
+        String text = new PDFTextStripper().getText(document);
+        Matcher matcher = Pattern.compile(properties.getPattern()).matcher(text);
+        if (matcher.find()) {
+          identified++;
+        }
+      }
+    }
+    return identified;
+  }
+
+  @Benchmark
+  public int firstPage() throws IOException {
+    return identifyAll(new PayslipIdentifier(properties, new SimpleMeterRegistry()));
+  }
+
+  @Benchmark
+  public int cached() throws IOException {
+    return identifyAll(warmIdentifier);
+  }
+
+  private int identifyAll(PayslipIdentifier identifier) throws IOException {
+    int identified = 0;
+    for (byte[] pdf : corpus) {
+      if (identifier.identify("benchmark", pdf) != null) {
+        identified++;
+      }
+    }
+    if (identified != payslips) {
+      throw new IllegalStateException("Identified " + identified + " of " + payslips);
+    }
+    return identified;
+  }
+
+  private byte[] payslip(String employeeCode) throws IOException {
+    try (PDDocument document = new PDDocument();
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream()) {
+      for (int page = 0; page < pagesPerPayslip; page++) {
+        PDPage pdPage = new PDPage();
+        document.addPage(pdPage);
+        try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+          content.beginText();
+          content.setFont(PDType1Font.HELVETICA, 10);
+          content.newLineAtOffset(72, 720);
+          if (page == 0) {
+            content.showText("Payslip for April 2025");
+            content.newLineAtOffset(0, -14);
+            content.showText("Employee Code: " + employeeCode);
+          }
+          for (int line = 0; line < 40; line++) {
+            content.newLineAtOffset(0, -14);
+            content.showText("Earning component " + line + " .......... 1,250.00");
+          }
+          content.endText();
+        }
+      }
+      document.save(pdf);
+      return pdf.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil;
+
+import com.beeja.api.financemanagementservice.client.FileClient;
+import com.beeja.api.financemanagementservice.config.properties.PayslipIdentificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Processes a synthetic payroll ZIP against a file-management stub with a fixed upload latency,
+ * one payslip at a time as the former request did, and through the parallel pipeline. Run with
+ * {@code gradle :beeja-finance:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayslipPipelineBenchmark {
+
+  @Param("100")
+  private int payslips;
+
+  @Param("20")
+  private int uploadLatencyMillis;
+
+  private Path zip;
+
+  private ExecutorService parseExecutor;
+
+  private ExecutorService uploadExecutor;
+
+  private PayslipPipeline serial;
+
+  private PayslipPipeline parallel;
+
+  @Setup
+  public void setUp() throws IOException {
+    zip = Files.createTempFile("payslips-benchmark-", ".zip");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+      for (int i = 0; i < payslips; i++) {
+        out.putNextEntry(new ZipEntry("payslip-" + i + ".pdf"));
+        writePayslip(out, String.format("EMP%04d", i));
+        out.closeEntry();
+      }
+    }
+    FileClient fileClient =
+        (request, authorizationHeader) -> {
+          try {
+            Thread.sleep(uploadLatencyMillis);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return ResponseEntity.ok().build();
+        };
+    PayslipIdentifier identifier =
+        new PayslipIdentifier(new PayslipIdentificationProperties(), new SimpleMeterRegistry());
+    int cores = Runtime.getRuntime().availableProcessors();
+    parseExecutor = Executors.newFixedThreadPool(cores);
+    uploadExecutor = Executors.newFixedThreadPool(8);
+    serial =
+        new PayslipPipeline(
+            Runnable::run,
+            Runnable::run,
+            1,
+            10_000_000,
+            identifier,
+            fileClient,
+            new SimpleMeterRegistry());
+    parallel =
+        new PayslipPipeline(
+            parseExecutor,
+            uploadExecutor,
+            cores + 16,
+            10_000_000,
+            identifier,
+            fileClient,
+            new SimpleMeterRegistry());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    parseExecutor.shutdownNow();
+    uploadExecutor.shutdownNow();
+    Files.deleteIfExists(zip);
+  }
+
+  @Benchmark
+  public int serial() throws Exception {
+    return run(serial);
+  }
+
+  @Benchmark
+  public int parallel() throws Exception {
+    return run(parallel);
+  }
+
+  private int run(PayslipPipeline pipeline) throws Exception {
+    AtomicInteger uploaded = new AtomicInteger();
+    pipeline.process(
+        zip,
+        "benchmark",
+        "April",
+        "2025",
+        "Bearer benchmark",
+        result -> {
+          if (result.isSuccess()) {
+            uploaded.incrementAndGet();
+          }
+        });
+    if (uploaded.get() != payslips) {
+      throw new IllegalStateException("Uploaded " + uploaded.get() + " of " + payslips);
+    }
+    return uploaded.get();
+  }
+
+  private static void writePayslip(OutputStream out, String employeeCode) throws IOException {
+    try (PDDocument document = new PDDocument();
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream()) {
+      PDPage page = new PDPage();
+      document.addPage(page);
+      try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+        content.beginText();
+        content.setFont(PDType1Font.HELVETICA, 12);
+        content.newLineAtOffset(72, 700);
+        content.showText("Payslip for April 2025");
+        content.newLineAtOffset(0, -20);
+        content.showText("Employee Code: " + employeeCode);
+        content.newLineAtOffset(0, -20);
+        content.showText("Net pay: 50,000.00");
+        content.endText();
+      }
+      document.save(pdf);
+      pdf.writeTo(out);
+    }
+  }
+}
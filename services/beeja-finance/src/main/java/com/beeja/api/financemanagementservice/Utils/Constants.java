@@ -1,6 +1,11 @@
 package com.beeja.api.financemanagementservice.Utils;
 
 public class Constants {
+  //    IDENTITY TOKEN CLAIMS
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+  public static final String CLAIM_AUTH_VERSION = "authVersion";
+
 
   public static final String BEEJA = "BEEJA";
   public static final String APPEND_EXCEPTION_MESSAGE = "& Message = ";
@@ -14,9 +19,14 @@ public class Constants {
   public static final String CREATE_BULK_PAYSLIPS = "CBPS";
   public static final String READ_EMPLOYEE = "REMP";
   public static final String GET_ALL_LOANS = "GALON";
+  public static final String UPDATE_ORGANIZATIONS = "UORG";
 
   public static final String PAYSLIP_ENTITY_TYPE = "payslip";
 
+  //    ORGANIZATION PATTERN TYPES
+  public static final String LOAN_ID_PATTERN = "LOAN_ID_PATTERN";
+  public static final String DEVICE_ID_PATTERN = "DEVICE_ID_PATTERN";
+
   //    Errors
   public static final String INTERNAL_SERVER_ERROR = "Internal Server Error";
   public static final String ERROR_SAVING_LOAN = "Error happened while saving loan in beeja";
@@ -152,4 +162,28 @@ public class Constants {
   public static final double EPF_EMPLOYER_CONTRIBUTION_PERCENTAGE = 12.0;
   public static final double ESI_EMPLOYEE_CONTRIBUTION_PERCENTAGE = 0.75;
   public static final double ESI_EMPLOYER_CONTRIBUTION_PERCENTAGE = 3.25;
+
+  //    Payslip jobs
+  public static final String PAYSLIP_JOB_NOT_FOUND = "Payslip job not found";
+  public static final String ZIP_FILE_IS_REQUIRED = "A ZIP file of payslips is required";
+  public static final String PAYSLIP_JOBS_BUSY =
+      "Too many payslip uploads are in progress, please retry later";
+  public static final String PAYSLIP_JOB_INTERRUPTED =
+      "Processing was interrupted, please upload the payslips again";
+  public static final String PAYSLIP_JOB_TOO_LONG =
+      "The job ran past its maximum duration, please upload the remaining payslips again";
+  public static final String PAYSLIP_JOB_ACCESS_REVOKED =
+      "Your access changed while the job was running, please upload the remaining payslips again";
+  public static final String ZIP_FILE_NOT_PROCESSED = "ZIP file could not be processed: ";
+  public static final String PAYSLIP_MISSING_FILE_NAME = "File name is missing";
+  public static final String PAYSLIP_UNSUPPORTED_FILE_TYPE = "Unsupported file type";
+  public static final String PAYSLIP_TOO_LARGE = "File is larger than the payslip size limit";
+  public static final String PAYSLIP_EMPLOYEE_ID_NOT_FOUND = "Employee ID not found";
+  public static final String PAYSLIP_UPLOAD_FAILED = "Upload failed: ";
+  public static final String PAYSLIP_UPLOADED = "Uploaded as ";
+  public static final String PAYSLIP_SPOOL_PREFIX = "payslips-";
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
 }
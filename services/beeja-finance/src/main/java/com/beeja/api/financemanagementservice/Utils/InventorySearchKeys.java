@@ -0,0 +1,74 @@
+package com.beeja.api.financemanagementservice.Utils;
+
+import com.beeja.api.financemanagementservice.modals.Inventory;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Search keys of inventory devices. A device number is normalized to lower-case letters and digits
+ * and stored with all its substrings of up to {@link #GRAM_LENGTH} characters, which are indexed.
+ * A term of up to that length is then a single token lookup, and a longer one must contain all its
+ * trigrams, with the exact substring checked only on the devices that do.
+ */
+public final class InventorySearchKeys {
+
+  public static final int GRAM_LENGTH = 3;
+
+  private InventorySearchKeys() {}
+
+  /** Lower-cases the value and drops everything but letters and digits. */
+  public static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    StringBuilder normalized = new StringBuilder(value.length());
+    for (char c : value.toLowerCase(Locale.ROOT).toCharArray()) {
+      if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+        normalized.append(c);
+      }
+    }
+    return normalized.toString();
+  }
+
+  /** Sets the search key and tokens of the device from its device number. */
+  public static void apply(Inventory inventory) {
+    String key = normalize(inventory.getDeviceNumber());
+    inventory.setSearchKey(key);
+    inventory.setSearchTokens(tokens(key));
+  }
+
+  /** All distinct substrings of the normalized key that are at most {@link #GRAM_LENGTH} long. */
+  public static List<String> tokens(String key) {
+    Set<String> tokens = new LinkedHashSet<>();
+    for (int length = 1; length <= GRAM_LENGTH; length++) {
+      for (int start = 0; start + length <= key.length(); start++) {
+        tokens.add(key.substring(start, start + length));
+      }
+    }
+    return new ArrayList<>(tokens);
+  }
+
+  /**
+   * Adds the match of devices whose number contains the term to the criteria. Terms without
+   * letters or digits match every device.
+   */
+  public static Criteria addSearch(Criteria criteria, String searchTerm) {
+    String term = normalize(searchTerm);
+    if (term.isEmpty()) {
+      return criteria;
+    }
+    if (term.length() <= GRAM_LENGTH) {
+      return criteria.and("searchTokens").is(term);
+    }
+    List<String> trigrams = new ArrayList<>();
+    for (int start = 0; start + GRAM_LENGTH <= term.length(); start++) {
+      trigrams.add(term.substring(start, start + GRAM_LENGTH));
+    }
+    // The term holds letters and digits only, so it is matched literally.
+    return criteria.and("searchTokens").all(trigrams).and("searchKey").regex(term);
+  }
+}
@@ -0,0 +1,138 @@
+package com.beeja.api.financemanagementservice.Utils;
+
+import io.jsonwebtoken.Claims;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Supplies the {@code Authorization} header for work that outlives the request that started it.
+ * The identity token relayed by the gateway expires minutes after the request, while a job may
+ * wait in the queue and run for much longer; the job therefore re-signs the caller's claims with a
+ * fresh expiry shortly before the current token expires. Services accept it like the gateway's
+ * tokens, as both are signed with the shared secret.
+ *
+ * <p>The caller's identity is copied when the job starts, so the gateway's revocation of tokens
+ * whose auth version is outdated does not reach a job. Every renewal therefore first asks an {@link
+ * AccessCheck} whether the caller is still active at the auth version the job started with; once
+ * that fails, or the job has run for its maximum duration, no further token is issued.
+ */
+public class JobToken implements Supplier<String> {
+
+  /** Tokens are renewed this long before they expire, so calls in flight still carry a live one. */
+  private static final Duration REFRESH_SKEW = Duration.ofSeconds(30);
+
+  /** Tells whether the caller still has the access a job's token was made from. */
+  @FunctionalInterface
+  public interface AccessCheck {
+
+    /**
+     * @param authorizationHeader the renewed header, to make the check with
+     * @param authVersion the caller's auth version when the job started
+     */
+    boolean stillGranted(String authorizationHeader, long authVersion);
+  }
+
+  private final Map<String, Object> claims;
+  private final String secret;
+  private final Duration ttl;
+  private final AccessCheck accessCheck;
+  private final Clock clock;
+  private final Instant renewUntil;
+  private final long authVersion;
+  private String authorizationHeader;
+  private Instant refreshAt;
+  private boolean revoked;
+
+  JobToken(
+      Map<String, Object> claims,
+      String secret,
+      Duration ttl,
+      Duration maxDuration,
+      AccessCheck accessCheck,
+      Clock clock) {
+    this.claims = claims;
+    this.secret = secret;
+    this.ttl = ttl;
+    this.accessCheck = accessCheck;
+    this.clock = clock;
+    Instant now = clock.instant();
+    this.renewUntil = now.plus(maxDuration);
+    this.authVersion =
+        claims.get(Constants.CLAIM_AUTH_VERSION) instanceof Number version
+            ? version.longValue()
+            : -1;
+    // The first token is made while the request's token from the gateway is still valid.
+    this.authorizationHeader = sign(now);
+    this.refreshAt = expiry(now).minus(REFRESH_SKEW);
+  }
+
+  /**
+   * Token for a job started with the given {@code Authorization} header, renewed for at most
+   * {@code maxDuration} and only while {@code accessCheck} grants it.
+   *
+   * @throws Exception if the header does not carry a valid token signed with the secret
+   */
+  public static JobToken of(
+      String authorizationHeader,
+      String secret,
+      Duration ttl,
+      Duration maxDuration,
+      AccessCheck accessCheck)
+      throws Exception {
+    String token =
+        authorizationHeader.regionMatches(true, 0, "Bearer ", 0, 7)
+            ? authorizationHeader.substring(7)
+            : authorizationHeader;
+    Map<String, Object> claims = new HashMap<>(JwtUtils.decodeJWT(token, secret));
+    claims.remove(Claims.ISSUED_AT);
+    claims.remove(Claims.EXPIRATION);
+    return new JobToken(claims, secret, ttl, maxDuration, accessCheck, Clock.systemUTC());
+  }
+
+  /**
+   * @throws IllegalStateException once the job has run for its maximum duration or the caller's
+   *     access has changed
+   */
+  @Override
+  public synchronized String get() {
+    Instant now = clock.instant();
+    if (revoked) {
+      throw new IllegalStateException(Constants.PAYSLIP_JOB_ACCESS_REVOKED);
+    }
+    if (!now.isBefore(renewUntil)) {
+      throw new IllegalStateException(Constants.PAYSLIP_JOB_TOO_LONG);
+    }
+    if (!now.isBefore(refreshAt)) {
+      // The renewed token asks, as the current one may have expired while the job was queued.
+      String renewed = sign(now);
+      if (!stillGranted(renewed)) {
+        revoked = true;
+        throw new IllegalStateException(Constants.PAYSLIP_JOB_ACCESS_REVOKED);
+      }
+      authorizationHeader = renewed;
+      refreshAt = expiry(now).minus(REFRESH_SKEW);
+    }
+    return authorizationHeader;
+  }
+
+  private String sign(Instant now) {
+    return "Bearer " + JwtUtils.generateToken(claims, secret, Date.from(expiry(now)));
+  }
+
+  private Instant expiry(Instant now) {
+    return now.plus(ttl).isBefore(renewUntil) ? now.plus(ttl) : renewUntil;
+  }
+
+  private boolean stillGranted(String renewed) {
+    try {
+      return accessCheck.stillGranted(renewed, authVersion);
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+}
@@ -3,6 +3,9 @@ package com.beeja.api.financemanagementservice.Utils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Date;
+import java.util.Map;
 
 public class JwtUtils {
   public static Claims decodeJWT(String jwtToken, String secret) throws Exception {
@@ -14,4 +17,14 @@ public class JwtUtils {
       throw new Exception(e.getMessage());
     }
   }
+
+  /** Signs the given claims with the shared secret, the way the gateway signs identity tokens. */
+  public static String generateToken(Map<String, Object> claims, String secret, Date expiresAt) {
+    return Jwts.builder()
+        .setClaims(claims)
+        .setIssuedAt(new Date())
+        .setExpiration(expiresAt)
+        .signWith(SignatureAlgorithm.HS256, secret)
+        .compact();
+  }
 }
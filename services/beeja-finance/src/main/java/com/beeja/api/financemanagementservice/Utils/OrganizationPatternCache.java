@@ -0,0 +1,66 @@
+package com.beeja.api.financemanagementservice.Utils;
+
+import com.beeja.api.financemanagementservice.client.AccountClient;
+import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Active organization patterns from accounts, keyed by organization and pattern type. An entry is
+ * loaded on first use and, once older than {@code organization-patterns.refresh-interval}, reloaded
+ * in the background on the next read while the current pattern keeps being served. Should reloads
+ * keep failing, the pattern is dropped once older than {@code organization-patterns.expire-after}.
+ * Accounts evicts a pattern through {@link #evict} as soon as it changes. A missing pattern is
+ * cached too; failed lookups are not.
+ */
+@Component
+public class OrganizationPatternCache {
+
+  private final AccountClient accountClient;
+  private final LoadingCache<String, Optional<OrganizationPattern>> patterns;
+
+  public OrganizationPatternCache(
+      AccountClient accountClient,
+      @Value("${organization-patterns.refresh-interval:10m}") Duration refreshInterval,
+      @Value("${organization-patterns.expire-after:1d}") Duration expireAfter,
+      @Value("${organization-patterns.max-size:10000}") long maxSize,
+      MeterRegistry meterRegistry) {
+    this.accountClient = accountClient;
+    this.patterns =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .refreshAfterWrite(refreshInterval)
+            .expireAfterWrite(expireAfter)
+            // Reloads run as the reader that triggered them, whose token accounts resolves the
+            // organization from
+            .executor(task -> ForkJoinPool.commonPool().execute(UserContext.wrap(task)))
+            .recordStats()
+            .build(this::load);
+    CaffeineCacheMetrics.monitor(meterRegistry, patterns, "organization-patterns");
+  }
+
+  /**
+   * Active pattern of the given type for the organization of the logged-in user, or {@code null}
+   * when it has none.
+   */
+  public OrganizationPattern getActivePattern(String organizationId, String patternType) {
+    return patterns.get(organizationId + ":" + patternType).orElse(null);
+  }
+
+  /** Drops the cached pattern so the next read loads it from accounts. */
+  public void evict(String organizationId, String patternType) {
+    patterns.invalidate(organizationId + ":" + patternType);
+  }
+
+  private Optional<OrganizationPattern> load(String key) {
+    String patternType = key.substring(key.indexOf(':') + 1);
+    return Optional.ofNullable(accountClient.getActivePatternByType(patternType).getBody());
+  }
+}
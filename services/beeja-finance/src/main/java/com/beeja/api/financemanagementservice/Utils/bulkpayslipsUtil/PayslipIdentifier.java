@@ -0,0 +1,119 @@
+package com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil;
+
+import com.beeja.api.financemanagementservice.config.properties.PayslipIdentificationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.PDFTextStripperByArea;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the employee code printed on a payslip. Only the leading {@code
+ * payslip-jobs.identification.pages} pages are stripped, or only the configured region of them, and
+ * the text is matched against the organization's pattern, compiled once at startup. Results are
+ * cached by organization and SHA-256 of the PDF, so a payslip uploaded again is not parsed again;
+ * hit and miss counts are published as the {@code cache.gets} metric tagged {@code
+ * cache=payslip-identities}.
+ */
+@Component
+public class PayslipIdentifier {
+
+  private static final String REGION = "employee-code";
+
+  /** Cached in place of a code for payslips that carry none, since null values are not cached. */
+  private static final String NONE = "";
+
+  private final Pattern defaultPattern;
+  private final Map<String, Pattern> organizationPatterns;
+  private final int pages;
+  private final Rectangle2D region;
+  private final Cache<String, String> identities;
+
+  public PayslipIdentifier(
+      PayslipIdentificationProperties properties, MeterRegistry meterRegistry) {
+    this.defaultPattern = compile(properties.getPattern());
+    this.organizationPatterns =
+        properties.getOrganizationPatterns().entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> compile(e.getValue())));
+    this.pages = Math.max(1, properties.getPages());
+    PayslipIdentificationProperties.Region area = properties.getRegion();
+    this.region =
+        area == null
+            ? null
+            : new Rectangle2D.Float(area.getX(), area.getY(), area.getWidth(), area.getHeight());
+    this.identities =
+        Caffeine.newBuilder().maximumSize(properties.getCacheSize()).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, identities, "payslip-identities");
+  }
+
+  /** The employee code printed on the payslip, or null if there is none. */
+  public String identify(String organizationId, byte[] pdf) throws IOException {
+    String key = organizationId + ":" + sha256(pdf);
+    String cached = identities.getIfPresent(key);
+    if (cached == null) {
+      cached = extract(patternOf(organizationId), pdf);
+      identities.put(key, cached == null ? NONE : cached);
+    }
+    return cached == null || cached.isEmpty() ? null : cached;
+  }
+
+  private String extract(Pattern pattern, byte[] pdf) throws IOException {
+    try (PDDocument document = PDDocument.load(pdf)) {
+      int searched = Math.min(pages, document.getNumberOfPages());
+      for (int page = 0; page < searched; page++) {
+        Matcher matcher = pattern.matcher(text(document, page));
+        if (matcher.find()) {
+          return matcher.group(1);
+        }
+      }
+      return null;
+    }
+  }
+
+  private String text(PDDocument document, int page) throws IOException {
+    if (region == null) {
+      PDFTextStripper stripper = new PDFTextStripper();
+      stripper.setStartPage(page + 1);
+      stripper.setEndPage(page + 1);
+      return stripper.getText(document);
+    }
+    PDFTextStripperByArea stripper = new PDFTextStripperByArea();
+    stripper.addRegion(REGION, region);
+    stripper.extractRegions(document.getPage(page));
+    return stripper.getTextForRegion(REGION);
+  }
+
+  private Pattern patternOf(String organizationId) {
+    return organizationId == null
+        ? defaultPattern
+        : organizationPatterns.getOrDefault(organizationId, defaultPattern);
+  }
+
+  private static Pattern compile(String regex) {
+    Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+    if (pattern.matcher("").groupCount() < 1) {
+      throw new IllegalStateException("Payslip pattern needs a group for the employee code");
+    }
+    return pattern;
+  }
+
+  private static String sha256(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
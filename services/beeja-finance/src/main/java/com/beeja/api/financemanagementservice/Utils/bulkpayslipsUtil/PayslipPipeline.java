@@ -0,0 +1,215 @@
+package com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil;
+
+import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.client.FileClient;
+import com.beeja.api.financemanagementservice.modals.PayslipFileResult;
+import com.beeja.api.financemanagementservice.requests.FileUploadRequest;
+import com.beeja.api.financemanagementservice.requests.PdfMultipartFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns a payslip ZIP spooled to disk into one upload per employee. Entries are read on demand
+ * through the ZIP's central directory, parsed on one executor and uploaded on another, and at most
+ * {@code maxInFlight} payslips are held in memory at a time, however large the ZIP is.
+ */
+@Slf4j
+public class PayslipPipeline {
+
+  private final Executor parseExecutor;
+  private final Executor uploadExecutor;
+  private final int maxInFlight;
+  private final long maxEntrySize;
+  private final PayslipIdentifier identifier;
+  private final FileClient fileClient;
+  private final Timer parseTimer;
+  private final Timer uploadTimer;
+  private final Counter succeeded;
+  private final Counter failed;
+
+  public PayslipPipeline(
+      Executor parseExecutor,
+      Executor uploadExecutor,
+      int maxInFlight,
+      long maxEntrySize,
+      PayslipIdentifier identifier,
+      FileClient fileClient,
+      MeterRegistry meterRegistry) {
+    this.parseExecutor = parseExecutor;
+    this.uploadExecutor = uploadExecutor;
+    this.maxInFlight = maxInFlight;
+    this.maxEntrySize = maxEntrySize;
+    this.identifier = identifier;
+    this.fileClient = fileClient;
+    this.parseTimer = stageTimer(meterRegistry, "parse");
+    this.uploadTimer = stageTimer(meterRegistry, "upload");
+    this.succeeded = filesCounter(meterRegistry, "success");
+    this.failed = filesCounter(meterRegistry, "failure");
+  }
+
+  /** Number of files in the ZIP, directories excluded. */
+  public static int countFiles(Path zip) throws IOException {
+    try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+      return (int) zipFile.stream().filter(entry -> !entry.isDirectory()).count();
+    }
+  }
+
+  /**
+   * Processes every file of the ZIP and hands each outcome to {@code results} as soon as it is
+   * known, from the thread that finished the file. Returns once all files are done. Employee codes
+   * are read with the patterns of the given organization. The {@code Authorization} header is
+   * asked for on every upload, so a long job can renew its token as it goes.
+   *
+   * @throws IOException if the ZIP itself cannot be read
+   */
+  public void process(
+      Path zip,
+      String organizationId,
+      String month,
+      String year,
+      Supplier<String> authorizationHeader,
+      Consumer<PayslipFileResult> results)
+      throws IOException, InterruptedException {
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    List<CompletableFuture<Void>> pending = new ArrayList<>();
+    try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+      Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        ZipEntry entry = entries.nextElement();
+        if (entry.isDirectory()) {
+          continue;
+        }
+        String fileName = entry.getName();
+        if (fileName == null || fileName.isBlank()) {
+          report(results, failure(fileName, null, Constants.PAYSLIP_MISSING_FILE_NAME));
+          continue;
+        }
+        if (!fileName.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+          report(results, failure(fileName, null, Constants.PAYSLIP_UNSUPPORTED_FILE_TYPE));
+          continue;
+        }
+        inFlight.acquire();
+        CompletableFuture<Void> outcome;
+        try {
+          outcome =
+              CompletableFuture.supplyAsync(
+                      () -> parse(zipFile, entry, organizationId), parseExecutor)
+                  .thenApplyAsync(
+                      payslip -> upload(payslip, month, year, authorizationHeader.get()),
+                      uploadExecutor)
+                  .exceptionally(e -> failure(fileName, null, messageOf(e)))
+                  .thenAccept(result -> report(results, result))
+                  .whenComplete((ignored, e) -> inFlight.release());
+        } catch (RejectedExecutionException e) {
+          // The parse executor turned the file away, so nothing else will give the permit back
+          inFlight.release();
+          report(results, failure(fileName, null, messageOf(e)));
+          continue;
+        }
+        pending.add(outcome);
+      }
+      CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new)).join();
+    }
+  }
+
+  private ParsedPayslip parse(ZipFile zipFile, ZipEntry entry, String organizationId) {
+    return parseTimer.record(
+        () -> {
+          try (InputStream in = zipFile.getInputStream(entry)) {
+            byte[] pdf = in.readNBytes((int) Math.min(maxEntrySize + 1, Integer.MAX_VALUE - 8));
+            if (pdf.length > maxEntrySize) {
+              throw new IllegalArgumentException(Constants.PAYSLIP_TOO_LARGE);
+            }
+            String employeeId = identifier.identify(organizationId, pdf);
+            if (employeeId == null) {
+              throw new IllegalArgumentException(Constants.PAYSLIP_EMPLOYEE_ID_NOT_FOUND);
+            }
+            return new ParsedPayslip(entry.getName(), employeeId, pdf);
+          } catch (IOException e) {
+            throw new CompletionException(e);
+          }
+        });
+  }
+
+  private PayslipFileResult upload(
+      ParsedPayslip payslip, String month, String year, String authorizationHeader) {
+    String finalFileName = payslip.getEmployeeId() + "_" + month + "_" + year + ".pdf";
+    FileUploadRequest fileUploadRequest = new FileUploadRequest();
+    fileUploadRequest.setFile(new PdfMultipartFile(finalFileName, finalFileName, payslip.getPdf()));
+    fileUploadRequest.setName(finalFileName);
+    fileUploadRequest.setFileType("pdf");
+    fileUploadRequest.setEntityType("employee");
+    fileUploadRequest.setEntityId(payslip.getEmployeeId());
+    fileUploadRequest.setDescription("Payslip for employee " + payslip.getEmployeeId());
+    try {
+      uploadTimer.record(() -> fileClient.uploadFile(fileUploadRequest, authorizationHeader));
+      return new PayslipFileResult(
+          payslip.getFileName(),
+          payslip.getEmployeeId(),
+          true,
+          Constants.PAYSLIP_UPLOADED + finalFileName);
+    } catch (Exception e) {
+      log.warn("Failed to upload {}: {}", payslip.getFileName(), e.getMessage());
+      return failure(
+          payslip.getFileName(),
+          payslip.getEmployeeId(),
+          Constants.PAYSLIP_UPLOAD_FAILED + e.getMessage());
+    }
+  }
+
+  private void report(Consumer<PayslipFileResult> results, PayslipFileResult result) {
+    (result.isSuccess() ? succeeded : failed).increment();
+    results.accept(result);
+  }
+
+  private static PayslipFileResult failure(String fileName, String employeeId, String message) {
+    return new PayslipFileResult(fileName, employeeId, false, message);
+  }
+
+  private static String messageOf(Throwable e) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    return cause.getMessage();
+  }
+
+  private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+    return Timer.builder("payslip.jobs.stage.duration")
+        .description("Time spent on one payslip per processing stage")
+        .tag("stage", stage)
+        .register(meterRegistry);
+  }
+
+  private static Counter filesCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("payslip.jobs.files")
+        .description("Payslip files processed by bulk upload jobs")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class ParsedPayslip {
+    private final String fileName;
+    private final String employeeId;
+    private final byte[] pdf;
+  }
+}
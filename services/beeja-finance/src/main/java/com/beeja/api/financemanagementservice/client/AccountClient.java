@@ -2,6 +2,7 @@ package com.beeja.api.financemanagementservice.client;
 
 import com.beeja.api.financemanagementservice.modals.clients.finance.EmployeeNameDTO;
 import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
+import com.beeja.api.financemanagementservice.modals.clients.finance.UserDTO;
 import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,10 @@ public interface AccountClient {
   ResponseEntity<?> getUserByEmployeeId(
       @PathVariable String employeeId, @RequestHeader("Authorization") String authorizationHeader);
 
+  /** The user the header was issued to, as currently stored. */
+  @GetMapping("/v1/users/me")
+  UserDTO getLoggedInUser(@RequestHeader("Authorization") String authorizationHeader);
+
   @GetMapping("v1/users/email/{email}")
   ResponseEntity<?> getEmployeeByEmail(@PathVariable String email);
 
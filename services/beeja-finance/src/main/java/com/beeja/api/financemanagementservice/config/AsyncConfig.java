@@ -0,0 +1,86 @@
+package com.beeja.api.financemanagementservice.config;
+
+import com.beeja.api.financemanagementservice.Utils.UserContext;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+  /**
+   * Runs bulk payslip jobs in the background. Only a few run at once and a few more may wait;
+   * further uploads are turned away instead of queueing up ZIPs on disk.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor payslipJobExecutor(
+      @Value("${payslip-jobs.max-concurrent-jobs:2}") int maxConcurrentJobs,
+      @Value("${payslip-jobs.max-queued-jobs:10}") int maxQueuedJobs) {
+    return executor("PayslipJob-", maxConcurrentJobs, maxQueuedJobs);
+  }
+
+  /**
+   * Parses payslip PDFs, which is CPU bound, on one thread per core. Each running job keeps only a
+   * bounded number of payslips in flight, so the queue is sized for all running jobs at once;
+   * files beyond that are reported as failed rather than held in memory.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor payslipParseExecutor(
+      @Value("${payslip-jobs.max-concurrent-jobs:2}") int maxConcurrentJobs,
+      @Value("${payslip-jobs.upload-concurrency:8}") int uploadConcurrency) {
+    int cores = Runtime.getRuntime().availableProcessors();
+    return executor(
+        "PayslipParse-", cores, maxConcurrentJobs * maxInFlight(cores, uploadConcurrency));
+  }
+
+  /** Uploads parsed payslips to file-management, bounding the calls in flight at once. */
+  @Bean
+  public ThreadPoolTaskExecutor payslipUploadExecutor(
+      @Value("${payslip-jobs.max-concurrent-jobs:2}") int maxConcurrentJobs,
+      @Value("${payslip-jobs.upload-concurrency:8}") int uploadConcurrency) {
+    int cores = Runtime.getRuntime().availableProcessors();
+    return executor(
+        "PayslipUpload-",
+        uploadConcurrency,
+        maxConcurrentJobs * maxInFlight(cores, uploadConcurrency));
+  }
+
+  /** Payslips one job holds in memory at a time: enough to keep both stages busy, and no more. */
+  public static int maxInFlight(int parseThreads, int uploadConcurrency) {
+    return parseThreads + 2 * uploadConcurrency;
+  }
+
+  /** Tasks run as the submitting user and keep its correlation id. */
+  private static ThreadPoolTaskExecutor executor(String prefix, int threads, int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix(prefix);
+    executor.setTaskDecorator(task -> withMdc(UserContext.wrap(task)));
+    executor.initialize();
+    return executor;
+  }
+
+  private static Runnable withMdc(Runnable task) {
+    Map<String, String> captured = MDC.getCopyOfContextMap();
+    return () -> {
+      Map<String, String> previous = MDC.getCopyOfContextMap();
+      if (captured != null) {
+        MDC.setContextMap(captured);
+      }
+      try {
+        task.run();
+      } finally {
+        if (previous != null) {
+          MDC.setContextMap(previous);
+        } else {
+          MDC.clear();
+        }
+      }
+    };
+  }
+}
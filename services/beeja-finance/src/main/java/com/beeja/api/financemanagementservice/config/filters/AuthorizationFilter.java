@@ -1,5 +1,8 @@
 package com.beeja.api.financemanagementservice.config.filters;
 
+import com.beeja.api.commons.metrics.OrganizationMetrics;
+import com.beeja.api.commons.security.IdentityClaims;
+import com.beeja.api.commons.security.PrincipalCache;
 import com.beeja.api.financemanagementservice.Utils.Constants;
 import com.beeja.api.financemanagementservice.Utils.JwtUtils;
 import com.beeja.api.financemanagementservice.Utils.UserContext;
@@ -29,6 +32,8 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
   @Autowired AccountClient accountClient;
 
+  @Autowired PrincipalCache principalCache;
+
   @Autowired JwtProperties jwtProperties;
 
   @Override
@@ -48,7 +53,13 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
     accessToken = accessToken.substring(7);
     if (isValidAccessToken(accessToken)) {
-      filterChain.doFilter(request, response);
+      request.setAttribute(
+          OrganizationMetrics.ORGANIZATION_ATTRIBUTE, UserContext.getLoggedInUserOrganizationId());
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        UserContext.clear();
+      }
     } else {
       log.error(Constants.USER_FAILED_AUTHENTICATE);
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -70,32 +81,60 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
   private boolean validateJWT(String accessToken) throws Exception {
     Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
+    if (claims.get(Constants.CLAIM_EMPLOYEE_ID) != null) {
+      return setLoggedInUserFromClaims(claims, accessToken);
+    }
     String email = claims.get("sub").toString();
     return checkUserPresenceAndSetActive(email, accessToken);
   }
 
+  /** Identity tokens minted by the gateway carry the user details, so accounts is not called. */
+  private boolean setLoggedInUserFromClaims(Claims claims, String accessToken) {
+    IdentityClaims identity = IdentityClaims.of(claims);
+    if (identity == null) {
+      return false;
+    }
+    UserContext.setLoggedInUser(
+        claims.getSubject(),
+        claims.get(Constants.CLAIM_FIRST_NAME, String.class),
+        claims.get(Constants.CLAIM_EMPLOYEE_ID, String.class),
+        identity.organization(),
+        identity.permissions(),
+        accessToken);
+    return true;
+  }
+
   private boolean checkUserPresenceAndSetActive(String email, String accessToken) {
+    PrincipalCache.CachedPrincipal principal = principalCache.get(email, this::resolvePrincipal);
+    if (principal == null || !principal.active()) {
+      return false;
+    }
+    UserContext.setLoggedInUser(
+        principal.email(),
+        principal.firstName(),
+        principal.employeeId(),
+        new HashMap<>(principal.organization()),
+        new HashSet<>(principal.permissions()),
+        accessToken);
+    return true;
+  }
+
+  private PrincipalCache.CachedPrincipal resolvePrincipal(String email) {
     ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
         (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
     LinkedHashMap<String, Object> responseBody = userIsPresent.getBody();
-    if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-      Boolean userIsActive = (Boolean) responseBody.get("active");
-      if (userIsActive) {
-        setLoggedInUser(responseBody, accessToken);
-      }
-      return userIsActive;
+    if (!userIsPresent.getStatusCode().is2xxSuccessful() || responseBody == null) {
+      return null;
     }
-    return false;
-  }
-
-  private void setLoggedInUser(LinkedHashMap<String, Object> responseBody, String accessToken) {
-    String email = responseBody.get("email").toString();
-    String firstName = responseBody.get("firstName").toString();
-    String employeeId = responseBody.get("employeeId").toString();
-    Map<String, Object> userOrganization = getUserOrganization(responseBody);
-    Set<String> permissions = getPermissions(responseBody);
-    UserContext.setLoggedInUser(
-        email, firstName, employeeId, userOrganization, permissions, accessToken);
+    return new PrincipalCache.CachedPrincipal(
+        responseBody.get("email").toString(),
+        responseBody.get("firstName").toString(),
+        (String) responseBody.get("lastName"),
+        responseBody.get("employeeId").toString(),
+        getUserOrganization(responseBody),
+        Set.of(),
+        getPermissions(responseBody),
+        Boolean.TRUE.equals(responseBody.get("active")));
   }
 
   private Map<String, Object> getUserOrganization(LinkedHashMap<String, Object> responseBody) {
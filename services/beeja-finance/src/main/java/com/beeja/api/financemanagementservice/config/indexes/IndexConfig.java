@@ -0,0 +1,29 @@
+package com.beeja.api.financemanagementservice.config.indexes;
+
+import com.beeja.api.commons.indexes.IndexManager;
+import com.beeja.api.commons.indexes.MongoIndexHealthIndicator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/** Applies and verifies the {@link IndexRegistry} of this service. */
+@Configuration
+public class IndexConfig {
+
+  @Bean
+  public IndexManager indexManager(
+      MongoTemplate mongoTemplate, @Value("${spring.application.name}") String applicationName) {
+    return new IndexManager(
+        mongoTemplate,
+        applicationName,
+        IndexRegistry.VERSION,
+        IndexRegistry.indexes(),
+        IndexRegistry.RETIRED);
+  }
+
+  @Bean("mongoIndexes")
+  public MongoIndexHealthIndicator mongoIndexHealthIndicator(IndexManager indexManager) {
+    return new MongoIndexHealthIndicator(indexManager);
+  }
+}
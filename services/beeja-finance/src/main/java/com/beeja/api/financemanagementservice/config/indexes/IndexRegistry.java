@@ -0,0 +1,74 @@
+package com.beeja.api.financemanagementservice.config.indexes;
+
+import static com.beeja.api.commons.indexes.ManagedIndex.SAMPLE;
+
+import com.beeja.api.commons.indexes.ManagedIndex;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Indexes the queries of this service rely on, applied at startup through {@link IndexConfig}. Bump
+ * {@link #VERSION} whenever an index is added, changed or retired.
+ */
+public final class IndexRegistry {
+
+  public static final int VERSION = 3;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  public static final Map<String, List<String>> RETIRED = Map.of();
+
+  private IndexRegistry() {}
+
+  public static List<ManagedIndex> indexes() {
+    return List.of(
+        ManagedIndex.on(
+                "loans",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("status", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named("organization_status_created"))
+            .serves(
+                new Document("organizationId", SAMPLE).append("status", SAMPLE),
+                new Document("createdAt", -1)),
+        ManagedIndex.on(
+                "loans",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .named("organization_employee"))
+            .serves(new Document("employeeId", SAMPLE).append("organizationId", SAMPLE)),
+        ManagedIndex.on(
+                "inventory",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("created_at", Sort.Direction.DESC)
+                    .named("organization_created"))
+            .serves(new Document("organizationId", SAMPLE), new Document("created_at", -1)),
+        ManagedIndex.on(
+                "inventory",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("searchTokens", Sort.Direction.ASC)
+                    .named("organization_search_tokens"))
+            .serves(new Document("organizationId", SAMPLE).append("searchTokens", SAMPLE)),
+        ManagedIndex.on(
+                "health_insurance",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .named("organization_employee"))
+            .serves(new Document("employeeId", SAMPLE).append("organizationId", SAMPLE)),
+        // Bulk payslip jobs are only polled while they run; keep them a month for reference.
+        ManagedIndex.on(
+            "payslip_jobs",
+            new Index()
+                .on("createdAt", Sort.Direction.ASC)
+                .expire(Duration.ofDays(30))
+                .named("created_expiry")));
+  }
+}
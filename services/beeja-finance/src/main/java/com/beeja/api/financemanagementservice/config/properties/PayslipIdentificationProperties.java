@@ -0,0 +1,40 @@
+package com.beeja.api.financemanagementservice.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "payslip-jobs.identification")
+public class PayslipIdentificationProperties {
+  /** Matches the employee code printed on a payslip; its first group is the code. */
+  private String pattern =
+      "Employee\\s*(?:Code|ID)\\s*[:\\-]?\\s*([A-Z0-9]*[0-9][A-Z0-9]*)";
+
+  /** Patterns replacing {@link #pattern} for the payslips of an organization, by its id. */
+  private Map<String, String> organizationPatterns = new HashMap<>();
+
+  /** Number of leading pages searched for the employee code. */
+  private int pages = 1;
+
+  /** Part of each searched page holding the employee code; the whole page when not set. */
+  private Region region;
+
+  /** Payslips whose employee code is remembered by content hash, so re-uploads skip parsing. */
+  private long cacheSize = 10_000;
+
+  /** A rectangle on the page in PDF points, measured from the top left corner. */
+  @Getter
+  @Setter
+  public static class Region {
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+  }
+}
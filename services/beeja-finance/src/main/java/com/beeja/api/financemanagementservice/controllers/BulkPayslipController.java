@@ -3,26 +3,45 @@ package com.beeja.api.financemanagementservice.controllers;
 import static com.beeja.api.financemanagementservice.Utils.Constants.CREATE_BULK_PAYSLIPS;
 
 import com.beeja.api.financemanagementservice.annotations.HasPermission;
+import com.beeja.api.financemanagementservice.modals.PayslipJob;
 import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
-import com.beeja.api.financemanagementservice.service.LoanService;
+import com.beeja.api.financemanagementservice.service.PayslipJobService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/v1/payslips")
 public class BulkPayslipController {
 
-  @Autowired LoanService loanService;
+  @Autowired PayslipJobService payslipJobService;
 
+  /** Queues the payslips for upload; poll the job at the returned location for the outcome. */
   @PostMapping
   @HasPermission(CREATE_BULK_PAYSLIPS)
-  public void uploadBulkPaySlips(
+  public ResponseEntity<PayslipJob> uploadBulkPaySlips(
       @RequestHeader("Authorization") String authorizationHeader,
       BulkPayslipRequest bulkPayslipRequest)
       throws Exception {
-    loanService.uploadBulkPaySlips(bulkPayslipRequest, authorizationHeader);
+    PayslipJob job = payslipJobService.submit(bulkPayslipRequest, authorizationHeader);
+    return ResponseEntity.accepted()
+        .location(
+            ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/jobs/{jobId}")
+                .buildAndExpand(job.getId())
+                .toUri())
+        .body(job);
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  @HasPermission(CREATE_BULK_PAYSLIPS)
+  public ResponseEntity<PayslipJob> getPayslipJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(payslipJobService.getJob(jobId));
   }
 }
@@ -6,7 +6,6 @@ import static com.beeja.api.financemanagementservice.Utils.Constants.READ_DEVICE
 import static com.beeja.api.financemanagementservice.Utils.Constants.UPDATE_DEVICES;
 
 import com.beeja.api.financemanagementservice.Utils.BuildErrorMessage;
-import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.annotations.HasPermission;
 import com.beeja.api.financemanagementservice.enums.Availability;
 import com.beeja.api.financemanagementservice.enums.ErrorCode;
@@ -17,7 +16,6 @@ import com.beeja.api.financemanagementservice.requests.DeviceDetails;
 import com.beeja.api.financemanagementservice.response.InventoryResponseDTO;
 import com.beeja.api.financemanagementservice.service.InventoryService;
 import jakarta.validation.Valid;
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -73,24 +71,9 @@ public class InventoryController {
       @RequestParam(required = false) String ram,
       @RequestParam(required = false) String searchTerm)
       throws Exception {
-    HashMap<String, Object> metadata = new HashMap<>();
-    metadata.put(
-        "totalSize",
-        inventoryService.getTotalInventorySize(
-            device,
-            provider,
-            availability,
-            os,
-            ram,
-            UserContext.getLoggedInUserOrganization().get("id").toString(),
-            searchTerm));
-
-    List<Inventory> devices =
+    InventoryResponseDTO response =
         inventoryService.filterInventory(
             pageNumber, pageSize, device, provider, availability, os, ram, searchTerm);
-    InventoryResponseDTO response = new InventoryResponseDTO();
-    response.setMetadata(metadata);
-    response.setInventory(devices);
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
@@ -0,0 +1,32 @@
+package com.beeja.api.financemanagementservice.controllers;
+
+import static com.beeja.api.financemanagementservice.Utils.Constants.UPDATE_ORGANIZATIONS;
+
+import com.beeja.api.financemanagementservice.Utils.OrganizationPatternCache;
+import com.beeja.api.financemanagementservice.Utils.UserContext;
+import com.beeja.api.financemanagementservice.annotations.HasPermission;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/organization-patterns")
+public class OrganizationPatternController {
+
+  @Autowired OrganizationPatternCache organizationPatternCache;
+
+  /**
+   * Called by accounts, with the caller's token, whenever a pattern of the caller's organization
+   * changes; the caller needs the same permission as for changing the pattern.
+   */
+  @DeleteMapping("/{patternType}/cache")
+  @HasPermission(UPDATE_ORGANIZATIONS)
+  public ResponseEntity<Void> evictPattern(@PathVariable String patternType) {
+    organizationPatternCache.evict(
+        UserContext.getLoggedInUserOrganization().get("id").toString(), patternType);
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,8 @@
+package com.beeja.api.financemanagementservice.enums;
+
+public enum PayslipJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
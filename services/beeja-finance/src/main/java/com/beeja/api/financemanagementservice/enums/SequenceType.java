@@ -0,0 +1,6 @@
+package com.beeja.api.financemanagementservice.enums;
+
+public enum SequenceType {
+  LOAN,
+  DEVICE
+}
@@ -52,6 +52,22 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  @ExceptionHandler(ServiceBusyException.class)
+  public ResponseEntity<ErrorResponse> handleServiceBusyException(
+      ServiceBusyException ex, WebRequest request) {
+    String[] errorMessage = convertStringToArray(ex.getMessage());
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            ErrorType.valueOf(errorMessage[0]),
+            ErrorCode.valueOf(errorMessage[1]),
+            errorMessage[2],
+            DOC_URL_RESOURCE_NOT_FOUND,
+            request.getDescription(false),
+            BEEJA + "-" + UUID.randomUUID().toString().substring(0, 7).toUpperCase(),
+            LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+  }
+
   @ExceptionHandler(CustomAccessDeniedException.class)
   public ResponseEntity<ErrorResponse> handleCustomAccessDeniedException(
       CustomAccessDeniedException e, WebRequest request) {
@@ -1,7 +1,6 @@
 package com.beeja.api.financemanagementservice.modals;
 
 import com.beeja.api.financemanagementservice.Utils.Constants;
-import com.beeja.api.financemanagementservice.Utils.UserContext;
 import jakarta.validation.constraints.Pattern;
 import java.util.Date;
 import lombok.AllArgsConstructor;
@@ -32,10 +31,10 @@ public class File {
 
   private String description;
 
-  private String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+  private String organizationId;
 
-  private String createdBy = UserContext.getLoggedInUserEmail();
-  private String createdByName = UserContext.getLoggedInUserName();
+  private String createdBy;
+  private String createdByName;
   private String modifiedBy;
 
   @Field("created_at")
@@ -1,7 +1,6 @@
 package com.beeja.api.financemanagementservice.modals;
 
 import com.beeja.api.financemanagementservice.Utils.Constants;
-import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.enums.InstalmentType;
 import jakarta.validation.constraints.NotBlank;
 import java.util.Date;
@@ -25,7 +24,7 @@ public class HealthInsurance {
   private String employeeId;
 
   @NotBlank(message = Constants.ORG_ID_NOT_NULL)
-  private String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+  private String organizationId;
 
   private String grossPremium;
   private InstalmentType instalmentType;
@@ -1,12 +1,15 @@
 package com.beeja.api.financemanagementservice.modals;
 
 import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.Utils.InventorySearchKeys;
 import com.beeja.api.financemanagementservice.enums.Availability;
 import com.beeja.api.financemanagementservice.enums.Type;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.util.Date;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -30,6 +33,12 @@ public class Inventory {
 
   private String deviceNumber;
 
+  /** Normalized device number, see {@link InventorySearchKeys}. */
+  @JsonIgnore private String searchKey;
+
+  /** Indexed substrings of the search key, see {@link InventorySearchKeys}. */
+  @JsonIgnore private List<String> searchTokens;
+
   @NotNull private String device;
 
   @NotNull private String provider;
@@ -1,7 +1,6 @@
 package com.beeja.api.financemanagementservice.modals;
 
 import com.beeja.api.financemanagementservice.Utils.Constants;
-import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.enums.LoanStatus;
 import com.beeja.api.financemanagementservice.enums.LoanType;
 import jakarta.validation.constraints.Min;
@@ -28,7 +27,7 @@ public class Loan {
   private String employeeId;
 
   @NotBlank(message = Constants.ORG_ID_NOT_NULL)
-  private String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+  private String organizationId;
 
   private String purpose;
   private String loanNumber;
@@ -0,0 +1,16 @@
+package com.beeja.api.financemanagementservice.modals;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Outcome of one file of a bulk payslip ZIP. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayslipFileResult {
+  private String fileName;
+  private String employeeId;
+  private boolean success;
+  private String message;
+}
@@ -0,0 +1,39 @@
+package com.beeja.api.financemanagementservice.modals;
+
+import com.beeja.api.financemanagementservice.enums.PayslipJobStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A bulk payslip upload processed in the background. Every file's outcome is appended as soon as
+ * it is known, so the job can be polled for progress while it runs.
+ */
+@Data
+@NoArgsConstructor
+@Document(collection = "payslip_jobs")
+public class PayslipJob {
+  @Id private String id;
+  private String organizationId;
+  private String month;
+  private String year;
+  private PayslipJobStatus status;
+  private int totalFiles;
+  private int succeeded;
+  private int failed;
+  private List<PayslipFileResult> files = new ArrayList<>();
+  private String message;
+  private String createdBy;
+  private Date createdAt;
+  private Date startedAt;
+  private Date finishedAt;
+  private Date updatedAt;
+
+  /** The spooled ZIP on the instance that took the upload, removed once the job is over. */
+  @JsonIgnore private String spoolFile;
+}
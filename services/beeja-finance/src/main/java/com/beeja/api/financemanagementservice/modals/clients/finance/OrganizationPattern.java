@@ -1,5 +1,6 @@
 package com.beeja.api.financemanagementservice.modals.clients.finance;
 
+import com.beeja.api.commons.sequences.SequencePattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +8,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class OrganizationPattern {
+public class OrganizationPattern implements SequencePattern {
   private String id;
   private String patternType;
   private String organizationId;
@@ -25,4 +25,5 @@ public class UserDTO {
   private String createdAt;
   private String modifiedAt;
   private boolean active;
+  private long authVersion;
 }
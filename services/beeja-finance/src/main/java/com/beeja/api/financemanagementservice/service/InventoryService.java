@@ -3,6 +3,7 @@ package com.beeja.api.financemanagementservice.service;
 import com.beeja.api.financemanagementservice.enums.Availability;
 import com.beeja.api.financemanagementservice.modals.Inventory;
 import com.beeja.api.financemanagementservice.requests.DeviceDetails;
+import com.beeja.api.financemanagementservice.response.InventoryResponseDTO;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -11,7 +12,7 @@ import org.springframework.stereotype.Service;
 public interface InventoryService {
   Inventory addDevice(DeviceDetails deviceDetails) throws Exception;
 
-  List<Inventory> filterInventory(
+  InventoryResponseDTO filterInventory(
       int pageNumber,
       int pageSize,
       String device,
@@ -27,13 +28,4 @@ public interface InventoryService {
   Inventory updateDeviceDetails(DeviceDetails deviceDetails, String deviceId) throws Exception;
 
   List<Inventory> getAllDevicesByOrganizationId(String organizationId);
-
-  Long getTotalInventorySize(
-      String device,
-      String provider,
-      Availability availability,
-      String os,
-      String ram,
-      String organizationId,
-      String searchTerm);
 }
@@ -2,7 +2,6 @@ package com.beeja.api.financemanagementservice.service;
 
 import com.beeja.api.financemanagementservice.enums.LoanStatus;
 import com.beeja.api.financemanagementservice.modals.Loan;
-import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
 import com.beeja.api.financemanagementservice.requests.SubmitLoanRequest;
 import com.beeja.api.financemanagementservice.response.LoanResponse;
 import java.util.List;
@@ -11,9 +10,6 @@ import org.springframework.stereotype.Service;
 @Service
 public interface LoanService {
 
-  void uploadBulkPaySlips(BulkPayslipRequest bulkPayslipRequest, String authorizationHeader)
-      throws Exception;
-
   void changeLoanStatus(String loanId, String status, String message);
 
   Loan submitLoanRequest(SubmitLoanRequest loanRequest) throws Exception;
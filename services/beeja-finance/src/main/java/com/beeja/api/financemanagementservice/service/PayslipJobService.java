@@ -0,0 +1,17 @@
+package com.beeja.api.financemanagementservice.service;
+
+import com.beeja.api.financemanagementservice.modals.PayslipJob;
+import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
+
+public interface PayslipJobService {
+
+  /**
+   * Stores the ZIP of the request and queues it for processing in the background.
+   *
+   * @return the queued job, to be polled with {@link #getJob(String)}
+   */
+  PayslipJob submit(BulkPayslipRequest bulkPayslipRequest, String authorizationHeader)
+      throws Exception;
+
+  PayslipJob getJob(String jobId);
+}
@@ -1,30 +1,46 @@
 package com.beeja.api.financemanagementservice.serviceImpl;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.financemanagementservice.Utils.BuildErrorMessage;
 import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.Utils.InventorySearchKeys;
+import com.beeja.api.financemanagementservice.Utils.OrganizationPatternCache;
 import com.beeja.api.financemanagementservice.Utils.UserContext;
-import com.beeja.api.financemanagementservice.client.AccountClient;
 import com.beeja.api.financemanagementservice.enums.Availability;
 import com.beeja.api.financemanagementservice.enums.ErrorCode;
 import com.beeja.api.financemanagementservice.enums.ErrorType;
+import com.beeja.api.financemanagementservice.enums.SequenceType;
 import com.beeja.api.financemanagementservice.exceptions.DuplicateDataException;
 import com.beeja.api.financemanagementservice.exceptions.ResourceNotFoundException;
 import com.beeja.api.financemanagementservice.modals.Inventory;
-import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
 import com.beeja.api.financemanagementservice.repository.InventoryRepository;
 import com.beeja.api.financemanagementservice.requests.DeviceDetails;
+import com.beeja.api.financemanagementservice.response.InventoryResponseDTO;
 import com.beeja.api.financemanagementservice.service.InventoryService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.DuplicateKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -34,18 +50,40 @@ public class InventoryServiceImpl implements InventoryService {
   private final MongoOperations mongoOperations;
   private final MongoTemplate mongoTemplate;
   private final InventoryRepository inventoryRepository;
-  private final AccountClient accountClient;
+  private final OrganizationPatternCache organizationPatternCache;
+  private final SequenceAllocator sequenceAllocator;
+
+  /**
+   * Totals of recent filter combinations, so paging through a result counts it only once. Changes
+   * evict the totals of their organization on this instance only; on other instances they can be
+   * off until {@code inventory-search.count-cache-ttl} expires them, or a short page corrects them.
+   */
+  private final Cache<String, Long> inventoryCounts;
+
+  /** Organizations whose devices all have search keys. */
+  private final Set<String> backfilledOrganizations = ConcurrentHashMap.newKeySet();
 
   @Autowired
   public InventoryServiceImpl(
           MongoOperations mongoOperations,
           MongoTemplate mongoTemplate,
           InventoryRepository inventoryRepository,
-          AccountClient accountClient) {
+          OrganizationPatternCache organizationPatternCache,
+          SequenceAllocator sequenceAllocator,
+          @Value("${inventory-search.count-cache-ttl:1m}") Duration countCacheTtl,
+          MeterRegistry meterRegistry) {
     this.mongoOperations = mongoOperations;
     this.mongoTemplate = mongoTemplate;
     this.inventoryRepository = inventoryRepository;
-    this.accountClient = accountClient;
+    this.organizationPatternCache = organizationPatternCache;
+    this.sequenceAllocator = sequenceAllocator;
+    this.inventoryCounts =
+        Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(countCacheTtl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, inventoryCounts, "inventory-counts");
   }
 
   /**
@@ -83,11 +121,14 @@ public class InventoryServiceImpl implements InventoryService {
     device.setComments(deviceDetails.getComments());
     device.setAccessoryType(deviceDetails.getAccessoryType());
     device.setDeviceNumber(generateDeviceId());
+    InventorySearchKeys.apply(device);
     device.setCreatedBy(UserContext.getLoggedInUserEmail());
     device.setOrganizationId(UserContext.getLoggedInUserOrganization().get("id").toString());
     device.setCreatedAt(new java.util.Date());
     try {
-      return inventoryRepository.save(device);
+      Inventory savedDevice = inventoryRepository.save(device);
+      evictCounts(device.getOrganizationId());
+      return savedDevice;
     } catch (DuplicateKeyException e) {
       throw new DuplicateDataException(
           BuildErrorMessage.buildErrorMessage(
@@ -102,33 +143,31 @@ public class InventoryServiceImpl implements InventoryService {
   }
 
   /*
-   * Generates a unique device ID based on the organization's pattern and the current count of
-   * devices.
+   * Generates a unique device ID from the organization's device sequence, formatted with its
+   * pattern.
    */
   private String generateDeviceId() {
-    OrganizationPattern devicePattern =
-        accountClient.getActivePatternByType("DEVICE_ID_PATTERN").getBody();
-
     String orgId = UserContext.getLoggedInUserOrganization().get("id").toString();
-    long sizeOfDevices = inventoryRepository.countByOrganizationId(orgId);
-    if (devicePattern == null) {
-      return String.valueOf(sizeOfDevices + 1);
-    }
-
-    String prefix = devicePattern.getPrefix() != null ? devicePattern.getPrefix() : "";
-    int dIDLength = devicePattern.getPatternLength();
-    int numberLength = dIDLength - prefix.length();
-    String formattedSeq = String.format("%0" + numberLength + "d", sizeOfDevices + 1);
-    return prefix.toUpperCase() + formattedSeq;
+    return sequenceAllocator.nextId(
+        orgId,
+        SequenceType.DEVICE,
+        () -> organizationPatternCache.getActivePattern(orgId, Constants.DEVICE_ID_PATTERN),
+        () ->
+            sequenceAllocator.highestNumber(
+                orgId, Inventory.class, "deviceNumber", Inventory::getDeviceNumber));
   }
 
   /**
-   * Retrieves all devices from the inventory.
+   * Retrieves a page of the organization's devices matching the filters, newest first, along with
+   * the number of matching devices. Both come from one {@code $facet} aggregation; the count is
+   * then cached, so further pages of the same filters only fetch the page. The last page, being
+   * short, also refreshes the cached count.
    *
-   * @return List of all Inventory objects representing devices.
+   * @param searchTerm Part of the device number; case, spaces and punctuation are ignored.
+   * @return The page of devices, with the total size in its metadata.
    */
   @Override
-  public List<Inventory> filterInventory(
+  public InventoryResponseDTO filterInventory(
       int pageNumber,
       int pageSize,
       String device,
@@ -138,38 +177,62 @@ public class InventoryServiceImpl implements InventoryService {
       String ram,
       String searchTerm) {
     try {
+      String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+      backfillSearchKeys(organizationId);
+      Criteria criteria =
+          inventoryCriteria(organizationId, device, provider, availability, os, ram, searchTerm);
+      long skip = (long) Math.max(pageNumber - 1, 0) * pageSize;
+      String countKey =
+          String.join(
+              "|",
+              organizationId,
+              String.valueOf(device),
+              String.valueOf(provider),
+              String.valueOf(availability),
+              String.valueOf(os),
+              String.valueOf(ram),
+              InventorySearchKeys.normalize(searchTerm));
 
-      Query query = new Query();
-
-      if (device != null && !device.trim().isEmpty()) {
-        query.addCriteria(Criteria.where("device").is(device));
-      }
-      if (provider != null && StringUtils.hasText(provider)) {
-        query.addCriteria(
-            Criteria.where("provider").is(provider)); // Case-insensitive regex for provider
-      }
-      if (availability != null) {
-        query.addCriteria(Criteria.where("availability").is(availability));
-      }
-      if (os != null && StringUtils.hasText(os)) {
-        query.addCriteria(Criteria.where("os").is(os));
-      }
-      if (ram != null && StringUtils.hasText(ram)) {
-        query.addCriteria(Criteria.where("ram").is(ram));
-      }
-      if (searchTerm != null && !searchTerm.isEmpty()) {
-        query.addCriteria(
-            Criteria.where("deviceNumber").regex(".*" + Pattern.quote(searchTerm) + ".*", "i"));
+      List<Inventory> devices;
+      Long totalSize = inventoryCounts.getIfPresent(countKey);
+      if (totalSize != null) {
+        Query query = new Query(criteria).skip(skip).limit(pageSize);
+        query.with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        query.fields().exclude("searchKey", "searchTokens");
+        devices = mongoTemplate.find(query, Inventory.class);
+        if (devices.size() < pageSize && (!devices.isEmpty() || skip == 0)) {
+          // A short page is the last one, so it gives the exact total
+          totalSize = skip + devices.size();
+          inventoryCounts.put(countKey, totalSize);
+        }
+      } else {
+        Aggregation aggregation =
+            Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.facet(
+                        Aggregation.sort(Sort.by(Sort.Direction.DESC, "createdAt")),
+                        Aggregation.skip(skip),
+                        Aggregation.limit(pageSize),
+                        Aggregation.project().andExclude("searchKey", "searchTokens"))
+                    .as("inventory")
+                    .and(Aggregation.count().as("total"))
+                    .as("totalSize"));
+        Document result =
+            mongoTemplate
+                .aggregate(aggregation, Inventory.class, Document.class)
+                .getUniqueMappedResult();
+        devices =
+            result.getList("inventory", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(Inventory.class, document))
+                .collect(Collectors.toList());
+        List<Document> totals = result.getList("totalSize", Document.class);
+        totalSize = totals.isEmpty() ? 0L : totals.get(0).get("total", Number.class).longValue();
+        inventoryCounts.put(countKey, totalSize);
       }
-      query.addCriteria(
-          Criteria.where("organizationId")
-              .is(UserContext.getLoggedInUserOrganization().get("id").toString()));
-
-      int skip = (pageNumber - 1) * pageSize;
-      query.skip(skip).limit(pageSize);
-      query.with(Sort.by(Sort.Direction.DESC, "created_at"));
-      return mongoTemplate.find(query, Inventory.class);
 
+      HashMap<String, Object> metadata = new HashMap<>();
+      metadata.put("totalSize", totalSize);
+      return new InventoryResponseDTO(metadata, devices);
     } catch (Exception e) {
       throw new RuntimeException(
           BuildErrorMessage.buildErrorMessage(
@@ -179,45 +242,63 @@ public class InventoryServiceImpl implements InventoryService {
     }
   }
 
-  @Override
-  public Long getTotalInventorySize(
+  private static Criteria inventoryCriteria(
+      String organizationId,
       String device,
       String provider,
       Availability availability,
       String os,
       String ram,
-      String organizationId,
       String searchTerm) {
-    Query query = new Query();
-    if (device != null && !device.isEmpty()) {
-      query.addCriteria(Criteria.where("device").is(device));
+    Criteria criteria = Criteria.where("organizationId").is(organizationId);
+    if (StringUtils.hasText(device)) {
+      criteria.and("device").is(device);
+    }
+    if (StringUtils.hasText(provider)) {
+      criteria.and("provider").is(provider);
     }
-
     if (availability != null) {
-      query.addCriteria(Criteria.where("availability").is(availability));
+      criteria.and("availability").is(availability);
     }
-
-    if (os != null && !os.isEmpty()) {
-      query.addCriteria(Criteria.where("os").is(os));
+    if (StringUtils.hasText(os)) {
+      criteria.and("os").is(os);
     }
-
-    if (ram != null && !ram.isEmpty()) {
-      query.addCriteria(Criteria.where("ram").is(ram));
+    if (StringUtils.hasText(ram)) {
+      criteria.and("ram").is(ram);
     }
+    return InventorySearchKeys.addSearch(criteria, searchTerm);
+  }
 
-    if (organizationId != null) {
-      query.addCriteria(Criteria.where("organizationId").is(organizationId));
-    }
+  /** Drops the cached totals of the organization once its devices change. */
+  private void evictCounts(String organizationId) {
+    String prefix = organizationId + "|";
+    inventoryCounts.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
 
-    if (provider != null && !provider.isEmpty()) {
-      query.addCriteria(Criteria.where("provider").is(provider));
+  /** Gives devices saved before search keys existed their keys, once per organization. */
+  private void backfillSearchKeys(String organizationId) {
+    if (backfilledOrganizations.contains(organizationId)) {
+      return;
     }
-    if (searchTerm != null && !searchTerm.isEmpty()) {
-      query.addCriteria(
-          Criteria.where("deviceNumber").regex(".*" + Pattern.quote(searchTerm) + ".*", "i"));
+    Query missing =
+        new Query(
+            Criteria.where("organizationId").is(organizationId).and("searchKey").exists(false));
+    missing.fields().include("deviceNumber");
+    List<Inventory> devices = mongoTemplate.find(missing, Inventory.class);
+    if (!devices.isEmpty()) {
+      BulkOperations bulkOperations =
+          mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Inventory.class);
+      for (Inventory device : devices) {
+        InventorySearchKeys.apply(device);
+        bulkOperations.updateOne(
+            new Query(Criteria.where("_id").is(device.getId())),
+            new Update()
+                .set("searchKey", device.getSearchKey())
+                .set("searchTokens", device.getSearchTokens()));
+      }
+      bulkOperations.execute();
     }
-
-    return mongoTemplate.count(query, Inventory.class);
+    backfilledOrganizations.add(organizationId);
   }
 
   /**
@@ -257,6 +338,7 @@ public class InventoryServiceImpl implements InventoryService {
       if (optionalDevice.isPresent()) {
         Inventory inventory = optionalDevice.get();
         inventoryRepository.delete(inventory);
+        evictCounts(loggedInUserOrganizationId);
         return ResponseEntity.ok().body(inventory);
       } else {
         throw new ResourceNotFoundException(
@@ -321,8 +403,11 @@ public class InventoryServiceImpl implements InventoryService {
             || updatedDeviceDetails.getProductId().isEmpty()) {
           existingDevice.setProductId(actualProductId);
         }
+        InventorySearchKeys.apply(existingDevice);
 
-        return inventoryRepository.save(existingDevice);
+        Inventory savedDevice = inventoryRepository.save(existingDevice);
+        evictCounts(loggedInUserOrganizationId);
+        return savedDevice;
       } else {
         throw new ResourceNotFoundException(
             BuildErrorMessage.buildErrorMessage(
@@ -2,28 +2,25 @@ package com.beeja.api.financemanagementservice.serviceImpl;
 
 import static com.beeja.api.financemanagementservice.Utils.Constants.GET_ALL_LOANS;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.financemanagementservice.Utils.BuildErrorMessage;
 import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.Utils.OrganizationPatternCache;
 import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.client.AccountClient;
-import com.beeja.api.financemanagementservice.client.FileClient;
 import com.beeja.api.financemanagementservice.enums.ErrorCode;
 import com.beeja.api.financemanagementservice.enums.ErrorType;
 import com.beeja.api.financemanagementservice.enums.LoanStatus;
+import com.beeja.api.financemanagementservice.enums.SequenceType;
 import com.beeja.api.financemanagementservice.exceptions.ResourceNotFoundException;
 import com.beeja.api.financemanagementservice.modals.Loan;
 import com.beeja.api.financemanagementservice.modals.clients.finance.EmployeeNameDTO;
 import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
 import com.beeja.api.financemanagementservice.repository.LoanRepository;
-import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
-import com.beeja.api.financemanagementservice.requests.FileUploadRequest;
-import com.beeja.api.financemanagementservice.requests.PdfMultipartFile;
 import com.beeja.api.financemanagementservice.requests.SubmitLoanRequest;
 import com.beeja.api.financemanagementservice.response.LoanDTO;
 import com.beeja.api.financemanagementservice.response.LoanResponse;
 import com.beeja.api.financemanagementservice.service.LoanService;
-import feign.FeignException;
-import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,22 +28,14 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Implementation of the LoanService interface providing operations for managing loan requests and
@@ -56,19 +45,21 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class LoanServiceImpl implements LoanService {
   private final MongoOperations mongoOperations;
-  private final FileClient fileClient;
   private final LoanRepository loanRepository;
 
   @Autowired
-  public LoanServiceImpl(MongoOperations mongoOperations,LoanRepository loanRepository,FileClient fileClient) {
+  public LoanServiceImpl(MongoOperations mongoOperations,LoanRepository loanRepository) {
     this.mongoOperations = mongoOperations;
-    this.fileClient = fileClient;
     this.loanRepository=loanRepository;
   }
 
 
   @Autowired AccountClient accountClient;
 
+  @Autowired SequenceAllocator sequenceAllocator;
+
+  @Autowired OrganizationPatternCache organizationPatternCache;
+
 
   /**
    * Changes the status of a loan based on the provided loan ID.
@@ -124,31 +115,25 @@ public class LoanServiceImpl implements LoanService {
     loan.setPurpose(loanRequest.getPurpose());
     loan.setEmiTenure(loanRequest.getEmiTenure());
     loan.setEmiStartDate(loanRequest.getEmiStartDate());
+    String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+    loan.setOrganizationId(organizationId);
     try {
-      OrganizationPattern organizationPattern = null;
-      try {
-        organizationPattern = accountClient.getActivePatternByType("LOAN_ID_PATTERN").getBody();
-      } catch (Exception e) {
-        log.warn("Failed to retrieve organization pattern, proceeding without prefix.");
-      }
-
-      long existingLoanCount =
-          loanRepository.countByOrganizationId(
-              UserContext.getLoggedInUserOrganization().get("id").toString());
-
-      long newLoanNumber = existingLoanCount + 1;
-      String finalLoanNumber =
-          (organizationPattern != null && organizationPattern.getPrefix() != null)
-              ? organizationPattern.getPrefix() + newLoanNumber
-              : String.valueOf(newLoanNumber);
-
-      loan.setLoanNumber(finalLoanNumber);
-    } catch (FeignException e) {
+      long number =
+          sequenceAllocator.next(
+              organizationId,
+              SequenceType.LOAN,
+              () ->
+                  sequenceAllocator.highestNumber(
+                      organizationId, Loan.class, "loanNumber", Loan::getLoanNumber));
+      // Loan numbers keep their format: the pattern's prefix as entered, then the bare number
+      OrganizationPattern pattern = loanPattern(organizationId);
+      loan.setLoanNumber(
+          pattern != null && pattern.getPrefix() != null
+              ? pattern.getPrefix() + number
+              : String.valueOf(number));
+    } catch (Exception e) {
       log.error("Failed to generate loan number: {}", e.getMessage());
       throw new RuntimeException("Failed to generate loan number", e);
-    } catch (Exception e) {
-      log.error("Error occurred: {}", e.getMessage());
-      throw new RuntimeException(e.getMessage(), e);
     }
 
     loan.setCreatedAt(Date.from(Instant.now()));
@@ -162,6 +147,15 @@ public class LoanServiceImpl implements LoanService {
     }
   }
 
+  private OrganizationPattern loanPattern(String organizationId) {
+    try {
+      return organizationPatternCache.getActivePattern(organizationId, Constants.LOAN_ID_PATTERN);
+    } catch (Exception e) {
+      log.warn("Failed to retrieve organization pattern, proceeding without prefix.");
+      return null;
+    }
+  }
+
   /**
    * Retrieves all loans associated with the logged-in user's organization.
    *
@@ -247,99 +241,4 @@ public class LoanServiceImpl implements LoanService {
               ErrorType.SERVICE_ERROR, ErrorCode.SERVER_ERROR, Constants.SERVICE_DOWN_ERROR));
     }
   }
-
-  /**
-   * Uploads bulk payslips in a zip file asynchronously.
-   *
-   * @param bulkPayslipRequest The request object containing bulk payslip details.
-   * @param authorizationHeader Authorization header for API calls.
-   * @throws Exception If an error occurs during bulk payslip upload.
-   */
-  @Override
-  public void uploadBulkPaySlips(
-      BulkPayslipRequest bulkPayslipRequest, String authorizationHeader) {
-    MultipartFile zipFile = bulkPayslipRequest.getZipFile();
-    List<String> successList = new ArrayList<>();
-    List<String> failureList = new ArrayList<>();
-
-    try (ZipInputStream zipInputStream = new ZipInputStream(zipFile.getInputStream())) {
-
-      for (ZipEntry entry = zipInputStream.getNextEntry();
-          entry != null;
-          entry = zipInputStream.getNextEntry()) {
-        String fileName = entry.getName();
-
-        if (fileName == null || fileName.trim().isEmpty()) {
-          failureList.add("Unknown file with missing name.");
-          continue;
-        }
-
-        if (!fileName.toLowerCase().endsWith(".pdf")) {
-          failureList.add(fileName + " - Unsupported file type.");
-          continue;
-        }
-
-        try {
-          byte[] pdfBytes = zipInputStream.readAllBytes();
-          String employeeId = extractEmployeeIdFromPdf(pdfBytes);
-
-          if (employeeId == null || employeeId.isEmpty()) {
-            failureList.add(fileName + " - Employee ID not found.");
-            continue;
-          }
-
-          String finalFileName =
-              employeeId
-                  + "_"
-                  + bulkPayslipRequest.getMonth()
-                  + "_"
-                  + bulkPayslipRequest.getYear()
-                  + ".pdf";
-
-          MultipartFile payslipFile = new PdfMultipartFile(finalFileName, finalFileName, pdfBytes);
-
-          FileUploadRequest fileUploadRequest = new FileUploadRequest();
-          fileUploadRequest.setFile(payslipFile);
-          fileUploadRequest.setName(finalFileName);
-          fileUploadRequest.setFileType("pdf");
-          fileUploadRequest.setEntityType("employee");
-          fileUploadRequest.setEntityId(employeeId);
-          fileUploadRequest.setDescription("Payslip for employee " + employeeId);
-
-          ResponseEntity<?> response =
-              fileClient.uploadFile(fileUploadRequest, authorizationHeader);
-
-          successList.add(finalFileName + " - uploaded successfully.");
-        } catch (Exception e) {
-          failureList.add(fileName + " - Upload failed: " + e.getMessage());
-          log.warn("Failed to upload {}: {}", fileName, e.getMessage(), e);
-        }
-      }
-    } catch (IOException e) {
-      failureList.add("ZIP file could not be processed: " + e.getMessage());
-      log.warn("Failed to process zip file: {}", e.getMessage(), e);
-    }
-
-    log.info(
-        "Payslip upload complete. Success: {}, Failures: {}",
-        successList.size(),
-        failureList.size());
-    successList.forEach(msg -> log.info("SUCCESS: " + msg));
-    failureList.forEach(msg -> log.warn("FAILURE: " + msg));
-  }
-
-  private String extractEmployeeIdFromPdf(byte[] pdfBytes) throws IOException {
-    try (PDDocument document = PDDocument.load(pdfBytes)) {
-      PDFTextStripper stripper = new PDFTextStripper();
-      String text = stripper.getText(document);
-
-      Pattern pattern =
-          Pattern.compile("Employee Code\\s*[:\\-]?\\s*([A-Z]+\\d+)", Pattern.CASE_INSENSITIVE);
-      Matcher matcher = pattern.matcher(text);
-      if (matcher.find()) {
-        return matcher.group(1);
-      }
-    }
-    throw new RuntimeException("Employee Code not found in PDF");
-  }
 }
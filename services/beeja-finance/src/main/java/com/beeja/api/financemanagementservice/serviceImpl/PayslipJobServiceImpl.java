@@ -0,0 +1,300 @@
+package com.beeja.api.financemanagementservice.serviceImpl;
+
+import com.beeja.api.financemanagementservice.Utils.BuildErrorMessage;
+import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.Utils.JobToken;
+import com.beeja.api.financemanagementservice.Utils.UserContext;
+import com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil.PayslipIdentifier;
+import com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil.PayslipPipeline;
+import com.beeja.api.financemanagementservice.client.AccountClient;
+import com.beeja.api.financemanagementservice.client.FileClient;
+import com.beeja.api.financemanagementservice.config.AsyncConfig;
+import com.beeja.api.financemanagementservice.config.filters.JwtProperties;
+import com.beeja.api.financemanagementservice.enums.ErrorCode;
+import com.beeja.api.financemanagementservice.enums.ErrorType;
+import com.beeja.api.financemanagementservice.enums.PayslipJobStatus;
+import com.beeja.api.financemanagementservice.exceptions.BadRequestException;
+import com.beeja.api.financemanagementservice.exceptions.ResourceNotFoundException;
+import com.beeja.api.financemanagementservice.exceptions.ServiceBusyException;
+import com.beeja.api.financemanagementservice.modals.PayslipFileResult;
+import com.beeja.api.financemanagementservice.modals.PayslipJob;
+import com.beeja.api.financemanagementservice.modals.clients.finance.UserDTO;
+import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
+import com.beeja.api.financemanagementservice.service.PayslipJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Runs bulk payslip uploads as background jobs. The request only spools the ZIP to disk and
+ * records a {@link PayslipJob}; a {@link PayslipPipeline} then parses and uploads the payslips,
+ * appending each file's outcome to the job. A job that stops reporting progress, because its
+ * instance went away, is reported as failed once it is older than {@code
+ * payslip-jobs.stale-after}, and its spooled ZIP is removed. Jobs call other services with a
+ * {@link JobToken} made from the caller's token, as the latter expires long before a queued or
+ * large job is done; the token is renewed for at most {@code payslip-jobs.max-duration}, and only
+ * while accounts still reports the caller as active at the auth version the job started with.
+ */
+@Slf4j
+@Service
+public class PayslipJobServiceImpl implements PayslipJobService {
+
+  private final MongoTemplate mongoTemplate;
+  private final AccountClient accountClient;
+  private final ThreadPoolTaskExecutor payslipJobExecutor;
+  private final PayslipPipeline pipeline;
+  private final JwtProperties jwtProperties;
+  private final Duration tokenTtl;
+  private final Duration maxDuration;
+  private final Path spoolDirectory;
+  private final Duration staleAfter;
+  private final Timer jobTimer;
+  private final AtomicInteger runningJobs = new AtomicInteger();
+
+  public PayslipJobServiceImpl(
+      MongoTemplate mongoTemplate,
+      AccountClient accountClient,
+      FileClient fileClient,
+      PayslipIdentifier payslipIdentifier,
+      MeterRegistry meterRegistry,
+      JwtProperties jwtProperties,
+      @Qualifier("payslipJobExecutor") ThreadPoolTaskExecutor payslipJobExecutor,
+      @Qualifier("payslipParseExecutor") ThreadPoolTaskExecutor payslipParseExecutor,
+      @Qualifier("payslipUploadExecutor") ThreadPoolTaskExecutor payslipUploadExecutor,
+      @Value("${payslip-jobs.upload-concurrency:8}") int uploadConcurrency,
+      @Value("${payslip-jobs.max-entry-size:10MB}") DataSize maxEntrySize,
+      @Value("${payslip-jobs.spool-directory:${java.io.tmpdir}}") Path spoolDirectory,
+      @Value("${payslip-jobs.stale-after:30m}") Duration staleAfter,
+      @Value("${payslip-jobs.token-ttl:5m}") Duration tokenTtl,
+      @Value("${payslip-jobs.max-duration:1h}") Duration maxDuration) {
+    this.mongoTemplate = mongoTemplate;
+    this.accountClient = accountClient;
+    this.jwtProperties = jwtProperties;
+    this.tokenTtl = tokenTtl;
+    this.maxDuration = maxDuration;
+    this.payslipJobExecutor = payslipJobExecutor;
+    this.spoolDirectory = spoolDirectory;
+    this.staleAfter = staleAfter;
+    int maxInFlight =
+        AsyncConfig.maxInFlight(payslipParseExecutor.getMaxPoolSize(), uploadConcurrency);
+    this.pipeline =
+        new PayslipPipeline(
+            payslipParseExecutor,
+            payslipUploadExecutor,
+            maxInFlight,
+            maxEntrySize.toBytes(),
+            payslipIdentifier,
+            fileClient,
+            meterRegistry);
+    this.jobTimer =
+        Timer.builder("payslip.jobs.duration")
+            .description("Time taken by bulk payslip jobs from start to finish")
+            .register(meterRegistry);
+    meterRegistry.gauge("payslip.jobs.running", runningJobs);
+  }
+
+  @Override
+  public PayslipJob submit(BulkPayslipRequest bulkPayslipRequest, String authorizationHeader)
+      throws Exception {
+    MultipartFile zipFile = bulkPayslipRequest.getZipFile();
+    if (zipFile == null || zipFile.isEmpty()) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.FIELD_VALIDATION_MISSING,
+              Constants.ZIP_FILE_IS_REQUIRED));
+    }
+    JobToken jobToken =
+        JobToken.of(
+            authorizationHeader,
+            jwtProperties.getSecret(),
+            tokenTtl,
+            maxDuration,
+            this::stillGranted);
+    Path spool = Files.createTempFile(spoolDirectory, Constants.PAYSLIP_SPOOL_PREFIX, ".zip");
+    try {
+      zipFile.transferTo(spool);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(spool);
+      throw e;
+    }
+
+    Date now = new Date();
+    PayslipJob job = new PayslipJob();
+    job.setOrganizationId(UserContext.getLoggedInUserOrganizationId());
+    job.setMonth(bulkPayslipRequest.getMonth());
+    job.setYear(bulkPayslipRequest.getYear());
+    job.setStatus(PayslipJobStatus.QUEUED);
+    job.setCreatedBy(UserContext.getLoggedInEmployeeId());
+    job.setCreatedAt(now);
+    job.setUpdatedAt(now);
+    job.setSpoolFile(spool.toString());
+    PayslipJob saved = mongoTemplate.insert(job);
+    try {
+      payslipJobExecutor.execute(() -> run(saved, spool, jobToken));
+    } catch (TaskRejectedException e) {
+      Files.deleteIfExists(spool);
+      finish(saved.getId(), PayslipJobStatus.FAILED, Constants.PAYSLIP_JOBS_BUSY);
+      throw new ServiceBusyException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.ASYNC_ERROR,
+              ErrorCode.ASYNC_PROCESSING_ERROR,
+              Constants.PAYSLIP_JOBS_BUSY));
+    }
+    return saved;
+  }
+
+  @Override
+  public PayslipJob getJob(String jobId) {
+    Query query =
+        new Query(
+            Criteria.where("_id")
+                .is(jobId)
+                .and("organizationId")
+                .is(UserContext.getLoggedInUserOrganizationId()));
+    PayslipJob job = mongoTemplate.findOne(query, PayslipJob.class);
+    if (job == null) {
+      throw new ResourceNotFoundException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR,
+              ErrorCode.RESOURCE_NOT_FOUND,
+              Constants.PAYSLIP_JOB_NOT_FOUND));
+    }
+    if (isStale(job)) {
+      if (finish(job.getId(), PayslipJobStatus.FAILED, Constants.PAYSLIP_JOB_INTERRUPTED)
+          && job.getSpoolFile() != null) {
+        // The instance that ran the job went away and left its spool behind.
+        deleteSpool(Path.of(job.getSpoolFile()));
+      }
+      job.setStatus(PayslipJobStatus.FAILED);
+      job.setMessage(Constants.PAYSLIP_JOB_INTERRUPTED);
+    }
+    return job;
+  }
+
+  private void run(PayslipJob job, Path spool, JobToken jobToken) {
+    long start = System.nanoTime();
+    runningJobs.incrementAndGet();
+    try {
+      int totalFiles = PayslipPipeline.countFiles(spool);
+      Date now = new Date();
+      // A job that waited past stale-after has been reported as failed and must not run.
+      long started =
+          mongoTemplate
+              .updateFirst(
+                  new Query(
+                      Criteria.where("_id")
+                          .is(job.getId())
+                          .and("status")
+                          .is(PayslipJobStatus.QUEUED)),
+                  new Update()
+                      .set("status", PayslipJobStatus.RUNNING)
+                      .set("totalFiles", totalFiles)
+                      .set("startedAt", now)
+                      .set("updatedAt", now),
+                  PayslipJob.class)
+              .getMatchedCount();
+      if (started == 0) {
+        log.warn("Payslip job {} is no longer queued and is not run", job.getId());
+        return;
+      }
+      pipeline.process(
+          spool,
+          job.getOrganizationId(),
+          job.getMonth(),
+          job.getYear(),
+          jobToken,
+          result -> record(job.getId(), result));
+      finish(job.getId(), PayslipJobStatus.COMPLETED, null);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      finish(job.getId(), PayslipJobStatus.FAILED, Constants.PAYSLIP_JOB_INTERRUPTED);
+    } catch (Exception e) {
+      log.warn("Payslip job {} failed: {}", job.getId(), e.getMessage());
+      finish(
+          job.getId(), PayslipJobStatus.FAILED, Constants.ZIP_FILE_NOT_PROCESSED + e.getMessage());
+    } finally {
+      runningJobs.decrementAndGet();
+      jobTimer.record(Duration.ofNanos(System.nanoTime() - start));
+      deleteSpool(spool);
+    }
+  }
+
+  private boolean stillGranted(String authorizationHeader, long authVersion) {
+    UserDTO user = accountClient.getLoggedInUser(authorizationHeader);
+    boolean granted = user.isActive() && user.getAuthVersion() == authVersion;
+    if (!granted) {
+      log.warn("Access of {} changed during a payslip job", user.getEmployeeId());
+    }
+    return granted;
+  }
+
+  private static void deleteSpool(Path spool) {
+    try {
+      Files.deleteIfExists(spool);
+    } catch (IOException e) {
+      log.warn("Could not delete payslip spool file {}: {}", spool, e.getMessage());
+    }
+  }
+
+  /** Appends one file's outcome, which also marks the job as alive. */
+  private void record(String jobId, PayslipFileResult result) {
+    mongoTemplate.updateFirst(
+        byId(jobId),
+        new Update()
+            .push("files", result)
+            .inc(result.isSuccess() ? "succeeded" : "failed", 1)
+            .set("updatedAt", new Date()),
+        PayslipJob.class);
+  }
+
+  /** Ends the job unless it is over already, and tells whether it did. */
+  private boolean finish(String jobId, PayslipJobStatus status, String message) {
+    Date now = new Date();
+    return mongoTemplate
+            .updateFirst(
+                new Query(
+                    Criteria.where("_id")
+                        .is(jobId)
+                        .and("status")
+                        .in(List.of(PayslipJobStatus.QUEUED, PayslipJobStatus.RUNNING))),
+                new Update()
+                    .set("status", status)
+                    .set("message", message)
+                    .set("finishedAt", now)
+                    .set("updatedAt", now),
+                PayslipJob.class)
+            .getModifiedCount()
+        > 0;
+  }
+
+  private boolean isStale(PayslipJob job) {
+    return (job.getStatus() == PayslipJobStatus.QUEUED
+            || job.getStatus() == PayslipJobStatus.RUNNING)
+        && job.getUpdatedAt() != null
+        && job.getUpdatedAt().toInstant().plus(staleAfter).isBefore(Instant.now());
+  }
+
+  private static Query byId(String jobId) {
+    return new Query(Criteria.where("_id").is(jobId));
+  }
+}
@@ -0,0 +1,66 @@
+package com.beeja.api.financemanagementservice.Utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.financemanagementservice.modals.Inventory;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+class InventorySearchKeysTest {
+
+  @Test
+  void deviceNumberIsNormalizedAndTokenized() {
+    Inventory inventory = new Inventory();
+    inventory.setDeviceNumber("Dev-01");
+
+    InventorySearchKeys.apply(inventory);
+
+    assertEquals("dev01", inventory.getSearchKey());
+    assertEquals(
+        List.of("d", "e", "v", "0", "1", "de", "ev", "v0", "01", "dev", "ev0", "v01"),
+        inventory.getSearchTokens());
+  }
+
+  @Test
+  void missingDeviceNumberHasNoTokens() {
+    Inventory inventory = new Inventory();
+
+    InventorySearchKeys.apply(inventory);
+
+    assertEquals("", inventory.getSearchKey());
+    assertTrue(inventory.getSearchTokens().isEmpty());
+  }
+
+  @Test
+  void shortTermIsASingleTokenLookup() {
+    Document query =
+        InventorySearchKeys.addSearch(Criteria.where("organizationId").is("org"), " V-0 ")
+            .getCriteriaObject();
+
+    assertEquals("v0", query.get("searchTokens"));
+    assertEquals(2, query.size());
+  }
+
+  @Test
+  void longTermNeedsAllTrigramsAndTheSubstring() {
+    Document query =
+        InventorySearchKeys.addSearch(Criteria.where("organizationId").is("org"), "DEV-001")
+            .getCriteriaObject();
+
+    assertEquals(
+        new Document("$all", List.of("dev", "ev0", "v00", "001")), query.get("searchTokens"));
+    assertEquals("dev001", query.get("searchKey").toString());
+  }
+
+  @Test
+  void termWithoutLettersOrDigitsMatchesEverything() {
+    Document query =
+        InventorySearchKeys.addSearch(Criteria.where("organizationId").is("org"), " - ")
+            .getCriteriaObject();
+
+    assertEquals(new Document("organizationId", "org"), query);
+  }
+}
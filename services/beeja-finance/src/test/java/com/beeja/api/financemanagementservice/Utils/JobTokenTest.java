@@ -0,0 +1,186 @@
+package com.beeja.api.financemanagementservice.Utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.commons.security.IdentityClaims;
+import io.jsonwebtoken.Claims;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class JobTokenTest {
+
+  private static final String SECRET = "c2VjcmV0LWtleS1vZi10aGUtdGVzdHM=";
+
+  private static final JobToken.AccessCheck GRANTED = (authorizationHeader, authVersion) -> true;
+
+  @Test
+  void callerClaimsAreSignedWithAFreshExpiry() throws Exception {
+    String callerToken =
+        JwtUtils.generateToken(callerClaims(), SECRET, Date.from(Instant.now().plusSeconds(60)));
+
+    JobToken jobToken =
+        JobToken.of(
+            "Bearer " + callerToken, SECRET, Duration.ofHours(1), Duration.ofHours(2), GRANTED);
+    Claims claims = decode(jobToken.get());
+
+    assertEquals("jane@x.io", claims.getSubject());
+    assertEquals("EMP1", claims.get(Constants.CLAIM_EMPLOYEE_ID));
+    assertEquals(List.of("CBPS"), claims.get(IdentityClaims.PERMISSIONS));
+    assertEquals(Map.of("id", "org1"), claims.get(IdentityClaims.ORGANIZATION));
+    assertTrue(claims.getExpiration().after(Date.from(Instant.now().plusSeconds(3000))));
+  }
+
+  @Test
+  void tokenIsRenewedShortlyBeforeItExpires() {
+    MutableClock clock = new MutableClock(Instant.parse("2025-04-01T10:00:00Z"));
+    JobToken jobToken =
+        new JobToken(
+            callerClaims(), SECRET, Duration.ofMinutes(5), Duration.ofHours(1), GRANTED, clock);
+
+    String first = jobToken.get();
+    clock.now = clock.now.plus(Duration.ofMinutes(4));
+    assertSame(first, jobToken.get());
+
+    clock.now = clock.now.plusSeconds(31);
+    String renewed = jobToken.get();
+    assertNotEquals(first, renewed);
+    assertSame(renewed, jobToken.get());
+  }
+
+  @Test
+  void renewalStopsAtTheMaximumDuration() throws Exception {
+    Instant start = Instant.now();
+    MutableClock clock = new MutableClock(start);
+    JobToken jobToken =
+        new JobToken(
+            callerClaims(), SECRET, Duration.ofMinutes(5), Duration.ofMinutes(7), GRANTED, clock);
+    jobToken.get();
+
+    clock.now = start.plus(Duration.ofMinutes(6));
+    Claims last = decode(jobToken.get());
+    assertEquals(
+        start.plus(Duration.ofMinutes(7)).getEpochSecond(),
+        last.getExpiration().toInstant().getEpochSecond());
+
+    clock.now = start.plus(Duration.ofMinutes(7));
+    IllegalStateException e = assertThrows(IllegalStateException.class, jobToken::get);
+    assertEquals(Constants.PAYSLIP_JOB_TOO_LONG, e.getMessage());
+  }
+
+  @Test
+  void renewalRechecksTheCallersAccess() {
+    MutableClock clock = new MutableClock(Instant.parse("2025-04-01T10:00:00Z"));
+    List<Long> checkedVersions = new ArrayList<>();
+    AtomicBoolean granted = new AtomicBoolean(true);
+    JobToken jobToken =
+        new JobToken(
+            callerClaims(),
+            SECRET,
+            Duration.ofMinutes(5),
+            Duration.ofHours(1),
+            (authorizationHeader, authVersion) -> {
+              checkedVersions.add(authVersion);
+              return granted.get();
+            },
+            clock);
+
+    String first = jobToken.get();
+    assertTrue(checkedVersions.isEmpty());
+
+    clock.now = clock.now.plus(Duration.ofMinutes(5));
+    assertNotEquals(first, jobToken.get());
+    assertEquals(List.of(3L), checkedVersions);
+
+    granted.set(false);
+    clock.now = clock.now.plus(Duration.ofMinutes(5));
+    IllegalStateException e = assertThrows(IllegalStateException.class, jobToken::get);
+    assertEquals(Constants.PAYSLIP_JOB_ACCESS_REVOKED, e.getMessage());
+
+    granted.set(true);
+    assertThrows(IllegalStateException.class, jobToken::get);
+    assertEquals(2, checkedVersions.size());
+  }
+
+  @Test
+  void failedAccessCheckStopsRenewal() {
+    MutableClock clock = new MutableClock(Instant.parse("2025-04-01T10:00:00Z"));
+    JobToken jobToken =
+        new JobToken(
+            callerClaims(),
+            SECRET,
+            Duration.ofMinutes(5),
+            Duration.ofHours(1),
+            (authorizationHeader, authVersion) -> {
+              throw new IllegalStateException("accounts is unavailable");
+            },
+            clock);
+    jobToken.get();
+
+    clock.now = clock.now.plus(Duration.ofMinutes(5));
+    IllegalStateException e = assertThrows(IllegalStateException.class, jobToken::get);
+    assertEquals(Constants.PAYSLIP_JOB_ACCESS_REVOKED, e.getMessage());
+  }
+
+  @Test
+  void tokensNotSignedWithTheSecretAreRejected() {
+    String forged =
+        JwtUtils.generateToken(
+            callerClaims(), "b3RoZXI=", Date.from(Instant.now().plusSeconds(60)));
+
+    assertThrows(
+        Exception.class,
+        () -> JobToken.of("Bearer " + forged, SECRET, Duration.ZERO, Duration.ZERO, GRANTED));
+  }
+
+  private static Map<String, Object> callerClaims() {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(Claims.SUBJECT, "jane@x.io");
+    claims.put(Constants.CLAIM_EMPLOYEE_ID, "EMP1");
+    claims.put(IdentityClaims.ORGANIZATION, Map.of("id", "org1"));
+    claims.put(IdentityClaims.PERMISSIONS, List.of("CBPS"));
+    claims.put(IdentityClaims.ACTIVE, true);
+    claims.put(Constants.CLAIM_AUTH_VERSION, 3);
+    return claims;
+  }
+
+  private static Claims decode(String authorizationHeader) throws Exception {
+    return JwtUtils.decodeJWT(authorizationHeader.substring(7), SECRET);
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
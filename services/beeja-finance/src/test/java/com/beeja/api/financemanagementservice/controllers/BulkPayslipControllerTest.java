@@ -1,14 +1,21 @@
 package com.beeja.api.financemanagementservice.controllers;
 
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.beeja.api.financemanagementservice.Utils.UserContext;
+import com.beeja.api.financemanagementservice.enums.PayslipJobStatus;
+import com.beeja.api.financemanagementservice.modals.PayslipJob;
 import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
-import com.beeja.api.financemanagementservice.service.LoanService;
+import com.beeja.api.financemanagementservice.service.PayslipJobService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +32,7 @@ class BulkPayslipControllerTest {
 
   @Autowired MockMvc mockMvc;
 
-  @Mock private LoanService loanService;
+  @Mock private PayslipJobService payslipJobService;
 
   @Mock private UserContext userContext;
 
@@ -39,14 +46,34 @@ class BulkPayslipControllerTest {
   public void testUploadBulkPaySlips_Success() throws Exception {
     String authorizationHeader = "Bearer token";
     BulkPayslipRequest bulkPayslipRequest = new BulkPayslipRequest();
-    doNothing().when(loanService).uploadBulkPaySlips(bulkPayslipRequest, authorizationHeader);
+    when(payslipJobService.submit(any(BulkPayslipRequest.class), eq(authorizationHeader)))
+        .thenReturn(job(PayslipJobStatus.QUEUED));
     mockMvc
         .perform(
             post("/v1/payslips")
                 .header("Authorization", authorizationHeader)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(new ObjectMapper().writeValueAsString(bulkPayslipRequest)))
-        .andExpect(status().isOk());
-    verify(loanService, times(1)).uploadBulkPaySlips(bulkPayslipRequest, authorizationHeader);
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "http://localhost/v1/payslips/jobs/job-1"))
+        .andExpect(jsonPath("$.status").value("QUEUED"));
+    verify(payslipJobService, times(1))
+        .submit(any(BulkPayslipRequest.class), eq(authorizationHeader));
+  }
+
+  @Test
+  public void testGetPayslipJob_Success() throws Exception {
+    when(payslipJobService.getJob("job-1")).thenReturn(job(PayslipJobStatus.COMPLETED));
+    mockMvc
+        .perform(get("/v1/payslips/jobs/job-1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("COMPLETED"));
+  }
+
+  private static PayslipJob job(PayslipJobStatus status) {
+    PayslipJob job = new PayslipJob();
+    job.setId("job-1");
+    job.setStatus(status);
+    return job;
   }
 }
@@ -22,11 +22,11 @@ import com.beeja.api.financemanagementservice.response.InventoryResponseDTO;
 import com.beeja.api.financemanagementservice.service.InventoryService;
 import com.beeja.api.financemanagementservice.serviceImpl.LoanServiceImpl;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -155,23 +155,21 @@ public class InventoryControllerTest {
         inventory.setAvailability(Availability.NO);
         inventory.setOs("NA");
 
-        List<Inventory> filteredDevices = Collections.singletonList(inventory);
+        HashMap<String, Object> metadata = new HashMap<>();
+        metadata.put("totalSize", 1L);
         when(inventoryService.filterInventory(
                 anyInt(),
                 anyInt(),
-                Device.valueOf(ArgumentMatchers.anyString()),
+                anyString(),
                 anyString(),
                 any(Availability.class),
                 anyString(),
                 anyString(),
                 anyString()))
-                .thenReturn(filteredDevices);
-        when(inventoryService.getTotalInventorySize(
-                any(), anyString(), any(), anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(1L);
+                .thenReturn(new InventoryResponseDTO(metadata, List.of(inventory)));
         ResponseEntity<InventoryResponseDTO> responseEntity =
                 inventoryController.filterInventory(
-                        1, 10, Device.valueOf("Mobile"), "Google", Availability.NO, "NA", "NA", "Mobile");
+                        1, 10, "Mobile", "Google", Availability.NO, "NA", "NA", "Mobile");
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertNotNull(responseEntity.getBody());
 
@@ -180,7 +178,7 @@ public class InventoryControllerTest {
         assertEquals(1L, responseBody.getMetadata().get("totalSize"));
         assertEquals(1, responseBody.getInventory().size());
         Inventory returnedInventory = responseBody.getInventory().get(0);
-        assertEquals("Mobile", returnedInventory.getDevice());
+        assertEquals(String.valueOf(Device.MOBILE), returnedInventory.getDevice());
 
         assertEquals("Google", returnedInventory.getProvider());
         assertEquals(Availability.NO, returnedInventory.getAvailability());
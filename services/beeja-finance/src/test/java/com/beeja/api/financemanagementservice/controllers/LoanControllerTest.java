@@ -15,10 +15,12 @@ import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.config.filters.AuthorizationFilter;
 import com.beeja.api.financemanagementservice.exceptions.BadRequestException;
 import com.beeja.api.financemanagementservice.modals.Loan;
+import com.beeja.api.financemanagementservice.modals.PayslipJob;
 import com.beeja.api.financemanagementservice.repository.LoanRepository;
 import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
 import com.beeja.api.financemanagementservice.requests.SubmitLoanRequest;
 import com.beeja.api.financemanagementservice.service.LoanService;
+import com.beeja.api.financemanagementservice.service.PayslipJobService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,16 +39,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class LoanControllerTest {
 
   @Mock private LoanService loanService;
 
+  @Mock private PayslipJobService payslipJobService;
+
   @InjectMocks private LoanController loanController;
 
   @Mock private LoanRepository loanRepository;
@@ -171,9 +178,19 @@ class LoanControllerTest {
   public void testUploadBulkPaySlipsSuccess() throws Exception {
     String authorizationHeader = "Bearer token";
     BulkPayslipRequest bulkPayslipRequest = new BulkPayslipRequest();
-    doNothing().when(loanService).uploadBulkPaySlips(bulkPayslipRequest, authorizationHeader);
-    bulkPayslipController.uploadBulkPaySlips(authorizationHeader, bulkPayslipRequest);
-    verify(loanService, times(1)).uploadBulkPaySlips(bulkPayslipRequest, authorizationHeader);
+    PayslipJob job = new PayslipJob();
+    job.setId("job-1");
+    when(payslipJobService.submit(bulkPayslipRequest, authorizationHeader)).thenReturn(job);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest("POST", "/v1/payslips")));
+    try {
+      ResponseEntity<PayslipJob> response =
+          bulkPayslipController.uploadBulkPaySlips(authorizationHeader, bulkPayslipRequest);
+      assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+    verify(payslipJobService, times(1)).submit(bulkPayslipRequest, authorizationHeader);
   }
 
   @Test
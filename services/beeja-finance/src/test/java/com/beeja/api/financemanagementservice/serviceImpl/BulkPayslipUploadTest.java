@@ -1,195 +1,322 @@
 package com.beeja.api.financemanagementservice.serviceImpl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil.PayslipIdentifier;
+import com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil.PayslipPipeline;
 import com.beeja.api.financemanagementservice.client.FileClient;
-import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
-import java.io.ByteArrayInputStream;
+import com.beeja.api.financemanagementservice.config.properties.PayslipIdentificationProperties;
+import com.beeja.api.financemanagementservice.modals.PayslipFileResult;
+import com.beeja.api.financemanagementservice.requests.FileUploadRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
 public class BulkPayslipUploadTest {
 
-    @InjectMocks private LoanServiceImpl loanService;
+  @Mock private FileClient fileClient;
 
-    @Mock private FileClient fileClient;
+  @TempDir Path tempDir;
 
-    @Mock private MultipartFile zipFile;
+  private PayslipIdentificationProperties properties;
 
-    private final String authorizationHeader = "Bearer test-token";
-    @Test
-    void testValidPdf_uploadSuccess() throws Exception {
-        // 1. Create dummy PDF with employee ID
-        byte[] pdfBytes = createDummyPdf("Employee Code: EMP12345");
+  private PayslipPipeline pipeline;
 
-        // 2. Zip the dummy PDF
-        byte[] zipBytes = createZipBytes(Map.of("payslip1.pdf", pdfBytes));
-        when(zipFile.getInputStream()).thenReturn(new ByteArrayInputStream(zipBytes));
+  private final List<PayslipFileResult> results = new ArrayList<>();
 
-        // 3. Prepare request
-        BulkPayslipRequest request = new BulkPayslipRequest();
-        request.setZipFile(zipFile);
-        request.setMonth("April");
-        request.setYear("2025");
+  private final String authorizationHeader = "Bearer test-token";
 
-        // 4. Mock uploadFile response
-        when(fileClient.uploadFile(any(), eq(authorizationHeader)))
-                .thenReturn(ResponseEntity.ok().build());
+  @BeforeEach
+  void setUp() {
+    properties = new PayslipIdentificationProperties();
+    pipeline = pipeline(1_000_000);
+  }
 
-        // 5. Call the method
-        loanService.uploadBulkPaySlips(request, authorizationHeader);
+  @Test
+  void testValidPdf_uploadSuccess() throws Exception {
+    Path zip = createZip(Map.of("payslip1.pdf", createDummyPdf("Employee Code: EMP12345")));
+    when(fileClient.uploadFile(any(), eq(authorizationHeader)))
+        .thenReturn(ResponseEntity.ok().build());
 
-        // 6. Verify fileClient was used once
-        verify(fileClient, times(1)).uploadFile(any(), eq(authorizationHeader));
-    }
-
-    // Helper to create a simple PDF with a line of text
-    private byte[] createDummyPdf(String text) throws IOException {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-             PDDocument document = new PDDocument()) {
+    process(zip);
 
-            PDPage page = new PDPage();
-            document.addPage(page);
+    ArgumentCaptor<FileUploadRequest> upload = ArgumentCaptor.forClass(FileUploadRequest.class);
+    verify(fileClient, times(1)).uploadFile(upload.capture(), eq(authorizationHeader));
+    assertEquals("EMP12345_April_2025.pdf", upload.getValue().getName());
+    assertEquals("EMP12345", upload.getValue().getEntityId());
+    assertEquals(1, results.size());
+    assertTrue(results.get(0).isSuccess());
+    assertEquals("EMP12345", results.get(0).getEmployeeId());
+  }
 
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA, 12);
-                contentStream.newLineAtOffset(100, 700);
-                contentStream.showText(text);
-                contentStream.endText();
-            }
-
-            document.save(outputStream);
-            return outputStream.toByteArray();
-        }
+  @Test
+  void testEveryPayslipOfTheZipIsReported() throws Exception {
+    Map<String, byte[]> files = new LinkedHashMap<>();
+    for (int i = 0; i < 10; i++) {
+      files.put("payslip" + i + ".pdf", createDummyPdf("Employee Code: EMP" + i));
     }
-    
-    
-        
-        @Test
-        void testMissingFileName_skipped() throws Exception {
-            byte[] zipBytes = createZipBytes(Map.of("", createDummyPdf("Employee ID: EMP12345")));
-            when(zipFile.getInputStream()).thenReturn(new ByteArrayInputStream(zipBytes));
-
-            BulkPayslipRequest request = new BulkPayslipRequest();
-            request.setZipFile(zipFile);
-            request.setMonth("April");
-            request.setYear("2025");
-
-            loanService.uploadBulkPaySlips(request, authorizationHeader);
-            // No exception is thrown, log should warn about missing filename
-        }
-
-        @Test
-        void testUnsupportedFileType_skipped() throws Exception {
-            byte[] fakeTxt = "Just text".getBytes();
-            byte[] zipBytes = createZipBytes(Map.of("notes.txt", fakeTxt));
-            when(zipFile.getInputStream()).thenReturn(new ByteArrayInputStream(zipBytes));
-
-            BulkPayslipRequest request = new BulkPayslipRequest();
-            request.setZipFile(zipFile);
-            request.setMonth("April");
-            request.setYear("2025");
-
-            loanService.uploadBulkPaySlips(request, authorizationHeader);
-            // Should skip .txt file as unsupported
+    when(fileClient.uploadFile(any(), eq(authorizationHeader)))
+        .thenReturn(ResponseEntity.ok().build());
+
+    process(createZip(files));
+
+    verify(fileClient, times(10)).uploadFile(any(), eq(authorizationHeader));
+    assertEquals(10, results.stream().filter(PayslipFileResult::isSuccess).count());
+  }
+
+  @Test
+  void testMissingFileName_skipped() throws Exception {
+    process(createZip(Map.of("", createDummyPdf("Employee ID: EMP12345"))));
+
+    assertFailure(Constants.PAYSLIP_MISSING_FILE_NAME);
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testUnsupportedFileType_skipped() throws Exception {
+    process(createZip(Map.of("notes.txt", "Just text".getBytes())));
+
+    assertFailure(Constants.PAYSLIP_UNSUPPORTED_FILE_TYPE);
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testMissingEmployeeId_skipped() throws Exception {
+    process(createZip(Map.of("payslip.pdf", createDummyPdf("This PDF has no employee ID."))));
+
+    assertFailure(Constants.PAYSLIP_EMPLOYEE_ID_NOT_FOUND);
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testUnreadablePdf_recordedAsFailure() throws Exception {
+    process(createZip(Map.of("test1.pdf", "dummycontent".getBytes())));
+
+    assertEquals(1, results.size());
+    assertFalse(results.get(0).isSuccess());
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testOversizedPdf_recordedAsFailure() throws Exception {
+    pipeline = pipeline(10);
+
+    process(createZip(Map.of("payslip.pdf", createDummyPdf("Employee Code: EMP12345"))));
+
+    assertFailure(Constants.PAYSLIP_TOO_LARGE);
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testFileUploadFailure_logged() throws Exception {
+    Path zip = createZip(Map.of("failme.pdf", createDummyPdf("Employee Code: EMP99999")));
+    doThrow(new RuntimeException("Simulated upload failure"))
+        .when(fileClient)
+        .uploadFile(any(), eq(authorizationHeader));
+
+    process(zip);
+
+    assertFailure(Constants.PAYSLIP_UPLOAD_FAILED + "Simulated upload failure");
+    assertEquals("EMP99999", results.get(0).getEmployeeId());
+  }
+
+  @Test
+  void testCorruptedZipFile_triggersIOException() throws Exception {
+    Path brokenZip = Files.write(tempDir.resolve("broken.zip"), "not-a-valid-zip".getBytes());
+
+    assertThrows(IOException.class, () -> process(brokenZip));
+
+    // No upload should happen
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testRejectedParse_releasesItsSlot() throws Exception {
+    pipeline =
+        new PayslipPipeline(
+            task -> {
+              throw new RejectedExecutionException("Executor shut down");
+            },
+            Runnable::run,
+            1,
+            1_000_000,
+            identifier(),
+            fileClient,
+            new SimpleMeterRegistry());
+    Path zip =
+        createZip(
+            Map.of(
+                "a.pdf", createDummyPdf("Employee Code: EMP1"),
+                "b.pdf", createDummyPdf("Employee Code: EMP2")));
+
+    // With the slot of the first file kept, the second would wait for it forever
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> process(zip));
+
+    assertEquals(2, results.size());
+    assertTrue(results.stream().noneMatch(PayslipFileResult::isSuccess));
+    verify(fileClient, never()).uploadFile(any(), any());
+  }
+
+  @Test
+  void testCountFiles() throws Exception {
+    Path zip =
+        createZip(Map.of("a.pdf", createDummyPdf("Employee Code: EMP1"), "b.txt", new byte[1]));
+
+    assertEquals(2, PayslipPipeline.countFiles(zip));
+  }
+
+  @Test
+  void testEmployeeIdLabel_identified() throws Exception {
+    PayslipIdentifier identifier = identifier();
+
+    assertEquals(
+        "EMP12345", identifier.identify("org", createDummyPdf("Employee ID: EMP12345")));
+    assertEquals("1042", identifier.identify("org", createDummyPdf("Employee Code - 1042")));
+  }
+
+  @Test
+  void testOrganizationPattern_replacesDefault() throws Exception {
+    properties.setOrganizationPatterns(Map.of("org", "Staff No\\.?\\s*(\\w+)"));
+    PayslipIdentifier identifier = identifier();
+    byte[] pdf = createDummyPdf("Staff No. TAC-7 Employee Code: EMP1");
+
+    assertEquals("TAC", identifier.identify("org", pdf));
+    assertEquals("EMP1", identifier.identify("other", pdf));
+  }
+
+  @Test
+  void testOnlyLeadingPagesAreSearched() throws Exception {
+    byte[] pdf = createDummyPdf("Net pay: 1000", "Employee Code: EMP2");
+
+    assertNull(identifier().identify("org", pdf));
+    properties.setPages(2);
+    assertEquals("EMP2", identifier().identify("org", pdf));
+  }
+
+  @Test
+  void testRegion_limitsTheSearchedText() throws Exception {
+    PayslipIdentificationProperties.Region region = new PayslipIdentificationProperties.Region();
+    region.setWidth(612);
+    region.setHeight(60);
+    properties.setRegion(region);
+
+    // The dummy text sits 92 points below the top of the page, outside of the region.
+    assertNull(identifier().identify("org", createDummyPdf("Employee Code: EMP12345")));
+    region.setHeight(100);
+    assertEquals(
+        "EMP12345", identifier().identify("org", createDummyPdf("Employee Code: EMP12345")));
+  }
+
+  @Test
+  void testIdentifiedPayslipsAreCachedByContent() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PayslipIdentifier identifier = new PayslipIdentifier(properties, meterRegistry);
+    byte[] pdf = createDummyPdf("Employee Code: EMP12345");
+    byte[] unidentified = createDummyPdf("This PDF has no employee ID.");
+
+    assertEquals("EMP12345", identifier.identify("org", pdf));
+    assertEquals("EMP12345", identifier.identify("org", pdf.clone()));
+    assertNull(identifier.identify("org", unidentified));
+    assertNull(identifier.identify("org", unidentified));
+
+    assertEquals(
+        2.0,
+        meterRegistry
+            .get("cache.gets")
+            .tag("cache", "payslip-identities")
+            .tag("result", "hit")
+            .functionCounter()
+            .count());
+  }
+
+  private PayslipIdentifier identifier() {
+    return new PayslipIdentifier(properties, new SimpleMeterRegistry());
+  }
+
+  private PayslipPipeline pipeline(long maxEntrySize) {
+    return new PayslipPipeline(
+        Runnable::run,
+        Runnable::run,
+        4,
+        maxEntrySize,
+        identifier(),
+        fileClient,
+        new SimpleMeterRegistry());
+  }
+
+  private void process(Path zip) throws Exception {
+    pipeline.process(zip, "org", "April", "2025", () -> authorizationHeader, results::add);
+  }
+
+  private void assertFailure(String message) {
+    assertEquals(1, results.size());
+    assertFalse(results.get(0).isSuccess());
+    assertEquals(message, results.get(0).getMessage());
+  }
+
+  // Helper to create a simple PDF with a line of text per page
+  private byte[] createDummyPdf(String... pages) throws IOException {
+    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PDDocument document = new PDDocument()) {
+
+      for (String text : pages) {
+        PDPage page = new PDPage();
+        document.addPage(page);
+
+        try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+          contentStream.beginText();
+          contentStream.setFont(PDType1Font.HELVETICA, 12);
+          contentStream.newLineAtOffset(100, 700);
+          contentStream.showText(text);
+          contentStream.endText();
         }
+      }
 
-        @Test
-        void testMissingEmployeeId_skipped() throws Exception {
-            byte[] pdfBytes = createDummyPdf("This PDF has no employee ID.");
-            byte[] zipBytes = createZipBytes(Map.of("payslip.pdf", pdfBytes));
-            when(zipFile.getInputStream()).thenReturn(new ByteArrayInputStream(zipBytes));
-
-            BulkPayslipRequest request = new BulkPayslipRequest();
-            request.setZipFile(zipFile);
-            request.setMonth("April");
-            request.setYear("2025");
-
-            loanService.uploadBulkPaySlips(request, authorizationHeader);
-            // Should log "Employee ID not found"
-        }
-
-        @Test
-        void testFileUploadFailure_logged() throws Exception {
-            byte[] pdfBytes = createDummyPdf("Employee ID: EMP99999");
-            byte[] zipBytes = createZipBytes(Map.of("failme.pdf", pdfBytes));
-            when(zipFile.getInputStream()).thenReturn(new ByteArrayInputStream(zipBytes));
-
-            doThrow(new RuntimeException("Simulated upload failure"))
-                    .when(fileClient)
-                    .uploadFile(any(), eq(authorizationHeader));
-
-            BulkPayslipRequest request = new BulkPayslipRequest();
-            request.setZipFile(zipFile);
-            request.setMonth("April");
-            request.setYear("2025");
-
-            loanService.uploadBulkPaySlips(request, authorizationHeader);
-            // Logs should show the failure
-        }
-
-        @Test
-        void testInvalidZipFile_logsFailure() throws Exception {
-            // Send corrupted zip content
-            byte[] invalidZip = "not a real zip".getBytes();
-            when(zipFile.getInputStream()).thenReturn(new ByteArrayInputStream(invalidZip));
-
-            BulkPayslipRequest request = new BulkPayslipRequest();
-            request.setZipFile(zipFile);
-            request.setMonth("April");
-            request.setYear("2025");
-
-            loanService.uploadBulkPaySlips(request, authorizationHeader);
-            // Should log "ZIP file could not be processed"
-        }
-
-        @Test
-        void testCorruptedZipFile_triggersIOException() throws Exception {
-            byte[] invalidZip = "not-a-valid-zip".getBytes();
-
-            // Use a real MockMultipartFile here (no unnecessary stub)
-            MockMultipartFile brokenZip =
-                    new MockMultipartFile("zipFile", "broken.zip", "application/zip", invalidZip);
-
-            BulkPayslipRequest request = new BulkPayslipRequest();
-            request.setZipFile(brokenZip);
-            request.setMonth("April");
-            request.setYear("2025");
-
-            loanService.uploadBulkPaySlips(request, authorizationHeader);
-
-            // No upload should happen
-            verify(fileClient, never()).uploadFile(any(), any());
-        }
-
-        // Helper to zip a single or multiple files
-        private byte[] createZipBytes(Map<String, byte[]> files) throws IOException {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            try (ZipOutputStream zos = new ZipOutputStream(baos)) {
-                for (Map.Entry<String, byte[]> entry : files.entrySet()) {
-                    ZipEntry zipEntry = new ZipEntry(entry.getKey());
-                    zos.putNextEntry(zipEntry);
-                    zos.write(entry.getValue());
-                    zos.closeEntry();
-                }
-            }
-            return baos.toByteArray();
-        }
+      document.save(outputStream);
+      return outputStream.toByteArray();
+    }
+  }
+
+  // Helper to zip a single or multiple files into the temporary directory
+  private Path createZip(Map<String, byte[]> files) throws IOException {
+    Path zip = Files.createTempFile(tempDir, "payslips-", ".zip");
+    try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zip))) {
+      for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+        zos.putNextEntry(new ZipEntry(entry.getKey()));
+        zos.write(entry.getValue());
+        zos.closeEntry();
+      }
     }
+    return zip;
+  }
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -70,7 +71,19 @@ public class HealthInsuranceServiceImplTest {
 
     // Assert
     assertNotNull(result);
-    verify(healthInsuranceRepository, times(1)).save(any(HealthInsurance.class));
+    ArgumentCaptor<HealthInsurance> saved = ArgumentCaptor.forClass(HealthInsurance.class);
+    verify(healthInsuranceRepository, times(1)).save(saved.capture());
+    assertEquals("tac", saved.getValue().getOrganizationId());
+    assertEquals("test@example.com", saved.getValue().getCreatedBy());
+  }
+
+  @Test
+  public void testHealthInsuranceCanBeBuiltOutsideARequest() {
+    UserContext.clear();
+
+    HealthInsurance healthInsurance = assertDoesNotThrow(() -> new HealthInsurance());
+
+    assertNull(healthInsurance.getOrganizationId());
   }
 
   @Test
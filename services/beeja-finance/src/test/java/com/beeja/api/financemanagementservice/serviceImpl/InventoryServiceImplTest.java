@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.commons.sequences.Sequence;
+import com.beeja.api.commons.sequences.SequenceAllocator;
+import com.beeja.api.financemanagementservice.Utils.OrganizationPatternCache;
 import com.beeja.api.financemanagementservice.Utils.UserContext;
-import com.beeja.api.financemanagementservice.client.AccountClient;
 import com.beeja.api.financemanagementservice.enums.Availability;
 import com.beeja.api.financemanagementservice.enums.Device;
 import com.beeja.api.financemanagementservice.exceptions.DuplicateDataException;
@@ -14,12 +16,17 @@ import com.beeja.api.financemanagementservice.modals.Inventory;
 import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
 import com.beeja.api.financemanagementservice.repository.InventoryRepository;
 import com.beeja.api.financemanagementservice.requests.DeviceDetails;
+import com.beeja.api.financemanagementservice.response.InventoryResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,10 +35,15 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -43,7 +55,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 public class InventoryServiceImplTest {
         @Mock private InventoryRepository inventoryRepository;
         @Mock private MongoTemplate mongoTemplate;
-        @Mock private AccountClient accountClient;
+        @Mock private OrganizationPatternCache organizationPatternCache;
 
         private InventoryServiceImpl inventoryService;
         private DeviceDetails deviceDetails;
@@ -52,7 +64,14 @@ public class InventoryServiceImplTest {
         @BeforeEach
         void setUp() {
             inventoryService =
-                    new InventoryServiceImpl(mongoOperations, mongoTemplate, inventoryRepository, accountClient);
+                    new InventoryServiceImpl(
+                            mongoOperations,
+                            mongoTemplate,
+                            inventoryRepository,
+                            organizationPatternCache,
+                            new SequenceAllocator(mongoTemplate, 10),
+                            Duration.ofMinutes(1),
+                            new SimpleMeterRegistry());
             deviceDetails = new DeviceDetails();
             deviceDetails.setDevice(String.valueOf(Device.MOBILE));
             deviceDetails.setProvider("Google");
@@ -79,9 +98,18 @@ public class InventoryServiceImplTest {
             mockPattern.setInitialSequence(0); // Starting sequence for the test
             mockPattern.setPatternLength(5);
 
-            ResponseEntity<OrganizationPattern> mockResponseEntity = ResponseEntity.ok(mockPattern);
-
-            when(accountClient.getActivePatternByType(anyString())).thenReturn(mockResponseEntity);
+            when(organizationPatternCache.getActivePattern("tac", "DEVICE_ID_PATTERN"))
+                    .thenReturn(mockPattern);
+            Sequence sequence = new Sequence();
+            sequence.setValue(10);
+            when(mongoTemplate.findAndModify(
+                            any(Query.class),
+                            any(Update.class),
+                            any(FindAndModifyOptions.class),
+                            eq(Sequence.class)))
+                    .thenReturn(sequence);
+            when(mongoTemplate.stream(any(Query.class), eq(Inventory.class)))
+                    .thenReturn(Stream.empty());
 
             Inventory savedInventory = new Inventory();
             savedInventory.setProductId("P001");
@@ -96,7 +124,7 @@ public class InventoryServiceImplTest {
             assertEquals("DEV-00101-XYZ", result.getDeviceNumber());
 
             verify(inventoryRepository, times(1)).save(any(Inventory.class));
-            verify(accountClient, times(1)).getActivePatternByType(anyString());
+            verify(organizationPatternCache, times(1)).getActivePattern(anyString(), anyString());
         }
 
         @Test
@@ -107,32 +135,70 @@ public class InventoryServiceImplTest {
         }
 
         @Test
-        void testFilterInventory_Success() {
+        void testFilterInventory_PageAndCountFromOneFacet() {
             Inventory inventory = new Inventory();
             inventory.setDevice(String.valueOf(Device.MOBILE));
             inventory.setProvider("Google");
-            inventory.setAvailability(Availability.NO);
-            inventory.setOs("Android");
-            inventory.setRam("NA");
-            List<Inventory> expectedInventories = new ArrayList<>();
-            expectedInventories.add(inventory);
-
-            Query query = new Query();
-            query.addCriteria(Criteria.where("device").regex("Mobile", "i"));
-            query.addCriteria(Criteria.where("provider").regex("Google", "i"));
-            query.addCriteria(Criteria.where("availability").is("NO"));
-            query.addCriteria(Criteria.where("os").regex("NA", "i"));
-            query.addCriteria(Criteria.where("RAM").regex("NA", "i"));
-            query.skip(0).limit(10);
-
-            when(mongoTemplate.find(any(Query.class), eq(Inventory.class))).thenReturn(expectedInventories);
-            List<Inventory> result =
+            Document stored = new Document("device", "MOBILE").append("provider", "Google");
+            Document facets =
+                    new Document("inventory", List.of(stored))
+                            .append("totalSize", List.of(new Document("total", 1)));
+            MongoConverter converter = mock(MongoConverter.class);
+            when(mongoTemplate.getConverter()).thenReturn(converter);
+            when(converter.read(Inventory.class, stored)).thenReturn(inventory);
+            when(mongoTemplate.aggregate(
+                            any(Aggregation.class), eq(Inventory.class), eq(Document.class)))
+                    .thenReturn(new AggregationResults<>(List.of(facets), new Document()));
+
+            InventoryResponseDTO result =
                     inventoryService.filterInventory(
-                            1, 10, Device.valueOf("Mobile"), "Google", Availability.NO, "NA", "NA", "NA");
-            verify(mongoTemplate).find(any(Query.class), eq(Inventory.class));
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            assertEquals(expectedInventories.get(0), result.get(0));
+                            1, 10, "MOBILE", "Google", Availability.NO, "NA", "NA", "dev-00");
+
+            assertEquals(List.of(inventory), result.getInventory());
+            assertEquals(1L, result.getMetadata().get("totalSize"));
+            verify(mongoTemplate, never()).count(any(Query.class), eq(Inventory.class));
+        }
+
+        @Test
+        void testFilterInventory_NextPageReusesCachedCount() {
+            Document facets =
+                    new Document("inventory", List.of())
+                            .append("totalSize", List.of(new Document("total", 25)));
+            when(mongoTemplate.aggregate(
+                            any(Aggregation.class), eq(Inventory.class), eq(Document.class)))
+                    .thenReturn(new AggregationResults<>(List.of(facets), new Document()));
+            List<Inventory> secondPage = Collections.nCopies(10, new Inventory());
+            when(mongoTemplate.find(any(Query.class), eq(Inventory.class)))
+                    .thenReturn(List.of(), secondPage);
+
+            inventoryService.filterInventory(1, 10, null, null, null, null, null, "DEV");
+            InventoryResponseDTO result =
+                    inventoryService.filterInventory(2, 10, null, null, null, null, null, "dev");
+
+            assertEquals(secondPage, result.getInventory());
+            assertEquals(25L, result.getMetadata().get("totalSize"));
+            verify(mongoTemplate, times(1))
+                    .aggregate(any(Aggregation.class), eq(Inventory.class), eq(Document.class));
+        }
+
+        @Test
+        void testFilterInventory_ShortPageCorrectsCachedCount() {
+            // Another instance deleted devices, so the count cached here is too high.
+            Document facets =
+                    new Document("inventory", List.of())
+                            .append("totalSize", List.of(new Document("total", 25)));
+            when(mongoTemplate.aggregate(
+                            any(Aggregation.class), eq(Inventory.class), eq(Document.class)))
+                    .thenReturn(new AggregationResults<>(List.of(facets), new Document()));
+            List<Inventory> lastPage = List.of(new Inventory(), new Inventory());
+            when(mongoTemplate.find(any(Query.class), eq(Inventory.class)))
+                    .thenReturn(List.of(), lastPage);
+
+            inventoryService.filterInventory(1, 10, null, null, null, null, null, null);
+            InventoryResponseDTO result =
+                    inventoryService.filterInventory(2, 10, null, null, null, null, null, null);
+
+            assertEquals(12L, result.getMetadata().get("totalSize"));
         }
 
         @Test
@@ -195,36 +261,4 @@ public class InventoryServiceImplTest {
 
             assertEquals(2, result.size());
         }
-
-        @Test
-        void testGetTotalInventorySize_NoFilters() {
-            when(mongoTemplate.count(any(Query.class), eq(Inventory.class))).thenReturn(0L);
-
-            long size = inventoryService.getTotalInventorySize(null, null, null, null, null, null,null);
-
-            assertEquals(0, size);
-        }
-
-        @Test
-        void testGetTotalInventorySize_withAllFilters() {
-            String device = "Mobile";
-            Availability availability = Availability.YES;
-            String os = "Android";
-            String organizationId = "org123";
-            String provider = "Amazon";
-            String RAM = "12GB";
-            Query query = new Query();
-            query.addCriteria(Criteria.where("device").is(device));
-            query.addCriteria(Criteria.where("availability").is(availability));
-            query.addCriteria(Criteria.where("os").is(os));
-            query.addCriteria(Criteria.where("RAM").is(RAM));
-            query.addCriteria(Criteria.where("organizationId").is(organizationId));
-            query.addCriteria(Criteria.where("provider").is(provider));
-            when(mongoTemplate.count(query, Inventory.class)).thenReturn(40L);
-            Long result =
-                    inventoryService.getTotalInventorySize(
-                            Device.valueOf(device), provider, availability, os, RAM, organizationId, "");
-            assertEquals(40L, result);
-            verify(mongoTemplate).count(query, Inventory.class);
-        }
     }
@@ -4,14 +4,19 @@ import static com.beeja.api.financemanagementservice.Utils.Constants.GET_ALL_LOA
 import static com.beeja.api.financemanagementservice.enums.LoanType.PERSONAL_LOAN;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.beeja.api.commons.sequences.Sequence;
+import com.beeja.api.commons.sequences.SequenceAllocator;
+import com.beeja.api.financemanagementservice.Utils.OrganizationPatternCache;
 import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.client.AccountClient;
 import com.beeja.api.financemanagementservice.enums.LoanStatus;
@@ -19,23 +24,27 @@ import com.beeja.api.financemanagementservice.exceptions.ResourceNotFoundExcepti
 import com.beeja.api.financemanagementservice.modals.Loan;
 import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
 import com.beeja.api.financemanagementservice.repository.LoanRepository;
-import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
 import com.beeja.api.financemanagementservice.requests.SubmitLoanRequest;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -105,6 +114,12 @@ class LoanServiceImplTest {
     return mockLoan;
   }
 
+  private static Loan loanNumbered(String loanNumber) {
+    Loan loan = new Loan();
+    loan.setLoanNumber(loanNumber);
+    return loan;
+  }
+
   @Test
   void testChangeLoanStatusApprove() {
     String loanId = "123456";
@@ -199,39 +214,77 @@ class LoanServiceImplTest {
     OrganizationPattern orgPattern = new OrganizationPattern();
     orgPattern.setPrefix("LN-");
 
-    when(accountClient.getActivePatternByType("LOAN_ID_PATTERN"))
-            .thenReturn(ResponseEntity.ok(orgPattern));
-    when(loanRepository.countByOrganizationId("tac")).thenReturn(5L);
+    OrganizationPatternCache patternCache = mock(OrganizationPatternCache.class);
+    when(patternCache.getActivePattern("tac", "LOAN_ID_PATTERN")).thenReturn(orgPattern);
 
     Loan savedLoan = new Loan();
     savedLoan.setLoanNumber("LN-6");
     when(loanRepository.save(any(Loan.class))).thenReturn(savedLoan);
 
-    ReflectionTestUtils.setField(loanService, "accountClient", accountClient);
+    ReflectionTestUtils.setField(loanService, "organizationPatternCache", patternCache);
+    MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    Sequence sequence = new Sequence();
+    sequence.setValue(15);
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Sequence.class)))
+        .thenReturn(sequence);
+    // Loan 4 was deleted, so a count would seed the sequence below loan 5
+    when(mongoTemplate.stream(any(Query.class), eq(Loan.class)))
+        .thenReturn(Stream.of(loanNumbered("LN-3"), loanNumbered("LN-5")));
+    ReflectionTestUtils.setField(
+        loanService, "sequenceAllocator", new SequenceAllocator(mongoTemplate, 10));
 
     // Act
     Loan result = loanService.submitLoanRequest(loanRequest);
 
     // Assert
     assertEquals("LN-6", result.getLoanNumber());
-    verify(loanRepository).save(any(Loan.class));
+    ArgumentCaptor<Loan> saved = ArgumentCaptor.forClass(Loan.class);
+    verify(loanRepository).save(saved.capture());
+    assertEquals("LN-6", saved.getValue().getLoanNumber());
+    assertEquals("tac", saved.getValue().getOrganizationId());
+    ArgumentCaptor<Update> seed = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).upsert(any(Query.class), seed.capture(), eq(Sequence.class));
+    Document setOnInsert = (Document) seed.getValue().getUpdateObject().get("$setOnInsert");
+    assertEquals(5L, setOnInsert.get("value"));
   }
+
   @Test
-  void testUploadBulkPaySlipsWithValidZip() throws Exception {
-    // Arrange
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    ZipOutputStream zos = new ZipOutputStream(baos);
-    zos.putNextEntry(new ZipEntry("test1.pdf"));
-    zos.write("dummycontent".getBytes());
-    zos.closeEntry();
-    zos.close();
-
-    MultipartFile zipFile = new MockMultipartFile("file", "test.zip", "application/zip", baos.toByteArray());
-    BulkPayslipRequest request = new BulkPayslipRequest();
-    request.setZipFile(zipFile);
-
-    // Act + Assert
-    assertDoesNotThrow(() -> loanService.uploadBulkPaySlips(request, "Bearer token"));
+  void testLoanNumberKeepsThePrefixAsEntered() throws Exception {
+    loanRequest.setEmiStartDate(new Date());
+    OrganizationPattern orgPattern = new OrganizationPattern();
+    orgPattern.setPrefix("ln");
+    orgPattern.setPatternLength(8);
+    OrganizationPatternCache patternCache = mock(OrganizationPatternCache.class);
+    when(patternCache.getActivePattern("tac", "LOAN_ID_PATTERN")).thenReturn(orgPattern);
+    when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    ReflectionTestUtils.setField(loanService, "organizationPatternCache", patternCache);
+    MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    Sequence sequence = new Sequence();
+    sequence.setValue(10);
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(Sequence.class)))
+        .thenReturn(sequence);
+    when(mongoTemplate.stream(any(Query.class), eq(Loan.class))).thenReturn(Stream.empty());
+    ReflectionTestUtils.setField(
+        loanService, "sequenceAllocator", new SequenceAllocator(mongoTemplate, 10));
+
+    assertEquals("ln1", loanService.submitLoanRequest(loanRequest).getLoanNumber());
+  }
+
+  @Test
+  void testLoanCanBeBuiltOutsideARequest() {
+    UserContext.clear();
+
+    Loan loan = assertDoesNotThrow(() -> new Loan());
+
+    assertNull(loan.getOrganizationId());
   }
 
 
@@ -0,0 +1,89 @@
+package com.beeja.api.financemanagementservice.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.financemanagementservice.Utils.OrganizationPatternCache;
+import com.beeja.api.financemanagementservice.client.AccountClient;
+import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationPatternCacheTest {
+
+  @Mock private AccountClient accountClient;
+
+  private OrganizationPatternCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new OrganizationPatternCache(
+            accountClient,
+            Duration.ofMinutes(10),
+            Duration.ofDays(1),
+            100,
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  void patternIsLoadedOncePerOrganizationAndType() {
+    OrganizationPattern pattern = new OrganizationPattern();
+    when(accountClient.getActivePatternByType("LOAN_ID_PATTERN"))
+        .thenReturn(ResponseEntity.ok(pattern));
+
+    for (int i = 0; i < 5; i++) {
+      assertSame(pattern, cache.getActivePattern("org", "LOAN_ID_PATTERN"));
+    }
+    cache.getActivePattern("other", "LOAN_ID_PATTERN");
+
+    verify(accountClient, times(2)).getActivePatternByType("LOAN_ID_PATTERN");
+  }
+
+  @Test
+  void missingPatternIsCached() {
+    when(accountClient.getActivePatternByType("DEVICE_ID_PATTERN"))
+        .thenReturn(ResponseEntity.ok(null));
+
+    assertNull(cache.getActivePattern("org", "DEVICE_ID_PATTERN"));
+    assertNull(cache.getActivePattern("org", "DEVICE_ID_PATTERN"));
+
+    verify(accountClient, times(1)).getActivePatternByType("DEVICE_ID_PATTERN");
+  }
+
+  @Test
+  void evictedPatternIsReloaded() {
+    OrganizationPattern before = new OrganizationPattern();
+    OrganizationPattern after = new OrganizationPattern();
+    when(accountClient.getActivePatternByType("LOAN_ID_PATTERN"))
+        .thenReturn(ResponseEntity.ok(before), ResponseEntity.ok(after));
+
+    assertSame(before, cache.getActivePattern("org", "LOAN_ID_PATTERN"));
+    cache.evict("org", "LOAN_ID_PATTERN");
+
+    assertSame(after, cache.getActivePattern("org", "LOAN_ID_PATTERN"));
+  }
+
+  @Test
+  void failedLookupIsNotCached() {
+    OrganizationPattern pattern = new OrganizationPattern();
+    when(accountClient.getActivePatternByType("LOAN_ID_PATTERN"))
+        .thenThrow(new RuntimeException("accounts down"))
+        .thenReturn(ResponseEntity.ok(pattern));
+
+    assertThrows(RuntimeException.class, () -> cache.getActivePattern("org", "LOAN_ID_PATTERN"));
+
+    assertSame(pattern, cache.getActivePattern("org", "LOAN_ID_PATTERN"));
+  }
+}
@@ -0,0 +1,175 @@
+package com.beeja.api.financemanagementservice.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.beeja.api.commons.security.IdentityClaims;
+import com.beeja.api.financemanagementservice.Utils.Constants;
+import com.beeja.api.financemanagementservice.Utils.JwtUtils;
+import com.beeja.api.financemanagementservice.Utils.UserContext;
+import com.beeja.api.financemanagementservice.Utils.bulkpayslipsUtil.PayslipIdentifier;
+import com.beeja.api.financemanagementservice.client.AccountClient;
+import com.beeja.api.financemanagementservice.client.FileClient;
+import com.beeja.api.financemanagementservice.config.filters.JwtProperties;
+import com.beeja.api.financemanagementservice.enums.PayslipJobStatus;
+import com.beeja.api.financemanagementservice.modals.PayslipJob;
+import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
+import com.mongodb.client.result.UpdateResult;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class PayslipJobServiceImplTest {
+
+  private static final String SECRET = "c2VjcmV0LWtleS1vZi10aGUtdGVzdHM=";
+
+  @Mock private MongoTemplate mongoTemplate;
+  @Mock private AccountClient accountClient;
+  @Mock private FileClient fileClient;
+  @Mock private ThreadPoolTaskExecutor payslipJobExecutor;
+
+  @TempDir Path spoolDirectory;
+
+  private PayslipJobServiceImpl payslipJobService;
+
+  @BeforeEach
+  void setUp() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(SECRET);
+    ThreadPoolTaskExecutor parseExecutor = new ThreadPoolTaskExecutor();
+    parseExecutor.setMaxPoolSize(1);
+    payslipJobService =
+        new PayslipJobServiceImpl(
+            mongoTemplate,
+            accountClient,
+            fileClient,
+            mock(PayslipIdentifier.class),
+            new SimpleMeterRegistry(),
+            jwtProperties,
+            payslipJobExecutor,
+            parseExecutor,
+            new ThreadPoolTaskExecutor(),
+            2,
+            DataSize.ofMegabytes(1),
+            spoolDirectory,
+            Duration.ofMinutes(30),
+            Duration.ofMinutes(5),
+            Duration.ofHours(1));
+    UserContext.setLoggedInUserOrganization(Map.of("id", "org1"));
+    UserContext.setLoggedInEmployeeId("EMP1");
+  }
+
+  @Test
+  void testJobFailedWhileQueuedIsNotRun() throws Exception {
+    when(mongoTemplate.insert(any(PayslipJob.class)))
+        .thenAnswer(
+            invocation -> {
+              PayslipJob job = invocation.getArgument(0);
+              job.setId("job1");
+              return job;
+            });
+    PayslipJob job = payslipJobService.submit(request(), authorizationHeader());
+    Path spool = Path.of(job.getSpoolFile());
+    assertTrue(Files.exists(spool));
+
+    // The job was reported as stale and failed before a worker picked it up.
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PayslipJob.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(payslipJobExecutor).execute(task.capture());
+    task.getValue().run();
+
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(PayslipJob.class));
+    assertEquals(PayslipJobStatus.QUEUED, query.getValue().getQueryObject().get("status"));
+    verifyNoInteractions(fileClient);
+    assertFalse(Files.exists(spool));
+  }
+
+  @Test
+  void testStaleJobSpoolIsDeletedWhenItIsFailed() throws Exception {
+    Path spool = Files.createTempFile(spoolDirectory, Constants.PAYSLIP_SPOOL_PREFIX, ".zip");
+    PayslipJob job = new PayslipJob();
+    job.setId("job1");
+    job.setStatus(PayslipJobStatus.QUEUED);
+    job.setUpdatedAt(Date.from(Instant.now().minus(Duration.ofHours(1))));
+    job.setSpoolFile(spool.toString());
+    when(mongoTemplate.findOne(any(Query.class), eq(PayslipJob.class))).thenReturn(job);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PayslipJob.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+    PayslipJob result = payslipJobService.getJob("job1");
+
+    assertEquals(PayslipJobStatus.FAILED, result.getStatus());
+    assertEquals(Constants.PAYSLIP_JOB_INTERRUPTED, result.getMessage());
+    assertFalse(Files.exists(spool));
+  }
+
+  @Test
+  void testSpoolIsKeptWhenAnotherRequestFailedTheJob() throws Exception {
+    Path spool = Files.createTempFile(spoolDirectory, Constants.PAYSLIP_SPOOL_PREFIX, ".zip");
+    PayslipJob job = new PayslipJob();
+    job.setId("job1");
+    job.setStatus(PayslipJobStatus.RUNNING);
+    job.setUpdatedAt(Date.from(Instant.now().minus(Duration.ofHours(1))));
+    job.setSpoolFile(spool.toString());
+    when(mongoTemplate.findOne(any(Query.class), eq(PayslipJob.class))).thenReturn(job);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PayslipJob.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+    payslipJobService.getJob("job1");
+
+    assertTrue(Files.exists(spool));
+  }
+
+  private static BulkPayslipRequest request() throws Exception {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    try (ZipOutputStream zos = new ZipOutputStream(zip)) {
+      zos.putNextEntry(new ZipEntry("payslip1.pdf"));
+      zos.write(new byte[] {1});
+      zos.closeEntry();
+    }
+    BulkPayslipRequest request = new BulkPayslipRequest();
+    request.setZipFile(
+        new MockMultipartFile("zipFile", "payslips.zip", "application/zip", zip.toByteArray()));
+    request.setMonth("April");
+    request.setYear("2025");
+    return request;
+  }
+
+  private static String authorizationHeader() throws Exception {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(Claims.SUBJECT, "jane@x.io");
+    claims.put(Constants.CLAIM_EMPLOYEE_ID, "EMP1");
+    claims.put(IdentityClaims.ORGANIZATION, Map.of("id", "org1"));
+    return "Bearer "
+        + JwtUtils.generateToken(claims, SECRET, Date.from(Instant.now().plusSeconds(60)));
+  }
+}
@@ -1,8 +1,10 @@
 package com.beeja.api.performance_management.config;
 
 import com.beeja.api.performance_management.utils.Constants;
+import com.beeja.api.performance_management.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -16,6 +18,10 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (token != null) {
       template.header(Constants.AUTHORIZATION, token);
     }
+    String correlationId = MDC.get(Constants.CORRELATION_ID);
+    if (correlationId != null) {
+      template.header(Constants.CORRELATION_ID_HEADER, correlationId);
+    }
   }
 
   private String getRequestToken() {
@@ -24,6 +30,8 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader(Constants.AUTHORIZATION);
     }
-    return null;
+    // Work handed to another thread has no request bound, but carries the caller's UserContext
+    String token = UserContext.getAccessToken();
+    return token != null ? "Bearer " + token : null;
   }
 }
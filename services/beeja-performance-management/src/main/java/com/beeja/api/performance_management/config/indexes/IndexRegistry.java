@@ -0,0 +1,72 @@
+package com.beeja.api.performance_management.config.indexes;
+
+import static com.beeja.api.commons.indexes.ManagedIndex.SAMPLE;
+
+import com.beeja.api.commons.indexes.ManagedIndex;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Indexes the queries of this service rely on, applied at startup through {@link IndexConfig}. Bump
+ * {@link #VERSION} whenever an index is added, changed or retired.
+ */
+public final class IndexRegistry {
+
+  public static final int VERSION = 1;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  public static final Map<String, List<String>> RETIRED = Map.of();
+
+  private IndexRegistry() {}
+
+  public static List<ManagedIndex> indexes() {
+    return List.of(
+        ManagedIndex.on(
+                "evaluation_cycles",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("status", Sort.Direction.ASC)
+                    .named("organization_status"))
+            .serves(new Document("organizationId", SAMPLE).append("status", SAMPLE)),
+        ManagedIndex.on(
+                "feedback_providers",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .on("cycleId", Sort.Direction.ASC)
+                    .named("organization_employee_cycle"))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("employeeId", SAMPLE)
+                    .append("cycleId", SAMPLE)),
+        ManagedIndex.on(
+                "feedback_responses",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("cycleId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .named("organization_cycle_employee"))
+            .serves(new Document("cycleId", SAMPLE).append("organizationId", SAMPLE)),
+        ManagedIndex.on(
+                "feedback_responses",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("employeeId", Sort.Direction.ASC)
+                    .named("organization_employee"))
+            .serves(new Document("employeeId", SAMPLE).append("organizationId", SAMPLE)),
+        ManagedIndex.on(
+                "FeedbackReceivers",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("cycleId", Sort.Direction.ASC)
+                    .on("questionnaireId", Sort.Direction.ASC)
+                    .named("organization_cycle_questionnaire"))
+            .serves(
+                new Document("organizationId", SAMPLE)
+                    .append("cycleId", SAMPLE)
+                    .append("questionnaireId", SAMPLE)));
+  }
+}
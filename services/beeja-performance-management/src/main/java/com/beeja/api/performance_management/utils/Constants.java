@@ -2,6 +2,10 @@
 package com.beeja.api.performance_management.utils;
 
 public class Constants {
+    //    IDENTITY TOKEN CLAIMS
+    public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+    public static final String CLAIM_FIRST_NAME = "firstName";
+
     public static final String NAME = "name";
     public static final String EMAIL = "email";
     public static final String AUTHORIZATION = "authorization";
@@ -167,5 +171,8 @@ public class Constants {
     public static final String SELF_EVALUATION_SUBMITTED_SUCCESSFULLY = "Self-evaluation submitted successfully for employee {}";
     public static final String NULL_OR_EMPTY_EMPLOYEE_ID_WHILE_FETCHING_SELF_EVAL = "Attempted to fetch self-evaluations with null or empty employee ID";
     public static final String FETCHED_SELF_EVALUATIONS_FOR_EMPLOYEE = "Fetched {} self-evaluation(s) for employee {}";
-}
 
+    //    Request instrumentation
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String CORRELATION_ID = "correlationId";
+}
@@ -1,7 +1,10 @@
 package com.beeja.api.projectmanagement.config;
 
+import com.beeja.api.projectmanagement.utils.Constants;
+import com.beeja.api.projectmanagement.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -25,10 +28,15 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (token != null) {
       template.header("authorization", token);
     }
+    String correlationId = MDC.get(Constants.CORRELATION_ID);
+    if (correlationId != null) {
+      template.header(Constants.CORRELATION_ID_HEADER, correlationId);
+    }
   }
 
   /**
-   * Retrieves the {@code Authorization} header from the current HTTP request.
+   * Retrieves the {@code Authorization} header from the current HTTP request, falling back to the
+   * token held in {@link UserContext} when running outside the request thread.
    *
    * @return the token value if present; {@code null} otherwise
    */
@@ -38,6 +46,7 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader("authorization");
     }
-    return null;
+    String token = UserContext.getLoggedInUserToken();
+    return token != null ? "Bearer " + token : null;
   }
 }
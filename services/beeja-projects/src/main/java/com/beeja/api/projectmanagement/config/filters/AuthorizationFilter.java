@@ -1,5 +1,8 @@
 package com.beeja.api.projectmanagement.config.filters;
 
+import com.beeja.api.commons.metrics.OrganizationMetrics;
+import com.beeja.api.commons.security.IdentityClaims;
+import com.beeja.api.commons.security.PrincipalCache;
 import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.utils.Constants;
 import com.beeja.api.projectmanagement.utils.JwtUtils;
@@ -33,6 +36,8 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
   @Autowired AccountClient accountClient;
 
+  @Autowired PrincipalCache principalCache;
+
   @Autowired JwtProperties jwtProperties;
 
   /**
@@ -61,8 +66,14 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
     accessToken = accessToken.substring(7);
     if (isValidAccessToken(accessToken)) {
+      request.setAttribute(
+          OrganizationMetrics.ORGANIZATION_ATTRIBUTE, UserContext.getLoggedInUserOrganizationId());
       log.info(Constants.USER_SUCCESSFULLY_AUTHENTICATED);
-      filterChain.doFilter(request, response);
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        UserContext.clear();
+      }
     } else {
       log.error(Constants.USER_FAILED_AUTHENTICATE);
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -97,10 +108,36 @@ public class AuthorizationFilter extends OncePerRequestFilter {
    */
   private boolean validateJWT(String accessToken) throws Exception {
     Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
+    if (claims.get(Constants.CLAIM_EMPLOYEE_ID) != null) {
+      return setLoggedInUserFromClaims(claims, accessToken);
+    }
     String email = claims.get("sub").toString();
     return checkUserPresenceAndSetActive(email, accessToken);
   }
 
+  /**
+   * Sets the user context from the claims of an identity token minted by the gateway, without
+   * looking the user up in accounts.
+   *
+   * @param claims the verified token claims
+   * @param accessToken the JWT access token
+   * @return {@code true} if the user is active; {@code false} otherwise
+   */
+  private boolean setLoggedInUserFromClaims(Claims claims, String accessToken) {
+    IdentityClaims identity = IdentityClaims.of(claims);
+    if (identity == null) {
+      return false;
+    }
+    UserContext.setLoggedInUser(
+        claims.getSubject(),
+        claims.get(Constants.CLAIM_FIRST_NAME, String.class),
+        claims.get(Constants.CLAIM_EMPLOYEE_ID, String.class),
+        identity.organization(),
+        identity.permissions(),
+        accessToken);
+    return true;
+  }
+
   /**
    * Verifies if the user exists and is active in the system; sets the user context if valid.
    *
@@ -109,33 +146,42 @@ public class AuthorizationFilter extends OncePerRequestFilter {
    * @return {@code true} if user exists and is active; {@code false} otherwise
    */
   private boolean checkUserPresenceAndSetActive(String email, String accessToken) {
-    ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
-        (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
-    LinkedHashMap<String, Object> responseBody = userIsPresent.getBody();
-    if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-      Boolean userIsActive = (Boolean) responseBody.get("active");
-      if (userIsActive) {
-        setLoggedInUser(responseBody, accessToken);
-      }
-      return userIsActive;
+    PrincipalCache.CachedPrincipal principal = principalCache.get(email, this::resolvePrincipal);
+    if (principal == null || !principal.active()) {
+      return false;
     }
-    return false;
+    UserContext.setLoggedInUser(
+        principal.email(),
+        principal.firstName(),
+        principal.employeeId(),
+        new HashMap<>(principal.organization()),
+        new HashSet<>(principal.permissions()),
+        accessToken);
+    return true;
   }
 
   /**
-   * Sets the authenticated user's details into the {@link UserContext}.
+   * Looks the user up in accounts; called by {@link PrincipalCache} on a miss.
    *
-   * @param responseBody the response body containing user details
-   * @param accessToken the JWT access token
+   * @param email the user's email
+   * @return the resolved principal, or {@code null} if accounts did not return the user
    */
-  private void setLoggedInUser(LinkedHashMap<String, Object> responseBody, String accessToken) {
-    String email = responseBody.get("email").toString();
-    String firstName = responseBody.get("firstName").toString();
-    String employeeId = responseBody.get("employeeId").toString();
-    Map<String, Object> userOrganization = getUserOrganization(responseBody);
-    Set<String> permissions = getPermissions(responseBody);
-    UserContext.setLoggedInUser(
-        email, firstName, employeeId, userOrganization, permissions, accessToken);
+  private PrincipalCache.CachedPrincipal resolvePrincipal(String email) {
+    ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
+        (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
+    LinkedHashMap<String, Object> responseBody = userIsPresent.getBody();
+    if (!userIsPresent.getStatusCode().is2xxSuccessful() || responseBody == null) {
+      return null;
+    }
+    return new PrincipalCache.CachedPrincipal(
+        responseBody.get("email").toString(),
+        responseBody.get("firstName").toString(),
+        (String) responseBody.get("lastName"),
+        responseBody.get("employeeId").toString(),
+        getUserOrganization(responseBody),
+        Set.of(),
+        getPermissions(responseBody),
+        Boolean.TRUE.equals(responseBody.get("active")));
   }
 
   /**
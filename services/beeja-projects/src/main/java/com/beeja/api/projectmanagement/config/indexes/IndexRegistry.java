@@ -0,0 +1,63 @@
+package com.beeja.api.projectmanagement.config.indexes;
+
+import static com.beeja.api.commons.indexes.ManagedIndex.SAMPLE;
+
+import com.beeja.api.commons.indexes.ManagedIndex;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Indexes the queries of this service rely on, applied at startup through {@link IndexConfig}. Bump
+ * {@link #VERSION} whenever an index is added, changed or retired.
+ */
+public final class IndexRegistry {
+
+  public static final int VERSION = 1;
+
+  /** Indexes of earlier versions to drop, by collection. */
+  public static final Map<String, List<String>> RETIRED = Map.of();
+
+  private IndexRegistry() {}
+
+  public static List<ManagedIndex> indexes() {
+    return List.of(
+        ManagedIndex.on(
+                "projects",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("projectId", Sort.Direction.ASC)
+                    .named("organization_project"))
+            .serves(new Document("projectId", SAMPLE).append("organizationId", SAMPLE)),
+        ManagedIndex.on(
+                "contracts",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("contractId", Sort.Direction.ASC)
+                    .named("organization_contract"))
+            .serves(new Document("contractId", SAMPLE).append("organizationId", SAMPLE)),
+        ManagedIndex.on(
+                "contracts",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("projectId", Sort.Direction.ASC)
+                    .named("organization_project"))
+            .serves(new Document("projectId", SAMPLE).append("organizationId", SAMPLE)),
+        ManagedIndex.on(
+                "clientsDB",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("created_at", Sort.Direction.DESC)
+                    .named("organization_created"))
+            .serves(new Document("organizationId", SAMPLE), new Document("created_at", -1)),
+        ManagedIndex.on(
+                "invoices",
+                new Index()
+                    .on("organizationId", Sort.Direction.ASC)
+                    .on("invoiceId", Sort.Direction.ASC)
+                    .named("organization_invoice"))
+            .serves(new Document("invoiceId", SAMPLE).append("organizationId", SAMPLE)));
+  }
+}
@@ -0,0 +1,7 @@
+package com.beeja.api.projectmanagement.enums;
+
+public enum SequenceType {
+  PROJECT,
+  CONTRACT,
+  CLIENT
+}
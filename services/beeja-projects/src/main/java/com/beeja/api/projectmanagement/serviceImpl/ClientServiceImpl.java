@@ -1,11 +1,13 @@
 package com.beeja.api.projectmanagement.serviceImpl;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.FileClient;
 import com.beeja.api.projectmanagement.config.LogoValidator;
 import com.beeja.api.projectmanagement.enums.ClientType;
 import com.beeja.api.projectmanagement.enums.TaxCategory;
 import com.beeja.api.projectmanagement.enums.ErrorCode;
 import com.beeja.api.projectmanagement.enums.ErrorType;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.enums.Industry;
 import com.beeja.api.projectmanagement.exceptions.FeignClientException;
 import com.beeja.api.projectmanagement.exceptions.ResourceAlreadyFoundException;
@@ -49,6 +51,8 @@ public class ClientServiceImpl implements ClientService {
 
   @Autowired FileClient fileClient;
 
+  @Autowired SequenceAllocator sequenceAllocator;
+
 
     private void checkDuplicateEmail(String email, String organizationId, String clientIdToExclude) {
         if (email == null || email.isEmpty()) return;
@@ -65,7 +69,7 @@ public class ClientServiceImpl implements ClientService {
         }
     }
 
-    private String generateClientIdFromName(String clientName, long orgClientCount) {
+    private String generateClientIdFromName(String clientName, long sequenceNumber) {
         if (clientName == null || clientName.isEmpty()) {
             throw new IllegalArgumentException("Client name cannot be null or empty");
         }
@@ -87,8 +91,7 @@ public class ClientServiceImpl implements ClientService {
             prefix = sb.toString();
         }
 
-        long nextNumber = orgClientCount + 1;
-        String numberPart = String.format("%03d", nextNumber);
+        String numberPart = String.format("%03d", sequenceNumber);
 
         return prefix + numberPart;
     }
@@ -233,12 +236,16 @@ public class ClientServiceImpl implements ClientService {
     }
 
     try {
-      long existingClientsCount = clientRepository.countByOrganizationId(
-                  UserContext.getLoggedInUserOrganization().get(Constants.ID).toString()
-          );
+      long clientNumber =
+          sequenceAllocator.next(
+              organizationId,
+              SequenceType.CLIENT,
+              () ->
+                  sequenceAllocator.highestNumber(
+                      organizationId, Client.class, "clientId", Client::getClientId));
 
           String clientName = client.getClientName();
-          String generatedClientId = generateClientIdFromName(clientName, existingClientsCount);
+          String generatedClientId = generateClientIdFromName(clientName, clientNumber);
 
         newClient.setClientId(generatedClientId);
 
@@ -1,9 +1,11 @@
 package com.beeja.api.projectmanagement.serviceImpl;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.client.FileClient;
 import com.beeja.api.projectmanagement.enums.ErrorCode;
 import com.beeja.api.projectmanagement.enums.ErrorType;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.enums.ProjectStatus;
 import com.beeja.api.projectmanagement.enums.ContractBillingType;
 import com.beeja.api.projectmanagement.enums.ContractType;
@@ -68,9 +70,9 @@ public class ContractServiceImpl implements ContractService {
 
     @Autowired ProjectServiceImpl projectServiceImpl;
     @Autowired FileClient fileClient;
+    @Autowired SequenceAllocator sequenceAllocator;
 
-
-  private String generateContractIdFromTitle(String contractTitle, long orgContractCount) {
+  private String generateContractIdFromTitle(String contractTitle, long sequenceNumber) {
         if (contractTitle == null || contractTitle.isEmpty()) {
             throw new IllegalArgumentException(Constants.CONTRACT_NAME_NOT_NULL);
         }
@@ -92,8 +94,7 @@ public class ContractServiceImpl implements ContractService {
             prefix = sb.toString();
         }
 
-        long nextNumber = orgContractCount + 1;
-        String numberPart = String.format("%03d", nextNumber);
+        String numberPart = String.format("%03d", sequenceNumber);
 
         return prefix + numberPart;
   }
@@ -145,8 +146,16 @@ public class ContractServiceImpl implements ContractService {
 
     Contract contract = new Contract();
     try{
-        long existingContractCount = contractRepository.countByOrganizationId(project.getOrganizationId());
-        contract.setContractId(generateContractIdFromTitle(request.getContractTitle(), existingContractCount));
+        String organizationId = project.getOrganizationId();
+        long contractNumber =
+            sequenceAllocator.next(
+                organizationId,
+                SequenceType.CONTRACT,
+                () ->
+                    sequenceAllocator.highestNumber(
+                        organizationId, Contract.class, "contractId", Contract::getContractId));
+        contract.setContractId(
+            generateContractIdFromTitle(request.getContractTitle(), contractNumber));
     }catch (Exception e){
         log.error(Constants.ERROR_GENERATING_CONTRACT_ID, e.getMessage());
         throw new ResourceNotFoundException(
@@ -155,6 +155,12 @@ public class InvoiceServiceImpl implements InvoiceService {
 
       invoice.setTaxId(finalTaxId);
 
+      // Identity-token sessions only carry the organization id, name and email
+      Map<String, Object> loggedInOrganization = UserContext.getLoggedInUserOrganization();
+      loggedInOrganization.putIfAbsent(Constants.ADDRESS, responseMap.get(Constants.ADDRESS));
+      loggedInOrganization.putIfAbsent(
+          Constants.BANK_DETAILS, responseMap.get(Constants.BANK_DETAILS));
+
 
       PaymentDetails invoicePaymentDetails = new PaymentDetails();
     Map<String, Object> orgBankDetails = (Map<String, Object>) UserContext.getLoggedInUserOrganization().get("bankDetails");
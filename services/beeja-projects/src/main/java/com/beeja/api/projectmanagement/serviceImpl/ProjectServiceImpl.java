@@ -1,9 +1,11 @@
 package com.beeja.api.projectmanagement.serviceImpl;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.enums.ErrorCode;
 import com.beeja.api.projectmanagement.enums.ErrorType;
 import com.beeja.api.projectmanagement.enums.ProjectStatus;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.exceptions.FeignClientException;
 import com.beeja.api.projectmanagement.exceptions.ResourceNotFoundException;
 import com.beeja.api.projectmanagement.model.Client;
@@ -56,6 +58,8 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Autowired
     ContractRepository contractRepository;
+
+  @Autowired SequenceAllocator sequenceAllocator;
   /**
    * Creates a new {@link Project} for a given {@link Client} based on the provided {@link
    * ProjectRequest}.
@@ -90,7 +94,7 @@ public class ProjectServiceImpl implements ProjectService {
     return Collections.emptyList();
   }
 
-    private String generateProjectIdFromName(String projectName, long orgProjectCount) {
+    private String generateProjectIdFromName(String projectName, long sequenceNumber) {
         if (projectName == null || projectName.isEmpty()) {
             throw new IllegalArgumentException(Constants.PROJECT_NAME_NOT_NULL);
         }
@@ -112,8 +116,7 @@ public class ProjectServiceImpl implements ProjectService {
             prefix = sb.toString();
         }
 
-        long nextNumber = orgProjectCount + 1;
-        String numberPart = String.format("%03d", nextNumber);
+        String numberPart = String.format("%03d", sequenceNumber);
 
         return prefix + numberPart;
     }
@@ -170,8 +173,15 @@ public class ProjectServiceImpl implements ProjectService {
         UserContext.getLoggedInUserOrganization().get(Constants.ID).toString());
 
     try{
-        long existingProjectCount = projectRepository.countByOrganizationId(newProject.getOrganizationId());
-        newProject.setProjectId(generateProjectIdFromName(newProject.getName(), existingProjectCount));
+        String organizationId = newProject.getOrganizationId();
+        long projectNumber =
+            sequenceAllocator.next(
+                organizationId,
+                SequenceType.PROJECT,
+                () ->
+                    sequenceAllocator.highestNumber(
+                        organizationId, Project.class, "projectId", Project::getProjectId));
+        newProject.setProjectId(generateProjectIdFromName(newProject.getName(), projectNumber));
     }catch (Exception e){
         log.error(Constants.ERROR_GENERATING_PROJECT_ID, e.getMessage());
         throw new ResourceNotFoundException(
@@ -3,6 +3,10 @@ package com.beeja.api.projectmanagement.utils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class Constants {
+  //    IDENTITY TOKEN CLAIMS
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+
 
   // ========== General Constants ==========
   public static final String ID = "id";
@@ -141,4 +145,8 @@ public class Constants {
   public static final String REMITTANCE_REF_ALREADY_EXISTS = "Remittance Reference already exists for this organization";
   public static final String TAX_ID_MISSING = "No Tax ID available (both org and request empty)";
   public static final String INVOICE_UPLOAD_FAILED = "Invoice uploaded failed";
-}
\ No newline at end of file
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.exceptions.ResourceAlreadyFoundException;
 import com.beeja.api.projectmanagement.exceptions.ResourceNotFoundException;
 import com.beeja.api.projectmanagement.model.Client;
@@ -33,6 +35,9 @@ class ClientServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
+    @Mock
+    private SequenceAllocator sequenceAllocator;
+
     private static MockedStatic<UserContext> userContextMock;
 
     @BeforeAll
@@ -61,7 +66,7 @@ class ClientServiceTest {
         request.setClientName("Test Client");
 
         when(clientRepository.findByEmailAndOrganizationId(anyString(), anyString())).thenReturn(null);
-        when(clientRepository.countByOrganizationId(anyString())).thenReturn(0L);
+        when(sequenceAllocator.next(eq("org123"), eq(SequenceType.CLIENT), any())).thenReturn(1L);
         when(clientRepository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Client result = clientService.addClientToOrganization(request);
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.AccountClient;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.model.Client;
 import com.beeja.api.projectmanagement.model.Contract;
 import com.beeja.api.projectmanagement.model.Project;
@@ -52,6 +54,9 @@ class ContractServiceTest {
     @Mock
     private ProjectServiceImpl projectServiceImpl;
 
+    @Mock
+    private SequenceAllocator sequenceAllocator;
+
     private MockedStatic<com.beeja.api.projectmanagement.utils.UserContext> userContextStatic;
 
     private Contract contract;
@@ -106,6 +111,7 @@ class ContractServiceTest {
                 .thenReturn(project);
         when(projectServiceImpl.validateAndFetchEmployees(anyList()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(sequenceAllocator.next(eq("org123"), eq(SequenceType.CONTRACT), any())).thenReturn(1L);
         when(contractRepository.save(any(Contract.class))).thenReturn(contract);
 
         Contract result = contractService.createContract(request);
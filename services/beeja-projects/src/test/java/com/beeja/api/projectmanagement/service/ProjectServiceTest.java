@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.enums.ProjectStatus;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.model.Client;
 import com.beeja.api.projectmanagement.model.Project;
 import com.beeja.api.projectmanagement.repository.ClientRepository;
@@ -49,6 +51,9 @@ public class ProjectServiceTest {
     @Mock
     private ContractRepository contractRepository;
 
+    @Mock
+    private SequenceAllocator sequenceAllocator;
+
     private MockedStatic<com.beeja.api.projectmanagement.utils.UserContext> userContextStatic;
 
     private Map<String, Object> mockOrg;
@@ -98,6 +103,7 @@ public class ProjectServiceTest {
                 new EmployeeNameDTO("emp1", "John Doe", true),
                 new EmployeeNameDTO("emp2", "Jane Doe", true)
         ));
+        when(sequenceAllocator.next(eq("org123"), eq(SequenceType.PROJECT), any())).thenReturn(1L);
         when(projectRepository.save(any(Project.class))).thenReturn(project);
 
         Project result = projectService.createProjectForClient(request);
@@ -3,10 +3,13 @@ package com.beeja.api.projectmanagement.serviceImpl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.FileClient;
 import com.beeja.api.projectmanagement.config.LogoValidator;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.exceptions.*;
 import com.beeja.api.projectmanagement.model.Client;
 import com.beeja.api.projectmanagement.repository.ClientRepository;
@@ -30,6 +33,7 @@ class ClientServiceImplTest {
   @Mock private ClientRepository clientRepository;
   @Mock private LogoValidator logoValidator;
   @Mock private FileClient fileClient;
+  @Mock private SequenceAllocator sequenceAllocator;
 
   private static MockedStatic<UserContext> userContextMock;
 
@@ -59,7 +63,7 @@ class ClientServiceImplTest {
     request.setClientName("Test Client");
 
     when(clientRepository.findByEmailAndOrganizationId(anyString(), anyString())).thenReturn(null);
-    when(clientRepository.countByOrganizationId(anyString())).thenReturn(0L);
+    when(sequenceAllocator.next(eq("org123"), eq(SequenceType.CLIENT), any())).thenReturn(7L);
     when(clientRepository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     Client result = clientService.addClientToOrganization(request);
@@ -68,7 +72,7 @@ class ClientServiceImplTest {
     assertEquals("Test Client", result.getClientName());
     assertEquals("test@example.com", result.getEmail());
     assertEquals("org123", result.getOrganizationId());
-    assertTrue(result.getClientId().startsWith("TES"));
+    assertEquals("TEC007", result.getClientId());
   }
 
   @Test
@@ -91,7 +95,7 @@ class ClientServiceImplTest {
     request.setClientName("Test Client");
 
     when(clientRepository.findByEmailAndOrganizationId(anyString(), anyString())).thenReturn(null);
-    when(clientRepository.countByOrganizationId(anyString())).thenReturn(1L);
+    when(sequenceAllocator.next(anyString(), eq(SequenceType.CLIENT), any())).thenReturn(2L);
     when(clientRepository.save(any(Client.class))).thenThrow(new RuntimeException("DB error"));
 
     Exception exception = assertThrows(Exception.class, () -> clientService.addClientToOrganization(request));
@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.enums.ProjectStatus;
+import com.beeja.api.projectmanagement.enums.SequenceType;
 import com.beeja.api.projectmanagement.exceptions.FeignClientException;
 import com.beeja.api.projectmanagement.exceptions.ResourceNotFoundException;
 import com.beeja.api.projectmanagement.model.Contract;
@@ -47,6 +49,9 @@ class ContractServiceImplTest {
   @Mock
   private MongoTemplate mongoTemplate;
 
+  @Mock
+  private SequenceAllocator sequenceAllocator;
+
   @Mock
   private com.beeja.api.projectmanagement.serviceImpl.ProjectServiceImpl projectServiceImpl;
 
@@ -85,6 +90,7 @@ class ContractServiceImplTest {
 
     when(projectRepository.findByProjectIdAndClientIdAndOrganizationId(anyString(), anyString(), anyString()))
             .thenReturn(project);
+    when(sequenceAllocator.next(eq("org123"), eq(SequenceType.CONTRACT), any())).thenReturn(12L);
     when(contractRepository.save(any(Contract.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     Contract result = contractService.createContract(request);
@@ -92,6 +98,7 @@ class ContractServiceImplTest {
     assertNotNull(result);
     assertEquals("Contract Title", result.getContractTitle());
     assertEquals("Contract Description", result.getDescription());
+    assertEquals("COT012", result.getContractId());
   }
 
   @Test
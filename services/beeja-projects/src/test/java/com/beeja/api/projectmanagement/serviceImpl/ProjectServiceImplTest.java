@@ -1,5 +1,6 @@
 package com.beeja.api.projectmanagement.serviceImpl;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.enums.ProjectStatus;
 import com.beeja.api.projectmanagement.exceptions.FeignClientException;
@@ -45,6 +46,9 @@ class ProjectServiceImplTest {
   @Mock
   private MongoTemplate mongoTemplate;
 
+  @Mock
+  private SequenceAllocator sequenceAllocator;
+
   private MockedStatic<UserContext> userContextMock;
 
   @BeforeEach
@@ -56,6 +60,7 @@ class ProjectServiceImplTest {
     projectService.accountClient = accountClient;
     projectService.contractRepository = contractRepository;
     projectService.mongoTemplate = mongoTemplate;
+    projectService.sequenceAllocator = sequenceAllocator;
 
     if (userContextMock != null) {
       userContextMock.close();
@@ -0,0 +1,18 @@
+package tac.beeja.recruitmentapi.config;
+
+import com.beeja.api.commons.sequences.SequenceAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/** Number sequences of the ids this service hands out. */
+@Configuration
+public class SequenceConfig {
+
+  @Bean
+  public SequenceAllocator sequenceAllocator(
+      MongoTemplate mongoTemplate, @Value("${sequences.block-size:10}") int blockSize) {
+    return new SequenceAllocator(mongoTemplate, blockSize);
+  }
+}
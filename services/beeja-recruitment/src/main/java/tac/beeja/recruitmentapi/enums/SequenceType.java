@@ -0,0 +1,5 @@
+package tac.beeja.recruitmentapi.enums;
+
+public enum SequenceType {
+  APPLICANT
+}
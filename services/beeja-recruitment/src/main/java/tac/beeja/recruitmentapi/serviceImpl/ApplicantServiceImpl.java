@@ -9,6 +9,7 @@ import static tac.beeja.recruitmentapi.utils.Constants.ERROR_IN_UPDATING_APPLICA
 import static tac.beeja.recruitmentapi.utils.Constants.NO_APPLICANT_FOUND_WITH_GIVEN_ID;
 import static tac.beeja.recruitmentapi.utils.Constants.RESUME_FILE_ENTITY;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.lang.reflect.Field;
 import java.text.SimpleDateFormat;
@@ -41,6 +42,7 @@ import tac.beeja.recruitmentapi.client.FileClient;
 import tac.beeja.recruitmentapi.enums.ApplicantStatus;
 import tac.beeja.recruitmentapi.enums.ErrorCode;
 import tac.beeja.recruitmentapi.enums.ErrorType;
+import tac.beeja.recruitmentapi.enums.SequenceType;
 import tac.beeja.recruitmentapi.exceptions.BadRequestException;
 import tac.beeja.recruitmentapi.exceptions.ConflictException;
 import tac.beeja.recruitmentapi.exceptions.FeignClientException;
@@ -80,6 +82,8 @@ public class ApplicantServiceImpl implements ApplicantService {
 
     @Autowired OrganizationTest organizationTest;
 
+    @Autowired SequenceAllocator sequenceAllocator;
+
     @Override
     public Applicant postApplicant(ApplicantRequest applicant, boolean isReferral) throws Exception {
         // Check for duplicate applicant within the last 6 months
@@ -277,12 +281,26 @@ public class ApplicantServiceImpl implements ApplicantService {
 
         String datePart = new SimpleDateFormat("MMddyy").format(new Date());
 
-        long existingCount =
-                applicantRepository.countByOrganizationId(
-                        UserContext.getLoggedInUserOrganization().get("id").toString());
-        int newCount = (int) (existingCount + 1);
-
-        String sequencePart = String.format("%04d", newCount);
+        String organizationId = UserContext.getLoggedInUserOrganization().get("id").toString();
+        // The number follows the organization prefix and the date the applicant was added on
+        int numberStart = orgPrefix.length() + datePart.length();
+        long applicantNumber =
+                sequenceAllocator.next(
+                        organizationId,
+                        SequenceType.APPLICANT,
+                        () ->
+                                sequenceAllocator.highestNumber(
+                                        organizationId,
+                                        Applicant.class,
+                                        "applicantId",
+                                        Applicant::getApplicantId,
+                                        id ->
+                                                id.length() > numberStart
+                                                        ? SequenceAllocator.trailingNumber(
+                                                                id.substring(numberStart))
+                                                        : 0));
+
+        String sequencePart = String.format("%04d", applicantNumber);
 
         return orgPrefix + datePart + sequencePart;
     }
@@ -1,6 +1,10 @@
 package tac.beeja.recruitmentapi.utils;
 
 public class Constants {
+  //    IDENTITY TOKEN CLAIMS
+  public static final String CLAIM_EMPLOYEE_ID = "employeeId";
+  public static final String CLAIM_FIRST_NAME = "firstName";
+
 
   public static final String BEEJA = "BEEJA";
   public static final String NO_REQUIRED_PERMISSIONS = "No Required Permissions to do this action";
@@ -54,4 +58,8 @@ public class Constants {
       "Applicant already applied for this position in the last 6 months.";
   public static final String DUPLICATE_APPLICATION_LOG =
       "Duplicate application within 6 months detected for email: {} and position: {}";
+
+  //    Request instrumentation
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID = "correlationId";
 }
@@ -1,5 +1,6 @@
 package tac.beeja.recruitmentapi.serviceImpl;
 
+import com.beeja.api.commons.sequences.SequenceAllocator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +19,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import tac.beeja.recruitmentapi.client.AccountClient;
 import tac.beeja.recruitmentapi.client.FileClient;
 import tac.beeja.recruitmentapi.enums.ApplicantStatus;
+import tac.beeja.recruitmentapi.enums.SequenceType;
 import tac.beeja.recruitmentapi.exceptions.*;
 import tac.beeja.recruitmentapi.model.Applicant;
 import tac.beeja.recruitmentapi.model.AssignedInterviewer;
@@ -31,6 +33,8 @@ import tac.beeja.recruitmentapi.utils.Constants;
 import tac.beeja.recruitmentapi.utils.UserContext;
 
 import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -59,6 +63,9 @@ class ApplicantServiceImplTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private SequenceAllocator sequenceAllocator;
+
     private Applicant applicant;
 
     @BeforeEach
@@ -94,7 +101,8 @@ class ApplicantServiceImplTest {
 
         when(fileClient.uploadFile(any(FileRequest.class)))
                 .thenReturn((ResponseEntity) new ResponseEntity<>(fileUploadResponse, HttpStatus.OK));
-        when(applicantRepository.countByOrganizationId("org123")).thenReturn(9L);
+        when(sequenceAllocator.next(eq("org123"), eq(SequenceType.APPLICANT), any()))
+                .thenReturn(10L);
         when(applicantRepository.save(any(Applicant.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -107,6 +115,38 @@ class ApplicantServiceImplTest {
         assertEquals("Alice Smith", result.getReferredByEmployeeName());
         verify(applicantRepository).save(applicantCaptor.capture());
         assertTrue(applicantCaptor.getValue().getApplicantId().startsWith("TEC"));
+        assertTrue(applicantCaptor.getValue().getApplicantId().endsWith("0010"));
+    }
+
+    @Test
+    void testApplicantSequenceIsSeededFromTheNumbersAfterTheDate() throws Exception {
+        MockMultipartFile resume = new MockMultipartFile(
+                "file", "resume.pdf", "application/pdf", "Test content".getBytes());
+        ApplicantRequest request = new ApplicantRequest();
+        request.setFirstName("John");
+        request.setLastName("Doe");
+        request.setEmail("john.doe@example.com");
+        request.setPositionAppliedFor("Software Engineer");
+        request.setResume(resume);
+        ResponseEntity uploaded = new ResponseEntity<>(Map.of("id", "file123"), HttpStatus.OK);
+        when(fileClient.uploadFile(any(FileRequest.class))).thenReturn(uploaded);
+        when(sequenceAllocator.next(eq("org123"), eq(SequenceType.APPLICANT), any()))
+                .thenReturn(13L);
+        when(applicantRepository.save(any(Applicant.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        applicantService.postApplicant(request, false);
+        ArgumentCaptor<LongSupplier> seed = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(sequenceAllocator).next(eq("org123"), eq(SequenceType.APPLICANT), seed.capture());
+        seed.getValue().getAsLong();
+
+        ArgumentCaptor<ToLongFunction<String>> number =
+                ArgumentCaptor.forClass(ToLongFunction.class);
+        verify(sequenceAllocator).highestNumber(
+                eq("org123"), eq(Applicant.class), eq("applicantId"), any(), number.capture());
+        assertEquals(12, number.getValue().applyAsLong("TEC1018250012"));
+        assertEquals(12345, number.getValue().applyAsLong("TEC10182512345"));
+        assertEquals(0, number.getValue().applyAsLong("TEC101825"));
     }
 
     @Test